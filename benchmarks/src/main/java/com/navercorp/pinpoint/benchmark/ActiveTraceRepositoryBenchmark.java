@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceHandle;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.DefaultActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ReuseResponseTimeCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActiveTraceRepository register and purge, i.e. the start and the end of every trace.
+ * The repository is shared by all benchmark threads like in the agent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActiveTraceRepositoryBenchmark {
+
+    private ActiveTraceRepository activeTraceRepository;
+
+    @Setup
+    public void setUp() {
+        this.activeTraceRepository = new DefaultActiveTraceRepository(new ReuseResponseTimeCollector());
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+        // disjoint id range per thread. ids are the keys of the repository
+        private long transactionId = ((long) THREAD_SEQUENCE.incrementAndGet()) << 32;
+        private final long threadId = Thread.currentThread().getId();
+    }
+
+    private void startAndEnd(ThreadState threadState) {
+        final long startTime = System.currentTimeMillis();
+        final ActiveTraceHandle handle = activeTraceRepository.register(++threadState.transactionId, startTime, threadState.threadId);
+        handle.purge(startTime + 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void startAndEnd_1thread(ThreadState threadState) {
+        startAndEnd(threadState);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void startAndEnd_8threads(ThreadState threadState) {
+        startAndEnd(threadState);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a jmh json result against a baseline result of the same suites, e.g. from the previous release.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.navercorp.pinpoint.benchmark.BaselineComparator baseline.json jmh-result.json [threshold percent]
+ * </pre>
+ * Compares the score and, when profiled with -prof gc, the allocated bytes per operation.
+ * Exits with 1 when any of them is worse than the baseline by more than the threshold (default 10%).
+ */
+public class BaselineComparator {
+
+    static final double DEFAULT_THRESHOLD_PERCENT = 10;
+
+    static final String ALLOC_RATE_NORM = "\u00b7gc.alloc.rate.norm";
+
+    private final double thresholdPercent;
+
+    public BaselineComparator(double thresholdPercent) {
+        if (thresholdPercent < 0) {
+            throw new IllegalArgumentException("thresholdPercent must not be negative. thresholdPercent:" + thresholdPercent);
+        }
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparator <baseline json> <result json> [threshold percent]");
+            System.exit(2);
+        }
+        final double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final JsonNode baseline = mapper.readTree(new File(args[0]));
+        final JsonNode result = mapper.readTree(new File(args[1]));
+
+        final int regressionCount = new BaselineComparator(thresholdPercent).compare(baseline, result);
+        if (regressionCount > 0) {
+            System.out.println(regressionCount + " regression(s) over " + thresholdPercent + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return number of regressions
+     */
+    int compare(JsonNode baseline, JsonNode result) {
+        final Map<String, JsonNode> baselineMap = index(baseline);
+        int regressionCount = 0;
+        for (Map.Entry<String, JsonNode> entry : index(result).entrySet()) {
+            final String key = entry.getKey();
+            final JsonNode baselineRun = baselineMap.get(key);
+            if (baselineRun == null) {
+                System.out.println("NEW   " + key);
+                continue;
+            }
+            final JsonNode run = entry.getValue();
+            final boolean higherIsBetter = isThroughput(run);
+            if (compareMetric(key, baselineRun.path("primaryMetric"), run.path("primaryMetric"), higherIsBetter)) {
+                regressionCount++;
+            }
+            final JsonNode baselineAlloc = baselineRun.path("secondaryMetrics").path(ALLOC_RATE_NORM);
+            final JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_RATE_NORM);
+            if (!baselineAlloc.isMissingNode() && !alloc.isMissingNode()) {
+                if (compareMetric(key + " " + ALLOC_RATE_NORM, baselineAlloc, alloc, false)) {
+                    regressionCount++;
+                }
+            }
+        }
+        return regressionCount;
+    }
+
+    private boolean compareMetric(String name, JsonNode baselineMetric, JsonNode metric, boolean higherIsBetter) {
+        final double baselineScore = baselineMetric.path("score").asDouble();
+        final double score = metric.path("score").asDouble();
+        final String unit = metric.path("scoreUnit").asText();
+
+        final double changePercent = changePercent(baselineScore, score, higherIsBetter);
+        final boolean regression = changePercent > thresholdPercent;
+        System.out.println(String.format("%-5s %s : %.3f -> %.3f %s (%+.1f%%)", regression ? "WORSE" : "OK", name, baselineScore, score, unit, changePercent));
+        return regression;
+    }
+
+    /**
+     * @return how much worse the score is than the baseline, in percent. negative when better
+     */
+    static double changePercent(double baselineScore, double score, boolean higherIsBetter) {
+        if (baselineScore == 0) {
+            if (score == 0) {
+                return 0;
+            }
+            return higherIsBetter ? -100 : 100;
+        }
+        final double change = (score - baselineScore) / baselineScore * 100;
+        return higherIsBetter ? -change : change;
+    }
+
+    private static boolean isThroughput(JsonNode run) {
+        final String mode = run.path("mode").asText();
+        return "thrpt".equals(mode);
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        final Map<String, JsonNode> map = new LinkedHashMap<String, JsonNode>();
+        for (JsonNode run : results) {
+            map.put(key(run), run);
+        }
+        return map;
+    }
+
+    private static String key(JsonNode run) {
+        final StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        key.append(' ').append(run.path("mode").asText());
+        key.append(" threads=").append(run.path("threads").asInt());
+        final JsonNode params = run.path("params");
+        if (params.isObject()) {
+            key.append(' ').append(params.toString());
+        }
+        return key.toString();
+    }
+}
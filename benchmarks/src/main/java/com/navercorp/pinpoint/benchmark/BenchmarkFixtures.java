@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.context.AsyncState;
+import com.navercorp.pinpoint.bootstrap.context.AsyncTraceId;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.AsyncContextFactory;
+import com.navercorp.pinpoint.profiler.context.AsyncId;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanFactory;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV2;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanFactory;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTransactionIdEncoder;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TransactionIdEncoder;
+import com.navercorp.pinpoint.profiler.context.storage.Storage;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+import org.apache.thrift.TBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Agent objects wired by hand, without the guice context, so each suite measures only its own hot path.
+ */
+final class BenchmarkFixtures {
+
+    static final String APPLICATION_NAME = "benchmark-app";
+    static final String AGENT_ID = "benchmark-agent";
+    static final long AGENT_START_TIME = 1500000000000L;
+    static final ServiceType SERVICE_TYPE = ServiceType.STAND_ALONE;
+
+    private static final int API_ID = 100;
+    private static final short EVENT_SERVICE_TYPE = ServiceType.INTERNAL_METHOD.getCode();
+
+    private BenchmarkFixtures() {
+    }
+
+    static TransactionIdEncoder newTransactionIdEncoder() {
+        return new DefaultTransactionIdEncoder(AGENT_ID, AGENT_START_TIME);
+    }
+
+    static SpanFactory newSpanFactory() {
+        return new DefaultSpanFactory(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME, SERVICE_TYPE, newTransactionIdEncoder());
+    }
+
+    static SpanChunkFactory newSpanChunkFactory() {
+        return new SpanChunkFactoryV2(APPLICATION_NAME, AGENT_ID, AGENT_START_TIME, SERVICE_TYPE, newTransactionIdEncoder());
+    }
+
+    static TraceRoot newTraceRoot(long transactionId) {
+        final DefaultTraceId traceId = new DefaultTraceId(AGENT_ID, AGENT_START_TIME, transactionId);
+        return new DefaultTraceRoot(traceId, AGENT_ID, System.currentTimeMillis(), transactionId);
+    }
+
+    /**
+     * finished span event as recorded by a plugin interceptor. one api annotation, depth cycling from 1 to 4
+     */
+    static SpanEvent newSpanEvent(TraceRoot traceRoot, int sequence) {
+        final SpanEvent spanEvent = new SpanEvent(traceRoot);
+        spanEvent.markStartTime();
+        spanEvent.setSequence((short) sequence);
+        spanEvent.setDepth((sequence % 4) + 1);
+        spanEvent.setServiceType(EVENT_SERVICE_TYPE);
+        spanEvent.setApiId(API_ID);
+        spanEvent.addAnnotation(new Annotation(AnnotationKey.ARGS0.getCode(), "argument-" + sequence));
+        spanEvent.markAfterTime();
+        return spanEvent;
+    }
+
+    static List<SpanEvent> newSpanEventList(TraceRoot traceRoot, int size) {
+        final List<SpanEvent> spanEventList = new ArrayList<SpanEvent>(size);
+        for (int i = 0; i < size; i++) {
+            spanEventList.add(newSpanEvent(traceRoot, i));
+        }
+        return spanEventList;
+    }
+
+    static Span newSpan(SpanFactory spanFactory, TraceRoot traceRoot) {
+        final Span span = spanFactory.newSpan(traceRoot);
+        span.setServiceType(SERVICE_TYPE.getCode());
+        span.setApiId(API_ID);
+        span.setRpc("/benchmark");
+        span.setEndPoint("localhost:8080");
+        span.setRemoteAddr("127.0.0.1");
+        span.markBeforeTime();
+        return span;
+    }
+
+    /**
+     * counts instead of sending, so the work of the caller is not optimized away
+     */
+    static final class DiscardDataSender implements DataSender {
+
+        private long sendCount;
+
+        @Override
+        public boolean send(TBase<?, ?> data) {
+            sendCount++;
+            return true;
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        long getSendCount() {
+            return sendCount;
+        }
+    }
+
+    static final class DiscardStorage implements Storage {
+
+        private long storeCount;
+
+        @Override
+        public void store(SpanEvent spanEvent) {
+            storeCount++;
+        }
+
+        @Override
+        public void store(Span span) {
+            storeCount++;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        long getStoreCount() {
+            return storeCount;
+        }
+    }
+
+    /**
+     * traces in the benchmarks never go async
+     */
+    static final class UnsupportedAsyncContextFactory implements AsyncContextFactory {
+
+        @Override
+        public AsyncId newAsyncId() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncContext newAsyncContext(TraceRoot traceRoot, AsyncId asyncId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncContext newAsyncContext(TraceRoot traceRoot, AsyncId asyncId, AsyncState asyncState) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncTraceId newAsyncTraceId(TraceRoot traceRoot) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV2;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.storage.BufferedStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BufferedStorage.store(SpanEvent) with SpanPostProcessorV2 and SpanChunkFactoryV2.
+ * Every bufferSize events the buffer is flushed as a span chunk to a discarding sender.
+ * {@link #newSpanEvent} is the baseline cost of building the event itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferedStorageBenchmark {
+
+    @Param({"20"})
+    public int bufferSize;
+
+    private TraceRoot traceRoot;
+    private BufferedStorage storage;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        this.traceRoot = BenchmarkFixtures.newTraceRoot(1);
+        final SpanPostProcessor spanPostProcessor = new SpanPostProcessorV2();
+        final SpanChunkFactory spanChunkFactory = BenchmarkFixtures.newSpanChunkFactory();
+        this.storage = new BufferedStorage(traceRoot, new BenchmarkFixtures.DiscardDataSender(), spanPostProcessor, spanChunkFactory, bufferSize);
+    }
+
+    private int nextSequence() {
+        return sequence++ & Short.MAX_VALUE;
+    }
+
+    @Benchmark
+    public void newSpanEvent(Blackhole blackhole) {
+        blackhole.consume(BenchmarkFixtures.newSpanEvent(traceRoot, nextSequence()));
+    }
+
+    @Benchmark
+    public void store() {
+        storage.store(BenchmarkFixtures.newSpanEvent(traceRoot, nextSequence()));
+    }
+}
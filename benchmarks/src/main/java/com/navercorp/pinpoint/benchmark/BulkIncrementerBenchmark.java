@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.BulkIncrementer;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.CallRowKey;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.CallerColumnName;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.DefaultBulkIncrementer;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.RowKeyMerge;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.ShardedBulkIncrementer;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server map statistics updates of the collector, i.e. the caller/callee/response time increments of every span.
+ * The incrementer is shared by all benchmark threads like the statistics daos share theirs.
+ * Keys are created per update, the way the daos do.
+ * incrementWhileFlushing flushes back to back instead of once a second, to expose the writers to the flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkIncrementerBenchmark {
+
+    private static final int APPLICATION_COUNT = 64;
+    private static final int HOST_COUNT = 16;
+
+    @Param({"default", "sharded"})
+    private String incrementer;
+
+    private BulkIncrementer bulkIncrementer;
+    private RowKeyDistributorByHashPrefix rowKeyDistributor;
+    private TableName tableName;
+    private String[] applicationNames;
+    private String[] hosts;
+
+    @Setup
+    public void setUp() {
+        final RowKeyMerge rowKeyMerge = new RowKeyMerge(new byte[]{'C'});
+        if ("sharded".equals(incrementer)) {
+            this.bulkIncrementer = new ShardedBulkIncrementer(rowKeyMerge);
+        } else {
+            this.bulkIncrementer = new DefaultBulkIncrementer(rowKeyMerge);
+        }
+        this.rowKeyDistributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(8));
+        this.tableName = TableName.valueOf("ApplicationMapStatisticsCallee_Ver2");
+        this.applicationNames = new String[APPLICATION_COUNT];
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            applicationNames[i] = "application-" + i;
+        }
+        this.hosts = new String[HOST_COUNT];
+        for (int i = 0; i < HOST_COUNT; i++) {
+            hosts[i] = "10.0.0." + i + ":8080";
+        }
+    }
+
+    private void increment() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final String caller = applicationNames[random.nextInt(APPLICATION_COUNT)];
+        final String callee = applicationNames[random.nextInt(APPLICATION_COUNT)];
+        final String host = hosts[random.nextInt(HOST_COUNT)];
+        final short slot = (short) random.nextInt(8);
+        bulkIncrementer.increment(tableName, new CallRowKey(caller, (short) 1010, 0), new CallerColumnName((short) 1010, callee, host, slot));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void increment_1thread() {
+        increment();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void increment_8threads() {
+        increment();
+    }
+
+    @Benchmark
+    @Group("incrementWhileFlushing")
+    @GroupThreads(7)
+    public void incrementWhileFlushing_increment() {
+        increment();
+    }
+
+    @Benchmark
+    @Group("incrementWhileFlushing")
+    @GroupThreads(1)
+    public Map<TableName, List<Increment>> incrementWhileFlushing_flush() {
+        return bulkIncrementer.getIncrements(rowKeyDistributor);
+    }
+}
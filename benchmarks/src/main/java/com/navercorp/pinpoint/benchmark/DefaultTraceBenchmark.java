@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.AsyncContextFactory;
+import com.navercorp.pinpoint.profiler.context.DefaultCallStack;
+import com.navercorp.pinpoint.profiler.context.DefaultTrace;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanFactory;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceHandle;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.recorder.DefaultSpanRecorder;
+import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
+import com.navercorp.pinpoint.profiler.metadata.DefaultSqlMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.DefaultStringMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+import com.navercorp.pinpoint.profiler.sender.LoggingDataSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One sampled trace per invocation : DefaultTrace with a DefaultCallStack, blockCount span events, then close.
+ * The storage discards, so the cost of sending is not included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultTraceBenchmark {
+
+    private static final int CALL_STACK_MAX_DEPTH = 64;
+
+    @Param({"1", "8", "32"})
+    public int blockCount;
+
+    private SpanFactory spanFactory;
+    private StringMetaDataService stringMetaDataService;
+    private SqlMetaDataService sqlMetaDataService;
+    private AsyncContextFactory asyncContextFactory;
+    private BenchmarkFixtures.DiscardStorage storage;
+
+    private long transactionId;
+
+    @Setup
+    public void setUp() {
+        this.spanFactory = BenchmarkFixtures.newSpanFactory();
+        final LoggingDataSender dataSender = new LoggingDataSender();
+        this.stringMetaDataService = new DefaultStringMetaDataService(BenchmarkFixtures.AGENT_ID, BenchmarkFixtures.AGENT_START_TIME, dataSender);
+        this.sqlMetaDataService = new DefaultSqlMetaDataService(BenchmarkFixtures.AGENT_ID, BenchmarkFixtures.AGENT_START_TIME, dataSender, 1024);
+        this.asyncContextFactory = new BenchmarkFixtures.UnsupportedAsyncContextFactory();
+        this.storage = new BenchmarkFixtures.DiscardStorage();
+    }
+
+    private Trace newTrace() {
+        final TraceRoot traceRoot = BenchmarkFixtures.newTraceRoot(++transactionId);
+        final Span span = BenchmarkFixtures.newSpan(spanFactory, traceRoot);
+        final DefaultSpanRecorder spanRecorder = new DefaultSpanRecorder(span, true, true, stringMetaDataService, sqlMetaDataService);
+        final WrappedSpanEventRecorder wrappedSpanEventRecorder = new WrappedSpanEventRecorder(asyncContextFactory, stringMetaDataService, sqlMetaDataService, null);
+        final DefaultCallStack callStack = new DefaultCallStack(traceRoot, CALL_STACK_MAX_DEPTH);
+        return new DefaultTrace(span, callStack, storage, asyncContextFactory, true, spanRecorder, wrappedSpanEventRecorder, ActiveTraceHandle.EMPTY_HANDLE);
+    }
+
+    private void record(SpanEventRecorder recorder, int index) {
+        recorder.recordServiceType(ServiceType.INTERNAL_METHOD);
+        recorder.recordApiId(index);
+        recorder.recordAttribute(AnnotationKey.ARGS0, index);
+    }
+
+    @Benchmark
+    public long sequentialBlocks() {
+        final Trace trace = newTrace();
+        for (int i = 0; i < blockCount; i++) {
+            record(trace.traceBlockBegin(), i);
+            trace.traceBlockEnd();
+        }
+        trace.close();
+        return storage.getStoreCount();
+    }
+
+    @Benchmark
+    public long nestedBlocks() {
+        final Trace trace = newTrace();
+        for (int i = 0; i < blockCount; i++) {
+            record(trace.traceBlockBegin(), i);
+        }
+        for (int i = 0; i < blockCount; i++) {
+            trace.traceBlockEnd();
+        }
+        trace.close();
+        return storage.getStoreCount();
+    }
+}
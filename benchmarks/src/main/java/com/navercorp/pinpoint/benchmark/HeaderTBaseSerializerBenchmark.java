@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanChunk;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV2;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory;
+import org.apache.thrift.TException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HeaderTBaseSerializer on a TSpan and a TSpanChunk as produced by the V2 span post processor and span chunk factory,
+ * with the serializer configuration of the UDP span sender.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderTBaseSerializerBenchmark {
+
+    @Param({"20", "100"})
+    public int spanEventCount;
+
+    private HeaderTBaseSerializer serializer;
+    private Span span;
+    private SpanChunk spanChunk;
+
+    @Setup
+    public void setUp() {
+        this.serializer = new HeaderTBaseSerializerFactory(false, HeaderTBaseSerializerFactory.DEFAULT_UDP_STREAM_MAX_SIZE).createSerializer();
+
+        final TraceRoot traceRoot = BenchmarkFixtures.newTraceRoot(1);
+        final SpanPostProcessor spanPostProcessor = new SpanPostProcessorV2();
+        final Span span = BenchmarkFixtures.newSpan(BenchmarkFixtures.newSpanFactory(), traceRoot);
+        this.span = spanPostProcessor.postProcess(span, BenchmarkFixtures.newSpanEventList(traceRoot, spanEventCount));
+        this.spanChunk = BenchmarkFixtures.newSpanChunkFactory().create(traceRoot, BenchmarkFixtures.newSpanEventList(traceRoot, spanEventCount));
+    }
+
+    @Benchmark
+    public byte[] serializeSpan() throws TException {
+        return serializer.serialize(span);
+    }
+
+    @Benchmark
+    public byte[] serializeSpanChunk() throws TException {
+        return serializer.serialize(spanChunk);
+    }
+}
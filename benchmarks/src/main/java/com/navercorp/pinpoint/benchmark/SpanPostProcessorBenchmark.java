@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanFactory;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV2;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressor;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpanPostProcessorV2 and SpanEventCompressorV2 on a finished span.
+ * Compression rewrites the events in place, so every invocation builds fresh events.
+ * {@link #baseline} measures building them alone and should be subtracted from the other results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpanPostProcessorBenchmark {
+
+    @Param({"20", "100"})
+    public int spanEventCount;
+
+    private SpanFactory spanFactory;
+    private TraceRoot traceRoot;
+    private final SpanPostProcessor spanPostProcessor = new SpanPostProcessorV2();
+    private final SpanEventCompressor<Long> spanEventCompressor = new SpanEventCompressorV2();
+
+    @Setup
+    public void setUp() {
+        this.spanFactory = BenchmarkFixtures.newSpanFactory();
+        this.traceRoot = BenchmarkFixtures.newTraceRoot(1);
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(BenchmarkFixtures.newSpan(spanFactory, traceRoot));
+        blackhole.consume(BenchmarkFixtures.newSpanEventList(traceRoot, spanEventCount));
+    }
+
+    @Benchmark
+    public Span postProcess() {
+        final Span span = BenchmarkFixtures.newSpan(spanFactory, traceRoot);
+        final List<SpanEvent> spanEventList = BenchmarkFixtures.newSpanEventList(traceRoot, spanEventCount);
+        return spanPostProcessor.postProcess(span, spanEventList);
+    }
+
+    @Benchmark
+    public List<SpanEvent> compress() {
+        final List<SpanEvent> spanEventList = BenchmarkFixtures.newSpanEventList(traceRoot, spanEventCount);
+        spanEventCompressor.compress(spanEventList, traceRoot.getTraceStartTime());
+        return spanEventList;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.profiler.metadata.CachingSqlNormalizer;
+import com.navercorp.pinpoint.profiler.metadata.DefaultCachingSqlNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultCachingSqlNormalizer as called by the jdbc interceptors : wrapSql() then normalizedSql() on every statement.
+ * hit cycles through fewer distinct statements than the cache size, miss through many more.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlNormalizerBenchmark {
+
+    private static final int CACHE_SIZE = 1024;
+    private static final int HIT_SQL_COUNT = 64;
+    private static final int MISS_SQL_COUNT = CACHE_SIZE * 8;
+
+    private CachingSqlNormalizer normalizer;
+    private String[] hitSqls;
+    private String[] missSqls;
+    private int hitIndex;
+    private int missIndex;
+
+    @Setup
+    public void setUp() {
+        this.normalizer = new DefaultCachingSqlNormalizer(CACHE_SIZE);
+        this.hitSqls = newSqls(HIT_SQL_COUNT);
+        this.missSqls = newSqls(MISS_SQL_COUNT);
+    }
+
+    private static String[] newSqls(int count) {
+        final String[] sqls = new String[count];
+        for (int i = 0; i < count; i++) {
+            sqls[i] = "SELECT o.id, o.name, o.price FROM orders_" + i + " o /* order lookup */"
+                    + " WHERE o.customer_id = 12345 AND o.status IN ('PAID', 'SHIPPED') AND o.amount > 10.5"
+                    + " ORDER BY o.created_at DESC LIMIT 20";
+        }
+        return sqls;
+    }
+
+    private ParsingResult normalize(String sql) {
+        final ParsingResult parsingResult = normalizer.wrapSql(sql);
+        normalizer.normalizedSql(parsingResult);
+        return parsingResult;
+    }
+
+    @Benchmark
+    public ParsingResult hit() {
+        final String sql = hitSqls[hitIndex++ % HIT_SQL_COUNT];
+        return normalize(sql);
+    }
+
+    @Benchmark
+    public ParsingResult miss() {
+        final String sql = missSqls[missIndex++ % MISS_SQL_COUNT];
+        return normalize(sql);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.TransactionIdEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultTransactionIdEncoder for the three cases of the encoder cache :
+ * a trace started by this agent, a trace continued from another start of this agent, and a trace from another agent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionIdEncoderBenchmark {
+
+    private TransactionIdEncoder encoder;
+    private TraceId localTraceId;
+    private TraceId restartedAgentTraceId;
+    private TraceId remoteTraceId;
+
+    @Setup
+    public void setUp() {
+        this.encoder = BenchmarkFixtures.newTransactionIdEncoder();
+        final long transactionId = 1234567L;
+        this.localTraceId = new DefaultTraceId(BenchmarkFixtures.AGENT_ID, BenchmarkFixtures.AGENT_START_TIME, transactionId);
+        this.restartedAgentTraceId = new DefaultTraceId(BenchmarkFixtures.AGENT_ID, BenchmarkFixtures.AGENT_START_TIME - 1000, transactionId);
+        this.remoteTraceId = new DefaultTraceId("remote-agent", BenchmarkFixtures.AGENT_START_TIME, transactionId);
+    }
+
+    @Benchmark
+    public ByteBuffer local() {
+        return encoder.encodeTransactionId(localTraceId);
+    }
+
+    @Benchmark
+    public ByteBuffer restartedAgent() {
+        return encoder.encodeTransactionId(restartedAgentTraceId);
+    }
+
+    @Benchmark
+    public ByteBuffer remote() {
+        return encoder.encodeTransactionId(remoteTraceId);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BaselineComparatorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void changePercent() {
+        Assert.assertEquals(10, BaselineComparator.changePercent(100, 110, false), 0.001);
+        Assert.assertEquals(-10, BaselineComparator.changePercent(100, 90, false), 0.001);
+        Assert.assertEquals(10, BaselineComparator.changePercent(100, 90, true), 0.001);
+        Assert.assertEquals(0, BaselineComparator.changePercent(0, 0, false), 0.001);
+    }
+
+    @Test
+    public void compare() throws Exception {
+        JsonNode baseline = mapper.readTree(result("avgt", 100, 48));
+        BaselineComparator comparator = new BaselineComparator(10);
+
+        Assert.assertEquals(0, comparator.compare(baseline, mapper.readTree(result("avgt", 105, 48))));
+        Assert.assertEquals(1, comparator.compare(baseline, mapper.readTree(result("avgt", 120, 48))));
+        Assert.assertEquals(2, comparator.compare(baseline, mapper.readTree(result("avgt", 120, 96))));
+    }
+
+    @Test
+    public void compare_newBenchmark() throws Exception {
+        JsonNode baseline = mapper.readTree("[]");
+        BaselineComparator comparator = new BaselineComparator(10);
+
+        Assert.assertEquals(0, comparator.compare(baseline, mapper.readTree(result("avgt", 100, 48))));
+    }
+
+    private String result(String mode, double score, double allocated) {
+        return "[{" +
+                "\"benchmark\":\"com.navercorp.pinpoint.benchmark.DefaultTraceBenchmark.sequentialBlocks\"," +
+                "\"mode\":\"" + mode + "\",\"threads\":1,\"params\":{\"blockCount\":\"8\"}," +
+                "\"primaryMetric\":{\"score\":" + score + ",\"scoreUnit\":\"ns/op\"}," +
+                "\"secondaryMetrics\":{\"" + BaselineComparator.ALLOC_RATE_NORM + "\":{\"score\":" + allocated + ",\"scoreUnit\":\"B/op\"}}" +
+                "}]";
+    }
+}
@@ -110,6 +110,12 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     private boolean instrumentMatcherEnable = true;
     //匹配的缓存配置
     private InstrumentMatcherCacheConfig instrumentMatcherCacheConfig = new InstrumentMatcherCacheConfig();
+    //启动后输出各transformer匹配耗时报告的延迟(ms)，0表示不输出
+    private long instrumentMatcherReportDelay = 0;
+    //跨重启持久化的未匹配类缓存文件，为空表示不使用
+    private String instrumentMatcherPersistentCacheFile = "";
+    //持久化缓存的条目容量
+    private int instrumentMatcherPersistentCacheSize = 1024 * 64;
     //拦截器注册大小
     private int interceptorRegistrySize = 1024 * 8;
 
@@ -151,6 +157,18 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     private String statDataSenderTransportType = "UDP";
     private String statDataSenderSocketType = "OIO";
 
+    //UDP打包发送，一个数据报中写入多个消息
+    private static final int DEFAULT_DATA_SENDER_PACKING_SIZE = 1472;
+    private boolean spanDataSenderPackingEnable = false;
+    private int spanDataSenderPackingSize = DEFAULT_DATA_SENDER_PACKING_SIZE;
+    private boolean statDataSenderPackingEnable = false;
+    private int statDataSenderPackingSize = DEFAULT_DATA_SENDER_PACKING_SIZE;
+
+    //span/stat发送队列类型(LINKED_BLOCKING, RING_BUFFER)，批量取出数量和等待策略(SPIN, YIELD, PARK)
+    private String dataSenderQueueType = "LINKED_BLOCKING";
+    private int dataSenderQueueDrainSize = 10;
+    private String dataSenderQueueWaitStrategy = "PARK";
+
     //TCP相关配置
     private boolean tcpDataSenderCommandAcceptEnable = false;
     private boolean tcpDataSenderCommandActiveThreadEnable = false;
@@ -179,8 +197,26 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     private static long DEFAULT_DATA_SENDER_PINPOINT_CLIENT_HANDSHAKE_INTERVAL = 60 * 1000 * 1;
     private long tcpDataSenderPinpointClientHandshakeInterval = DEFAULT_DATA_SENDER_PINPOINT_CLIENT_HANDSHAKE_INTERVAL;
 
+    //收集端不可达时，请求溢出写入内存映射文件，重连后按顺序重放
+    private static final int DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_SIZE = 1024 * 1024 * 4;
+    private static final int DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_COUNT = 8;
+    private boolean tcpDataSenderSpillEnable = false;
+    private String tcpDataSenderSpillDir = "";
+    private int tcpDataSenderSpillSegmentSize = DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_SIZE;
+    private int tcpDataSenderSpillSegmentCount = DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_COUNT;
+
+    //sql/api/string元数据在短时间窗口内合并为一个请求发送
+    private static final int DEFAULT_METADATA_BATCH_SIZE = 100;
+    private static final long DEFAULT_METADATA_BATCH_FLUSH_INTERVAL = 100;
+    private boolean metadataBatchEnable = false;
+    private int metadataBatchSize = DEFAULT_METADATA_BATCH_SIZE;
+    private long metadataBatchFlushInterval = DEFAULT_METADATA_BATCH_FLUSH_INTERVAL;
+
     //追踪线程激活
     private boolean traceAgentActiveThread = true;
+    //以预分配的槽数组记录活跃trace，请求路径上无锁
+    private boolean traceAgentActiveThreadSlotEnable = false;
+    private int traceAgentActiveThreadSlotSize = 1024 * 16;
 
     //追踪数据源
     private boolean traceAgentDataSource = false;
@@ -194,8 +230,20 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     //调用栈最大深度
     private int callStackMaxDepth = 512;
 
+    //SpanEvent及调用栈数组回收复用，减少GC
+    private static final int DEFAULT_SPAN_EVENT_RECYCLE_POOL_SIZE = 512;
+    private boolean spanEventRecycleEnable = false;
+    private int spanEventRecyclePoolSize = DEFAULT_SPAN_EVENT_RECYCLE_POOL_SIZE;
+    private boolean spanEventRecycleLeakDetectionEnable = false;
+
     //jdbc sql 缓存大小
     private int jdbcSqlCacheSize = 1024;
+    //IN列表和VALUES多行合并为一个参数，使变长SQL共用一个sqlId
+    private boolean jdbcSqlCollapseList = false;
+    //元数据(sql/api/string)缓存出现重发时自动扩容，扩容总量受内存预算限制
+    private static final long DEFAULT_METADATA_CACHE_AUTOGROW_MEMORY_BUDGET = 8 * 1024 * 1024;
+    private boolean metadataCacheAutoGrowEnable = false;
+    private long metadataCacheAutoGrowMemoryBudget = DEFAULT_METADATA_CACHE_AUTOGROW_MEMORY_BUDGET;
     //SQL语句绑定参数追踪
     private boolean traceSqlBindValue = false;
     //最大的绑定参数设置
@@ -204,10 +252,38 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     // 采样比例控制
     private boolean samplingEnable = true;
     private int samplingRate = 1;
+    //自适应采样，每秒采样的新trace数上限
+    private boolean samplingAdaptiveEnable = false;
+    private int samplingAdaptiveTracesPerSecond = 20;
+    //按线程分段计数的采样器，避免多核下单个计数器的竞争
+    private boolean samplingStripedEnable = false;
+    //未被采样的trace先缓存在内存中，结束时耗时超过阈值或出错才发送
+    private static final long DEFAULT_SAMPLING_TAIL_THRESHOLD = 1000;
+    private static final int DEFAULT_SAMPLING_TAIL_BUFFER_MAX_EVENTS = 10000;
+    private boolean samplingTailEnable = false;
+    private long samplingTailThreshold = DEFAULT_SAMPLING_TAIL_THRESHOLD;
+    private int samplingTailBufferMaxEvents = DEFAULT_SAMPLING_TAIL_BUFFER_MAX_EVENTS;
+    //每个线程按块预留transactionId，减少共享计数器的竞争
+    private boolean transactionIdBlockEnable = false;
+    private int transactionIdBlockSize = 64;
+
+    //trace计时使用的时钟 system, tick(后台线程缓存的毫秒时钟), monotonic(基于trace开始时间的System.nanoTime())
+    private String traceClockType = "system";
+    private long traceClockTickInterval = 1;
 
     // span 缓冲配置
     private boolean ioBufferingEnable;
     private int ioBufferingBufferSize;
+    //按估算的序列化字节数刷新SpanChunk, 0表示按SpanEvent个数刷新
+    private int ioBufferingByteBudget = 0;
+    //长事务中缓冲的SpanEvent的最长保留时间(毫秒), 0表示不限制
+    private long ioBufferingMaxAge = 0;
+    //以列式基本类型数组缓冲SpanEvent，发送时直接编码
+    private boolean ioBufferingColumnarEnable = false;
+    //将重复的同级SpanEvent(如N+1查询)折叠为一个聚合SpanEvent
+    private boolean ioBufferingCompactionEnable = false;
+    private int ioBufferingCompactionMinRepeat = 3;
+    private int ioBufferingCompactionBindValues = 5;
 
 
     //JVM供应商名
@@ -237,6 +313,10 @@ public class DefaultProfilerConfig implements ProfilerConfig {
 
     //阻止拦截器异常传播
     private boolean propagateInterceptorException = false;
+    //拦截器开销采样
+    private boolean interceptorOverheadEnable = false;
+    private int interceptorOverheadSampleRate = 100;
+    private int interceptorOverheadMaxInterceptorCount = 1024;
     //是否支持拉姆达表达式
     private boolean supportLambdaExpressions = true;
 
@@ -386,11 +466,56 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return tcpDataSenderPinpointClientHandshakeInterval;
     }
 
+    @Override
+    public boolean isTcpDataSenderSpillEnable() {
+        return tcpDataSenderSpillEnable;
+    }
+
+    @Override
+    public String getTcpDataSenderSpillDir() {
+        return tcpDataSenderSpillDir;
+    }
+
+    @Override
+    public int getTcpDataSenderSpillSegmentSize() {
+        return tcpDataSenderSpillSegmentSize;
+    }
+
+    @Override
+    public int getTcpDataSenderSpillSegmentCount() {
+        return tcpDataSenderSpillSegmentCount;
+    }
+
+    @Override
+    public boolean isMetadataBatchEnable() {
+        return metadataBatchEnable;
+    }
+
+    @Override
+    public int getMetadataBatchSize() {
+        return metadataBatchSize;
+    }
+
+    @Override
+    public long getMetadataBatchFlushInterval() {
+        return metadataBatchFlushInterval;
+    }
+
     @Override
     public boolean isTraceAgentActiveThread() {
         return traceAgentActiveThread;
     }
 
+    @Override
+    public boolean isTraceAgentActiveThreadSlotEnable() {
+        return traceAgentActiveThreadSlotEnable;
+    }
+
+    @Override
+    public int getTraceAgentActiveThreadSlotSize() {
+        return traceAgentActiveThreadSlotSize;
+    }
+
     @Override
     public boolean isTraceAgentDataSource() {
         return traceAgentDataSource;
@@ -436,6 +561,41 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return statDataSenderChunkSize;
     }
 
+    @Override
+    public boolean isSpanDataSenderPackingEnable() {
+        return spanDataSenderPackingEnable;
+    }
+
+    @Override
+    public int getSpanDataSenderPackingSize() {
+        return spanDataSenderPackingSize;
+    }
+
+    @Override
+    public boolean isStatDataSenderPackingEnable() {
+        return statDataSenderPackingEnable;
+    }
+
+    @Override
+    public int getStatDataSenderPackingSize() {
+        return statDataSenderPackingSize;
+    }
+
+    @Override
+    public String getDataSenderQueueType() {
+        return dataSenderQueueType;
+    }
+
+    @Override
+    public int getDataSenderQueueDrainSize() {
+        return dataSenderQueueDrainSize;
+    }
+
+    @Override
+    public String getDataSenderQueueWaitStrategy() {
+        return dataSenderQueueWaitStrategy;
+    }
+
     @Override
     public boolean isProfileEnable() {
         return profileEnable;
@@ -446,6 +606,21 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return jdbcSqlCacheSize;
     }
 
+    @Override
+    public boolean isJdbcSqlCollapseList() {
+        return jdbcSqlCollapseList;
+    }
+
+    @Override
+    public boolean isMetadataCacheAutoGrowEnable() {
+        return metadataCacheAutoGrowEnable;
+    }
+
+    @Override
+    public long getMetadataCacheAutoGrowMemoryBudget() {
+        return metadataCacheAutoGrowMemoryBudget;
+    }
+
     @Override
     public boolean isTraceSqlBindValue() {
         return traceSqlBindValue;
@@ -467,6 +642,56 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return samplingRate;
     }
 
+    @Override
+    public boolean isSamplingAdaptiveEnable() {
+        return samplingAdaptiveEnable;
+    }
+
+    @Override
+    public int getSamplingAdaptiveTracesPerSecond() {
+        return samplingAdaptiveTracesPerSecond;
+    }
+
+    @Override
+    public boolean isSamplingStripedEnable() {
+        return samplingStripedEnable;
+    }
+
+    @Override
+    public boolean isSamplingTailEnable() {
+        return samplingTailEnable;
+    }
+
+    @Override
+    public long getSamplingTailThreshold() {
+        return samplingTailThreshold;
+    }
+
+    @Override
+    public int getSamplingTailBufferMaxEvents() {
+        return samplingTailBufferMaxEvents;
+    }
+
+    @Override
+    public boolean isTransactionIdBlockEnable() {
+        return transactionIdBlockEnable;
+    }
+
+    @Override
+    public int getTransactionIdBlockSize() {
+        return transactionIdBlockSize;
+    }
+
+    @Override
+    public String getTraceClockType() {
+        return traceClockType;
+    }
+
+    @Override
+    public long getTraceClockTickInterval() {
+        return traceClockTickInterval;
+    }
+
     @Override
     public boolean isIoBufferingEnable() {
         return ioBufferingEnable;
@@ -477,6 +702,36 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return ioBufferingBufferSize;
     }
 
+    @Override
+    public int getIoBufferingByteBudget() {
+        return ioBufferingByteBudget;
+    }
+
+    @Override
+    public long getIoBufferingMaxAge() {
+        return ioBufferingMaxAge;
+    }
+
+    @Override
+    public boolean isIoBufferingColumnarEnable() {
+        return ioBufferingColumnarEnable;
+    }
+
+    @Override
+    public boolean isIoBufferingCompactionEnable() {
+        return ioBufferingCompactionEnable;
+    }
+
+    @Override
+    public int getIoBufferingCompactionMinRepeat() {
+        return ioBufferingCompactionMinRepeat;
+    }
+
+    @Override
+    public int getIoBufferingCompactionBindValues() {
+        return ioBufferingCompactionBindValues;
+    }
+
     @Override
     public String getProfilerJvmVendorName() {
         return profileJvmVendorName;
@@ -550,11 +805,41 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.callStackMaxDepth = callStackMaxDepth;
     }
 
+    @Override
+    public boolean isSpanEventRecycleEnable() {
+        return spanEventRecycleEnable;
+    }
+
+    @Override
+    public int getSpanEventRecyclePoolSize() {
+        return spanEventRecyclePoolSize;
+    }
+
+    @Override
+    public boolean isSpanEventRecycleLeakDetectionEnable() {
+        return spanEventRecycleLeakDetectionEnable;
+    }
+
     @Override
     public boolean isPropagateInterceptorException() {
         return propagateInterceptorException;
     }
 
+    @Override
+    public boolean isInterceptorOverheadEnable() {
+        return interceptorOverheadEnable;
+    }
+
+    @Override
+    public int getInterceptorOverheadSampleRate() {
+        return interceptorOverheadSampleRate;
+    }
+
+    @Override
+    public int getInterceptorOverheadMaxInterceptorCount() {
+        return interceptorOverheadMaxInterceptorCount;
+    }
+
     @Override
     public String getProfileInstrumentEngine() {
         return profileInstrumentEngine;
@@ -575,6 +860,21 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return instrumentMatcherCacheConfig;
     }
 
+    @Override
+    public long getInstrumentMatcherReportDelay() {
+        return instrumentMatcherReportDelay;
+    }
+
+    @Override
+    public String getInstrumentMatcherPersistentCacheFile() {
+        return instrumentMatcherPersistentCacheFile;
+    }
+
+    @Override
+    public int getInstrumentMatcherPersistentCacheSize() {
+        return instrumentMatcherPersistentCacheSize;
+    }
+
     @Override
     public boolean isProxyHttpHeaderEnable() {
         return proxyHttpHeaderEnable;
@@ -610,6 +910,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.instrumentMatcherCacheConfig.setAnnotationCacheEntrySize(readInt("profiler.instrument.matcher.annotation.cache.entry.size", 4));
         this.instrumentMatcherCacheConfig.setSuperCacheSize(readInt("profiler.instrument.matcher.super.cache.size", 4));
         this.instrumentMatcherCacheConfig.setSuperCacheEntrySize(readInt("profiler.instrument.matcher.super.cache.entry.size", 4));
+        this.instrumentMatcherReportDelay = readLong("profiler.instrument.matcher.report.delay", 0);
+        this.instrumentMatcherPersistentCacheFile = readString("profiler.instrument.matcher.persistent.cache.file", "", placeHolderResolver);
+        this.instrumentMatcherPersistentCacheSize = readInt("profiler.instrument.matcher.persistent.cache.size", 1024 * 64);
 
         this.interceptorRegistrySize = readInt("profiler.interceptorregistry.size", 1024 * 8);
 
@@ -636,6 +939,18 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.statDataSenderSocketType = readString("profiler.statdatasender.socket.type", "OIO");
         this.statDataSenderTransportType = readString("profiler.statdatasender.transport.type", "UDP");
 
+        this.spanDataSenderPackingEnable = readBoolean("profiler.spandatasender.packing.enable", false);
+        this.spanDataSenderPackingSize = readInt("profiler.spandatasender.packing.size", DEFAULT_DATA_SENDER_PACKING_SIZE);
+        this.statDataSenderPackingEnable = readBoolean("profiler.statdatasender.packing.enable", false);
+        this.statDataSenderPackingSize = readInt("profiler.statdatasender.packing.size", DEFAULT_DATA_SENDER_PACKING_SIZE);
+
+        this.dataSenderQueueType = readString("profiler.datasender.queue.type", "LINKED_BLOCKING");
+        this.dataSenderQueueDrainSize = readInt("profiler.datasender.queue.drain.size", 10);
+        if (this.dataSenderQueueDrainSize < 1) {
+            this.dataSenderQueueDrainSize = 1;
+        }
+        this.dataSenderQueueWaitStrategy = readString("profiler.datasender.queue.wait.strategy", "PARK");
+
         this.tcpDataSenderCommandAcceptEnable = readBoolean("profiler.tcpdatasender.command.accept.enable", false);
         this.tcpDataSenderCommandActiveThreadEnable = readBoolean("profiler.tcpdatasender.command.activethread.enable", false);
         this.tcpDataSenderCommandActiveThreadCountEnable = readBoolean("profiler.tcpdatasender.command.activethread.count.enable", false);
@@ -648,7 +963,18 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.tcpDataSenderPinpointClientPingInterval = readLong("profiler.tcpdatasender.client.ping.interval", DEFAULT_DATA_SENDER_PINPOINT_CLIENT_PING_INTERVAL);
         this.tcpDataSenderPinpointClientHandshakeInterval = readLong("profiler.tcpdatasender.client.handshake.interval", DEFAULT_DATA_SENDER_PINPOINT_CLIENT_HANDSHAKE_INTERVAL);
 
+        this.tcpDataSenderSpillEnable = readBoolean("profiler.tcpdatasender.spill.enable", false);
+        this.tcpDataSenderSpillDir = readString("profiler.tcpdatasender.spill.dir", "", placeHolderResolver);
+        this.tcpDataSenderSpillSegmentSize = readInt("profiler.tcpdatasender.spill.segment.size", DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_SIZE);
+        this.tcpDataSenderSpillSegmentCount = readInt("profiler.tcpdatasender.spill.segment.count", DEFAULT_TCP_DATA_SENDER_SPILL_SEGMENT_COUNT);
+
+        this.metadataBatchEnable = readBoolean("profiler.metadata.batch.enable", false);
+        this.metadataBatchSize = readInt("profiler.metadata.batch.size", DEFAULT_METADATA_BATCH_SIZE);
+        this.metadataBatchFlushInterval = readLong("profiler.metadata.batch.flush.interval", DEFAULT_METADATA_BATCH_FLUSH_INTERVAL);
+
         this.traceAgentActiveThread = readBoolean("profiler.pinpoint.activethread", true);
+        this.traceAgentActiveThreadSlotEnable = readBoolean("profiler.pinpoint.activethread.slot.enable", false);
+        this.traceAgentActiveThreadSlotSize = readInt("profiler.pinpoint.activethread.slot.size", 1024 * 16);
 
         this.traceAgentDataSource = readBoolean("profiler.pinpoint.datasource", false);
         this.dataSourceTraceLimitSize = readInt("profiler.pinpoint.datasource.tracelimitsize", 20);
@@ -661,20 +987,43 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         if (this.callStackMaxDepth < 2) {
             this.callStackMaxDepth = 2;
         }
+        this.spanEventRecycleEnable = readBoolean("profiler.spanevent.recycle.enable", false);
+        this.spanEventRecyclePoolSize = readInt("profiler.spanevent.recycle.pool.size", DEFAULT_SPAN_EVENT_RECYCLE_POOL_SIZE);
+        this.spanEventRecycleLeakDetectionEnable = readBoolean("profiler.spanevent.recycle.leak.detection", false);
 
         // JDBC
         this.jdbcSqlCacheSize = readInt("profiler.jdbc.sqlcachesize", 1024);
+        this.jdbcSqlCollapseList = readBoolean("profiler.jdbc.sqlcollapselist", false);
+        this.metadataCacheAutoGrowEnable = readBoolean("profiler.metadata.cache.autogrow.enable", false);
+        this.metadataCacheAutoGrowMemoryBudget = readLong("profiler.metadata.cache.autogrow.memory.budget", DEFAULT_METADATA_CACHE_AUTOGROW_MEMORY_BUDGET);
         this.traceSqlBindValue = readBoolean("profiler.jdbc.tracesqlbindvalue", false);
 
 
         this.samplingEnable = readBoolean("profiler.sampling.enable", true);
         this.samplingRate = readInt("profiler.sampling.rate", 1);
+        this.samplingAdaptiveEnable = readBoolean("profiler.sampling.adaptive.enable", false);
+        this.samplingAdaptiveTracesPerSecond = readInt("profiler.sampling.adaptive.tracespersecond", 20);
+        this.samplingStripedEnable = readBoolean("profiler.sampling.striped.enable", false);
+        this.samplingTailEnable = readBoolean("profiler.sampling.tail.enable", false);
+        this.samplingTailThreshold = readLong("profiler.sampling.tail.threshold", DEFAULT_SAMPLING_TAIL_THRESHOLD);
+        this.samplingTailBufferMaxEvents = readInt("profiler.sampling.tail.buffer.maxevents", DEFAULT_SAMPLING_TAIL_BUFFER_MAX_EVENTS);
+        this.transactionIdBlockEnable = readBoolean("profiler.transaction.id.block.enable", false);
+        this.transactionIdBlockSize = readInt("profiler.transaction.id.block.size", 64);
+
+        this.traceClockType = readString("profiler.trace.clock", "system");
+        this.traceClockTickInterval = readLong("profiler.trace.clock.tick.interval", 1);
 
         // configuration for sampling and IO buffer 
         this.ioBufferingEnable = readBoolean("profiler.io.buffering.enable", true);
 
         // it may be a problem to be here.  need to modify(delete or move or .. )  this configuration.
         this.ioBufferingBufferSize = readInt("profiler.io.buffering.buffersize", 20);
+        this.ioBufferingByteBudget = readInt("profiler.io.buffering.bytebudget", 0);
+        this.ioBufferingMaxAge = readLong("profiler.io.buffering.maxage", 0);
+        this.ioBufferingColumnarEnable = readBoolean("profiler.io.buffering.columnar.enable", false);
+        this.ioBufferingCompactionEnable = readBoolean("profiler.io.buffering.compaction.enable", false);
+        this.ioBufferingCompactionMinRepeat = readInt("profiler.io.buffering.compaction.minrepeat", 3);
+        this.ioBufferingCompactionBindValues = readInt("profiler.io.buffering.compaction.bindvalues", 5);
 
         //OS
         this.profileOsName = readString("profiler.os.name", null);
@@ -705,6 +1054,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         }
 
         this.propagateInterceptorException = readBoolean("profiler.interceptor.exception.propagate", false);
+        this.interceptorOverheadEnable = readBoolean("profiler.interceptor.overhead.enable", false);
+        this.interceptorOverheadSampleRate = readInt("profiler.interceptor.overhead.samplerate", 100);
+        this.interceptorOverheadMaxInterceptorCount = readInt("profiler.interceptor.overhead.max.interceptor", 1024);
         this.supportLambdaExpressions = readBoolean("profiler.lambda.expressions.support", true);
 
         // proxy http header names
@@ -834,6 +1186,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", profileInstrumentEngine='").append(profileInstrumentEngine).append('\'');
         sb.append(", instrumentMatcherEnable=").append(instrumentMatcherEnable);
         sb.append(", instrumentMatcherCacheConfig=").append(instrumentMatcherCacheConfig);
+        sb.append(", instrumentMatcherReportDelay=").append(instrumentMatcherReportDelay);
+        sb.append(", instrumentMatcherPersistentCacheFile='").append(instrumentMatcherPersistentCacheFile).append('\'');
+        sb.append(", instrumentMatcherPersistentCacheSize=").append(instrumentMatcherPersistentCacheSize);
         sb.append(", interceptorRegistrySize=").append(interceptorRegistrySize);
         sb.append(", collectorSpanServerIp='").append(collectorSpanServerIp).append('\'');
         sb.append(", collectorSpanServerPort=").append(collectorSpanServerPort);
@@ -853,6 +1208,13 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", statDataSenderChunkSize=").append(statDataSenderChunkSize);
         sb.append(", statDataSenderTransportType='").append(statDataSenderTransportType).append('\'');
         sb.append(", statDataSenderSocketType='").append(statDataSenderSocketType).append('\'');
+        sb.append(", spanDataSenderPackingEnable=").append(spanDataSenderPackingEnable);
+        sb.append(", spanDataSenderPackingSize=").append(spanDataSenderPackingSize);
+        sb.append(", statDataSenderPackingEnable=").append(statDataSenderPackingEnable);
+        sb.append(", statDataSenderPackingSize=").append(statDataSenderPackingSize);
+        sb.append(", dataSenderQueueType='").append(dataSenderQueueType).append('\'');
+        sb.append(", dataSenderQueueDrainSize=").append(dataSenderQueueDrainSize);
+        sb.append(", dataSenderQueueWaitStrategy='").append(dataSenderQueueWaitStrategy).append('\'');
         sb.append(", tcpDataSenderCommandAcceptEnable=").append(tcpDataSenderCommandAcceptEnable);
         sb.append(", tcpDataSenderCommandActiveThreadEnable=").append(tcpDataSenderCommandActiveThreadEnable);
         sb.append(", tcpDataSenderCommandActiveThreadCountEnable=").append(tcpDataSenderCommandActiveThreadCountEnable);
@@ -863,19 +1225,50 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", tcpDataSenderPinpointClientReconnectInterval=").append(tcpDataSenderPinpointClientReconnectInterval);
         sb.append(", tcpDataSenderPinpointClientPingInterval=").append(tcpDataSenderPinpointClientPingInterval);
         sb.append(", tcpDataSenderPinpointClientHandshakeInterval=").append(tcpDataSenderPinpointClientHandshakeInterval);
+        sb.append(", tcpDataSenderSpillEnable=").append(tcpDataSenderSpillEnable);
+        sb.append(", tcpDataSenderSpillDir='").append(tcpDataSenderSpillDir).append('\'');
+        sb.append(", tcpDataSenderSpillSegmentSize=").append(tcpDataSenderSpillSegmentSize);
+        sb.append(", tcpDataSenderSpillSegmentCount=").append(tcpDataSenderSpillSegmentCount);
+        sb.append(", metadataBatchEnable=").append(metadataBatchEnable);
+        sb.append(", metadataBatchSize=").append(metadataBatchSize);
+        sb.append(", metadataBatchFlushInterval=").append(metadataBatchFlushInterval);
         sb.append(", traceAgentActiveThread=").append(traceAgentActiveThread);
+        sb.append(", traceAgentActiveThreadSlotEnable=").append(traceAgentActiveThreadSlotEnable);
+        sb.append(", traceAgentActiveThreadSlotSize=").append(traceAgentActiveThreadSlotSize);
         sb.append(", traceAgentDataSource=").append(traceAgentDataSource);
         sb.append(", dataSourceTraceLimitSize=").append(dataSourceTraceLimitSize);
         sb.append(", deadlockMonitorEnable=").append(deadlockMonitorEnable);
         sb.append(", deadlockMonitorInterval=").append(deadlockMonitorInterval);
         sb.append(", callStackMaxDepth=").append(callStackMaxDepth);
+        sb.append(", spanEventRecycleEnable=").append(spanEventRecycleEnable);
+        sb.append(", spanEventRecyclePoolSize=").append(spanEventRecyclePoolSize);
+        sb.append(", spanEventRecycleLeakDetectionEnable=").append(spanEventRecycleLeakDetectionEnable);
         sb.append(", jdbcSqlCacheSize=").append(jdbcSqlCacheSize);
+        sb.append(", jdbcSqlCollapseList=").append(jdbcSqlCollapseList);
+        sb.append(", metadataCacheAutoGrowEnable=").append(metadataCacheAutoGrowEnable);
+        sb.append(", metadataCacheAutoGrowMemoryBudget=").append(metadataCacheAutoGrowMemoryBudget);
         sb.append(", traceSqlBindValue=").append(traceSqlBindValue);
         sb.append(", maxSqlBindValueSize=").append(maxSqlBindValueSize);
         sb.append(", samplingEnable=").append(samplingEnable);
         sb.append(", samplingRate=").append(samplingRate);
+        sb.append(", samplingAdaptiveEnable=").append(samplingAdaptiveEnable);
+        sb.append(", samplingAdaptiveTracesPerSecond=").append(samplingAdaptiveTracesPerSecond);
+        sb.append(", samplingStripedEnable=").append(samplingStripedEnable);
+        sb.append(", samplingTailEnable=").append(samplingTailEnable);
+        sb.append(", samplingTailThreshold=").append(samplingTailThreshold);
+        sb.append(", samplingTailBufferMaxEvents=").append(samplingTailBufferMaxEvents);
+        sb.append(", transactionIdBlockEnable=").append(transactionIdBlockEnable);
+        sb.append(", transactionIdBlockSize=").append(transactionIdBlockSize);
+        sb.append(", traceClockType='").append(traceClockType).append('\'');
+        sb.append(", traceClockTickInterval=").append(traceClockTickInterval);
         sb.append(", ioBufferingEnable=").append(ioBufferingEnable);
         sb.append(", ioBufferingBufferSize=").append(ioBufferingBufferSize);
+        sb.append(", ioBufferingByteBudget=").append(ioBufferingByteBudget);
+        sb.append(", ioBufferingMaxAge=").append(ioBufferingMaxAge);
+        sb.append(", ioBufferingColumnarEnable=").append(ioBufferingColumnarEnable);
+        sb.append(", ioBufferingCompactionEnable=").append(ioBufferingCompactionEnable);
+        sb.append(", ioBufferingCompactionMinRepeat=").append(ioBufferingCompactionMinRepeat);
+        sb.append(", ioBufferingCompactionBindValues=").append(ioBufferingCompactionBindValues);
         sb.append(", profileOsName='").append(profileOsName).append('\'');
         sb.append(", profileJvmVendorName='").append(profileJvmVendorName).append('\'');
         sb.append(", profileJvmStatCollectIntervalMs=").append(profileJvmStatCollectIntervalMs);
@@ -888,6 +1281,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", applicationTypeDetectOrder=").append(applicationTypeDetectOrder);
         sb.append(", disabledPlugins=").append(disabledPlugins);
         sb.append(", propagateInterceptorException=").append(propagateInterceptorException);
+        sb.append(", interceptorOverheadEnable=").append(interceptorOverheadEnable);
+        sb.append(", interceptorOverheadSampleRate=").append(interceptorOverheadSampleRate);
+        sb.append(", interceptorOverheadMaxInterceptorCount=").append(interceptorOverheadMaxInterceptorCount);
         sb.append(", supportLambdaExpressions=").append(supportLambdaExpressions);
         sb.append(", proxyHttpHeaderEnable=").append(proxyHttpHeaderEnable);
         sb.append(", httpStatusCodeErrors=").append(httpStatusCodeErrors);
@@ -77,8 +77,26 @@ public interface ProfilerConfig {
 
     long getTcpDataSenderPinpointClientHandshakeInterval();
 
+    boolean isTcpDataSenderSpillEnable();
+
+    String getTcpDataSenderSpillDir();
+
+    int getTcpDataSenderSpillSegmentSize();
+
+    int getTcpDataSenderSpillSegmentCount();
+
+    boolean isMetadataBatchEnable();
+
+    int getMetadataBatchSize();
+
+    long getMetadataBatchFlushInterval();
+
     boolean isTraceAgentActiveThread();
 
+    boolean isTraceAgentActiveThreadSlotEnable();
+
+    int getTraceAgentActiveThreadSlotSize();
+
     boolean isTraceAgentDataSource();
 
     int getDataSourceTraceLimitSize();
@@ -97,10 +115,30 @@ public interface ProfilerConfig {
 
     int getStatDataSenderChunkSize();
 
+    boolean isSpanDataSenderPackingEnable();
+
+    int getSpanDataSenderPackingSize();
+
+    boolean isStatDataSenderPackingEnable();
+
+    int getStatDataSenderPackingSize();
+
+    String getDataSenderQueueType();
+
+    int getDataSenderQueueDrainSize();
+
+    String getDataSenderQueueWaitStrategy();
+
     boolean isProfileEnable();
 
     int getJdbcSqlCacheSize();
 
+    boolean isJdbcSqlCollapseList();
+
+    boolean isMetadataCacheAutoGrowEnable();
+
+    long getMetadataCacheAutoGrowMemoryBudget();
+
     boolean isTraceSqlBindValue();
 
     int getMaxSqlBindValueSize();
@@ -109,10 +147,42 @@ public interface ProfilerConfig {
 
     int getSamplingRate();
 
+    boolean isSamplingAdaptiveEnable();
+
+    int getSamplingAdaptiveTracesPerSecond();
+
+    boolean isSamplingStripedEnable();
+
+    boolean isSamplingTailEnable();
+
+    long getSamplingTailThreshold();
+
+    int getSamplingTailBufferMaxEvents();
+
+    boolean isTransactionIdBlockEnable();
+
+    int getTransactionIdBlockSize();
+
+    String getTraceClockType();
+
+    long getTraceClockTickInterval();
+
     boolean isIoBufferingEnable();
 
     int getIoBufferingBufferSize();
 
+    int getIoBufferingByteBudget();
+
+    long getIoBufferingMaxAge();
+
+    boolean isIoBufferingColumnarEnable();
+
+    boolean isIoBufferingCompactionEnable();
+
+    int getIoBufferingCompactionMinRepeat();
+
+    int getIoBufferingCompactionBindValues();
+
     String getProfilerJvmVendorName();
 
     String getProfilerOSName();
@@ -140,8 +210,20 @@ public interface ProfilerConfig {
 
     int getCallStackMaxDepth();
 
+    boolean isSpanEventRecycleEnable();
+
+    int getSpanEventRecyclePoolSize();
+
+    boolean isSpanEventRecycleLeakDetectionEnable();
+
     boolean isPropagateInterceptorException();
 
+    boolean isInterceptorOverheadEnable();
+
+    int getInterceptorOverheadSampleRate();
+
+    int getInterceptorOverheadMaxInterceptorCount();
+
     String getProfileInstrumentEngine();
 
     boolean isSupportLambdaExpressions();
@@ -150,6 +232,12 @@ public interface ProfilerConfig {
 
     InstrumentMatcherCacheConfig getInstrumentMatcherCacheConfig();
 
+    long getInstrumentMatcherReportDelay();
+
+    String getInstrumentMatcherPersistentCacheFile();
+
+    int getInstrumentMatcherPersistentCacheSize();
+
     boolean isProxyHttpHeaderEnable();
 
     HttpStatusCodeErrors getHttpStatusCodeErrors();
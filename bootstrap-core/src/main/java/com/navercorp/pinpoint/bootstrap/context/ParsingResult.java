@@ -23,6 +23,9 @@ public interface ParsingResult {
 
     int ID_NOT_EXIST = 0;
 
+    /**
+     * normalized sql. set when the sql is newly cached and sent as metadata, may be null for cached sql.
+     */
     String getSql();
 
     String getOutput();
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.bootstrap.interceptor.overhead;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Samples the time spent inside interceptor before/after calls.
+ * <p>
+ * A sampled call is timed with {@link System#nanoTime()} and added to an accumulator owned by the calling thread.
+ * The accumulator is flushed into the shared counters every {@value #FLUSH_SAMPLE_COUNT} samples or when the flush interval
+ * has passed, so the interceptor hot path never writes to shared state.
+ * Times are inclusive. an interceptor that triggers another instrumented method is charged for the nested interceptor too.
+ */
+public class InterceptorOverheadRecorder {
+
+    public static final int NOT_REGISTERED = -1;
+
+    static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final int FLUSH_SAMPLE_COUNT = 64;
+    private static final long DEFAULT_FLUSH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final int sampleRate;
+    private final int maxInterceptorCount;
+    private final long flushIntervalNanos;
+
+    private final AtomicLongArray sampledCounts;
+    private final AtomicLongArray sampledTimes;
+
+    private final Object registerLock = new Object();
+    private final Map<String, Integer> meterIdMap = new HashMap<String, Integer>();
+    private final AtomicReferenceArray<String[]> meterNames;
+    private final AtomicInteger meterCount = new AtomicInteger();
+
+    private final ThreadLocal<Accumulator> accumulators = new ThreadLocal<Accumulator>() {
+        @Override
+        protected Accumulator initialValue() {
+            return new Accumulator(System.nanoTime());
+        }
+    };
+
+    public InterceptorOverheadRecorder(int sampleRate, int maxInterceptorCount) {
+        this(sampleRate, maxInterceptorCount, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    InterceptorOverheadRecorder(int sampleRate, int maxInterceptorCount, long flushIntervalNanos) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be positive");
+        }
+        if (maxInterceptorCount <= 0) {
+            throw new IllegalArgumentException("maxInterceptorCount must be positive");
+        }
+        if (flushIntervalNanos < 0) {
+            throw new IllegalArgumentException("flushIntervalNanos must not be negative");
+        }
+        this.sampleRate = sampleRate;
+        this.maxInterceptorCount = maxInterceptorCount;
+        this.flushIntervalNanos = flushIntervalNanos;
+        this.sampledCounts = new AtomicLongArray(maxInterceptorCount);
+        this.sampledTimes = new AtomicLongArray(maxInterceptorCount);
+        this.meterNames = new AtomicReferenceArray<String[]>(maxInterceptorCount);
+    }
+
+    /**
+     * @return meter id shared by every interceptor instance of the same plugin and class,
+     * or {@link #NOT_REGISTERED} once maxInterceptorCount interceptor classes have been registered
+     */
+    public int register(String pluginName, String interceptorClassName) {
+        if (pluginName == null) {
+            throw new NullPointerException("pluginName must not be null");
+        }
+        if (interceptorClassName == null) {
+            throw new NullPointerException("interceptorClassName must not be null");
+        }
+        final String key = pluginName + '/' + interceptorClassName;
+        synchronized (registerLock) {
+            final Integer meterId = meterIdMap.get(key);
+            if (meterId != null) {
+                return meterId;
+            }
+            final int newMeterId = meterCount.get();
+            if (newMeterId >= maxInterceptorCount) {
+                return NOT_REGISTERED;
+            }
+            meterNames.set(newMeterId, new String[] {pluginName, interceptorClassName});
+            meterIdMap.put(key, newMeterId);
+            meterCount.set(newMeterId + 1);
+            return newMeterId;
+        }
+    }
+
+    /**
+     * @return start time to hand over to {@link #end(int, long)}
+     */
+    public long start() {
+        if (sampleRate != 1) {
+            final Accumulator accumulator = accumulators.get();
+            if (!accumulator.nextSample(sampleRate)) {
+                return NOT_SAMPLED;
+            }
+        }
+        return System.nanoTime();
+    }
+
+    public void end(int meterId, long startTime) {
+        if (startTime == NOT_SAMPLED) {
+            return;
+        }
+        final Accumulator accumulator = accumulators.get();
+        final long endTime = System.nanoTime();
+        accumulator.add(meterId, endTime - startTime);
+        if (accumulator.pendingSamples >= FLUSH_SAMPLE_COUNT || endTime - accumulator.lastFlushTime >= flushIntervalNanos) {
+            flush(accumulator, endTime);
+        }
+    }
+
+    private void flush(Accumulator accumulator, long currentTime) {
+        final int[] dirtyIds = accumulator.dirtyIds;
+        for (int i = 0; i < accumulator.dirtyCount; i++) {
+            final int meterId = dirtyIds[i];
+            sampledCounts.addAndGet(meterId, accumulator.counts[meterId]);
+            sampledTimes.addAndGet(meterId, accumulator.times[meterId]);
+            accumulator.counts[meterId] = 0;
+            accumulator.times[meterId] = 0;
+        }
+        accumulator.dirtyCount = 0;
+        accumulator.pendingSamples = 0;
+        accumulator.lastFlushTime = currentTime;
+    }
+
+    /**
+     * @return cumulative sampled counts and times of every registered interceptor.
+     * samples still held by thread accumulators are not included
+     */
+    public List<InterceptorOverheadSnapshot> getSnapshots() {
+        final int count = meterCount.get();
+        final List<InterceptorOverheadSnapshot> snapshots = new ArrayList<InterceptorOverheadSnapshot>(count);
+        for (int meterId = 0; meterId < count; meterId++) {
+            final String[] names = meterNames.get(meterId);
+            snapshots.add(new InterceptorOverheadSnapshot(meterId, names[0], names[1], sampledCounts.get(meterId), sampledTimes.get(meterId)));
+        }
+        return snapshots;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getMaxInterceptorCount() {
+        return maxInterceptorCount;
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorOverheadRecorder{" +
+                "sampleRate=" + sampleRate +
+                ", maxInterceptorCount=" + maxInterceptorCount +
+                ", meterCount=" + meterCount.get() +
+                '}';
+    }
+
+    private static final class Accumulator {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] counts = new long[INITIAL_CAPACITY];
+        private long[] times = new long[INITIAL_CAPACITY];
+        private int[] dirtyIds = new int[INITIAL_CAPACITY];
+        private int dirtyCount;
+        private int pendingSamples;
+        private long lastFlushTime;
+        private int random;
+
+        private Accumulator(long currentTime) {
+            this.lastFlushTime = currentTime;
+            // xorshift seed must not be 0
+            this.random = (System.identityHashCode(this) ^ (int) currentTime) | 1;
+        }
+
+        // random rather than every n-th call. before and after alternate on a thread and would alias with an even rate
+        private boolean nextSample(int sampleRate) {
+            int x = random;
+            x ^= x << 13;
+            x ^= x >>> 17;
+            x ^= x << 5;
+            random = x;
+            return (x & Integer.MAX_VALUE) % sampleRate == 0;
+        }
+
+        private void add(int meterId, long elapsedTime) {
+            if (meterId >= counts.length) {
+                final int newLength = Math.max(counts.length * 2, meterId + 1);
+                counts = copyOf(counts, newLength);
+                times = copyOf(times, newLength);
+            }
+            if (counts[meterId] == 0) {
+                if (dirtyCount == dirtyIds.length) {
+                    final int[] newDirtyIds = new int[dirtyIds.length * 2];
+                    System.arraycopy(dirtyIds, 0, newDirtyIds, 0, dirtyCount);
+                    dirtyIds = newDirtyIds;
+                }
+                dirtyIds[dirtyCount++] = meterId;
+            }
+            counts[meterId]++;
+            times[meterId] += elapsedTime;
+            pendingSamples++;
+        }
+
+        private static long[] copyOf(long[] original, int newLength) {
+            final long[] copy = new long[newLength];
+            System.arraycopy(original, 0, copy, 0, original.length);
+            return copy;
+        }
+    }
+}
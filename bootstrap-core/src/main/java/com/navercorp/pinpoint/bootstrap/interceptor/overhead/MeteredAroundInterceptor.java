@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.bootstrap.interceptor.overhead;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+
+/**
+ * Charges the time spent in the delegate's before/after calls to an {@link InterceptorOverheadRecorder} meter.
+ */
+public class MeteredAroundInterceptor implements AroundInterceptor {
+
+    private final AroundInterceptor delegate;
+    private final InterceptorOverheadRecorder recorder;
+    private final int meterId;
+
+    public MeteredAroundInterceptor(AroundInterceptor delegate, InterceptorOverheadRecorder recorder, int meterId) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate must not be null");
+        }
+        if (recorder == null) {
+            throw new NullPointerException("recorder must not be null");
+        }
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.meterId = meterId;
+    }
+
+    @Override
+    public void before(Object target, Object[] args) {
+        final long startTime = recorder.start();
+        try {
+            this.delegate.before(target, args);
+        } finally {
+            recorder.end(meterId, startTime);
+        }
+    }
+
+    @Override
+    public void after(Object target, Object[] args, Object result, Throwable throwable) {
+        final long startTime = recorder.start();
+        try {
+            this.delegate.after(target, args, result, throwable);
+        } finally {
+            recorder.end(meterId, startTime);
+        }
+    }
+}
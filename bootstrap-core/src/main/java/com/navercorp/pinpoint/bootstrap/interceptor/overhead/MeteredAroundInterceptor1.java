@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.bootstrap.interceptor.overhead;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor1;
+
+public class MeteredAroundInterceptor1 implements AroundInterceptor1 {
+
+    private final AroundInterceptor1 delegate;
+    private final InterceptorOverheadRecorder recorder;
+    private final int meterId;
+
+    public MeteredAroundInterceptor1(AroundInterceptor1 delegate, InterceptorOverheadRecorder recorder, int meterId) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate must not be null");
+        }
+        if (recorder == null) {
+            throw new NullPointerException("recorder must not be null");
+        }
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.meterId = meterId;
+    }
+
+    @Override
+    public void before(Object target, Object arg0) {
+        final long startTime = recorder.start();
+        try {
+            this.delegate.before(target, arg0);
+        } finally {
+            recorder.end(meterId, startTime);
+        }
+    }
+
+    @Override
+    public void after(Object target, Object arg0, Object result, Throwable throwable) {
+        final long startTime = recorder.start();
+        try {
+            this.delegate.after(target, arg0, result, throwable);
+        } finally {
+            recorder.end(meterId, startTime);
+        }
+    }
+}
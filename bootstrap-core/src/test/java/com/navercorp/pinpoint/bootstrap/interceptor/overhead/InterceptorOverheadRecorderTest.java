@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.interceptor.overhead;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor0;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class InterceptorOverheadRecorderTest {
+
+    @Test
+    public void register() {
+        InterceptorOverheadRecorder recorder = new InterceptorOverheadRecorder(1, 2);
+
+        int meterId = recorder.register("jdbc.mysql", "ExecuteQueryInterceptor");
+        Assert.assertEquals(0, meterId);
+        Assert.assertEquals(meterId, recorder.register("jdbc.mysql", "ExecuteQueryInterceptor"));
+        Assert.assertEquals(1, recorder.register("jdbc.oracle", "ExecuteQueryInterceptor"));
+
+        Assert.assertEquals(InterceptorOverheadRecorder.NOT_REGISTERED, recorder.register("redis", "JedisMethodInterceptor"));
+        Assert.assertEquals(2, recorder.getSnapshots().size());
+    }
+
+    @Test
+    public void meteredInterceptor() {
+        InterceptorOverheadRecorder recorder = new InterceptorOverheadRecorder(1, 4, 0);
+        int meterId = recorder.register("test", "TestInterceptor");
+
+        CountingInterceptor delegate = new CountingInterceptor();
+        AroundInterceptor0 interceptor = new MeteredAroundInterceptor0(delegate, recorder, meterId);
+        for (int i = 0; i < 10; i++) {
+            interceptor.before(null);
+            interceptor.after(null, null, null);
+        }
+        Assert.assertEquals(20, delegate.count);
+
+        List<InterceptorOverheadSnapshot> snapshots = recorder.getSnapshots();
+        Assert.assertEquals(1, snapshots.size());
+        InterceptorOverheadSnapshot snapshot = snapshots.get(0);
+        Assert.assertEquals("test", snapshot.getPluginName());
+        Assert.assertEquals("TestInterceptor", snapshot.getInterceptorClassName());
+        Assert.assertEquals(20, snapshot.getSampledCount());
+        Assert.assertTrue(snapshot.getSampledTime() >= 0);
+    }
+
+    @Test
+    public void meteredInterceptor_exception() {
+        InterceptorOverheadRecorder recorder = new InterceptorOverheadRecorder(1, 4, 0);
+        int meterId = recorder.register("test", "TestInterceptor");
+
+        AroundInterceptor0 interceptor = new MeteredAroundInterceptor0(new CountingInterceptor() {
+            @Override
+            public void before(Object target) {
+                throw new IllegalStateException("test");
+            }
+        }, recorder, meterId);
+        try {
+            interceptor.before(null);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        Assert.assertEquals(1, recorder.getSnapshots().get(0).getSampledCount());
+    }
+
+    @Test
+    public void sampling() {
+        final int sampleRate = 10;
+        final int callCount = 100000;
+        InterceptorOverheadRecorder recorder = new InterceptorOverheadRecorder(sampleRate, 4, 0);
+        int meterId = recorder.register("test", "TestInterceptor");
+
+        for (int i = 0; i < callCount; i++) {
+            long startTime = recorder.start();
+            recorder.end(meterId, startTime);
+        }
+
+        long sampledCount = recorder.getSnapshots().get(0).getSampledCount();
+        long expected = callCount / sampleRate;
+        Assert.assertTrue("sampledCount:" + sampledCount, Math.abs(sampledCount - expected) < expected / 5);
+    }
+
+    private static class CountingInterceptor implements AroundInterceptor0 {
+        private int count;
+
+        @Override
+        public void before(Object target) {
+            count++;
+        }
+
+        @Override
+        public void after(Object target, Object result, Throwable throwable) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.util.Address;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent hash ring of collector addresses.
+ * Each member is placed on the ring several times so that row keys spread evenly,
+ * and a membership change only moves the row keys of the members that came or went.
+ */
+public class ConsistentHashRing {
+
+    static final int DEFAULT_VIRTUAL_NODE_COUNT = 128;
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+
+    private final TreeMap<Integer, Address> ring;
+    private final List<Address> members;
+
+    public ConsistentHashRing(Collection<? extends Address> members) {
+        this(members, DEFAULT_VIRTUAL_NODE_COUNT);
+    }
+
+    public ConsistentHashRing(Collection<? extends Address> members, int virtualNodeCount) {
+        Objects.requireNonNull(members, "members must not be null");
+        if (virtualNodeCount <= 0) {
+            throw new IllegalArgumentException("virtualNodeCount must be positive. virtualNodeCount:" + virtualNodeCount);
+        }
+        this.members = Collections.unmodifiableList(new ArrayList<Address>(members));
+        this.ring = new TreeMap<>();
+        for (Address member : this.members) {
+            final String nodeName = toNodeName(member);
+            for (int i = 0; i < virtualNodeCount; i++) {
+                final int hash = HASH_FUNCTION.hashString(nodeName + "#" + i, StandardCharsets.UTF_8).asInt();
+                final Address old = ring.get(hash);
+                // resolve (very unlikely) collisions independently of the member order so that every collector builds the same ring
+                if (old == null || nodeName.compareTo(toNodeName(old)) < 0) {
+                    ring.put(hash, member);
+                }
+            }
+        }
+    }
+
+    private static String toNodeName(Address address) {
+        return address.getHost() + ":" + address.getPort();
+    }
+
+    /**
+     * @return owner of the given key, or null if the ring has no members
+     */
+    public Address getOwner(byte[] key) {
+        Objects.requireNonNull(key, "key must not be null");
+        if (ring.isEmpty()) {
+            return null;
+        }
+        final int hash = HASH_FUNCTION.hashBytes(key).asInt();
+        Map.Entry<Integer, Address> entry = ring.ceilingEntry(hash);
+        if (entry == null) {
+            entry = ring.firstEntry();
+        }
+        return entry.getValue();
+    }
+
+    public List<Address> getMembers() {
+        return members;
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHashRing{" +
+                "members=" + members +
+                ", virtualNodes=" + ring.size() +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+
+/**
+ * Merges increments that target the same table, row and column so that the owner collector
+ * writes one increment per row instead of one per forwarding collector.
+ */
+public class IncrementAggregator {
+
+    private Map<TableName, Map<ByteBuffer, Map<ColumnKey, Long>>> counters = new HashMap<>();
+
+    public void add(TableName tableName, List<Increment> increments) {
+        Objects.requireNonNull(tableName, "tableName must not be null");
+        Objects.requireNonNull(increments, "increments must not be null");
+        synchronized (this) {
+            Map<ByteBuffer, Map<ColumnKey, Long>> rows = counters.get(tableName);
+            if (rows == null) {
+                rows = new HashMap<>();
+                counters.put(tableName, rows);
+            }
+            for (Increment increment : increments) {
+                add(rows, increment);
+            }
+        }
+    }
+
+    private void add(Map<ByteBuffer, Map<ColumnKey, Long>> rows, Increment increment) {
+        final ByteBuffer row = ByteBuffer.wrap(increment.getRow());
+        Map<ColumnKey, Long> columns = rows.get(row);
+        if (columns == null) {
+            columns = new HashMap<>();
+            rows.put(row, columns);
+        }
+        for (Map.Entry<byte[], NavigableMap<byte[], Long>> family : increment.getFamilyMapOfLongs().entrySet()) {
+            for (Map.Entry<byte[], Long> column : family.getValue().entrySet()) {
+                final ColumnKey columnKey = new ColumnKey(family.getKey(), column.getKey());
+                final Long amount = columns.get(columnKey);
+                if (amount == null) {
+                    columns.put(columnKey, column.getValue());
+                } else {
+                    columns.put(columnKey, amount + column.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return merged increments accumulated since the last drain
+     */
+    public Map<TableName, List<Increment>> drain() {
+        final Map<TableName, Map<ByteBuffer, Map<ColumnKey, Long>>> snapshot;
+        synchronized (this) {
+            if (counters.isEmpty()) {
+                return new HashMap<>();
+            }
+            snapshot = counters;
+            counters = new HashMap<>();
+        }
+
+        final Map<TableName, List<Increment>> result = new HashMap<>(snapshot.size());
+        for (Map.Entry<TableName, Map<ByteBuffer, Map<ColumnKey, Long>>> table : snapshot.entrySet()) {
+            final List<Increment> increments = new ArrayList<>(table.getValue().size());
+            for (Map.Entry<ByteBuffer, Map<ColumnKey, Long>> row : table.getValue().entrySet()) {
+                final Increment increment = new Increment(row.getKey().array());
+                for (Map.Entry<ColumnKey, Long> column : row.getValue().entrySet()) {
+                    final ColumnKey columnKey = column.getKey();
+                    increment.addColumn(columnKey.family, columnKey.qualifier, column.getValue());
+                }
+                increments.add(increment);
+            }
+            result.put(table.getKey(), increments);
+        }
+        return result;
+    }
+
+    private static final class ColumnKey {
+        private final byte[] family;
+        private final byte[] qualifier;
+        private final int hashCode;
+
+        private ColumnKey(byte[] family, byte[] qualifier) {
+            this.family = family;
+            this.qualifier = qualifier;
+            this.hashCode = 31 * Arrays.hashCode(family) + Arrays.hashCode(qualifier);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ColumnKey)) return false;
+
+            ColumnKey that = (ColumnKey) o;
+            return Arrays.equals(family, that.family) && Arrays.equals(qualifier, that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+
+/**
+ * Encodes the partial counters forwarded to an owner collector.
+ * <pre>
+ * message   : version(byte) tableCount(vint) table*
+ * table     : name(prefixed string) incrementCount(vint) increment*
+ * increment : row(prefixed bytes) columnCount(vint) column*
+ * column    : family(prefixed bytes) qualifier(prefixed bytes) amount(svlong)
+ * </pre>
+ */
+public class IncrementCodec {
+
+    static final byte VERSION = 0;
+
+    public byte[] encode(Map<TableName, List<Increment>> incrementMap) {
+        Objects.requireNonNull(incrementMap, "incrementMap must not be null");
+
+        final Buffer buffer = new AutomaticBuffer(1024);
+        buffer.putByte(VERSION);
+        buffer.putVInt(incrementMap.size());
+        for (Map.Entry<TableName, List<Increment>> entry : incrementMap.entrySet()) {
+            buffer.putPrefixedString(entry.getKey().getNameAsString());
+            final List<Increment> increments = entry.getValue();
+            buffer.putVInt(increments.size());
+            for (Increment increment : increments) {
+                writeIncrement(buffer, increment);
+            }
+        }
+        return buffer.getBuffer();
+    }
+
+    private void writeIncrement(Buffer buffer, Increment increment) {
+        buffer.putPrefixedBytes(increment.getRow());
+
+        final Map<byte[], NavigableMap<byte[], Long>> familyMap = increment.getFamilyMapOfLongs();
+        int columnCount = 0;
+        for (NavigableMap<byte[], Long> columns : familyMap.values()) {
+            columnCount += columns.size();
+        }
+        buffer.putVInt(columnCount);
+        for (Map.Entry<byte[], NavigableMap<byte[], Long>> family : familyMap.entrySet()) {
+            for (Map.Entry<byte[], Long> column : family.getValue().entrySet()) {
+                buffer.putPrefixedBytes(family.getKey());
+                buffer.putPrefixedBytes(column.getKey());
+                buffer.putSVLong(column.getValue());
+            }
+        }
+    }
+
+    public Map<TableName, List<Increment>> decode(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+
+        final Buffer buffer = new FixedBuffer(bytes);
+        final byte version = buffer.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported version:" + version);
+        }
+        final int tableCount = buffer.readVInt();
+        final Map<TableName, List<Increment>> incrementMap = new HashMap<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            final TableName tableName = TableName.valueOf(buffer.readPrefixedString());
+            final int incrementCount = buffer.readVInt();
+            final List<Increment> increments = new ArrayList<>(incrementCount);
+            for (int j = 0; j < incrementCount; j++) {
+                increments.add(readIncrement(buffer));
+            }
+            incrementMap.put(tableName, increments);
+        }
+        return incrementMap;
+    }
+
+    private Increment readIncrement(Buffer buffer) {
+        final Increment increment = new Increment(buffer.readPrefixedBytes());
+        final int columnCount = buffer.readVInt();
+        for (int i = 0; i < columnCount; i++) {
+            final byte[] family = buffer.readPrefixedBytes();
+            final byte[] qualifier = buffer.readPrefixedBytes();
+            increment.addColumn(family, qualifier, buffer.readSVLong());
+        }
+        return increment;
+    }
+}
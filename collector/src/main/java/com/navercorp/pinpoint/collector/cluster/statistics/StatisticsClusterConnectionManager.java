@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.cluster.connection.ClusterConnectionManager;
+import com.navercorp.pinpoint.collector.util.Address;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.rpc.Future;
+import com.navercorp.pinpoint.rpc.client.DefaultPinpointClientFactory;
+import com.navercorp.pinpoint.rpc.client.PinpointClient;
+import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.rpc.util.ClientFactoryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a connection to every other collector taking part in statistics aggregation
+ * and the hash ring that decides which collector owns a statistics row.
+ */
+public class StatisticsClusterConnectionManager implements ClusterConnectionManager {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Address localAddress;
+    private final ConcurrentMap<Address, PinpointClient> clientMap = new ConcurrentHashMap<>();
+
+    private PinpointClientFactory pinpointClientFactory;
+    private volatile ConsistentHashRing hashRing;
+
+    public StatisticsClusterConnectionManager(Address localAddress) {
+        this.localAddress = Assert.requireNonNull(localAddress, "localAddress must not be null");
+        this.hashRing = new ConsistentHashRing(Collections.singletonList(localAddress));
+    }
+
+    @Override
+    public void start() {
+        PinpointClientFactory pinpointClientFactory = new DefaultPinpointClientFactory();
+        pinpointClientFactory.setWriteTimeoutMillis(1000 * 3);
+        pinpointClientFactory.setRequestTimeoutMillis(1000 * 5);
+        this.pinpointClientFactory = pinpointClientFactory;
+    }
+
+    @Override
+    public void stop() {
+        for (Address address : new ArrayList<>(clientMap.keySet())) {
+            disconnectPoint(address);
+        }
+        if (pinpointClientFactory != null) {
+            pinpointClientFactory.release();
+        }
+        logger.info("{} stop completed.", this.getClass().getSimpleName());
+    }
+
+    @Override
+    public void connectPointIfAbsent(Address address) {
+        if (localAddress.equals(address)) {
+            return;
+        }
+        logger.info("localhost -> {} connect started.", address);
+
+        if (clientMap.containsKey(address)) {
+            logger.info("localhost -> {} already connected.", address);
+            return;
+        }
+
+        final PinpointClient client = ClientFactoryUtils.createPinpointClient(address.getHost(), address.getPort(), pinpointClientFactory);
+        final PinpointClient old = clientMap.putIfAbsent(address, client);
+        if (old != null) {
+            logger.info("PinpointClient have already been for {}.", address);
+            client.close();
+            return;
+        }
+        rebuildHashRing();
+
+        logger.info("localhost -> {} connect completed.", address);
+    }
+
+    @Override
+    public void disconnectPoint(Address address) {
+        if (localAddress.equals(address)) {
+            return;
+        }
+        logger.info("localhost -> {} disconnect started.", address);
+
+        final PinpointClient client = clientMap.remove(address);
+        if (client != null) {
+            rebuildHashRing();
+            client.close();
+            logger.info("localhost -> {} disconnect completed.", address);
+        } else {
+            logger.info("localhost -> {} already disconnected.", address);
+        }
+    }
+
+    private synchronized void rebuildHashRing() {
+        final List<Address> members = new ArrayList<>(clientMap.size() + 1);
+        members.add(localAddress);
+        members.addAll(clientMap.keySet());
+        this.hashRing = new ConsistentHashRing(members);
+        logger.info("statistics hash ring changed. {}", hashRing);
+    }
+
+    /**
+     * the local address is always included so that the cluster manager never tries to connect to itself
+     */
+    @Override
+    public List<Address> getConnectedAddressList() {
+        final List<Address> addressList = new ArrayList<>(clientMap.size() + 1);
+        addressList.add(localAddress);
+        addressList.addAll(clientMap.keySet());
+        return addressList;
+    }
+
+    public Address getOwner(byte[] rowKey) {
+        return hashRing.getOwner(rowKey);
+    }
+
+    public Address getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * waits for the write so that the caller knows whether the owner can still get the payload.
+     */
+    public SendResult send(Address owner, byte[] payload) {
+        final PinpointClient client = clientMap.get(owner);
+        if (client == null || !client.isConnected()) {
+            return SendResult.NOT_SENT;
+        }
+
+        final Future<?> future;
+        try {
+            future = client.sendAsync(payload);
+        } catch (Exception e) {
+            // closed before the write
+            logger.warn("failed to forward statistics to {}. Caused:{}", owner, e.getMessage(), e);
+            return SendResult.NOT_SENT;
+        }
+        if (!future.await()) {
+            // the write is still queued and can be flushed later
+            logger.warn("forwarding statistics to {} timed out.", owner);
+            return SendResult.UNKNOWN;
+        }
+        if (future.isSuccess()) {
+            return SendResult.SENT;
+        }
+        // the channel is closed on a failed write, and the owner never decodes an incomplete frame
+        final Throwable cause = future.getCause();
+        logger.warn("failed to forward statistics to {}. Caused:{}", owner, cause.getMessage(), cause);
+        return SendResult.NOT_SENT;
+    }
+
+    public enum SendResult {
+        /**
+         * written to the owner's socket
+         */
+        SENT,
+        /**
+         * the owner will never get the payload. the caller should write the counters itself
+         */
+        NOT_SENT,
+        /**
+         * the write timed out and may still reach the owner. writing the counters locally could count them twice
+         */
+        UNKNOWN
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.cluster.zookeeper.DefaultZookeeperClient;
+import com.navercorp.pinpoint.collector.cluster.zookeeper.ZookeeperClient;
+import com.navercorp.pinpoint.collector.cluster.zookeeper.ZookeeperClusterManager;
+import com.navercorp.pinpoint.collector.cluster.zookeeper.ZookeeperEventWatcher;
+import com.navercorp.pinpoint.collector.cluster.zookeeper.ZookeeperUtils;
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.collector.util.Address;
+import com.navercorp.pinpoint.collector.util.DefaultAddress;
+import com.navercorp.pinpoint.common.server.util.concurrent.CommonState;
+import com.navercorp.pinpoint.common.server.util.concurrent.CommonStateContext;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.common.util.NetUtils;
+import com.navercorp.pinpoint.rpc.PinpointSocket;
+import com.navercorp.pinpoint.rpc.packet.HandshakeResponseCode;
+import com.navercorp.pinpoint.rpc.packet.PingPayloadPacket;
+import com.navercorp.pinpoint.rpc.packet.RequestPacket;
+import com.navercorp.pinpoint.rpc.packet.SendPacket;
+import com.navercorp.pinpoint.rpc.server.ChannelFilter;
+import com.navercorp.pinpoint.rpc.server.PinpointServer;
+import com.navercorp.pinpoint.rpc.server.PinpointServerAcceptor;
+import com.navercorp.pinpoint.rpc.server.ServerMessageListener;
+import com.navercorp.pinpoint.rpc.server.ServerMessageListenerFactory;
+import com.navercorp.pinpoint.rpc.server.ServerOption;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher.Event.EventType;
+import org.apache.zookeeper.Watcher.Event.KeeperState;
+import org.apache.zookeeper.proto.WatcherEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Joins the collectors that pre-aggregate server map statistics.
+ * Every member registers itself under {@value #PINPOINT_STATISTICS_CLUSTER_PATH}, connects to the other members
+ * and accepts the partial counters they forward for the rows it owns.
+ */
+public class StatisticsClusterService {
+
+    private static final String PINPOINT_STATISTICS_CLUSTER_PATH = "/pinpoint-cluster/statistics";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final CommonStateContext serviceState;
+    private final CollectorConfiguration config;
+    private final IncrementAggregator incrementAggregator;
+    private final IncrementCodec incrementCodec;
+
+    private StatisticsClusterConnectionManager clusterConnectionManager;
+    private PinpointServerAcceptor serverAcceptor;
+    private ZookeeperClient client;
+    private ZookeeperClusterManager zookeeperClusterManager;
+    private String localNodePath;
+
+    public StatisticsClusterService(CollectorConfiguration config, IncrementAggregator incrementAggregator, IncrementCodec incrementCodec) {
+        this.config = Assert.requireNonNull(config, "config must not be null");
+        this.incrementAggregator = Assert.requireNonNull(incrementAggregator, "incrementAggregator must not be null");
+        this.incrementCodec = Assert.requireNonNull(incrementCodec, "incrementCodec must not be null");
+        this.serviceState = new CommonStateContext();
+    }
+
+    @PostConstruct
+    public void setUp() throws KeeperException, IOException, InterruptedException {
+        if (!config.isStatisticsClusterEnable()) {
+            logger.info("statistics cluster disable.");
+            return;
+        }
+
+        switch (this.serviceState.getCurrentState()) {
+            case NEW:
+                if (this.serviceState.changeStateInitializing()) {
+                    logger.info("{} initialization started.", this.getClass().getSimpleName());
+
+                    final Address localAddress = getLocalAddress();
+                    this.localNodePath = ZookeeperUtils.bindingPathAndNode(PINPOINT_STATISTICS_CLUSTER_PATH, localAddress.getHost() + ":" + localAddress.getPort());
+
+                    this.serverAcceptor = newServerAcceptor();
+
+                    this.clusterConnectionManager = new StatisticsClusterConnectionManager(localAddress);
+                    this.clusterConnectionManager.start();
+
+                    ClusterManagerWatcher watcher = new ClusterManagerWatcher();
+                    this.client = new DefaultZookeeperClient(config.getClusterAddress(), config.getClusterSessionTimeout(), watcher);
+                    this.client.connect();
+
+                    this.zookeeperClusterManager = new ZookeeperClusterManager(client, PINPOINT_STATISTICS_CLUSTER_PATH, clusterConnectionManager);
+                    this.zookeeperClusterManager.start();
+
+                    this.serviceState.changeStateStarted();
+                    logger.info("{} initialization completed. localAddress:{}", this.getClass().getSimpleName(), localNodePath);
+
+                    if (client.isConnected()) {
+                        WatcherEvent watcherEvent = new WatcherEvent(EventType.None.getIntValue(), KeeperState.SyncConnected.getIntValue(), "");
+                        WatchedEvent event = new WatchedEvent(watcherEvent);
+                        watcher.process(event);
+                    }
+                }
+                break;
+            case INITIALIZING:
+                logger.info("{} already initializing.", this.getClass().getSimpleName());
+                break;
+            case STARTED:
+                logger.info("{} already started.", this.getClass().getSimpleName());
+                break;
+            case DESTROYING:
+                throw new IllegalStateException("Already destroying.");
+            case STOPPED:
+                throw new IllegalStateException("Already stopped.");
+            case ILLEGAL_STATE:
+                throw new IllegalStateException("Invalid State.");
+        }
+    }
+
+    private Address getLocalAddress() {
+        final int port = config.getStatisticsClusterListenPort();
+        if (port <= 0) {
+            throw new IllegalStateException("invalid cluster.statistics.listen.port:" + port);
+        }
+        String host = config.getStatisticsClusterListenIp();
+        if (StringUtils.isEmpty(host) || "0.0.0.0".equals(host)) {
+            host = NetUtils.getLocalV4Ip();
+        }
+        return new DefaultAddress(host, port);
+    }
+
+    private PinpointServerAcceptor newServerAcceptor() {
+        final String listenIp = config.getStatisticsClusterListenIp();
+        final int listenPort = config.getStatisticsClusterListenPort();
+        final InetSocketAddress bindAddress = StringUtils.isEmpty(listenIp) ? new InetSocketAddress(listenPort) : new InetSocketAddress(listenIp, listenPort);
+
+        ServerOption.Builder serverOptionBuilder = new ServerOption.Builder();
+        PinpointServerAcceptor serverAcceptor = new PinpointServerAcceptor(serverOptionBuilder.build(), ChannelFilter.BYPASS);
+        serverAcceptor.setMessageListenerFactory(new StatisticsServerMessageListenerFactory());
+        serverAcceptor.bind(bindAddress);
+        return serverAcceptor;
+    }
+
+    @PreDestroy
+    public void tearDown() {
+        if (!config.isStatisticsClusterEnable()) {
+            logger.info("statistics cluster disable.");
+            return;
+        }
+        if (!(this.serviceState.changeStateDestroying())) {
+            CommonState state = this.serviceState.getCurrentState();
+            logger.info("{} already {}.", this.getClass().getSimpleName(), state.toString());
+            return;
+        }
+
+        logger.info("{} destroying started.", this.getClass().getSimpleName());
+
+        if (this.zookeeperClusterManager != null) {
+            zookeeperClusterManager.stop();
+        }
+        if (client != null) {
+            client.close();
+        }
+        if (serverAcceptor != null) {
+            serverAcceptor.close();
+        }
+
+        this.serviceState.changeStateStopped();
+        logger.info("{} destroying completed.", this.getClass().getSimpleName());
+    }
+
+    public boolean isStarted() {
+        return serviceState.isStarted();
+    }
+
+    /**
+     * @return null if the statistics cluster is disabled
+     */
+    public StatisticsClusterConnectionManager getClusterConnectionManager() {
+        return clusterConnectionManager;
+    }
+
+    private void registerLocalNode() {
+        try {
+            if (!client.exists(localNodePath)) {
+                client.createPath(localNodePath);
+                client.createNode(localNodePath, new byte[0]);
+            }
+        } catch (Exception e) {
+            logger.warn("failed to register {}. Caused:{}", localNodePath, e.getMessage(), e);
+        }
+    }
+
+    class ClusterManagerWatcher implements ZookeeperEventWatcher {
+
+        private final AtomicBoolean connected = new AtomicBoolean(false);
+
+        @Override
+        public void process(WatchedEvent event) {
+            logger.debug("Process Zookeeper Event({})", event);
+
+            KeeperState state = event.getState();
+            EventType eventType = event.getType();
+
+            // ephemeral node is removed on disconnect event (leave node management exclusively to zookeeper)
+            if (ZookeeperUtils.isDisconnectedEvent(state, eventType)) {
+                connected.compareAndSet(true, false);
+                if (state == KeeperState.Expired) {
+                    if (client != null) {
+                        client.reconnectWhenSessionExpired();
+                    }
+                }
+                return;
+            }
+
+            // on connect/reconnect event
+            if (ZookeeperUtils.isConnectedEvent(state, eventType)) {
+                // could already be connected (failure to compareAndSet doesn't really matter)
+                connected.compareAndSet(false, true);
+            }
+
+            if (serviceState.isStarted() && connected.get()) {
+                // duplicate event possible - but the logic does not change
+                if (ZookeeperUtils.isConnectedEvent(state, eventType)) {
+                    registerLocalNode();
+                    zookeeperClusterManager.handleAndRegisterWatcher(PINPOINT_STATISTICS_CLUSTER_PATH);
+                } else if (eventType == EventType.NodeChildrenChanged) {
+                    String path = event.getPath();
+
+                    if (PINPOINT_STATISTICS_CLUSTER_PATH.equals(path)) {
+                        zookeeperClusterManager.handleAndRegisterWatcher(path);
+                    } else {
+                        logger.warn("Unknown Path ChildrenChanged {}.", path);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected.get();
+        }
+
+    }
+
+    class StatisticsServerMessageListenerFactory implements ServerMessageListenerFactory {
+
+        @Override
+        public ServerMessageListener create() {
+            return new StatisticsServerMessageListener();
+        }
+
+    }
+
+    class StatisticsServerMessageListener implements ServerMessageListener {
+
+        @Override
+        public void handleSend(SendPacket sendPacket, PinpointSocket pinpointSocket) {
+            final Map<TableName, List<Increment>> incrementMap;
+            try {
+                incrementMap = incrementCodec.decode(sendPacket.getPayload());
+            } catch (Exception e) {
+                logger.warn("invalid statistics packet. remote:{} Caused:{}", pinpointSocket.getRemoteAddress(), e.getMessage(), e);
+                return;
+            }
+            for (Map.Entry<TableName, List<Increment>> entry : incrementMap.entrySet()) {
+                incrementAggregator.add(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public void handleRequest(RequestPacket requestPacket, PinpointSocket pinpointSocket) {
+            logger.info("unsupported request. packet:{}, remote:{}", requestPacket, pinpointSocket.getRemoteAddress());
+        }
+
+        @Override
+        public HandshakeResponseCode handleHandshake(Map properties) {
+            logger.info("handle handShake {}", properties);
+            return HandshakeResponseCode.DUPLEX_COMMUNICATION;
+        }
+
+        @Override
+        public void handlePing(PingPayloadPacket pingPacket, PinpointServer pinpointServer) {
+            logger.debug("ping received packet:{}, remote:{}", pingPacket, pinpointServer);
+        }
+
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.cluster.statistics.StatisticsClusterConnectionManager.SendResult;
+import com.navercorp.pinpoint.collector.util.Address;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.Assert;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes flushed statistics increments through their owner collector.
+ * Increments owned by this collector, and increments that definitely did not reach their owner, are merged with the
+ * counters forwarded by the other collectors and written to hbase on {@link #flushAll()}.
+ * <p>
+ * A forward that timed out may still be delivered, so its increments are dropped and counted instead of being written
+ * here twice. A successful send only means the increments were written to the owner's socket. The owner holds them
+ * in memory until its next flush, so they are lost if the owner crashes before that. {@link #stop()} flushes them on shutdown.
+ */
+public class StatisticsIncrementRouter {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final StatisticsClusterService statisticsClusterService;
+    private final IncrementAggregator incrementAggregator;
+    private final IncrementCodec incrementCodec;
+    private final HbaseOperations2 hbaseTemplate;
+
+    private final AtomicLong droppedIncrementCount = new AtomicLong();
+
+    public StatisticsIncrementRouter(StatisticsClusterService statisticsClusterService, IncrementAggregator incrementAggregator, IncrementCodec incrementCodec, HbaseOperations2 hbaseTemplate) {
+        this.statisticsClusterService = Assert.requireNonNull(statisticsClusterService, "statisticsClusterService must not be null");
+        this.incrementAggregator = Assert.requireNonNull(incrementAggregator, "incrementAggregator must not be null");
+        this.incrementCodec = Assert.requireNonNull(incrementCodec, "incrementCodec must not be null");
+        this.hbaseTemplate = Assert.requireNonNull(hbaseTemplate, "hbaseTemplate must not be null");
+    }
+
+    public void increment(TableName tableName, List<Increment> increments) {
+        final StatisticsClusterConnectionManager connectionManager = statisticsClusterService.getClusterConnectionManager();
+        if (!statisticsClusterService.isStarted() || connectionManager == null) {
+            hbaseTemplate.increment(tableName, increments);
+            return;
+        }
+
+        final Address localAddress = connectionManager.getLocalAddress();
+        final List<Increment> localIncrements = new ArrayList<>();
+        final Map<Address, List<Increment>> remoteIncrementMap = new HashMap<>();
+        for (Increment increment : increments) {
+            final Address owner = connectionManager.getOwner(increment.getRow());
+            if (owner == null || owner.equals(localAddress)) {
+                localIncrements.add(increment);
+                continue;
+            }
+            List<Increment> remoteIncrements = remoteIncrementMap.get(owner);
+            if (remoteIncrements == null) {
+                remoteIncrements = new ArrayList<>();
+                remoteIncrementMap.put(owner, remoteIncrements);
+            }
+            remoteIncrements.add(increment);
+        }
+
+        for (Map.Entry<Address, List<Increment>> entry : remoteIncrementMap.entrySet()) {
+            final Address owner = entry.getKey();
+            final List<Increment> remoteIncrements = entry.getValue();
+            final Map<TableName, List<Increment>> payload = new HashMap<>(1);
+            payload.put(tableName, remoteIncrements);
+            final SendResult sendResult = connectionManager.send(owner, incrementCodec.encode(payload));
+            if (sendResult == SendResult.NOT_SENT) {
+                // the owner never gets them. hbase increments are additive, so writing them here only costs the merge
+                logger.debug("owner {} is not reachable. write {} increments locally.", owner, remoteIncrements.size());
+                localIncrements.addAll(remoteIncrements);
+            } else if (sendResult == SendResult.UNKNOWN) {
+                // the owner may still get them. losing them is better than counting them twice
+                final long dropped = droppedIncrementCount.addAndGet(remoteIncrements.size());
+                logger.warn("forward to {} timed out. drop {} increments. total dropped:{}", owner, remoteIncrements.size(), dropped);
+            }
+        }
+
+        if (!localIncrements.isEmpty()) {
+            incrementAggregator.add(tableName, localIncrements);
+        }
+    }
+
+    /**
+     * stops receiving forwarded increments first, so that nothing arrives after the last flush.
+     */
+    @PreDestroy
+    public void stop() {
+        statisticsClusterService.tearDown();
+        flushAll();
+    }
+
+    public long getDroppedIncrementCount() {
+        return droppedIncrementCount.get();
+    }
+
+    public void flushAll() {
+        final Map<TableName, List<Increment>> incrementMap = incrementAggregator.drain();
+        for (Map.Entry<TableName, List<Increment>> e : incrementMap.entrySet()) {
+            TableName tableName = e.getKey();
+            List<Increment> increments = e.getValue();
+            if (logger.isDebugEnabled()) {
+                logger.debug("flush {} to [{}] Increment:{}", this.getClass().getSimpleName(), tableName.getNameAsString(), increments.size());
+            }
+            hbaseTemplate.increment(tableName, increments);
+        }
+    }
+}
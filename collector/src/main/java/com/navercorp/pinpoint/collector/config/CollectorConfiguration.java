@@ -62,6 +62,10 @@ public class CollectorConfiguration implements InitializingBean {
     private String clusterListenIp;
     private int clusterListenPort;
 
+    private boolean statisticsClusterEnable;
+    private String statisticsClusterListenIp;
+    private int statisticsClusterListenPort;
+
     private boolean flinkClusterEnable;
     private String flinkClusterZookeeperAddress;
     private int flinkClusterSessionTimeout;
@@ -154,6 +158,30 @@ public class CollectorConfiguration implements InitializingBean {
         this.clusterListenPort = clusterListenPort;
     }
 
+    public boolean isStatisticsClusterEnable() {
+        return statisticsClusterEnable;
+    }
+
+    public void setStatisticsClusterEnable(boolean statisticsClusterEnable) {
+        this.statisticsClusterEnable = statisticsClusterEnable;
+    }
+
+    public String getStatisticsClusterListenIp() {
+        return statisticsClusterListenIp;
+    }
+
+    public void setStatisticsClusterListenIp(String statisticsClusterListenIp) {
+        this.statisticsClusterListenIp = statisticsClusterListenIp;
+    }
+
+    public int getStatisticsClusterListenPort() {
+        return statisticsClusterListenPort;
+    }
+
+    public void setStatisticsClusterListenPort(int statisticsClusterListenPort) {
+        this.statisticsClusterListenPort = statisticsClusterListenPort;
+    }
+
     public void readConfigFile() {
 
         // may be useful for some kind of standalone like testcase. It should be modified to read a classpath for testcase.
@@ -208,6 +236,10 @@ public class CollectorConfiguration implements InitializingBean {
 
         this.clusterListenIp = readString(properties, "cluster.listen.ip", "");
         this.clusterListenPort = readInt(properties, "cluster.listen.port", -1);
+
+        this.statisticsClusterEnable = readBoolean(properties, "cluster.statistics.enable");
+        this.statisticsClusterListenIp = readString(properties, "cluster.statistics.listen.ip", "");
+        this.statisticsClusterListenPort = readInt(properties, "cluster.statistics.listen.port", -1);
     }
 
     protected static String readString(Properties properties, String propertyName, String defaultValue) {
@@ -260,6 +292,9 @@ public class CollectorConfiguration implements InitializingBean {
         sb.append(", clusterSessionTimeout=").append(clusterSessionTimeout);
         sb.append(", clusterListenIp='").append(clusterListenIp).append('\'');
         sb.append(", clusterListenPort=").append(clusterListenPort);
+        sb.append(", statisticsClusterEnable=").append(statisticsClusterEnable);
+        sb.append(", statisticsClusterListenIp='").append(statisticsClusterListenIp).append('\'');
+        sb.append(", statisticsClusterListenPort=").append(statisticsClusterListenPort);
         sb.append(", flinkClusterEnable=").append(flinkClusterEnable);
         sb.append(", flinkClusterZookeeperAddress='").append(flinkClusterZookeeperAddress).append('\'');
         sb.append(", flinkClusterSessionTimeout=").append(flinkClusterSessionTimeout);
@@ -52,6 +52,17 @@ public final class SpanReceiverConfiguration implements DataReceiverGroupConfigu
     private static final String WORKER_MONITOR_ENABLE = PREFIX + ".worker.monitor";
     private final boolean workerMonitorEnable;
 
+    private static final String PIPELINE_ENABLE = PREFIX + ".pipeline";
+    private final boolean pipelineEnable;
+    private static final String PIPELINE_THREAD_SIZE = PREFIX + ".pipeline.threadSize";
+    private final int pipelineThreadSize;
+    private static final String PIPELINE_QUEUE_SIZE = PREFIX + ".pipeline.queueSize";
+    private final int pipelineQueueSize;
+    private static final String PIPELINE_BATCH_SIZE = PREFIX + ".pipeline.batchSize";
+    private final int pipelineBatchSize;
+    private static final String PIPELINE_OFFER_TIMEOUT = PREFIX + ".pipeline.offerTimeout";
+    private final long pipelineOfferTimeout;
+
 
     public SpanReceiverConfiguration(Properties properties, DeprecatedConfiguration deprecatedConfiguration) {
         Objects.requireNonNull(properties, "properties must not be null");
@@ -73,6 +84,16 @@ public final class SpanReceiverConfiguration implements DataReceiverGroupConfigu
 
         this.workerMonitorEnable = isWorkerThreadMonitorEnable(properties, deprecatedConfiguration);
 
+        this.pipelineEnable = CollectorConfiguration.readBoolean(properties, PIPELINE_ENABLE);
+        this.pipelineThreadSize = CollectorConfiguration.readInt(properties, PIPELINE_THREAD_SIZE, 8);
+        Assert.isTrue(pipelineThreadSize > 0, "pipelineThreadSize must be greater than 0");
+        this.pipelineQueueSize = CollectorConfiguration.readInt(properties, PIPELINE_QUEUE_SIZE, 1024 * 5);
+        Assert.isTrue(pipelineQueueSize > 0, "pipelineQueueSize must be greater than 0");
+        this.pipelineBatchSize = CollectorConfiguration.readInt(properties, PIPELINE_BATCH_SIZE, 64);
+        Assert.isTrue(pipelineBatchSize > 0, "pipelineBatchSize must be greater than 0");
+        this.pipelineOfferTimeout = CollectorConfiguration.readLong(properties, PIPELINE_OFFER_TIMEOUT, 100);
+        Assert.isTrue(pipelineOfferTimeout >= 0, "pipelineOfferTimeout must be greater than or equal to 0");
+
         validate();
     }
 
@@ -222,6 +243,26 @@ public final class SpanReceiverConfiguration implements DataReceiverGroupConfigu
         return workerMonitorEnable;
     }
 
+    public boolean isPipelineEnable() {
+        return pipelineEnable;
+    }
+
+    public int getPipelineThreadSize() {
+        return pipelineThreadSize;
+    }
+
+    public int getPipelineQueueSize() {
+        return pipelineQueueSize;
+    }
+
+    public int getPipelineBatchSize() {
+        return pipelineBatchSize;
+    }
+
+    public long getPipelineOfferTimeout() {
+        return pipelineOfferTimeout;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("SpanReceiverConfig{");
@@ -235,6 +276,11 @@ public final class SpanReceiverConfiguration implements DataReceiverGroupConfigu
         sb.append(", workerThreadSize=").append(workerThreadSize);
         sb.append(", workerQueueSize=").append(workerQueueSize);
         sb.append(", workerMonitorEnable=").append(workerMonitorEnable);
+        sb.append(", pipelineEnable=").append(pipelineEnable);
+        sb.append(", pipelineThreadSize=").append(pipelineThreadSize);
+        sb.append(", pipelineQueueSize=").append(pipelineQueueSize);
+        sb.append(", pipelineBatchSize=").append(pipelineBatchSize);
+        sb.append(", pipelineOfferTimeout=").append(pipelineOfferTimeout);
         sb.append('}');
         return sb.toString();
     }
@@ -18,10 +18,14 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
 
+import java.util.List;
+
 /**
  * @author emeroad
  */
 public interface ApiMetaDataDao {
 
     void insert(TApiMetaData apiMetaData);
+
+    void insertAll(List<TApiMetaData> apiMetaDataList);
 }
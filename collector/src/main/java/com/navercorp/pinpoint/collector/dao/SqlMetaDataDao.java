@@ -18,9 +18,13 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.thrift.dto.TSqlMetaData;
 
+import java.util.List;
+
 /**
  * @author emeroad
  */
 public interface SqlMetaDataDao {
     void insert(TSqlMetaData sqlMetaData);
+
+    void insertAll(List<TSqlMetaData> sqlMetaDataList);
 }
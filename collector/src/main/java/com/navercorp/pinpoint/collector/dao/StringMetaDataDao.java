@@ -18,10 +18,14 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
 
+import java.util.List;
+
 /**
  * @author emeroad
  */
 public interface StringMetaDataDao {
 
     void insert(TStringMetaData stringMetaData);
+
+    void insertAll(List<TStringMetaData> stringMetaDataList);
 }
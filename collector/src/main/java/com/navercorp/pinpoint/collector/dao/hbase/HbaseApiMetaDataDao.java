@@ -34,6 +34,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author emeroad
  * @author minwoo.jung
@@ -59,7 +62,34 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
             logger.debug("insert:{}", apiMetaData);
         }
 
+        final Put put = createPut(apiMetaData);
+
+        TableName apiMetaDataTableName = tableNameProvider.getTableName(HBaseTables.API_METADATA_STR);
+        hbaseTemplate.put(apiMetaDataTableName, put);
+    }
 
+    @Override
+    public void insertAll(List<TApiMetaData> apiMetaDataList) {
+        if (apiMetaDataList == null) {
+            throw new NullPointerException("apiMetaDataList must not be null");
+        }
+        if (apiMetaDataList.isEmpty()) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("insertAll size:{}", apiMetaDataList.size());
+        }
+
+        final List<Put> puts = new ArrayList<>(apiMetaDataList.size());
+        for (TApiMetaData apiMetaData : apiMetaDataList) {
+            puts.add(createPut(apiMetaData));
+        }
+
+        TableName apiMetaDataTableName = tableNameProvider.getTableName(HBaseTables.API_METADATA_STR);
+        hbaseTemplate.put(apiMetaDataTableName, puts);
+    }
+
+    private Put createPut(TApiMetaData apiMetaData) {
         ApiMetaDataBo apiMetaDataBo = new ApiMetaDataBo(apiMetaData.getAgentId(), apiMetaData.getAgentStartTime(), apiMetaData.getApiId());
         byte[] rowKey = getDistributedKey(apiMetaDataBo.toRowKey());
 
@@ -81,9 +111,7 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
         
         final byte[] apiMetaDataBytes = buffer.getBuffer();
         put.addColumn(HBaseTables.API_METADATA_CF_API, HBaseTables.API_METADATA_CF_API_QUALI_SIGNATURE, apiMetaDataBytes);
-
-        TableName apiMetaDataTableName = tableNameProvider.getTableName(HBaseTables.API_METADATA_STR);
-        hbaseTemplate.put(apiMetaDataTableName, put);
+        return put;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.collector.dao.hbase;
 
+import com.navercorp.pinpoint.collector.cluster.statistics.StatisticsIncrementRouter;
 import com.navercorp.pinpoint.collector.dao.MapResponseTimeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.*;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
@@ -55,6 +56,9 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
     @Autowired
     private HbaseOperations2 hbaseTemplate;
 
+    @Autowired
+    private StatisticsIncrementRouter statisticsIncrementRouter;
+
     @Autowired
     private TableNameProvider tableNameProvider;
 
@@ -138,7 +142,7 @@ public class HbaseMapResponseTimeDao implements MapResponseTimeDao {
             if (logger.isDebugEnabled()) {
                 logger.debug("flush {} to [{}] Increment:{}", this.getClass().getSimpleName(), tableName.getNameAsString(), increments.size());
             }
-            hbaseTemplate.increment(tableName, increments);
+            statisticsIncrementRouter.increment(tableName, increments);
         }
     }
 
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.collector.dao.hbase;
 
 import static com.navercorp.pinpoint.common.hbase.HBaseTables.*;
 
+import com.navercorp.pinpoint.collector.cluster.statistics.StatisticsIncrementRouter;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.collector.dao.hbase.statistics.*;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
@@ -55,6 +56,9 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
     @Autowired
     private HbaseOperations2 hbaseTemplate;
 
+    @Autowired
+    private StatisticsIncrementRouter statisticsIncrementRouter;
+
     @Autowired
     private TableNameProvider tableNameProvider;
 
@@ -144,7 +148,7 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
             if (logger.isDebugEnabled()) {
                 logger.debug("flush {} to [{}] Increment:{}", this.getClass().getSimpleName(), tableName.getNameAsString(), increments.size());
             }
-            hbaseTemplate.increment(tableName, increments);
+            statisticsIncrementRouter.increment(tableName, increments);
         }
 
     }
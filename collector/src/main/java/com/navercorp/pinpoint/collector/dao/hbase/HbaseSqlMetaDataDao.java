@@ -33,6 +33,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author minwoo.jung
  */
@@ -60,6 +63,34 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
             logger.debug("insert:{}", sqlMetaData);
         }
 
+        final Put put = createPut(sqlMetaData);
+
+        TableName sqlMetaDataTableName = tableNameProvider.getTableName(HBaseTables.SQL_METADATA_VER2_STR);
+        hbaseTemplate.put(sqlMetaDataTableName, put);
+    }
+
+    @Override
+    public void insertAll(List<TSqlMetaData> sqlMetaDataList) {
+        if (sqlMetaDataList == null) {
+            throw new NullPointerException("sqlMetaDataList must not be null");
+        }
+        if (sqlMetaDataList.isEmpty()) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("insertAll size:{}", sqlMetaDataList.size());
+        }
+
+        final List<Put> puts = new ArrayList<>(sqlMetaDataList.size());
+        for (TSqlMetaData sqlMetaData : sqlMetaDataList) {
+            puts.add(createPut(sqlMetaData));
+        }
+
+        TableName sqlMetaDataTableName = tableNameProvider.getTableName(HBaseTables.SQL_METADATA_VER2_STR);
+        hbaseTemplate.put(sqlMetaDataTableName, puts);
+    }
+
+    private Put createPut(TSqlMetaData sqlMetaData) {
         SqlMetaDataBo sqlMetaDataBo = new SqlMetaDataBo(sqlMetaData.getAgentId(), sqlMetaData.getAgentStartTime(), sqlMetaData.getSqlId());
         final byte[] rowKey = getDistributedKey(sqlMetaDataBo.toRowKey());
 
@@ -69,9 +100,7 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
         byte[] sqlBytes = Bytes.toBytes(sql);
 
         put.addColumn(HBaseTables.SQL_METADATA_VER2_CF_SQL, HBaseTables.SQL_METADATA_VER2_CF_SQL_QUALI_SQLSTATEMENT, sqlBytes);
-
-        TableName sqlMetaDataTableName = tableNameProvider.getTableName(HBaseTables.SQL_METADATA_VER2_STR);
-        hbaseTemplate.put(sqlMetaDataTableName, put);
+        return put;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -33,6 +33,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author emeroad
  * @author minwoo.jung
@@ -61,6 +64,34 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
             logger.debug("insert:{}", stringMetaData);
         }
 
+        final Put put = createPut(stringMetaData);
+
+        TableName stringMetaDataTableName = tableNameProvider.getTableName(HBaseTables.STRING_METADATA_STR);
+        hbaseTemplate.put(stringMetaDataTableName, put);
+    }
+
+    @Override
+    public void insertAll(List<TStringMetaData> stringMetaDataList) {
+        if (stringMetaDataList == null) {
+            throw new NullPointerException("stringMetaDataList must not be null");
+        }
+        if (stringMetaDataList.isEmpty()) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("insertAll size:{}", stringMetaDataList.size());
+        }
+
+        final List<Put> puts = new ArrayList<>(stringMetaDataList.size());
+        for (TStringMetaData stringMetaData : stringMetaDataList) {
+            puts.add(createPut(stringMetaData));
+        }
+
+        TableName stringMetaDataTableName = tableNameProvider.getTableName(HBaseTables.STRING_METADATA_STR);
+        hbaseTemplate.put(stringMetaDataTableName, puts);
+    }
+
+    private Put createPut(TStringMetaData stringMetaData) {
         final StringMetaDataBo stringMetaDataBo = new StringMetaDataBo(stringMetaData.getAgentId(), stringMetaData.getAgentStartTime(), stringMetaData.getStringId());
         final byte[] rowKey = getDistributedKey(stringMetaDataBo.toRowKey());
 
@@ -69,9 +100,7 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
         String stringValue = stringMetaData.getStringValue();
         byte[] sqlBytes = Bytes.toBytes(stringValue);
         put.addColumn(HBaseTables.STRING_METADATA_CF_STR, HBaseTables.STRING_METADATA_CF_STR_QUALI_STRING, sqlBytes);
-
-        TableName stringMetaDataTableName = tableNameProvider.getTableName(HBaseTables.STRING_METADATA_STR);
-        hbaseTemplate.put(stringMetaDataTableName, put);
+        return put;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
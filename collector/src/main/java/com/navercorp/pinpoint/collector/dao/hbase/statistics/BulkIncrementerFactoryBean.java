@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import org.springframework.beans.factory.FactoryBean;
+
+import java.util.Objects;
+
+/**
+ * Creates the {@link ShardedBulkIncrementer} when sharded is set, {@link DefaultBulkIncrementer} otherwise.
+ */
+public class BulkIncrementerFactoryBean implements FactoryBean<BulkIncrementer> {
+
+    private RowKeyMerge rowKeyMerge;
+    private boolean sharded;
+    private int shardCount = Runtime.getRuntime().availableProcessors() * 2;
+
+    @Override
+    public BulkIncrementer getObject() throws Exception {
+        Objects.requireNonNull(rowKeyMerge, "rowKeyMerge must not be null");
+        if (sharded) {
+            return new ShardedBulkIncrementer(rowKeyMerge, shardCount);
+        }
+        return new DefaultBulkIncrementer(rowKeyMerge);
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return BulkIncrementer.class;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+
+    public void setRowKeyMerge(RowKeyMerge rowKeyMerge) {
+        this.rowKeyMerge = rowKeyMerge;
+    }
+
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link BulkIncrementer} striped over open-addressing counter tables.
+ * <p>
+ * A thread increments the shard picked by its thread id. The shards are guarded by a try-acquire flag instead of a lock,
+ * so a writer finding its shard busy moves on to the next shard rather than waiting.
+ * Keys are stored once per slot along with their precomputed hash; repeated increments of a key only bump a long,
+ * no {@link RowInfo} is allocated until flush.
+ * <p>
+ * Every shard is double-buffered. Flush swaps in the spare table and drains the detached one without holding the shard,
+ * instead of removing the keys of a shared map one by one.
+ */
+public class ShardedBulkIncrementer implements BulkIncrementer {
+
+    private static final int DEFAULT_TABLE_CAPACITY = 256;
+
+    private final RowKeyMerge rowKeyMerge;
+
+    private final Shard[] shards;
+    private final int shardMask;
+
+    public ShardedBulkIncrementer(RowKeyMerge rowKeyMerge) {
+        this(rowKeyMerge, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public ShardedBulkIncrementer(RowKeyMerge rowKeyMerge, int shardCount) {
+        this.rowKeyMerge = Objects.requireNonNull(rowKeyMerge, "rowKeyMerge must not be null");
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be greater than 0");
+        }
+        final int size = powerOfTwo(shardCount);
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.shardMask = size - 1;
+    }
+
+    private static int powerOfTwo(int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        }
+        return highestOneBit << 1;
+    }
+
+    @Override
+    public void increment(TableName tableName, RowKey rowKey, ColumnName columnName) {
+        Objects.requireNonNull(tableName, "tableName must not be null");
+        Objects.requireNonNull(rowKey, "rowKey must not be null");
+        Objects.requireNonNull(columnName, "columnName must not be null");
+
+        final int hash = hash(tableName, rowKey, columnName);
+        final long threadId = Thread.currentThread().getId();
+        int index = (int) (threadId ^ (threadId >>> 32));
+        for (int attempt = 1; ; attempt++) {
+            final Shard shard = shards[index & shardMask];
+            if (shard.tryAcquire()) {
+                try {
+                    shard.active.increment(hash, tableName, rowKey, columnName);
+                } finally {
+                    shard.release();
+                }
+                return;
+            }
+            index++;
+            if ((attempt & shardMask) == 0) {
+                // every shard was busy
+                Thread.yield();
+            }
+        }
+    }
+
+    static int hash(TableName tableName, RowKey rowKey, ColumnName columnName) {
+        int hash = tableName.hashCode();
+        hash = 31 * hash + rowKey.hashCode();
+        hash = 31 * hash + columnName.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public synchronized Map<TableName, List<Increment>> getIncrements(RowKeyDistributorByHashPrefix rowKeyDistributor) {
+        final Map<RowInfo, Long> snapshot = new HashMap<>();
+        for (Shard shard : shards) {
+            final CounterTable detached = shard.swap();
+            detached.drainTo(snapshot);
+        }
+        return rowKeyMerge.createBulkIncrement(snapshot, rowKeyDistributor);
+    }
+
+    int getShardCount() {
+        return shards.length;
+    }
+
+    private static class Shard {
+        private final AtomicBoolean busy = new AtomicBoolean();
+
+        // guarded by busy
+        private CounterTable active = new CounterTable(DEFAULT_TABLE_CAPACITY);
+        // only touched by the flushing thread
+        private CounterTable spare = new CounterTable(DEFAULT_TABLE_CAPACITY);
+
+        private boolean tryAcquire() {
+            return !busy.get() && busy.compareAndSet(false, true);
+        }
+
+        private void release() {
+            busy.set(false);
+        }
+
+        /**
+         * @return the table holding the counts since the previous swap
+         */
+        private CounterTable swap() {
+            while (!tryAcquire()) {
+                Thread.yield();
+            }
+            final CounterTable detached;
+            try {
+                detached = this.active;
+                this.active = this.spare;
+            } finally {
+                release();
+            }
+            this.spare = detached;
+            return detached;
+        }
+    }
+
+    /**
+     * Open-addressing (linear probing) map of row info to count. not thread safe.
+     */
+    static class CounterTable {
+
+        private final int initialCapacity;
+
+        private int[] hashes;
+        private TableName[] tableNames;
+        private RowKey[] rowKeys;
+        private ColumnName[] columnNames;
+        private long[] counts;
+        private int size;
+
+        CounterTable(int initialCapacity) {
+            this.initialCapacity = powerOfTwo(initialCapacity);
+            allocate(this.initialCapacity);
+        }
+
+        private void allocate(int capacity) {
+            this.hashes = new int[capacity];
+            this.tableNames = new TableName[capacity];
+            this.rowKeys = new RowKey[capacity];
+            this.columnNames = new ColumnName[capacity];
+            this.counts = new long[capacity];
+            this.size = 0;
+        }
+
+        void increment(int hash, TableName tableName, RowKey rowKey, ColumnName columnName) {
+            final int mask = counts.length - 1;
+            int index = hash & mask;
+            while (true) {
+                final TableName slotTableName = tableNames[index];
+                if (slotTableName == null) {
+                    break;
+                }
+                if (hashes[index] == hash && slotTableName.equals(tableName)
+                        && rowKeys[index].equals(rowKey) && columnNames[index].equals(columnName)) {
+                    counts[index]++;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            hashes[index] = hash;
+            tableNames[index] = tableName;
+            rowKeys[index] = rowKey;
+            columnNames[index] = columnName;
+            counts[index] = 1;
+            if (++size * 2 > counts.length) {
+                resize(counts.length << 1);
+            }
+        }
+
+        private void resize(int capacity) {
+            final int[] oldHashes = this.hashes;
+            final TableName[] oldTableNames = this.tableNames;
+            final RowKey[] oldRowKeys = this.rowKeys;
+            final ColumnName[] oldColumnNames = this.columnNames;
+            final long[] oldCounts = this.counts;
+
+            allocate(capacity);
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldTableNames.length; i++) {
+                if (oldTableNames[i] == null) {
+                    continue;
+                }
+                int index = oldHashes[i] & mask;
+                while (tableNames[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                hashes[index] = oldHashes[i];
+                tableNames[index] = oldTableNames[i];
+                rowKeys[index] = oldRowKeys[i];
+                columnNames[index] = oldColumnNames[i];
+                counts[index] = oldCounts[i];
+                size++;
+            }
+        }
+
+        /**
+         * Adds the counts to the snapshot and clears this table.
+         */
+        void drainTo(Map<RowInfo, Long> snapshot) {
+            if (size == 0) {
+                return;
+            }
+            for (int i = 0; i < tableNames.length; i++) {
+                if (tableNames[i] == null) {
+                    continue;
+                }
+                final RowInfo rowInfo = new DefaultRowInfo(tableNames[i], rowKeys[i], columnNames[i]);
+                snapshot.merge(rowInfo, counts[i], Long::sum);
+            }
+            clear();
+        }
+
+        private void clear() {
+            // give the memory of a burst back instead of carrying a sparse table forever
+            if (counts.length > initialCapacity && size * 8 < counts.length) {
+                allocate(Math.max(initialCapacity, powerOfTwo(size * 2)));
+                return;
+            }
+            Arrays.fill(tableNames, null);
+            Arrays.fill(rowKeys, null);
+            Arrays.fill(columnNames, null);
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return counts.length;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import com.navercorp.pinpoint.collector.dao.ApiMetaDataDao;
+import com.navercorp.pinpoint.collector.dao.SqlMetaDataDao;
+import com.navercorp.pinpoint.collector.dao.StringMetaDataDao;
+import com.navercorp.pinpoint.io.request.ServerRequest;
+import com.navercorp.pinpoint.io.request.ServerResponse;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataBatch;
+import com.navercorp.pinpoint.thrift.dto.TResult;
+import org.apache.thrift.TBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores sql, api and string metadata coalesced by the agent and acknowledges them with a single response.
+ * The agent retries the whole batch on failure, which is safe as every put is idempotent.
+ */
+@Service
+public class MetaDataBatchHandler implements RequestResponseHandler {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private SqlMetaDataDao sqlMetaDataDao;
+
+    @Autowired
+    private ApiMetaDataDao apiMetaDataDao;
+
+    @Autowired
+    private StringMetaDataDao stringMetaDataDao;
+
+    public MetaDataBatchHandler() {
+    }
+
+    @Override
+    public void handleRequest(ServerRequest serverRequest, ServerResponse serverResponse) {
+        final Object data = serverRequest.getData();
+        if (data instanceof TBase<?, ?>) {
+            TBase<?, ?> tBase = handleRequest((TBase<?, ?>) data);
+            serverResponse.write(tBase);
+            return;
+        }
+
+        logger.warn("invalid serverRequest:{}", serverRequest);
+    }
+
+    private TBase<?, ?> handleRequest(TBase<?, ?> tbase) {
+        if (!(tbase instanceof TMetaDataBatch)) {
+            logger.error("invalid tbase:{}", tbase);
+            return null;
+        }
+
+        final TMetaDataBatch metaDataBatch = (TMetaDataBatch) tbase;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Received MetaDataBatch sql:{}, api:{}, string:{}", metaDataBatch.getSqlMetaDataListSize(),
+                    metaDataBatch.getApiMetaDataListSize(), metaDataBatch.getStringMetaDataListSize());
+        }
+
+        try {
+            if (metaDataBatch.isSetSqlMetaDataList()) {
+                sqlMetaDataDao.insertAll(metaDataBatch.getSqlMetaDataList());
+            }
+            if (metaDataBatch.isSetApiMetaDataList()) {
+                apiMetaDataDao.insertAll(metaDataBatch.getApiMetaDataList());
+            }
+            if (metaDataBatch.isSetStringMetaDataList()) {
+                stringMetaDataDao.insertAll(metaDataBatch.getStringMetaDataList());
+            }
+        } catch (Exception e) {
+            logger.warn("{} handler error. Caused:{}", this.getClass(), e.getMessage(), e);
+            TResult result = new TResult(false);
+            result.setMessage(e.getMessage());
+            return result;
+        }
+        return new TResult(true);
+    }
+
+}
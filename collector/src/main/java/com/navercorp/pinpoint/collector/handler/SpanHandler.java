@@ -18,10 +18,16 @@ package com.navercorp.pinpoint.collector.handler;
 
 import java.util.List;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.collector.config.SpanReceiverConfiguration;
 import com.navercorp.pinpoint.collector.dao.TraceDao;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
 import com.navercorp.pinpoint.common.server.bo.SpanFactory;
+import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
 import com.navercorp.pinpoint.common.service.ServiceTypeRegistryService;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
@@ -65,6 +71,40 @@ public class SpanHandler implements SimpleHandler {
     @Autowired
     private SpanFactory spanFactory;
 
+    @Autowired
+    private AcceptedTimeService acceptedTimeService;
+
+    @Autowired(required = false)
+    private SpanReceiverConfiguration spanReceiverConfig;
+
+    @Autowired(required = false)
+    private MetricRegistry metricRegistry;
+
+    // null when spans are written synchronously by the receiver worker
+    private SpanPipeline spanPipeline;
+
+    @PostConstruct
+    public void start() {
+        if (spanReceiverConfig == null || !spanReceiverConfig.isPipelineEnable()) {
+            return;
+        }
+        final SpanPipeline spanPipeline = new SpanPipeline(new PipelineSpanWriter(), acceptedTimeService, spanReceiverConfig.getPipelineThreadSize(),
+                spanReceiverConfig.getPipelineQueueSize(), spanReceiverConfig.getPipelineBatchSize(), spanReceiverConfig.getPipelineOfferTimeout());
+        if (metricRegistry != null && spanReceiverConfig.isWorkerMonitorEnable()) {
+            spanPipeline.registerMetrics(metricRegistry);
+        }
+        spanPipeline.start();
+        this.spanPipeline = spanPipeline;
+    }
+
+    @PreDestroy
+    public void stop() {
+        final SpanPipeline spanPipeline = this.spanPipeline;
+        if (spanPipeline != null) {
+            spanPipeline.stop();
+        }
+    }
+
     @Override
     public void handleSimple(ServerRequest serverRequest) {
         final Object data = serverRequest.getData();
@@ -91,6 +131,14 @@ public class SpanHandler implements SimpleHandler {
 
             final SpanBo spanBo = spanFactory.buildSpanBo(tSpan);
 
+            final SpanPipeline spanPipeline = this.spanPipeline;
+            if (spanPipeline != null) {
+                if (!spanPipeline.submit(spanBo, tSpan)) {
+                    logger.debug("span pipeline is full. dropped span:{}", tSpan);
+                }
+                return;
+            }
+
             traceDao.insert(spanBo);
             applicationTraceIndexDao.insert(tSpan);
 
@@ -218,6 +266,28 @@ public class SpanHandler implements SimpleHandler {
         }
     }
     
+    private class PipelineSpanWriter implements SpanPipeline.SpanWriter {
+
+        @Override
+        public void insertTrace(SpanBo spanBo) {
+            traceDao.insert(spanBo);
+        }
+
+        @Override
+        public void insertIndex(SpanBo spanBo, TSpan tSpan) {
+            applicationTraceIndexDao.insert(tSpan);
+            insertAcceptorHost(spanBo);
+        }
+
+        @Override
+        public void insertStatistics(SpanBo spanBo, boolean includeSpanEvent) {
+            insertSpanStat(spanBo);
+            if (includeSpanEvent) {
+                insertSpanEventStat(spanBo);
+            }
+        }
+    }
+
     private ServiceType getApplicationServiceType(SpanBo span) {
         // Check if applicationServiceType is set. If not, use span's service type.
         final short applicationServiceTypeCode = span.getApplicationServiceType();
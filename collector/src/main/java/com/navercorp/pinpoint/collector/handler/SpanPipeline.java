@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.collector.handler.stage.Stage;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Staged span handling : trace write -> index write -> statistics aggregation.
+ * The receiver worker decoding the span is the first stage and hands the {@link SpanBo} over with {@link #submit(SpanBo, TSpan)}.
+ * The accepted time of the worker is carried along and restored on every stage thread before writing.
+ * <p>
+ * Work is shed from the least valuable end when the stages can not keep up.
+ * <ol>
+ *     <li>span event statistics are skipped once the statistics queue is {@link #SPAN_EVENT_STAT_SHED_RATIO} full</li>
+ *     <li>statistics are dropped when the statistics queue is full</li>
+ *     <li>index writes (and their statistics) are dropped when the index queue is full</li>
+ *     <li>raw traces are dropped only after the worker waited offerTimeout for room in the trace queue</li>
+ * </ol>
+ */
+public class SpanPipeline {
+
+    static final float SPAN_EVENT_STAT_SHED_RATIO = 0.75F;
+
+    private static final String METRIC_PREFIX = "spanPipeline";
+
+    public interface SpanWriter {
+
+        void insertTrace(SpanBo spanBo);
+
+        void insertIndex(SpanBo spanBo, TSpan tSpan);
+
+        void insertStatistics(SpanBo spanBo, boolean includeSpanEvent);
+
+    }
+
+    private final SpanWriter spanWriter;
+    private final AcceptedTimeService acceptedTimeService;
+    private final long offerTimeoutMillis;
+
+    private final Stage<SpanWork> traceStage;
+    private final Stage<SpanWork> indexStage;
+    private final Stage<SpanWork> statisticsStage;
+    private final int spanEventStatShedThreshold;
+
+    private final LongAdder spanEventStatShed = new LongAdder();
+
+    public SpanPipeline(SpanWriter spanWriter, AcceptedTimeService acceptedTimeService, int threadSize, int queueSize, int batchSize, long offerTimeoutMillis) {
+        this.spanWriter = Objects.requireNonNull(spanWriter, "spanWriter must not be null");
+        this.acceptedTimeService = Objects.requireNonNull(acceptedTimeService, "acceptedTimeService must not be null");
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        this.traceStage = new Stage<>("trace", queueSize, batchSize, threadSize, this::writeTrace);
+        this.indexStage = new Stage<>("index", queueSize, batchSize, threadSize, this::writeIndex);
+        this.statisticsStage = new Stage<>("statistics", queueSize, batchSize, threadSize, this::writeStatistics);
+        this.spanEventStatShedThreshold = Math.max(1, (int) (queueSize * SPAN_EVENT_STAT_SHED_RATIO));
+    }
+
+    public void start() {
+        statisticsStage.start();
+        indexStage.start();
+        traceStage.start();
+    }
+
+    /**
+     * stops upstream stages first so that queued work still flows into the downstream stages.
+     */
+    public void stop() {
+        traceStage.stop();
+        indexStage.stop();
+        statisticsStage.stop();
+    }
+
+    /**
+     * Blocks the caller up to offerTimeout while the trace stage is full.
+     * Must be called on the thread that accepted the span.
+     * @return false if the span was dropped
+     */
+    public boolean submit(SpanBo spanBo, TSpan tSpan) {
+        detach(tSpan);
+        final SpanWork work = new SpanWork(spanBo, tSpan, acceptedTimeService.getAcceptedTime());
+        return traceStage.offer(work, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The TSpan may be decoded in place from a pooled receive buffer, which is reused once the worker returns.
+     * Copies the binary field read by the index write.
+     */
+    private void detach(TSpan tSpan) {
+        if (tSpan.isSetTransactionId()) {
+            tSpan.setTransactionId(tSpan.getTransactionId());
+        }
+    }
+
+    private void writeTrace(SpanWork work) {
+        acceptedTimeService.accept(work.acceptedTime);
+        spanWriter.insertTrace(work.spanBo);
+        indexStage.offer(work);
+    }
+
+    private void writeIndex(SpanWork work) {
+        acceptedTimeService.accept(work.acceptedTime);
+        spanWriter.insertIndex(work.spanBo, work.tSpan);
+        statisticsStage.offer(work);
+    }
+
+    private void writeStatistics(SpanWork work) {
+        final boolean includeSpanEvent = statisticsStage.getQueueDepth() < spanEventStatShedThreshold;
+        if (!includeSpanEvent) {
+            spanEventStatShed.increment();
+        }
+        acceptedTimeService.accept(work.acceptedTime);
+        spanWriter.insertStatistics(work.spanBo, includeSpanEvent);
+    }
+
+    public Stage<?> getTraceStage() {
+        return traceStage;
+    }
+
+    public Stage<?> getIndexStage() {
+        return indexStage;
+    }
+
+    public Stage<?> getStatisticsStage() {
+        return statisticsStage;
+    }
+
+    public long getSpanEventStatShedCount() {
+        return spanEventStatShed.sum();
+    }
+
+    public void registerMetrics(MetricRegistry registry) {
+        Objects.requireNonNull(registry, "registry must not be null");
+        traceStage.registerMetrics(registry, METRIC_PREFIX);
+        indexStage.registerMetrics(registry, METRIC_PREFIX);
+        statisticsStage.registerMetrics(registry, METRIC_PREFIX);
+        registry.register(MetricRegistry.name(METRIC_PREFIX, statisticsStage.getName(), "spanEventShed"), (Gauge<Long>) this::getSpanEventStatShedCount);
+    }
+
+    private static class SpanWork {
+        private final SpanBo spanBo;
+        private final TSpan tSpan;
+        private final long acceptedTime;
+
+        private SpanWork(SpanBo spanBo, TSpan tSpan, long acceptedTime) {
+            this.spanBo = spanBo;
+            this.tSpan = tSpan;
+            this.acceptedTime = acceptedTime;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler.stage;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One step of a staged pipeline.
+ * Items are queued in a bounded queue and drained in batches by the stage's own worker threads.
+ * A full queue never blocks the caller of {@link #offer(Object)}; the item is dropped and counted,
+ * so callers decide how much back-pressure a stage deserves by choosing between the two offer methods.
+ */
+public class Stage<T> {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final String name;
+    private final BlockingQueue<Entry<T>> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final StageProcessor<T> processor;
+    private final StageMetric metric = new StageMetric();
+
+    private final Thread[] workers;
+    private volatile boolean running;
+
+    public Stage(String name, int queueSize, int batchSize, int threadSize, StageProcessor<T> processor) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be greater than 0");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        if (threadSize <= 0) {
+            throw new IllegalArgumentException("threadSize must be greater than 0");
+        }
+        this.processor = Objects.requireNonNull(processor, "processor must not be null");
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.capacity = queueSize;
+        this.batchSize = batchSize;
+
+        final ThreadFactory threadFactory = new PinpointThreadFactory("Pinpoint-Stage-" + name, true);
+        this.workers = new Thread[threadSize];
+        for (int i = 0; i < threadSize; i++) {
+            this.workers[i] = threadFactory.newThread(new Worker());
+        }
+    }
+
+    public void start() {
+        this.running = true;
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        logger.info("{} stage started. queueSize:{} batchSize:{} threadSize:{}", name, capacity, batchSize, workers.length);
+    }
+
+    /**
+     * Stops the workers after they processed the items already queued.
+     */
+    public void stop() {
+        this.running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(3));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        logger.info("{} stage stopped. {}", name, metric);
+    }
+
+    /**
+     * @return false if the queue is full and the item was dropped
+     */
+    public boolean offer(T item) {
+        metric.offered();
+        if (queue.offer(new Entry<>(item))) {
+            return true;
+        }
+        metric.dropped();
+        return false;
+    }
+
+    /**
+     * Waits up to the given timeout for room in the queue. used to push back on the previous stage.
+     * @return false if the queue stayed full and the item was dropped
+     */
+    public boolean offer(T item, long timeout, TimeUnit unit) {
+        metric.offered();
+        try {
+            if (queue.offer(new Entry<>(item), timeout, unit)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metric.dropped();
+        return false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public StageMetric getMetric() {
+        return metric;
+    }
+
+    public void registerMetrics(MetricRegistry registry, String prefix) {
+        Objects.requireNonNull(registry, "registry must not be null");
+        final String metricName = MetricRegistry.name(prefix, name);
+        registry.register(MetricRegistry.name(metricName, "depth"), (Gauge<Integer>) this::getQueueDepth);
+        registry.register(MetricRegistry.name(metricName, "offered"), (Gauge<Long>) metric::getOffered);
+        registry.register(MetricRegistry.name(metricName, "dropped"), (Gauge<Long>) metric::getDropped);
+        registry.register(MetricRegistry.name(metricName, "failed"), (Gauge<Long>) metric::getFailed);
+        registry.register(MetricRegistry.name(metricName, "waitTime"), metric.getWaitTime());
+        registry.register(MetricRegistry.name(metricName, "processTime"), metric.getProcessTime());
+    }
+
+    private void process(List<Entry<T>> batch) {
+        for (Entry<T> entry : batch) {
+            final long startTime = System.nanoTime();
+            try {
+                processor.process(entry.item);
+            } catch (Exception e) {
+                metric.failed();
+                logger.warn("{} stage process error. Caused:{}", name, e.getMessage(), e);
+            }
+            final long endTime = System.nanoTime();
+            metric.processed(startTime - entry.enqueueTime, endTime - startTime);
+        }
+    }
+
+    private class Worker implements Runnable {
+        @Override
+        public void run() {
+            final List<Entry<T>> batch = new ArrayList<>(batchSize);
+            while (true) {
+                final Entry<T> first;
+                try {
+                    first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (first == null) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private final long enqueueTime = System.nanoTime();
+
+        private Entry(T item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler.stage;
+
+import com.codahale.metrics.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latencies of a {@link Stage}.
+ * waitTime is the time an item spent in the queue, processTime the time spent in the {@link StageProcessor}.
+ */
+public class StageMetric {
+
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final Timer waitTime = new Timer();
+    private final Timer processTime = new Timer();
+
+    void offered() {
+        offered.increment();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void processed(long waitNanos, long processNanos) {
+        processed.increment();
+        waitTime.update(waitNanos, TimeUnit.NANOSECONDS);
+        processTime.update(processNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    public long getOffered() {
+        return offered.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public Timer getWaitTime() {
+        return waitTime;
+    }
+
+    public Timer getProcessTime() {
+        return processTime;
+    }
+
+    @Override
+    public String toString() {
+        return "StageMetric{" +
+                "offered=" + offered +
+                ", dropped=" + dropped +
+                ", processed=" + processed +
+                ", failed=" + failed +
+                '}';
+    }
+}
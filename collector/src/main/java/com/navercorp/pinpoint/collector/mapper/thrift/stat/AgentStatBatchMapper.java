@@ -26,14 +26,19 @@ import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DeadlockBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
 import com.navercorp.pinpoint.thrift.dto.TDataSource;
 import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverhead;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverheadList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -76,6 +81,12 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
     @Autowired
     private DirectBufferBoMapper directBufferBoMapper;
 
+    @Autowired
+    private MetaDataCacheBoMapper metaDataCacheBoMapper;
+
+    @Autowired
+    private InterceptorOverheadBoMapper interceptorOverheadBoMapper;
+
     @Override
     public AgentStatBo map(TAgentStatBatch tAgentStatBatch) {
         if (!tAgentStatBatch.isSetAgentStats()) {
@@ -100,6 +111,8 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
         List<DeadlockBo> deadlockBos = new ArrayList<>(agentStatsSize);
         List<FileDescriptorBo> fileDescriptorBos = new ArrayList<>(agentStatsSize);
         List<DirectBufferBo> directBufferBos = new ArrayList<>(agentStatsSize);
+        List<MetaDataCacheBo> metaDataCacheBos = new ArrayList<>(agentStatsSize);
+        List<InterceptorOverheadListBo> interceptorOverheadListBos = new ArrayList<>(agentStatsSize);
 
         for (TAgentStat tAgentStat : tAgentStatBatch.getAgentStats()) {
             final long timestamp = tAgentStat.getTimestamp();
@@ -180,6 +193,29 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
                 setBaseData(directBufferBo, agentId, startTimestamp, timestamp);
                 directBufferBos.add(directBufferBo);
             }
+
+            // metaDataCache
+            if (tAgentStat.isSetMetaDataCache()) {
+                MetaDataCacheBo metaDataCacheBo = this.metaDataCacheBoMapper.map(tAgentStat.getMetaDataCache());
+                setBaseData(metaDataCacheBo, agentId, startTimestamp, timestamp);
+                metaDataCacheBos.add(metaDataCacheBo);
+            }
+
+            // interceptorOverhead
+            if (tAgentStat.isSetInterceptorOverhead()) {
+                InterceptorOverheadListBo interceptorOverheadListBo = new InterceptorOverheadListBo();
+                setBaseData(interceptorOverheadListBo, agentId, startTimestamp, timestamp);
+
+                TInterceptorOverheadList interceptorOverheadList = tAgentStat.getInterceptorOverhead();
+                if (interceptorOverheadList.getInterceptorOverheadListSize() > 0) {
+                    for (TInterceptorOverhead interceptorOverhead : interceptorOverheadList.getInterceptorOverheadList()) {
+                        InterceptorOverheadBo interceptorOverheadBo = this.interceptorOverheadBoMapper.map(interceptorOverhead);
+                        setBaseData(interceptorOverheadBo, agentId, startTimestamp, timestamp);
+                        interceptorOverheadListBo.add(interceptorOverheadBo);
+                    }
+                }
+                interceptorOverheadListBos.add(interceptorOverheadListBo);
+            }
         }
 
         agentStatBo.setJvmGcBos(jvmGcBos);
@@ -192,6 +228,8 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
         agentStatBo.setDeadlockBos(deadlockBos);
         agentStatBo.setFileDescriptorBos(fileDescriptorBos);
         agentStatBo.setDirectBufferBos(directBufferBos);
+        agentStatBo.setMetaDataCacheBos(metaDataCacheBos);
+        agentStatBo.setInterceptorOverheadListBos(interceptorOverheadListBos);
         return agentStatBo;
     }
 
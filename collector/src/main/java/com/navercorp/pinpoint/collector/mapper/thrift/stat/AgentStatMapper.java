@@ -26,13 +26,18 @@ import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DeadlockBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TDataSource;
 import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverhead;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverheadList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -74,6 +79,12 @@ public class AgentStatMapper implements ThriftBoMapper<AgentStatBo, TAgentStat>
     @Autowired
     private DirectBufferBoMapper directBufferBoMapper;
 
+    @Autowired
+    private MetaDataCacheBoMapper metaDataCacheBoMapper;
+
+    @Autowired
+    private InterceptorOverheadBoMapper interceptorOverheadBoMapper;
+
     @Override
     public AgentStatBo map(TAgentStat tAgentStat) {
         if (tAgentStat == null) {
@@ -154,6 +165,27 @@ public class AgentStatMapper implements ThriftBoMapper<AgentStatBo, TAgentStat>
             setBaseData(directBufferBo, agentId, startTimestamp, timestamp);
             agentStatBo.setDirectBufferBos(Arrays.asList(directBufferBo));
         }
+        // metaDataCache
+        if (tAgentStat.isSetMetaDataCache()) {
+            MetaDataCacheBo metaDataCacheBo = this.metaDataCacheBoMapper.map(tAgentStat.getMetaDataCache());
+            setBaseData(metaDataCacheBo, agentId, startTimestamp, timestamp);
+            agentStatBo.setMetaDataCacheBos(Arrays.asList(metaDataCacheBo));
+        }
+        // interceptorOverhead
+        if (tAgentStat.isSetInterceptorOverhead()) {
+            InterceptorOverheadListBo interceptorOverheadListBo = new InterceptorOverheadListBo();
+            setBaseData(interceptorOverheadListBo, agentId, startTimestamp, timestamp);
+
+            TInterceptorOverheadList interceptorOverheadList = tAgentStat.getInterceptorOverhead();
+            if (interceptorOverheadList.getInterceptorOverheadListSize() > 0) {
+                for (TInterceptorOverhead interceptorOverhead : interceptorOverheadList.getInterceptorOverheadList()) {
+                    InterceptorOverheadBo interceptorOverheadBo = this.interceptorOverheadBoMapper.map(interceptorOverhead);
+                    setBaseData(interceptorOverheadBo, agentId, startTimestamp, timestamp);
+                    interceptorOverheadListBo.add(interceptorOverheadBo);
+                }
+            }
+            agentStatBo.setInterceptorOverheadListBos(Arrays.asList(interceptorOverheadListBo));
+        }
 
         return agentStatBo;
     }
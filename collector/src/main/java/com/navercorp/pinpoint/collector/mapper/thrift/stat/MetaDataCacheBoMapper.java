@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.collector.mapper.thrift.ThriftBoMapper;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataCache;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MetaDataCacheBoMapper implements ThriftBoMapper<MetaDataCacheBo, TMetaDataCache> {
+
+    @Override
+    public MetaDataCacheBo map(TMetaDataCache tMetaDataCache) {
+        MetaDataCacheBo metaDataCacheBo = new MetaDataCacheBo();
+        if (tMetaDataCache.isSetSqlHitCount()) {
+            metaDataCacheBo.setSqlHitCount(tMetaDataCache.getSqlHitCount());
+        }
+        if (tMetaDataCache.isSetSqlMissCount()) {
+            metaDataCacheBo.setSqlMissCount(tMetaDataCache.getSqlMissCount());
+        }
+        if (tMetaDataCache.isSetSqlEvictionCount()) {
+            metaDataCacheBo.setSqlEvictionCount(tMetaDataCache.getSqlEvictionCount());
+        }
+        if (tMetaDataCache.isSetSqlResendCount()) {
+            metaDataCacheBo.setSqlResendCount(tMetaDataCache.getSqlResendCount());
+        }
+        if (tMetaDataCache.isSetSqlCapacity()) {
+            metaDataCacheBo.setSqlCapacity(tMetaDataCache.getSqlCapacity());
+        }
+        if (tMetaDataCache.isSetApiHitCount()) {
+            metaDataCacheBo.setApiHitCount(tMetaDataCache.getApiHitCount());
+        }
+        if (tMetaDataCache.isSetApiMissCount()) {
+            metaDataCacheBo.setApiMissCount(tMetaDataCache.getApiMissCount());
+        }
+        if (tMetaDataCache.isSetApiEvictionCount()) {
+            metaDataCacheBo.setApiEvictionCount(tMetaDataCache.getApiEvictionCount());
+        }
+        if (tMetaDataCache.isSetApiResendCount()) {
+            metaDataCacheBo.setApiResendCount(tMetaDataCache.getApiResendCount());
+        }
+        if (tMetaDataCache.isSetApiCapacity()) {
+            metaDataCacheBo.setApiCapacity(tMetaDataCache.getApiCapacity());
+        }
+        if (tMetaDataCache.isSetStringHitCount()) {
+            metaDataCacheBo.setStringHitCount(tMetaDataCache.getStringHitCount());
+        }
+        if (tMetaDataCache.isSetStringMissCount()) {
+            metaDataCacheBo.setStringMissCount(tMetaDataCache.getStringMissCount());
+        }
+        if (tMetaDataCache.isSetStringEvictionCount()) {
+            metaDataCacheBo.setStringEvictionCount(tMetaDataCache.getStringEvictionCount());
+        }
+        if (tMetaDataCache.isSetStringResendCount()) {
+            metaDataCacheBo.setStringResendCount(tMetaDataCache.getStringResendCount());
+        }
+        if (tMetaDataCache.isSetStringCapacity()) {
+            metaDataCacheBo.setStringCapacity(tMetaDataCache.getStringCapacity());
+        }
+        return metaDataCacheBo;
+    }
+}
@@ -49,6 +49,10 @@ public class TcpDispatchHandler implements DispatchHandler {
     @Qualifier("stringMetaDataHandler")
     private RequestResponseHandler stringMetaDataHandler;
 
+    @Autowired()
+    @Qualifier("metaDataBatchHandler")
+    private RequestResponseHandler metaDataBatchHandler;
+
 
     public TcpDispatchHandler() {
     }
@@ -66,6 +70,9 @@ public class TcpDispatchHandler implements DispatchHandler {
         if (type == DefaultTBaseLocator.STRINGMETADATA) {
             return stringMetaDataHandler;
         }
+        if (type == DefaultTBaseLocator.METADATA_BATCH) {
+            return metaDataBatchHandler;
+        }
         if (type == DefaultTBaseLocator.AGENT_INFO) {
             return agentInfoHandler;
         }
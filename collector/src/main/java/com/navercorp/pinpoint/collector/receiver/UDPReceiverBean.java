@@ -16,23 +16,31 @@
 
 package com.navercorp.pinpoint.collector.receiver;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.navercorp.pinpoint.collector.receiver.udp.BaseUDPHandlerFactory;
 import com.navercorp.pinpoint.collector.receiver.udp.NetworkAvailabilityCheckPacketFilter;
 import com.navercorp.pinpoint.collector.receiver.udp.PacketHandlerFactory;
 import com.navercorp.pinpoint.collector.receiver.udp.TBaseFilter;
 import com.navercorp.pinpoint.collector.receiver.udp.TBaseFilterChain;
+import com.navercorp.pinpoint.collector.receiver.udp.UDPKernelDropCounter;
 import com.navercorp.pinpoint.collector.receiver.udp.UDPReceiver;
+import com.navercorp.pinpoint.collector.receiver.udp.UDPSocketMetric;
 import com.navercorp.pinpoint.collector.util.DatagramPacketFactory;
 import com.navercorp.pinpoint.collector.util.DefaultObjectPool;
 import com.navercorp.pinpoint.collector.util.ObjectPool;
 import com.navercorp.pinpoint.collector.util.ObjectPoolFactory;
 import com.navercorp.pinpoint.common.server.util.AddressFilter;
+import com.navercorp.pinpoint.common.util.CpuUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
 import java.net.DatagramPacket;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -43,6 +51,8 @@ import java.util.concurrent.Executor;
  */
 public class UDPReceiverBean implements InitializingBean, DisposableBean, BeanNameAware {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private String beanName;
 
     private boolean enable = true;
@@ -58,6 +68,10 @@ public class UDPReceiverBean implements InitializingBean, DisposableBean, BeanNa
     private AddressFilter addressFilter;
     private int datagramPoolSize = 1024*4;
 
+    private boolean reusePort = false;
+    private int reusePortSocketCount = CpuUtils.cpuCount();
+
+    private MetricRegistry registry;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -71,6 +85,9 @@ public class UDPReceiverBean implements InitializingBean, DisposableBean, BeanNa
         Objects.requireNonNull(executor, "executor must not be null");
 
         udpReceiver = createUdpReceiver(beanName, this.bindIp, bindPort, udpBufferSize, executor, dispatchHandler, addressFilter);
+        if (registry != null) {
+            registerMetrics(beanName, bindPort, udpReceiver, registry);
+        }
         udpReceiver.start();
     }
 
@@ -83,10 +100,43 @@ public class UDPReceiverBean implements InitializingBean, DisposableBean, BeanNa
         InetSocketAddress bindAddress = new InetSocketAddress(bindIp, port);
 
         ObjectPoolFactory<DatagramPacket> packetFactory = new DatagramPacketFactory();
+        if (reusePort) {
+            if (UDPReceiver.isReusePortSupported()) {
+                // the sockets share one pool. the kernel does not spread the flows evenly,
+                // so a busy socket must be able to use the whole pool
+                ObjectPool<DatagramPacket> sharedPool = new DefaultObjectPool<>(packetFactory, datagramPoolSize);
+                List<ObjectPool<DatagramPacket>> socketPools = new ArrayList<>(reusePortSocketCount);
+                for (int i = 0; i < reusePortSocketCount; i++) {
+                    socketPools.add(sharedPool);
+                }
+                return new UDPReceiver(name, packetHandlerFactory, executor, udpBufferSize, bindAddress, socketPools);
+            }
+            logger.warn("{} SO_REUSEPORT is not supported by this JVM/OS. fall back to a single socket", name);
+        }
         ObjectPool<DatagramPacket> pool = new DefaultObjectPool<>(packetFactory, datagramPoolSize);
         return new UDPReceiver(name, packetHandlerFactory, executor, udpBufferSize, bindAddress, pool);
     }
 
+    private void registerMetrics(String name, int port, UDPReceiver udpReceiver, MetricRegistry registry) {
+        final List<UDPSocketMetric> socketMetrics = udpReceiver.getSocketMetrics();
+        for (int i = 0; i < socketMetrics.size(); i++) {
+            final UDPSocketMetric socketMetric = socketMetrics.get(i);
+            final String socketName = "socket-" + i;
+            Gauge<Long> receivedGauge = socketMetric::getReceivedCount;
+            registry.register(MetricRegistry.name(name, socketName, "received"), receivedGauge);
+            Gauge<Long> droppedGauge = socketMetric::getDroppedCount;
+            registry.register(MetricRegistry.name(name, socketName, "dropped"), droppedGauge);
+            Gauge<Long> ioErrorGauge = socketMetric::getIoErrorCount;
+            registry.register(MetricRegistry.name(name, socketName, "ioError"), ioErrorGauge);
+        }
+
+        final UDPKernelDropCounter kernelDropCounter = new UDPKernelDropCounter(port);
+        if (kernelDropCounter.isSupported()) {
+            Gauge<Long> kernelDropGauge = kernelDropCounter::getDropCount;
+            registry.register(MetricRegistry.name(name, "receiveBufferDropped"), kernelDropGauge);
+        }
+    }
+
 
     private TBaseFilterChain newTBaseFilterChain() {
         List<TBaseFilter> tBaseFilters = Collections.singletonList(new NetworkAvailabilityCheckPacketFilter());
@@ -133,6 +183,21 @@ public class UDPReceiverBean implements InitializingBean, DisposableBean, BeanNa
         this.datagramPoolSize = datagramPoolSize;
     }
 
+    public void setReusePort(boolean reusePort) {
+        this.reusePort = reusePort;
+    }
+
+    public void setReusePortSocketCount(int reusePortSocketCount) {
+        if (reusePortSocketCount <= 0) {
+            throw new IllegalArgumentException("reusePortSocketCount must be greater than 0");
+        }
+        this.reusePortSocketCount = reusePortSocketCount;
+    }
+
+    public void setRegistry(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
     @Override
     public void setBeanName(String name) {
         this.beanName = name;
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.io.request.ServerRequest;
 import com.navercorp.pinpoint.thrift.io.DeserializerFactory;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializer;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializerFactory;
+import com.navercorp.pinpoint.thrift.io.PacketPacker;
 import com.navercorp.pinpoint.io.request.Message;
 import com.navercorp.pinpoint.thrift.io.ThreadLocalHeaderTBaseDeserializerFactory;
 import org.apache.thrift.TBase;
@@ -36,6 +37,7 @@ import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -86,15 +88,20 @@ public class BaseUDPHandlerFactory<T extends DatagramPacket> implements PacketHa
 
             Message<TBase<?, ?>> message = null;
             try {
-                message = deserializer.deserialize(packet.getData());
-                TBase<?, ?> data = message.getData();
-
-                if (filter.filter(localSocket, data, remoteSocketAddress) == TBaseFilter.BREAK) {
+                final byte[] data = packet.getData();
+                if (PacketPacker.isPacked(data, packet.getOffset(), packet.getLength())) {
+                    final List<Message<TBase<?, ?>>> messageList = deserializer.deserializePacked(data, packet.getOffset(), packet.getLength());
+                    for (Message<TBase<?, ?>> packedMessage : messageList) {
+                        message = packedMessage;
+                        if (!dispatch(localSocket, packedMessage, remoteSocketAddress)) {
+                            return;
+                        }
+                    }
                     return;
                 }
-                ServerRequest<TBase<?, ?>> request = newServerRequest(message, remoteSocketAddress);
-                // dispatch signifies business logic execution
-                dispatchHandler.dispatchSendMessage(request);
+
+                message = deserializer.deserialize(data);
+                dispatch(localSocket, message, remoteSocketAddress);
             } catch (TException e) {
                 if (logger.isWarnEnabled()) {
                     logger.warn("packet serialize error. SendSocketAddress:{} Cause:{}", remoteSocketAddress, e.getMessage(), e);
@@ -112,6 +119,18 @@ public class BaseUDPHandlerFactory<T extends DatagramPacket> implements PacketHa
                 }
             }
         }
+
+        private boolean dispatch(DatagramSocket localSocket, Message<TBase<?, ?>> message, InetSocketAddress remoteSocketAddress) {
+            TBase<?, ?> data = message.getData();
+
+            if (filter.filter(localSocket, data, remoteSocketAddress) == TBaseFilter.BREAK) {
+                return false;
+            }
+            ServerRequest<TBase<?, ?>> request = newServerRequest(message, remoteSocketAddress);
+            // dispatch signifies business logic execution
+            dispatchHandler.dispatchSendMessage(request);
+            return true;
+        }
         
         private boolean isIgnoreAddress(InetAddress remoteAddress) {
             if (remoteAddress == null) {
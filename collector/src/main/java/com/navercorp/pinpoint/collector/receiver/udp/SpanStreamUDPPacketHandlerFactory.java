@@ -17,7 +17,6 @@
 package com.navercorp.pinpoint.collector.receiver.udp;
 
 import com.navercorp.pinpoint.collector.receiver.DispatchHandler;
-import com.navercorp.pinpoint.io.request.DefaultMessage;
 import com.navercorp.pinpoint.io.request.DefaultServerRequest;
 import com.navercorp.pinpoint.io.request.Message;
 import com.navercorp.pinpoint.io.request.ServerRequest;
@@ -87,7 +86,8 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
         public void receive(DatagramSocket localSocket, DatagramPacket packet) {
             final HeaderTBaseDeserializer deserializer = deserializerFactory.createDeserializer();
 
-            ByteBuffer requestBuffer = ByteBuffer.wrap(packet.getData());
+            // read components in place from the pooled packet buffer
+            ByteBuffer requestBuffer = ByteBuffer.wrap(packet.getData(), packet.getOffset(), packet.getLength());
             if (requestBuffer.remaining() < SpanStreamConstants.START_PROTOCOL_BUFFER_SIZE) {
                 return;
             }
@@ -105,14 +105,16 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
             
             try {
                 for (int i = 0; i < chunkSize; i++) {
-                    byte[] componentData = getComponentData(requestBuffer, deserializer);
-                    if (componentData == null) {
+                    final int componentSize = getComponentSize(requestBuffer);
+                    if (componentSize == -1) {
                         logger.warn("Buffer Wrong signature: 0x{} (expected: 0x{})", Integer.toHexString(signature & 0xFF),
                                 Integer.toHexString(SpanStreamConstants.Protocol.SPAN_STREAM_SIGNATURE & 0xFF));
                         break;
                     }
 
-                    List<Message<TBase<?, ?>>> requestList = deserializer.deserializeList(componentData);
+                    final int componentOffset = requestBuffer.arrayOffset() + requestBuffer.position();
+                    requestBuffer.position(requestBuffer.position() + componentSize);
+                    List<Message<TBase<?, ?>>> requestList = deserializer.deserializeList(requestBuffer.array(), componentOffset, componentSize);
                     if (CollectionUtils.isEmpty(requestList)) {
                         continue;
                     }
@@ -132,8 +134,8 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
                     } else if (tBase instanceof TSpanChunk) {
                         ((TSpanChunk) tBase).setSpanEventList(spanEventList);
                     }
-                    Message<TBase<?, ?>> message = new DefaultMessage<>(lastMessage.getHeader(), lastMessage.getHeaderEntity(), tBase);
-                    ServerRequest<TBase<?, ?>> mergedRequest = newServerRequest(message, remoteSocketAddress);
+                    // the span events are merged into the last message's TBase in place
+                    ServerRequest<TBase<?, ?>> mergedRequest = newServerRequest(lastMessage, remoteSocketAddress);
 
                     dispatchHandler.dispatchRequestMessage(mergedRequest, fake);
                 }
@@ -150,22 +152,21 @@ public class SpanStreamUDPPacketHandlerFactory<T extends DatagramPacket> impleme
         return new DefaultServerRequest<>(message, remoteAddress, remotePort);
     }
 
-    private byte[] getComponentData(ByteBuffer buffer, HeaderTBaseDeserializer deserializer) {
+    /**
+     * @return size of the next component, -1 if the buffer does not hold the whole component
+     */
+    private int getComponentSize(ByteBuffer buffer) {
         if (buffer.remaining() < 2) {
             logger.warn("Can't available {} fixed buffer.", 2);
-            return null;
+            return -1;
         }
 
         int componentSize = 0xffff & buffer.getShort();
         if (buffer.remaining() < componentSize) {
             logger.warn("Can't available {} fixed buffer.", buffer.remaining());
-            return null;
+            return -1;
         }
-
-        byte[] componentData = new byte[componentSize];
-        buffer.get(componentData);
-
-        return componentData;
+        return componentSize;
     }
 
     private List<TSpanEvent> getSpanEventList(List<Message<TBase<?, ?>>> tbaseList) {
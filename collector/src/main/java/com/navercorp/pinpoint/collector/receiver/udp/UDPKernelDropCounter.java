@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.receiver.udp;
+
+import com.navercorp.pinpoint.common.annotations.VisibleForTesting;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads the datagrams the linux kernel dropped for sockets bound to a port, mostly receive buffer overflows.
+ * <p>
+ * The drops column of /proc/net/udp is per socket, but sockets sharing a port with SO_REUSEPORT
+ * can not be matched to their inode from java, so the drops of every socket on the port are summed.
+ */
+public class UDPKernelDropCounter {
+
+    public static final long UNSUPPORTED = -1;
+
+    private static final Path[] PROC_NET_UDP = {Paths.get("/proc/net/udp"), Paths.get("/proc/net/udp6")};
+
+    private final String localPortSuffix;
+
+    public UDPKernelDropCounter(int port) {
+        if (port <= 0 || port > 0xFFFF) {
+            throw new IllegalArgumentException("invalid port:" + port);
+        }
+        this.localPortSuffix = toLocalPortSuffix(port);
+    }
+
+    public boolean isSupported() {
+        return Files.isReadable(PROC_NET_UDP[0]);
+    }
+
+    /**
+     * @return dropped datagram count or {@link #UNSUPPORTED}
+     */
+    public long getDropCount() {
+        if (!isSupported()) {
+            return UNSUPPORTED;
+        }
+        long dropCount = 0;
+        for (Path procNetUdp : PROC_NET_UDP) {
+            if (!Files.isReadable(procNetUdp)) {
+                continue;
+            }
+            try {
+                final List<String> lines = Files.readAllLines(procNetUdp, StandardCharsets.US_ASCII);
+                dropCount += sumDropCount(lines, localPortSuffix);
+            } catch (IOException e) {
+                return UNSUPPORTED;
+            }
+        }
+        return dropCount;
+    }
+
+    @VisibleForTesting
+    static String toLocalPortSuffix(int port) {
+        return ':' + String.format(Locale.ROOT, "%04X", port);
+    }
+
+    // sl local_address rem_address st tx_queue:rx_queue tr:tm->when retrnsmt uid timeout inode ref pointer drops
+    @VisibleForTesting
+    static long sumDropCount(List<String> lines, String localPortSuffix) {
+        long dropCount = 0;
+        for (String line : lines) {
+            final String[] columns = line.trim().split("\\s+");
+            if (columns.length < 2 || !columns[1].endsWith(localPortSuffix)) {
+                continue;
+            }
+            try {
+                dropCount += Long.parseLong(columns[columns.length - 1]);
+            } catch (NumberFormatException ignore) {
+                // header or unknown format
+            }
+        }
+        return dropCount;
+    }
+}
@@ -33,7 +33,13 @@ import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.SocketException;
+import java.net.SocketOption;
 import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -49,6 +55,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class UDPReceiver {
 
+    // StandardSocketOptions.SO_REUSEPORT is available from jdk 9
+    private static final SocketOption<Boolean> SO_REUSEPORT = findReusePortOption();
+
     private final Logger logger;
 
     private final String name;
@@ -61,12 +70,8 @@ public class UDPReceiver {
 
     private final Executor worker;
 
-    // can't really allocate memory as max udp packet sizes are unknown.
-    // not allocating memory in advance as I am unsure of the max udp packet size.
-    // packet cache is necessary as the JVM does not last long if they are dynamically created with the maximum size.
-    private final ObjectPool<DatagramPacket> datagramPacketPool;
-
-    private final DatagramSocket socket;
+    private final boolean reusePort;
+    private final List<ReceiveSocket> receiveSockets;
 
     private final PacketHandlerFactory<DatagramPacket> packetHandlerFactory;
 
@@ -82,25 +87,81 @@ public class UDPReceiver {
         this.worker = Objects.requireNonNull(worker, "worker must not be null");
 
         Assert.isTrue(receiverBufferSize > 0, "receiverBufferSize must be greater than 0");
-        this.socket = createSocket(receiverBufferSize);
+        // can't really allocate memory as max udp packet sizes are unknown.
+        // not allocating memory in advance as I am unsure of the max udp packet size.
+        // packet cache is necessary as the JVM does not last long if they are dynamically created with the maximum size.
+        Objects.requireNonNull(datagramPacketPool, "datagramPacketPool must not be null");
+
+        this.reusePort = false;
+        final DatagramSocket socket = createSocket(receiverBufferSize);
+        this.receiveSockets = Collections.singletonList(new ReceiveSocket(socket, datagramPacketPool, ioThreadSize));
+    }
+
+    /**
+     * Opens one SO_REUSEPORT socket per packet pool on the same address. Each socket has its own reader thread,
+     * so the kernel hashes flows across separate receive queues instead of every reader contending on one socket.
+     * The same pool may be passed for several sockets.
+     * @see #isReusePortSupported()
+     */
+    public UDPReceiver(String name, PacketHandlerFactory<DatagramPacket> packetHandlerFactory,
+                       @Qualifier("udpWorker") Executor worker, int receiverBufferSize, InetSocketAddress bindAddress, List<ObjectPool<DatagramPacket>> socketPacketPools) {
+        this.name = Objects.requireNonNull(name);
+        this.logger = LoggerFactory.getLogger(name);
 
-        this.datagramPacketPool = Objects.requireNonNull(datagramPacketPool, "datagramPacketPool must not be null");
+        this.bindAddress = Objects.requireNonNull(bindAddress, "bindAddress must not be null");
+        this.packetHandlerFactory = Objects.requireNonNull(packetHandlerFactory, "packetHandlerFactory must not be null");
+        this.worker = Objects.requireNonNull(worker, "worker must not be null");
+
+        Assert.isTrue(receiverBufferSize > 0, "receiverBufferSize must be greater than 0");
+        Objects.requireNonNull(socketPacketPools, "socketPacketPools must not be null");
+        Assert.isTrue(!socketPacketPools.isEmpty(), "socketPacketPools must not be empty");
+        if (!isReusePortSupported()) {
+            throw new IllegalStateException("SO_REUSEPORT not supported");
+        }
+
+        this.reusePort = true;
+        final List<ReceiveSocket> receiveSockets = new ArrayList<>(socketPacketPools.size());
+        for (ObjectPool<DatagramPacket> datagramPacketPool : socketPacketPools) {
+            Objects.requireNonNull(datagramPacketPool, "datagramPacketPool must not be null");
+            final DatagramSocket socket = createReusePortSocket(receiverBufferSize);
+            receiveSockets.add(new ReceiveSocket(socket, datagramPacketPool, 1));
+        }
+        this.receiveSockets = receiveSockets;
+    }
+
+    public static boolean isReusePortSupported() {
+        return SO_REUSEPORT != null;
     }
 
+    @SuppressWarnings("unchecked")
+    private static SocketOption<Boolean> findReusePortOption() {
+        try {
+            final SocketOption<Boolean> reusePort = (SocketOption<Boolean>) StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+            try (DatagramChannel channel = DatagramChannel.open()) {
+                if (!channel.supportedOptions().contains(reusePort)) {
+                    return null;
+                }
+            }
+            return reusePort;
+        } catch (NoSuchFieldException | IllegalAccessException | IOException e) {
+            return null;
+        }
+    }
 
 
-    private void receive(final DatagramSocket socket) {
+    private void receive(final ReceiveSocket receiveSocket) {
+        final DatagramSocket socket = receiveSocket.socket;
         if (logger.isInfoEnabled()) {
-            logger.info("start ioThread localAddress:{}, IoThread:{}", this.socket.getLocalAddress(), Thread.currentThread().getName());
+            logger.info("start ioThread localAddress:{}, IoThread:{}", socket.getLocalAddress(), Thread.currentThread().getName());
         }
 
         // need shutdown logic
         while (state.get()) {
-            final PooledObject<DatagramPacket> pooledPacket = read0(socket);
+            final PooledObject<DatagramPacket> pooledPacket = read0(receiveSocket);
             if (pooledPacket == null) {
                 continue;
             }
-            Runnable task = wrapTask(pooledPacket);
+            Runnable task = wrapTask(socket, pooledPacket);
             worker.execute(task);
         }
 
@@ -110,22 +171,24 @@ public class UDPReceiver {
         }
     }
 
-    private Runnable wrapTask(final PooledObject<DatagramPacket> pooledPacket) {
+    private Runnable wrapTask(final DatagramSocket socket, final PooledObject<DatagramPacket> pooledPacket) {
         return new Task(socket, packetHandlerFactory, pooledPacket);
     }
 
 
-    private PooledObject<DatagramPacket> read0(final DatagramSocket socket) {
+    private PooledObject<DatagramPacket> read0(final ReceiveSocket receiveSocket) {
+        final UDPSocketMetric metric = receiveSocket.metric;
         boolean success = false;
-        PooledObject<DatagramPacket> pooledObject = datagramPacketPool.getObject();
+        PooledObject<DatagramPacket> pooledObject = receiveSocket.datagramPacketPool.getObject();
         if (pooledObject == null) {
             logger.error("datagramPacketPool is empty");
+            metric.incrementDropped();
             return null;
         }
         DatagramPacket packet = pooledObject.getObject();
         try {
             try {
-                socket.receive(packet);
+                receiveSocket.socket.receive(packet);
                 success = true;
             } catch (SocketTimeoutException e) {
                 return null;
@@ -142,6 +205,7 @@ public class UDPReceiver {
                 // shutdown
             } else {
                 logger.error("IoError, Caused:", e.getMessage(), e);
+                metric.incrementIoError();
             }
             return null;
         } finally {
@@ -149,6 +213,7 @@ public class UDPReceiver {
                 pooledObject.returnObject();
             }
         }
+        metric.incrementReceived();
         if (!validatePacket(packet)) {
             pooledObject.returnObject();
             return null;
@@ -172,20 +237,37 @@ public class UDPReceiver {
     private DatagramSocket createSocket(int receiveBufferSize) {
         try {
             DatagramSocket socket = new DatagramSocket(null);
-            socket.setReceiveBufferSize(receiveBufferSize);
-            if (logger.isWarnEnabled()) {
-                final int checkReceiveBufferSize = socket.getReceiveBufferSize();
-                if (receiveBufferSize != checkReceiveBufferSize) {
-                    logger.warn("DatagramSocket.setReceiveBufferSize() error. {}!={}", receiveBufferSize, checkReceiveBufferSize);
-                }
-            }
-            socket.setSoTimeout(1000 * 5);
+            configureSocket(socket, receiveBufferSize);
             return socket;
         } catch (SocketException ex) {
             throw new RuntimeException("Socket create Fail. Caused:" + ex.getMessage(), ex);
         }
     }
 
+    private DatagramSocket createReusePortSocket(int receiveBufferSize) {
+        try {
+            // blocking channel. the socket adaptor keeps the DatagramPacket based receive path and SO_TIMEOUT
+            DatagramChannel channel = DatagramChannel.open();
+            channel.setOption(SO_REUSEPORT, Boolean.TRUE);
+            DatagramSocket socket = channel.socket();
+            configureSocket(socket, receiveBufferSize);
+            return socket;
+        } catch (IOException ex) {
+            throw new RuntimeException("Socket create Fail. Caused:" + ex.getMessage(), ex);
+        }
+    }
+
+    private void configureSocket(DatagramSocket socket, int receiveBufferSize) throws SocketException {
+        socket.setReceiveBufferSize(receiveBufferSize);
+        if (logger.isWarnEnabled()) {
+            final int checkReceiveBufferSize = socket.getReceiveBufferSize();
+            if (receiveBufferSize != checkReceiveBufferSize) {
+                logger.warn("DatagramSocket.setReceiveBufferSize() error. {}!={}", receiveBufferSize, checkReceiveBufferSize);
+            }
+        }
+        socket.setSoTimeout(1000 * 5);
+    }
+
     private void bindSocket(DatagramSocket socket, InetSocketAddress bindAddress) {
         try {
             logger.info("DatagramSocket.bind() {}/{}", bindAddress.getHostString(), bindAddress.getPort());
@@ -206,20 +288,20 @@ public class UDPReceiver {
         }
 
         this.ioExecutor = newThreadPoolExecutor();
-        final DatagramSocket socket = this.socket;
-        if (socket == null) {
-            throw new IllegalStateException("socket is null.");
+        for (ReceiveSocket receiveSocket : receiveSockets) {
+            bindSocket(receiveSocket.socket, bindAddress);
         }
-        bindSocket(socket, bindAddress);
-
-        logger.info("UDP Packet reader:{} started.", ioThreadSize);
-        for (int i = 0; i < ioThreadSize; i++) {
-            ioExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    receive(socket);
-                }
-            });
+
+        logger.info("UDP Packet reader:{} started. sockets:{}, reusePort:{}", getIoThreadCount(), receiveSockets.size(), reusePort);
+        for (final ReceiveSocket receiveSocket : receiveSockets) {
+            for (int i = 0; i < receiveSocket.readerCount; i++) {
+                ioExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        receive(receiveSocket);
+                    }
+                });
+            }
         }
 
         if (logger.isInfoEnabled()) {
@@ -227,6 +309,29 @@ public class UDPReceiver {
         }
     }
 
+    private int getIoThreadCount() {
+        int ioThreadCount = 0;
+        for (ReceiveSocket receiveSocket : receiveSockets) {
+            ioThreadCount += receiveSocket.readerCount;
+        }
+        return ioThreadCount;
+    }
+
+    /**
+     * @return receive metric of each socket. a single element unless SO_REUSEPORT is used
+     */
+    public List<UDPSocketMetric> getSocketMetrics() {
+        final List<UDPSocketMetric> socketMetrics = new ArrayList<>(receiveSockets.size());
+        for (ReceiveSocket receiveSocket : receiveSockets) {
+            socketMetrics.add(receiveSocket.metric);
+        }
+        return socketMetrics;
+    }
+
+    public boolean isReusePort() {
+        return reusePort;
+    }
+
     public void shutdown() {
         if (logger.isInfoEnabled()) {
             logger.info("{} shutdown() started", this.name);
@@ -234,8 +339,8 @@ public class UDPReceiver {
 
         state.set(false);
         // is it okay to just close here?
-        if (socket != null) {
-            socket.close();
+        for (ReceiveSocket receiveSocket : receiveSockets) {
+            receiveSocket.socket.close();
         }
         if (ioExecutor != null) {
             shutdownExecutor(ioExecutor, name);
@@ -257,4 +362,17 @@ public class UDPReceiver {
         }
     }
 
+    private static class ReceiveSocket {
+        private final DatagramSocket socket;
+        private final ObjectPool<DatagramPacket> datagramPacketPool;
+        private final int readerCount;
+        private final UDPSocketMetric metric = new UDPSocketMetric();
+
+        private ReceiveSocket(DatagramSocket socket, ObjectPool<DatagramPacket> datagramPacketPool, int readerCount) {
+            this.socket = socket;
+            this.datagramPacketPool = datagramPacketPool;
+            this.readerCount = readerCount;
+        }
+    }
+
 }
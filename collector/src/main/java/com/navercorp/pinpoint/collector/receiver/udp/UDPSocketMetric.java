@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.receiver.udp;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Receive counters of a single UDP socket.
+ */
+public class UDPSocketMetric {
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder ioError = new LongAdder();
+
+    void incrementReceived() {
+        received.increment();
+    }
+
+    void incrementDropped() {
+        dropped.increment();
+    }
+
+    void incrementIoError() {
+        ioError.increment();
+    }
+
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * @return packets the receiver could not read because no packet buffer was available
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getIoErrorCount() {
+        return ioError.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "UDPSocketMetric{" +
+                "received=" + received +
+                ", dropped=" + dropped +
+                ", ioError=" + ioError +
+                '}';
+    }
+}
@@ -23,8 +23,10 @@ import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DeadlockBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import org.slf4j.Logger;
@@ -70,6 +72,12 @@ public class HBaseAgentStatService implements AgentStatService {
     @Autowired
     private AgentStatDaoV2<DirectBufferBo> directBufferDao;
 
+    @Autowired
+    private AgentStatDaoV2<MetaDataCacheBo> metaDataCacheDao;
+
+    @Autowired
+    private AgentStatDaoV2<InterceptorOverheadListBo> interceptorOverheadDao;
+
     @Override
     public void save(AgentStatBo agentStatBo) {
         final String agentId = agentStatBo.getAgentId();
@@ -84,6 +92,8 @@ public class HBaseAgentStatService implements AgentStatService {
             this.deadlockDao.insert(agentId, agentStatBo.getDeadlockBos());
             this.fileDescriptorDao.insert(agentId, agentStatBo.getFileDescriptorBos());
             this.directBufferDao.insert(agentId, agentStatBo.getDirectBufferBos());
+            this.metaDataCacheDao.insert(agentId, agentStatBo.getMetaDataCacheBos());
+            this.interceptorOverheadDao.insert(agentId, agentStatBo.getInterceptorOverheadListBos());
         } catch (Exception e) {
             logger.warn("Error inserting AgentStatBo. Caused:{}", e.getMessage(), e);
         }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.util.Address;
+import com.navercorp.pinpoint.collector.util.DefaultAddress;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConsistentHashRingTest {
+
+    private final Address collector1 = new DefaultAddress("10.0.0.1", 9993);
+    private final Address collector2 = new DefaultAddress("10.0.0.2", 9993);
+    private final Address collector3 = new DefaultAddress("10.0.0.3", 9993);
+
+    @Test
+    public void empty() {
+        ConsistentHashRing ring = new ConsistentHashRing(Collections.<Address>emptyList());
+        Assert.assertTrue(ring.isEmpty());
+        Assert.assertNull(ring.getOwner(BytesUtils.toBytes("row")));
+    }
+
+    @Test
+    public void memberOrder() {
+        ConsistentHashRing ring1 = new ConsistentHashRing(Arrays.asList(collector1, collector2, collector3));
+        ConsistentHashRing ring2 = new ConsistentHashRing(Arrays.asList(collector3, collector1, collector2));
+        for (int i = 0; i < 1000; i++) {
+            byte[] rowKey = BytesUtils.toBytes("row" + i);
+            Assert.assertEquals(ring1.getOwner(rowKey), ring2.getOwner(rowKey));
+        }
+    }
+
+    @Test
+    public void distribution() {
+        ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList(collector1, collector2, collector3));
+        Map<Address, Integer> countMap = new HashMap<>();
+        final int rowCount = 30000;
+        for (int i = 0; i < rowCount; i++) {
+            Address owner = ring.getOwner(BytesUtils.toBytes("row" + i));
+            Integer count = countMap.get(owner);
+            countMap.put(owner, count == null ? 1 : count + 1);
+        }
+        Assert.assertEquals(3, countMap.size());
+        for (Integer count : countMap.values()) {
+            Assert.assertTrue("count:" + count, count > rowCount / 3 / 2);
+        }
+    }
+
+    @Test
+    public void removeMember() {
+        ConsistentHashRing before = new ConsistentHashRing(Arrays.asList(collector1, collector2, collector3));
+        ConsistentHashRing after = new ConsistentHashRing(Arrays.asList(collector1, collector2));
+
+        List<byte[]> rowKeys = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rowKeys.add(BytesUtils.toBytes("row" + i));
+        }
+        for (byte[] rowKey : rowKeys) {
+            Address owner = before.getOwner(rowKey);
+            if (!owner.equals(collector3)) {
+                // only the rows of the removed member move
+                Assert.assertEquals(owner, after.getOwner(rowKey));
+            } else {
+                Assert.assertNotEquals(collector3, after.getOwner(rowKey));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementAggregatorTest {
+
+    private static final byte[] FAMILY = BytesUtils.toBytes("C");
+
+    private final TableName tableName = TableName.valueOf("ApplicationMapStatisticsCaller_Ver2");
+
+    @Test
+    public void merge() {
+        IncrementAggregator aggregator = new IncrementAggregator();
+        aggregator.add(tableName, Arrays.asList(newIncrement("row1", "column1", 1), newIncrement("row2", "column1", 2)));
+        aggregator.add(tableName, Arrays.asList(newIncrement("row1", "column1", 10), newIncrement("row1", "column2", 5)));
+
+        Map<TableName, List<Increment>> incrementMap = aggregator.drain();
+        List<Increment> increments = incrementMap.get(tableName);
+        Assert.assertEquals(2, increments.size());
+        for (Increment increment : increments) {
+            Map<byte[], Long> columns = increment.getFamilyMapOfLongs().get(FAMILY);
+            if (Arrays.equals(BytesUtils.toBytes("row1"), increment.getRow())) {
+                Assert.assertEquals(2, columns.size());
+                Assert.assertEquals(Long.valueOf(11), columns.get(BytesUtils.toBytes("column1")));
+                Assert.assertEquals(Long.valueOf(5), columns.get(BytesUtils.toBytes("column2")));
+            } else {
+                Assert.assertEquals(1, columns.size());
+                Assert.assertEquals(Long.valueOf(2), columns.get(BytesUtils.toBytes("column1")));
+            }
+        }
+
+        Assert.assertTrue(aggregator.drain().isEmpty());
+    }
+
+    @Test
+    public void codec() {
+        IncrementCodec codec = new IncrementCodec();
+        Map<TableName, List<Increment>> incrementMap = new HashMap<>();
+        incrementMap.put(tableName, Arrays.asList(newIncrement("row1", "column1", 3), newIncrement("row2", "column2", -1)));
+
+        Map<TableName, List<Increment>> decoded = codec.decode(codec.encode(incrementMap));
+
+        IncrementAggregator aggregator = new IncrementAggregator();
+        aggregator.add(tableName, decoded.get(tableName));
+        aggregator.add(tableName, incrementMap.get(tableName));
+        List<Increment> increments = aggregator.drain().get(tableName);
+        Assert.assertEquals(2, increments.size());
+        for (Increment increment : increments) {
+            Map<byte[], Long> columns = increment.getFamilyMapOfLongs().get(FAMILY);
+            if (Arrays.equals(BytesUtils.toBytes("row1"), increment.getRow())) {
+                Assert.assertEquals(Long.valueOf(6), columns.get(BytesUtils.toBytes("column1")));
+            } else {
+                Assert.assertEquals(Long.valueOf(-2), columns.get(BytesUtils.toBytes("column2")));
+            }
+        }
+    }
+
+    private Increment newIncrement(String row, String column, long amount) {
+        Increment increment = new Increment(BytesUtils.toBytes(row));
+        increment.addColumn(FAMILY, BytesUtils.toBytes(column), amount);
+        return increment;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+public class IncrementCodecTest {
+
+    private static final byte[] FAMILY1 = BytesUtils.toBytes("C");
+    private static final byte[] FAMILY2 = BytesUtils.toBytes("D");
+
+    private final IncrementCodec codec = new IncrementCodec();
+
+    @Test
+    public void encodeDecode() {
+        final TableName callerTable = TableName.valueOf("ApplicationMapStatisticsCaller_Ver2");
+        final TableName calleeTable = TableName.valueOf("ApplicationMapStatisticsCallee_Ver2");
+
+        Increment increment1 = new Increment(BytesUtils.toBytes("row1"));
+        increment1.addColumn(FAMILY1, BytesUtils.toBytes("column1"), 1);
+        increment1.addColumn(FAMILY1, BytesUtils.toBytes("column2"), Long.MAX_VALUE);
+        increment1.addColumn(FAMILY2, BytesUtils.toBytes("column1"), -3);
+        Increment increment2 = new Increment(BytesUtils.toBytes("row2"));
+        increment2.addColumn(FAMILY1, BytesUtils.toBytes("column1"), Long.MIN_VALUE);
+        Increment increment3 = new Increment(BytesUtils.toBytes("row3"));
+        increment3.addColumn(FAMILY2, new byte[0], 0);
+
+        Map<TableName, List<Increment>> incrementMap = new HashMap<>();
+        incrementMap.put(callerTable, Arrays.asList(increment1, increment2));
+        incrementMap.put(calleeTable, Collections.singletonList(increment3));
+
+        Map<TableName, List<Increment>> decoded = codec.decode(codec.encode(incrementMap));
+
+        Assert.assertEquals(incrementMap.keySet(), decoded.keySet());
+        assertIncrements(incrementMap.get(callerTable), decoded.get(callerTable));
+        assertIncrements(incrementMap.get(calleeTable), decoded.get(calleeTable));
+    }
+
+    @Test
+    public void encodeDecode_empty() {
+        Map<TableName, List<Increment>> decoded = codec.decode(codec.encode(Collections.<TableName, List<Increment>>emptyMap()));
+
+        Assert.assertTrue(decoded.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_unsupportedVersion() {
+        byte[] bytes = codec.encode(Collections.<TableName, List<Increment>>emptyMap());
+        bytes[0] = IncrementCodec.VERSION + 1;
+
+        codec.decode(bytes);
+    }
+
+    private void assertIncrements(List<Increment> expected, List<Increment> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final Increment expectedIncrement = expected.get(i);
+            final Increment actualIncrement = actual.get(i);
+            Assert.assertArrayEquals(expectedIncrement.getRow(), actualIncrement.getRow());
+
+            final Map<byte[], NavigableMap<byte[], Long>> expectedFamilyMap = expectedIncrement.getFamilyMapOfLongs();
+            final Map<byte[], NavigableMap<byte[], Long>> actualFamilyMap = actualIncrement.getFamilyMapOfLongs();
+            Assert.assertEquals(expectedFamilyMap.size(), actualFamilyMap.size());
+            for (Map.Entry<byte[], NavigableMap<byte[], Long>> family : expectedFamilyMap.entrySet()) {
+                Assert.assertEquals(family.getValue(), actualFamilyMap.get(family.getKey()));
+            }
+        }
+    }
+}
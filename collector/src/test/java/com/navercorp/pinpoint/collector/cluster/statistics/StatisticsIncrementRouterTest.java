@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.cluster.statistics;
+
+import com.navercorp.pinpoint.collector.cluster.statistics.StatisticsClusterConnectionManager.SendResult;
+import com.navercorp.pinpoint.collector.util.Address;
+import com.navercorp.pinpoint.collector.util.DefaultAddress;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsIncrementRouterTest {
+
+    private static final byte[] FAMILY = BytesUtils.toBytes("C");
+
+    private final TableName tableName = TableName.valueOf("ApplicationMapStatisticsCaller_Ver2");
+
+    private final Address localAddress = new DefaultAddress("127.0.0.1", 9993);
+    private final Address remoteAddress = new DefaultAddress("127.0.0.2", 9993);
+    private final Address unreachableAddress = new DefaultAddress("127.0.0.3", 9993);
+    private final Address timeoutAddress = new DefaultAddress("127.0.0.4", 9993);
+
+    @Mock
+    private StatisticsClusterService statisticsClusterService;
+    @Mock
+    private StatisticsClusterConnectionManager connectionManager;
+    @Mock
+    private HbaseOperations2 hbaseTemplate;
+
+    private final IncrementAggregator incrementAggregator = new IncrementAggregator();
+    private final IncrementCodec incrementCodec = new IncrementCodec();
+
+    private StatisticsIncrementRouter router;
+
+    @Before
+    public void setUp() {
+        router = new StatisticsIncrementRouter(statisticsClusterService, incrementAggregator, incrementCodec, hbaseTemplate);
+    }
+
+    @Test
+    public void notStarted_writeDirectly() {
+        when(statisticsClusterService.isStarted()).thenReturn(false);
+        List<Increment> increments = Arrays.asList(newIncrement("row1", 1));
+
+        router.increment(tableName, increments);
+
+        verify(hbaseTemplate).increment(tableName, increments);
+        Assert.assertTrue(incrementAggregator.drain().isEmpty());
+    }
+
+    @Test
+    public void routeByOwner() {
+        when(statisticsClusterService.isStarted()).thenReturn(true);
+        when(statisticsClusterService.getClusterConnectionManager()).thenReturn(connectionManager);
+        when(connectionManager.getLocalAddress()).thenReturn(localAddress);
+        when(connectionManager.getOwner(BytesUtils.toBytes("local"))).thenReturn(localAddress);
+        when(connectionManager.getOwner(BytesUtils.toBytes("remote"))).thenReturn(remoteAddress);
+        when(connectionManager.getOwner(BytesUtils.toBytes("unreachable"))).thenReturn(unreachableAddress);
+        when(connectionManager.getOwner(BytesUtils.toBytes("timeout"))).thenReturn(timeoutAddress);
+        when(connectionManager.getOwner(BytesUtils.toBytes("noOwner"))).thenReturn(null);
+        when(connectionManager.send(eq(remoteAddress), any(byte[].class))).thenReturn(SendResult.SENT);
+        when(connectionManager.send(eq(unreachableAddress), any(byte[].class))).thenReturn(SendResult.NOT_SENT);
+        when(connectionManager.send(eq(timeoutAddress), any(byte[].class))).thenReturn(SendResult.UNKNOWN);
+
+        router.increment(tableName, Arrays.asList(newIncrement("local", 1), newIncrement("remote", 2),
+                newIncrement("unreachable", 3), newIncrement("timeout", 4), newIncrement("noOwner", 5)));
+
+        // forwarded to the owner
+        ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(connectionManager).send(eq(remoteAddress), payloadCaptor.capture());
+        Map<TableName, List<Increment>> forwarded = incrementCodec.decode(payloadCaptor.getValue());
+        Assert.assertEquals(Arrays.asList("remote"), getRows(forwarded.get(tableName)));
+
+        // kept locally, including the increments of the owner that was not reachable
+        List<String> localRows = getRows(incrementAggregator.drain().get(tableName));
+        Assert.assertEquals(3, localRows.size());
+        Assert.assertTrue(localRows.containsAll(Arrays.asList("local", "unreachable", "noOwner")));
+        // the timed out forward may still be delivered
+        Assert.assertEquals(1, router.getDroppedIncrementCount());
+
+        verify(hbaseTemplate, never()).increment(any(TableName.class), anyList());
+    }
+
+    @Test
+    public void stop_flushAggregator() {
+        List<Increment> increments = Arrays.asList(newIncrement("row1", 1));
+        incrementAggregator.add(tableName, increments);
+
+        router.stop();
+
+        verify(statisticsClusterService).tearDown();
+        ArgumentCaptor<List> incrementsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(hbaseTemplate).increment(eq(tableName), incrementsCaptor.capture());
+        Assert.assertEquals(1, incrementsCaptor.getValue().size());
+        Assert.assertTrue(incrementAggregator.drain().isEmpty());
+    }
+
+    private List<String> getRows(List<Increment> increments) {
+        List<String> rows = new ArrayList<>();
+        for (Increment increment : increments) {
+            rows.add(BytesUtils.toString(increment.getRow()));
+        }
+        return rows;
+    }
+
+    private Increment newIncrement(String row, long amount) {
+        Increment increment = new Increment(BytesUtils.toBytes(row));
+        increment.addColumn(FAMILY, BytesUtils.toBytes("column"), amount);
+        return increment;
+    }
+}
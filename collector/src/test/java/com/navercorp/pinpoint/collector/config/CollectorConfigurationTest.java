@@ -48,4 +48,20 @@ public class CollectorConfigurationTest {
         Assert.assertTrue(collectorConfiguration.getL4IpList().contains("255.255.255.255"));
     }
 
+    @Test
+    public void statisticsClusterTest() throws Exception {
+        Properties properties = new Properties();
+        properties.put("cluster.statistics.enable", "true");
+        properties.put("cluster.statistics.listen.port", "9993");
+
+        CollectorConfiguration collectorConfiguration = new CollectorConfiguration();
+        collectorConfiguration.setProperties(properties);
+
+        collectorConfiguration.afterPropertiesSet();
+
+        Assert.assertTrue(collectorConfiguration.isStatisticsClusterEnable());
+        Assert.assertEquals("", collectorConfiguration.getStatisticsClusterListenIp());
+        Assert.assertEquals(9993, collectorConfiguration.getStatisticsClusterListenPort());
+    }
+
 }
@@ -154,6 +154,11 @@ public class ConfigTest {
         Assert.assertEquals(spanReceiverConfig.getWorkerThreadSize(), 3);
         Assert.assertEquals(spanReceiverConfig.getWorkerQueueSize(), 4);
         Assert.assertEquals(spanReceiverConfig.isWorkerMonitorEnable(), false);
+        Assert.assertEquals(spanReceiverConfig.isPipelineEnable(), true);
+        Assert.assertEquals(spanReceiverConfig.getPipelineThreadSize(), 5);
+        Assert.assertEquals(spanReceiverConfig.getPipelineQueueSize(), 6);
+        Assert.assertEquals(spanReceiverConfig.getPipelineBatchSize(), 7);
+        Assert.assertEquals(spanReceiverConfig.getPipelineOfferTimeout(), 8);
     }
 
 }
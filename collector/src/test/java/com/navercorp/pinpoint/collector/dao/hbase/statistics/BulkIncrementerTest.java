@@ -56,11 +56,15 @@ public class BulkIncrementerTest {
 
     private static final byte[] CF = Bytes.toBytes("CF");
 
-    private final BulkIncrementer bulkIncrementer = new BulkIncrementer(new RowKeyMerge(CF));
+    private final BulkIncrementer bulkIncrementer = newBulkIncrementer(new RowKeyMerge(CF));
 
     @Mock
     private RowKeyDistributorByHashPrefix rowKeyDistributor;
 
+    protected BulkIncrementer newBulkIncrementer(RowKeyMerge rowKeyMerge) {
+        return new DefaultBulkIncrementer(rowKeyMerge);
+    }
+
     @Before
     public void setUp() {
         when(rowKeyDistributor.getDistributedKey(any(byte[].class))).then(invocation -> invocation.getArgument(0));
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import org.apache.hadoop.hbase.TableName;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs the {@link BulkIncrementerTest} scenarios against {@link ShardedBulkIncrementer}.
+ */
+public class ShardedBulkIncrementerTest extends BulkIncrementerTest {
+
+    @Override
+    protected BulkIncrementer newBulkIncrementer(RowKeyMerge rowKeyMerge) {
+        return new ShardedBulkIncrementer(rowKeyMerge, 4);
+    }
+
+    @Test
+    public void shardCount() {
+        RowKeyMerge rowKeyMerge = new RowKeyMerge(new byte[]{'C'});
+        Assert.assertEquals(1, new ShardedBulkIncrementer(rowKeyMerge, 1).getShardCount());
+        Assert.assertEquals(4, new ShardedBulkIncrementer(rowKeyMerge, 3).getShardCount());
+        Assert.assertEquals(8, new ShardedBulkIncrementer(rowKeyMerge, 8).getShardCount());
+    }
+
+    @Test
+    public void counterTable_resizeAndDrain() {
+        TableName tableName = TableName.valueOf("A");
+        ShardedBulkIncrementer.CounterTable counterTable = new ShardedBulkIncrementer.CounterTable(4);
+
+        final int keyCount = 100;
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < keyCount; i++) {
+                RowKey rowKey = new CallRowKey("app" + i, (short) 1000, 0);
+                ColumnName columnName = new CallerColumnName((short) 1000, "callee", "host", (short) i);
+                counterTable.increment(ShardedBulkIncrementer.hash(tableName, rowKey, columnName), tableName, rowKey, columnName);
+            }
+        }
+        Assert.assertEquals(keyCount, counterTable.size());
+        Assert.assertTrue(counterTable.capacity() >= keyCount * 2);
+
+        Map<RowInfo, Long> snapshot = new HashMap<>();
+        counterTable.drainTo(snapshot);
+        Assert.assertEquals(keyCount, snapshot.size());
+        for (Long count : snapshot.values()) {
+            Assert.assertEquals(3L, count.longValue());
+        }
+        Assert.assertEquals(0, counterTable.size());
+        // steady load keeps the table
+        final int burstCapacity = counterTable.capacity();
+        Assert.assertTrue(burstCapacity >= keyCount * 2);
+
+        RowKey rowKey = new CallRowKey("app", (short) 1000, 0);
+        ColumnName columnName = new CallerColumnName((short) 1000, "callee", "host", (short) 0);
+        counterTable.increment(ShardedBulkIncrementer.hash(tableName, rowKey, columnName), tableName, rowKey, columnName);
+        snapshot.clear();
+        counterTable.drainTo(snapshot);
+        Assert.assertEquals(1L, snapshot.get(new DefaultRowInfo(tableName, rowKey, columnName)).longValue());
+        // the burst capacity is released after a light flush
+        Assert.assertEquals(4, counterTable.capacity());
+    }
+}
@@ -28,8 +28,10 @@ import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DeadlockBo;
 import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
@@ -96,6 +98,12 @@ public class AgentStatHandlerV2Test {
     @Mock
     private AgentStatDaoV2<DirectBufferBo> directBufferDao;
 
+    @Mock
+    private AgentStatDaoV2<MetaDataCacheBo> metaDataCacheDao;
+
+    @Mock
+    private AgentStatDaoV2<InterceptorOverheadListBo> interceptorOverheadDao;
+
     @InjectMocks
     private HBaseAgentStatService hBaseAgentStatService = new HBaseAgentStatService();
 
@@ -132,6 +140,8 @@ public class AgentStatHandlerV2Test {
         verify(deadlockDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDeadlockBos());
         verify(fileDescriptorDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getFileDescriptorBos());
         verify(directBufferDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDirectBufferBos());
+        verify(metaDataCacheDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getMetaDataCacheBos());
+        verify(interceptorOverheadDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getInterceptorOverheadListBos());
 
     }
 
@@ -157,6 +167,8 @@ public class AgentStatHandlerV2Test {
         verify(deadlockDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDeadlockBos());
         verify(fileDescriptorDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getFileDescriptorBos());
         verify(directBufferDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDirectBufferBos());
+        verify(metaDataCacheDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getMetaDataCacheBos());
+        verify(interceptorOverheadDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getInterceptorOverheadListBos());
     }
 
     @Test
@@ -179,6 +191,8 @@ public class AgentStatHandlerV2Test {
         verifyZeroInteractions(responseTimeDao);
         verifyZeroInteractions(fileDescriptorDao);
         verifyZeroInteractions(directBufferDao);
+        verifyZeroInteractions(metaDataCacheDao);
+        verifyZeroInteractions(interceptorOverheadDao);
     }
 
     @Test
@@ -202,6 +216,8 @@ public class AgentStatHandlerV2Test {
         verifyZeroInteractions(responseTimeDao);
         verifyZeroInteractions(fileDescriptorDao);
         verifyZeroInteractions(directBufferDao);
+        verifyZeroInteractions(metaDataCacheDao);
+        verifyZeroInteractions(interceptorOverheadDao);
     }
 
     @Test(expected=IllegalArgumentException.class)
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import com.navercorp.pinpoint.collector.dao.ApiMetaDataDao;
+import com.navercorp.pinpoint.collector.dao.SqlMetaDataDao;
+import com.navercorp.pinpoint.collector.dao.StringMetaDataDao;
+import com.navercorp.pinpoint.io.request.ServerRequest;
+import com.navercorp.pinpoint.io.request.ServerResponse;
+import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataBatch;
+import com.navercorp.pinpoint.thrift.dto.TResult;
+import com.navercorp.pinpoint.thrift.dto.TSqlMetaData;
+import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Mockito.*;
+
+public class MetaDataBatchHandlerTest {
+
+    @Mock
+    private SqlMetaDataDao sqlMetaDataDao;
+
+    @Mock
+    private ApiMetaDataDao apiMetaDataDao;
+
+    @Mock
+    private StringMetaDataDao stringMetaDataDao;
+
+    @InjectMocks
+    private MetaDataBatchHandler metaDataBatchHandler = new MetaDataBatchHandler();
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void handleRequest() {
+        TMetaDataBatch metaDataBatch = new TMetaDataBatch();
+        metaDataBatch.addToSqlMetaDataList(new TSqlMetaData("agentId", 1L, 10, "select 1"));
+        metaDataBatch.addToSqlMetaDataList(new TSqlMetaData("agentId", 1L, 11, "select 2"));
+        metaDataBatch.addToApiMetaDataList(new TApiMetaData("agentId", 1L, 20, "api"));
+        metaDataBatch.addToStringMetaDataList(new TStringMetaData("agentId", 1L, 30, "string"));
+
+        TResult result = handle(metaDataBatch);
+
+        Assert.assertTrue(result.isSuccess());
+        verify(sqlMetaDataDao).insertAll(metaDataBatch.getSqlMetaDataList());
+        verify(apiMetaDataDao).insertAll(metaDataBatch.getApiMetaDataList());
+        verify(stringMetaDataDao).insertAll(metaDataBatch.getStringMetaDataList());
+    }
+
+    @Test
+    public void handleRequest_partialBatch() {
+        TMetaDataBatch metaDataBatch = new TMetaDataBatch();
+        metaDataBatch.addToApiMetaDataList(new TApiMetaData("agentId", 1L, 20, "api"));
+
+        TResult result = handle(metaDataBatch);
+
+        Assert.assertTrue(result.isSuccess());
+        verify(apiMetaDataDao).insertAll(metaDataBatch.getApiMetaDataList());
+        verifyZeroInteractions(sqlMetaDataDao);
+        verifyZeroInteractions(stringMetaDataDao);
+    }
+
+    @Test
+    public void handleRequest_daoFail() {
+        doThrow(new RuntimeException("put fail")).when(sqlMetaDataDao).insertAll(anyList());
+
+        TMetaDataBatch metaDataBatch = new TMetaDataBatch();
+        metaDataBatch.addToSqlMetaDataList(new TSqlMetaData("agentId", 1L, 10, "select 1"));
+
+        TResult result = handle(metaDataBatch);
+
+        // the agent retries the whole batch
+        Assert.assertFalse(result.isSuccess());
+        Assert.assertEquals("put fail", result.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    private TResult handle(TMetaDataBatch metaDataBatch) {
+        ServerRequest serverRequest = mock(ServerRequest.class);
+        when(serverRequest.getData()).thenReturn(metaDataBatch);
+        ServerResponse serverResponse = mock(ServerResponse.class);
+
+        metaDataBatchHandler.handleRequest(serverRequest, serverResponse);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(serverResponse).write(captor.capture());
+        return (TResult) captor.getValue();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler;
+
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
+import com.navercorp.pinpoint.common.server.util.ThreadLocalAcceptedTimeService;
+import com.navercorp.pinpoint.common.util.TransactionIdUtils;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SpanPipelineTest {
+
+    private final AcceptedTimeService acceptedTimeService = new ThreadLocalAcceptedTimeService();
+
+    @Test
+    public void pipeline() throws Exception {
+        CountingSpanWriter spanWriter = new CountingSpanWriter();
+        SpanPipeline spanPipeline = new SpanPipeline(spanWriter, acceptedTimeService, 2, 128, 8, 100);
+        spanPipeline.start();
+        try {
+            for (int i = 0; i < 100; i++) {
+                Assert.assertTrue(spanPipeline.submit(new SpanBo(), new TSpan()));
+            }
+        } finally {
+            spanPipeline.stop();
+        }
+        Assert.assertEquals(100, spanWriter.trace.get());
+        Assert.assertEquals(100, spanWriter.index.get());
+        Assert.assertEquals(100, spanWriter.statistics.get());
+        Assert.assertEquals(100, spanWriter.spanEventStatistics.get());
+        Assert.assertEquals(0, spanPipeline.getSpanEventStatShedCount());
+    }
+
+    @Test
+    public void shedSpanEventStatisticsFirst() throws Exception {
+        final int queueSize = 8;
+        final CountDownLatch statisticsLatch = new CountDownLatch(1);
+        final CountDownLatch blockedLatch = new CountDownLatch(1);
+        CountingSpanWriter spanWriter = new CountingSpanWriter() {
+            @Override
+            public void insertStatistics(SpanBo spanBo, boolean includeSpanEvent) {
+                blockedLatch.countDown();
+                try {
+                    statisticsLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.insertStatistics(spanBo, includeSpanEvent);
+            }
+        };
+        SpanPipeline spanPipeline = new SpanPipeline(spanWriter, acceptedTimeService, 1, queueSize, 1, 100);
+        spanPipeline.start();
+        final int spanCount = queueSize * 2;
+        try {
+            Assert.assertTrue(spanPipeline.submit(new SpanBo(), new TSpan()));
+            Assert.assertTrue(blockedLatch.await(3, TimeUnit.SECONDS));
+            // one span at a time so that only the blocked statistics stage backs up
+            for (int i = 1; i < spanCount; i++) {
+                Assert.assertTrue(spanPipeline.submit(new SpanBo(), new TSpan()));
+                awaitIndex(spanWriter, i + 1);
+            }
+        } finally {
+            statisticsLatch.countDown();
+            spanPipeline.stop();
+        }
+        // raw traces and indexes are all written
+        Assert.assertEquals(spanCount, spanWriter.trace.get());
+        Assert.assertEquals(spanCount, spanWriter.index.get());
+        // one in flight and a full queue, the rest dropped
+        Assert.assertEquals(queueSize + 1, spanWriter.statistics.get());
+        Assert.assertEquals(spanCount - queueSize - 1, spanPipeline.getStatisticsStage().getMetric().getDropped());
+        // span event statistics are skipped while the queue is above the watermark
+        Assert.assertTrue(spanPipeline.getSpanEventStatShedCount() > 0);
+        Assert.assertEquals(spanWriter.statistics.get() - spanPipeline.getSpanEventStatShedCount(), spanWriter.spanEventStatistics.get());
+    }
+
+    @Test
+    public void detachFromReceiveBuffer() throws Exception {
+        final byte[] transactionId = TransactionIdUtils.formatBytes("agentId", 1000, 1);
+        TSpan source = new TSpan();
+        source.setAgentId("agentId");
+        source.setTransactionId(transactionId);
+        final byte[] packet = new TSerializer(new TCompactProtocol.Factory()).serialize(source);
+        // the transactionId of the decoded TSpan is a view of the packet
+        TSpan tSpan = new TSpan();
+        new TDeserializer(new TCompactProtocol.Factory()).deserialize(tSpan, packet);
+
+        final List<byte[]> indexTransactionId = new CopyOnWriteArrayList<>();
+        final List<Long> acceptedTimes = new CopyOnWriteArrayList<>();
+        CountingSpanWriter spanWriter = new CountingSpanWriter() {
+            @Override
+            public void insertTrace(SpanBo spanBo) {
+                acceptedTimes.add(acceptedTimeService.getAcceptedTime());
+                super.insertTrace(spanBo);
+            }
+
+            @Override
+            public void insertIndex(SpanBo spanBo, TSpan tSpan) {
+                indexTransactionId.add(tSpan.getTransactionId());
+                acceptedTimes.add(acceptedTimeService.getAcceptedTime());
+                super.insertIndex(spanBo, tSpan);
+            }
+
+            @Override
+            public void insertStatistics(SpanBo spanBo, boolean includeSpanEvent) {
+                acceptedTimes.add(acceptedTimeService.getAcceptedTime());
+                super.insertStatistics(spanBo, includeSpanEvent);
+            }
+        };
+        SpanPipeline spanPipeline = new SpanPipeline(spanWriter, acceptedTimeService, 1, 8, 1, 100);
+
+        final long acceptedTime = 1234;
+        acceptedTimeService.accept(acceptedTime);
+        Assert.assertTrue(spanPipeline.submit(new SpanBo(), tSpan));
+        // the receiver reuses the packet before the stages run
+        Arrays.fill(packet, (byte) 0);
+
+        spanPipeline.start();
+        spanPipeline.stop();
+
+        Assert.assertEquals(1, indexTransactionId.size());
+        Assert.assertArrayEquals(transactionId, indexTransactionId.get(0));
+        Assert.assertEquals(Arrays.asList(acceptedTime, acceptedTime, acceptedTime), acceptedTimes);
+    }
+
+    private void awaitIndex(CountingSpanWriter spanWriter, int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(3);
+        while (spanWriter.index.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class CountingSpanWriter implements SpanPipeline.SpanWriter {
+        private final AtomicInteger trace = new AtomicInteger();
+        private final AtomicInteger index = new AtomicInteger();
+        private final AtomicInteger statistics = new AtomicInteger();
+        private final AtomicInteger spanEventStatistics = new AtomicInteger();
+
+        @Override
+        public void insertTrace(SpanBo spanBo) {
+            trace.incrementAndGet();
+        }
+
+        @Override
+        public void insertIndex(SpanBo spanBo, TSpan tSpan) {
+            index.incrementAndGet();
+        }
+
+        @Override
+        public void insertStatistics(SpanBo spanBo, boolean includeSpanEvent) {
+            statistics.incrementAndGet();
+            if (includeSpanEvent) {
+                spanEventStatistics.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler.stage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class StageTest {
+
+    @Test
+    public void process() throws Exception {
+        final List<Integer> processed = new CopyOnWriteArrayList<>();
+        Stage<Integer> stage = new Stage<>("test", 16, 4, 1, processed::add);
+        stage.start();
+        try {
+            for (int i = 0; i < 10; i++) {
+                Assert.assertTrue(stage.offer(i));
+            }
+        } finally {
+            stage.stop();
+        }
+        Assert.assertEquals(10, processed.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(Integer.valueOf(i), processed.get(i));
+        }
+        StageMetric metric = stage.getMetric();
+        Assert.assertEquals(10, metric.getOffered());
+        Assert.assertEquals(10, metric.getProcessed());
+        Assert.assertEquals(0, metric.getDropped());
+        Assert.assertEquals(10, metric.getWaitTime().getCount());
+    }
+
+    @Test
+    public void drop_full() throws Exception {
+        final CountDownLatch blockLatch = new CountDownLatch(1);
+        final CountDownLatch processLatch = new CountDownLatch(1);
+        Stage<Integer> stage = new Stage<>("test", 2, 1, 1, item -> {
+            processLatch.countDown();
+            blockLatch.await();
+        });
+        stage.start();
+        try {
+            Assert.assertTrue(stage.offer(0));
+            Assert.assertTrue(processLatch.await(3, TimeUnit.SECONDS));
+            // worker is busy with the first item
+            Assert.assertTrue(stage.offer(1));
+            Assert.assertTrue(stage.offer(2));
+            Assert.assertFalse(stage.offer(3));
+            Assert.assertFalse(stage.offer(4, 10, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(2, stage.getQueueDepth());
+        } finally {
+            blockLatch.countDown();
+            stage.stop();
+        }
+        StageMetric metric = stage.getMetric();
+        Assert.assertEquals(5, metric.getOffered());
+        Assert.assertEquals(2, metric.getDropped());
+        Assert.assertEquals(3, metric.getProcessed());
+    }
+
+    @Test
+    public void processError() throws Exception {
+        Stage<Integer> stage = new Stage<>("test", 4, 4, 1, item -> {
+            throw new IllegalStateException("test");
+        });
+        stage.start();
+        try {
+            stage.offer(1);
+            stage.offer(2);
+        } finally {
+            stage.stop();
+        }
+        Assert.assertEquals(2, stage.getMetric().getFailed());
+        Assert.assertEquals(2, stage.getMetric().getProcessed());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidQueueSize() {
+        new Stage<Integer>("test", 0, 1, 1, item -> {
+        });
+    }
+}
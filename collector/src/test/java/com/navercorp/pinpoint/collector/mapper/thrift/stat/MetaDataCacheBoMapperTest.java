@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataCache;
+import org.junit.Assert;
+
+public class MetaDataCacheBoMapperTest extends ThriftBoMapperTestBase<TMetaDataCache, MetaDataCacheBo> {
+
+    @Override
+    protected TMetaDataCache create() {
+        TMetaDataCache metaDataCache = new TMetaDataCache();
+        metaDataCache.setSqlHitCount(getRandomLong(0, 100000));
+        metaDataCache.setSqlMissCount(getRandomLong(0, 1000));
+        metaDataCache.setSqlEvictionCount(getRandomLong(0, 1000));
+        metaDataCache.setSqlResendCount(getRandomLong(0, 100));
+        metaDataCache.setSqlCapacity(1024);
+        metaDataCache.setApiHitCount(getRandomLong(0, 100000));
+        metaDataCache.setApiMissCount(getRandomLong(0, 1000));
+        metaDataCache.setApiEvictionCount(0);
+        metaDataCache.setApiResendCount(0);
+        metaDataCache.setApiCapacity(2048);
+        return metaDataCache;
+    }
+
+    @Override
+    protected MetaDataCacheBo convert(TMetaDataCache original) {
+        MetaDataCacheBoMapper metaDataCacheBoMapper = new MetaDataCacheBoMapper();
+        return metaDataCacheBoMapper.map(original);
+    }
+
+    @Override
+    protected void verify(TMetaDataCache original, MetaDataCacheBo mappedStatDataPoint) {
+        Assert.assertEquals("SqlHitCount", original.getSqlHitCount(), mappedStatDataPoint.getSqlHitCount());
+        Assert.assertEquals("SqlMissCount", original.getSqlMissCount(), mappedStatDataPoint.getSqlMissCount());
+        Assert.assertEquals("SqlEvictionCount", original.getSqlEvictionCount(), mappedStatDataPoint.getSqlEvictionCount());
+        Assert.assertEquals("SqlResendCount", original.getSqlResendCount(), mappedStatDataPoint.getSqlResendCount());
+        Assert.assertEquals("SqlCapacity", original.getSqlCapacity(), mappedStatDataPoint.getSqlCapacity());
+        Assert.assertEquals("ApiHitCount", original.getApiHitCount(), mappedStatDataPoint.getApiHitCount());
+        Assert.assertEquals("ApiMissCount", original.getApiMissCount(), mappedStatDataPoint.getApiMissCount());
+        Assert.assertEquals("ApiEvictionCount", original.getApiEvictionCount(), mappedStatDataPoint.getApiEvictionCount());
+        Assert.assertEquals("ApiResendCount", original.getApiResendCount(), mappedStatDataPoint.getApiResendCount());
+        Assert.assertEquals("ApiCapacity", original.getApiCapacity(), mappedStatDataPoint.getApiCapacity());
+        Assert.assertEquals("StringHitCount", MetaDataCacheBo.UNCOLLECTED_VALUE, mappedStatDataPoint.getStringHitCount());
+        Assert.assertEquals("StringCapacity", MetaDataCacheBo.UNCOLLECTED_VALUE, mappedStatDataPoint.getStringCapacity());
+    }
+
+}
@@ -26,6 +26,7 @@ import com.navercorp.pinpoint.collector.util.DefaultObjectPool;
 import com.navercorp.pinpoint.collector.util.ObjectPool;
 import com.navercorp.pinpoint.collector.util.ObjectPoolFactory;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.SystemClock;
 import com.navercorp.pinpoint.io.request.ServerRequest;
 import com.navercorp.pinpoint.io.request.ServerResponse;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV1;
@@ -103,6 +104,7 @@ public class SpanStreamUDPSenderTest {
 
         Shared shared = mock(Shared.class);
         Mockito.when(traceRoot.getShared()).thenReturn(shared);
+        Mockito.when(traceRoot.getClock()).thenReturn(SystemClock.INSTANCE);
         return traceRoot;
     }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.receiver.udp;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class UDPKernelDropCounterTest {
+
+    @Test
+    public void toLocalPortSuffix() {
+        Assert.assertEquals(":270C", UDPKernelDropCounter.toLocalPortSuffix(9996));
+        Assert.assertEquals(":0050", UDPKernelDropCounter.toLocalPortSuffix(80));
+    }
+
+    @Test
+    public void sumDropCount() {
+        List<String> lines = Arrays.asList(
+                "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode ref pointer drops",
+                " 1021: 00000000:270C 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 31245 2 0000000000000000 12",
+                " 1022: 00000000:270C 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 31246 2 0000000000000000 30",
+                " 1023: 00000000:270B 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 31247 2 0000000000000000 7");
+
+        Assert.assertEquals(42, UDPKernelDropCounter.sumDropCount(lines, ":270C"));
+        Assert.assertEquals(7, UDPKernelDropCounter.sumDropCount(lines, ":270B"));
+        Assert.assertEquals(0, UDPKernelDropCounter.sumDropCount(lines, ":0050"));
+    }
+}
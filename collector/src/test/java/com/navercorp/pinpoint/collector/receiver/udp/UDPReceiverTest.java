@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.collector.util.ObjectPool;
 import com.navercorp.pinpoint.collector.util.ObjectPoolFactory;
 import org.apache.hadoop.hbase.shaded.org.apache.commons.io.IOUtils;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
@@ -35,6 +36,8 @@ import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -166,6 +169,53 @@ public class UDPReceiverTest {
         }
     }
 
+    @Test
+    public void reusePort() throws Exception {
+        Assume.assumeTrue(UDPReceiver.isReusePortSupported());
+
+        final int socketCount = 4;
+        final int packetCount = 10;
+        UDPReceiver receiver = null;
+        DatagramSocket datagramSocket = null;
+
+        CountDownLatch latch = new CountDownLatch(packetCount);
+        Executor mockExecutor = mockDispatchWorker(latch);
+
+        PacketHandlerFactory packetHandlerFactory = mock(PacketHandlerFactory.class);
+        when(packetHandlerFactory.createPacketHandler()).thenReturn(loggingPacketHandler);
+        try {
+            InetSocketAddress bindAddress = new InetSocketAddress(ADDRESS, PORT);
+            ObjectPoolFactory<DatagramPacket> packetFactory = new DatagramPacketFactory();
+            List<ObjectPool<DatagramPacket>> pools = new ArrayList<>();
+            for (int i = 0; i < socketCount; i++) {
+                pools.add(new DefaultObjectPool<>(packetFactory, 10));
+            }
+            receiver = new UDPReceiver("test", packetHandlerFactory, mockExecutor, 1024, bindAddress, pools);
+            receiver.start();
+            Assert.assertTrue(receiver.isReusePort());
+
+            datagramSocket = new DatagramSocket();
+            datagramSocket.connect(new InetSocketAddress(ADDRESS, PORT));
+            for (int i = 0; i < packetCount; i++) {
+                datagramSocket.send(new DatagramPacket(new byte[1], 1));
+            }
+
+            Assert.assertTrue(latch.await(30000, TimeUnit.MILLISECONDS));
+            List<UDPSocketMetric> socketMetrics = receiver.getSocketMetrics();
+            Assert.assertEquals(socketCount, socketMetrics.size());
+            long receivedCount = 0;
+            for (UDPSocketMetric socketMetric : socketMetrics) {
+                receivedCount += socketMetric.getReceivedCount();
+            }
+            Assert.assertEquals(packetCount, receivedCount);
+        } finally {
+            if (receiver != null) {
+                receiver.shutdown();
+            }
+            IOUtils.closeQuietly(datagramSocket);
+        }
+    }
+
     private Executor mockDispatchWorker(CountDownLatch latch) {
 
         Executor mockWorker = new Executor() {
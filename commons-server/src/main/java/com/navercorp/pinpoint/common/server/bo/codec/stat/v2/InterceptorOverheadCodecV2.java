@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatDataPointCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnalyzer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedIntegerEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedLongEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatDecodingContext;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component("interceptorOverheadCodecV2")
+public class InterceptorOverheadCodecV2 implements AgentStatCodec<InterceptorOverheadListBo> {
+
+    private static final byte VERSION = 2;
+
+    private final AgentStatDataPointCodec codec;
+
+    @Autowired
+    public InterceptorOverheadCodecV2(AgentStatDataPointCodec codec) {
+        Assert.notNull(codec, "agentStatDataPointCodec must not be null");
+        this.codec = codec;
+    }
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void encodeValues(Buffer valueBuffer, List<InterceptorOverheadListBo> interceptorOverheadListBos) {
+        if (CollectionUtils.isEmpty(interceptorOverheadListBos)) {
+            throw new IllegalArgumentException("interceptorOverheadListBos must not be empty");
+        }
+        final int numValues = interceptorOverheadListBos.size();
+        valueBuffer.putVInt(numValues);
+
+        for (InterceptorOverheadListBo interceptorOverheadListBo : interceptorOverheadListBos) {
+            encodeInterceptorOverheadListBo(valueBuffer, interceptorOverheadListBo);
+        }
+    }
+
+    private void encodeInterceptorOverheadListBo(Buffer valueBuffer, InterceptorOverheadListBo interceptorOverheadListBo) {
+        final int numValues = interceptorOverheadListBo.size();
+        valueBuffer.putVInt(numValues);
+
+        if (numValues == 0) {
+            return;
+        }
+
+        // pluginNameId         // int
+        // interceptorNameId    // int
+        // sampledCount         // long
+        // sampledTime          // long
+        // sampleRate           // int
+        List<Long> startTimestamps = new ArrayList<Long>(numValues);
+        List<Long> timestamps = new ArrayList<Long>(numValues);
+
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder pluginNameIdAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder interceptorNameIdAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedLongEncodingStrategy.Analyzer.Builder sampledCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        UnsignedLongEncodingStrategy.Analyzer.Builder sampledTimeAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder sampleRateAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+
+        for (InterceptorOverheadBo interceptorOverheadBo : interceptorOverheadListBo.getList()) {
+            startTimestamps.add(interceptorOverheadBo.getStartTimestamp());
+            timestamps.add(interceptorOverheadBo.getTimestamp());
+
+            pluginNameIdAnalyzerBuilder.addValue(interceptorOverheadBo.getPluginNameId());
+            interceptorNameIdAnalyzerBuilder.addValue(interceptorOverheadBo.getInterceptorNameId());
+            sampledCountAnalyzerBuilder.addValue(interceptorOverheadBo.getSampledCount());
+            sampledTimeAnalyzerBuilder.addValue(interceptorOverheadBo.getSampledTime());
+            sampleRateAnalyzerBuilder.addValue(interceptorOverheadBo.getSampleRate());
+        }
+        this.codec.encodeValues(valueBuffer, UnsignedLongEncodingStrategy.REPEAT_COUNT, startTimestamps);
+        this.codec.encodeTimestamps(valueBuffer, timestamps);
+        this.encodeDataPoints(valueBuffer, pluginNameIdAnalyzerBuilder.build(), interceptorNameIdAnalyzerBuilder.build(),
+                sampledCountAnalyzerBuilder.build(), sampledTimeAnalyzerBuilder.build(), sampleRateAnalyzerBuilder.build());
+    }
+
+    private void encodeDataPoints(Buffer valueBuffer, StrategyAnalyzer<Integer> pluginNameIdAnalyzer, StrategyAnalyzer<Integer> interceptorNameIdAnalyzer,
+                                  StrategyAnalyzer<Long> sampledCountAnalyzer, StrategyAnalyzer<Long> sampledTimeAnalyzer,
+                                  StrategyAnalyzer<Integer> sampleRateAnalyzer) {
+        // encode header
+        AgentStatHeaderEncoder headerEncoder = new BitCountingHeaderEncoder();
+        headerEncoder.addCode(pluginNameIdAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(interceptorNameIdAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(sampledCountAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(sampledTimeAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(sampleRateAnalyzer.getBestStrategy().getCode());
+
+        final byte[] header = headerEncoder.getHeader();
+        valueBuffer.putPrefixedBytes(header);
+
+        // encode values
+        this.codec.encodeValues(valueBuffer, pluginNameIdAnalyzer.getBestStrategy(), pluginNameIdAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, interceptorNameIdAnalyzer.getBestStrategy(), interceptorNameIdAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, sampledCountAnalyzer.getBestStrategy(), sampledCountAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, sampledTimeAnalyzer.getBestStrategy(), sampledTimeAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, sampleRateAnalyzer.getBestStrategy(), sampleRateAnalyzer.getValues());
+    }
+
+    @Override
+    public List<InterceptorOverheadListBo> decodeValues(Buffer valueBuffer, AgentStatDecodingContext decodingContext) {
+        int numValues = valueBuffer.readVInt();
+
+        List<InterceptorOverheadListBo> interceptorOverheadListBos = new ArrayList<InterceptorOverheadListBo>(numValues);
+        for (int i = 0; i < numValues; i++) {
+            InterceptorOverheadListBo interceptorOverheadListBo = decodeValue(valueBuffer, decodingContext);
+            interceptorOverheadListBos.add(interceptorOverheadListBo);
+        }
+        return interceptorOverheadListBos;
+    }
+
+    private InterceptorOverheadListBo decodeValue(Buffer valueBuffer, AgentStatDecodingContext decodingContext) {
+        final String agentId = decodingContext.getAgentId();
+        final long baseTimestamp = decodingContext.getBaseTimestamp();
+        final long timestampDelta = decodingContext.getTimestampDelta();
+        final long initialTimestamp = baseTimestamp + timestampDelta;
+
+        int numValues = valueBuffer.readVInt();
+
+        InterceptorOverheadListBo interceptorOverheadListBo = new InterceptorOverheadListBo();
+        if (numValues == 0) {
+            return interceptorOverheadListBo;
+        }
+
+        List<Long> startTimestamps = this.codec.decodeValues(valueBuffer, UnsignedLongEncodingStrategy.REPEAT_COUNT, numValues);
+        List<Long> timestamps = this.codec.decodeTimestamps(initialTimestamp, valueBuffer, numValues);
+
+        // decode headers
+        final byte[] header = valueBuffer.readPrefixedBytes();
+        AgentStatHeaderDecoder headerDecoder = new BitCountingHeaderDecoder(header);
+
+        EncodingStrategy<Integer> pluginNameIdEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> interceptorNameIdEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Long> sampledCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Long> sampledTimeEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> sampleRateEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+
+        List<Integer> pluginNameIds = this.codec.decodeValues(valueBuffer, pluginNameIdEncodingStrategy, numValues);
+        List<Integer> interceptorNameIds = this.codec.decodeValues(valueBuffer, interceptorNameIdEncodingStrategy, numValues);
+        List<Long> sampledCounts = this.codec.decodeValues(valueBuffer, sampledCountEncodingStrategy, numValues);
+        List<Long> sampledTimes = this.codec.decodeValues(valueBuffer, sampledTimeEncodingStrategy, numValues);
+        List<Integer> sampleRates = this.codec.decodeValues(valueBuffer, sampleRateEncodingStrategy, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            if (i == 0) {
+                interceptorOverheadListBo.setAgentId(agentId);
+                interceptorOverheadListBo.setTimestamp(timestamps.get(i));
+                interceptorOverheadListBo.setStartTimestamp(startTimestamps.get(i));
+            }
+
+            InterceptorOverheadBo interceptorOverheadBo = new InterceptorOverheadBo();
+            interceptorOverheadBo.setAgentId(agentId);
+            interceptorOverheadBo.setStartTimestamp(startTimestamps.get(i));
+            interceptorOverheadBo.setTimestamp(timestamps.get(i));
+
+            interceptorOverheadBo.setPluginNameId(pluginNameIds.get(i));
+            interceptorOverheadBo.setInterceptorNameId(interceptorNameIds.get(i));
+            interceptorOverheadBo.setSampledCount(sampledCounts.get(i));
+            interceptorOverheadBo.setSampledTime(sampledTimes.get(i));
+            interceptorOverheadBo.setSampleRate(sampleRates.get(i));
+            interceptorOverheadListBo.add(interceptorOverheadBo);
+        }
+        return interceptorOverheadListBo;
+    }
+
+}
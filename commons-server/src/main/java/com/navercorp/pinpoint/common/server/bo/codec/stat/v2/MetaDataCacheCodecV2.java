@@ -0,0 +1,253 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatDataPointCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.CodecFactory;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnalyzer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedLongEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+@Component("metaDataCacheCodecV2")
+public class MetaDataCacheCodecV2 extends AgentStatCodecV2<MetaDataCacheBo> {
+
+    @Autowired
+    public MetaDataCacheCodecV2(AgentStatDataPointCodec codec) {
+        super(new MetaDataCacheCodecFactory(codec));
+    }
+
+
+    private static class MetaDataCacheCodecFactory implements CodecFactory<MetaDataCacheBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private MetaDataCacheCodecFactory(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public AgentStatDataPointCodec getCodec() {
+            return codec;
+        }
+
+        @Override
+        public CodecEncoder<MetaDataCacheBo> createCodecEncoder() {
+            return new MetaDataCacheCodecEncoder(codec);
+        }
+
+        @Override
+        public CodecDecoder<MetaDataCacheBo> createCodecDecoder() {
+            return new MetaDataCacheCodecDecoder(codec);
+        }
+    }
+
+    public static class MetaDataCacheCodecEncoder implements CodecEncoder<MetaDataCacheBo> {
+
+        private final AgentStatDataPointCodec codec;
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder sqlHitCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder sqlMissCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder sqlEvictionCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder sqlResendCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder sqlCapacityAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder apiHitCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder apiMissCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder apiEvictionCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder apiResendCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder apiCapacityAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder stringHitCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder stringMissCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder stringEvictionCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder stringResendCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder stringCapacityAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+
+        public MetaDataCacheCodecEncoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void addValue(MetaDataCacheBo metaDataCacheBo) {
+            sqlHitCountAnalyzerBuilder.addValue(metaDataCacheBo.getSqlHitCount());
+            sqlMissCountAnalyzerBuilder.addValue(metaDataCacheBo.getSqlMissCount());
+            sqlEvictionCountAnalyzerBuilder.addValue(metaDataCacheBo.getSqlEvictionCount());
+            sqlResendCountAnalyzerBuilder.addValue(metaDataCacheBo.getSqlResendCount());
+            sqlCapacityAnalyzerBuilder.addValue(metaDataCacheBo.getSqlCapacity());
+            apiHitCountAnalyzerBuilder.addValue(metaDataCacheBo.getApiHitCount());
+            apiMissCountAnalyzerBuilder.addValue(metaDataCacheBo.getApiMissCount());
+            apiEvictionCountAnalyzerBuilder.addValue(metaDataCacheBo.getApiEvictionCount());
+            apiResendCountAnalyzerBuilder.addValue(metaDataCacheBo.getApiResendCount());
+            apiCapacityAnalyzerBuilder.addValue(metaDataCacheBo.getApiCapacity());
+            stringHitCountAnalyzerBuilder.addValue(metaDataCacheBo.getStringHitCount());
+            stringMissCountAnalyzerBuilder.addValue(metaDataCacheBo.getStringMissCount());
+            stringEvictionCountAnalyzerBuilder.addValue(metaDataCacheBo.getStringEvictionCount());
+            stringResendCountAnalyzerBuilder.addValue(metaDataCacheBo.getStringResendCount());
+            stringCapacityAnalyzerBuilder.addValue(metaDataCacheBo.getStringCapacity());
+        }
+
+        @Override
+        public void encode(Buffer valueBuffer) {
+            StrategyAnalyzer<Long> sqlHitCountStrategyAnalyzer = sqlHitCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> sqlMissCountStrategyAnalyzer = sqlMissCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> sqlEvictionCountStrategyAnalyzer = sqlEvictionCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> sqlResendCountStrategyAnalyzer = sqlResendCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> sqlCapacityStrategyAnalyzer = sqlCapacityAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> apiHitCountStrategyAnalyzer = apiHitCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> apiMissCountStrategyAnalyzer = apiMissCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> apiEvictionCountStrategyAnalyzer = apiEvictionCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> apiResendCountStrategyAnalyzer = apiResendCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> apiCapacityStrategyAnalyzer = apiCapacityAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> stringHitCountStrategyAnalyzer = stringHitCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> stringMissCountStrategyAnalyzer = stringMissCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> stringEvictionCountStrategyAnalyzer = stringEvictionCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> stringResendCountStrategyAnalyzer = stringResendCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> stringCapacityStrategyAnalyzer = stringCapacityAnalyzerBuilder.build();
+
+            // encode header
+            AgentStatHeaderEncoder headerEncoder = new BitCountingHeaderEncoder();
+            headerEncoder.addCode(sqlHitCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(sqlMissCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(sqlEvictionCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(sqlResendCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(sqlCapacityStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(apiHitCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(apiMissCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(apiEvictionCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(apiResendCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(apiCapacityStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(stringHitCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(stringMissCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(stringEvictionCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(stringResendCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(stringCapacityStrategyAnalyzer.getBestStrategy().getCode());
+
+            final byte[] header = headerEncoder.getHeader();
+            valueBuffer.putPrefixedBytes(header);
+            // encode values
+            this.codec.encodeValues(valueBuffer, sqlHitCountStrategyAnalyzer.getBestStrategy(), sqlHitCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, sqlMissCountStrategyAnalyzer.getBestStrategy(), sqlMissCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, sqlEvictionCountStrategyAnalyzer.getBestStrategy(), sqlEvictionCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, sqlResendCountStrategyAnalyzer.getBestStrategy(), sqlResendCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, sqlCapacityStrategyAnalyzer.getBestStrategy(), sqlCapacityStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, apiHitCountStrategyAnalyzer.getBestStrategy(), apiHitCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, apiMissCountStrategyAnalyzer.getBestStrategy(), apiMissCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, apiEvictionCountStrategyAnalyzer.getBestStrategy(), apiEvictionCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, apiResendCountStrategyAnalyzer.getBestStrategy(), apiResendCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, apiCapacityStrategyAnalyzer.getBestStrategy(), apiCapacityStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, stringHitCountStrategyAnalyzer.getBestStrategy(), stringHitCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, stringMissCountStrategyAnalyzer.getBestStrategy(), stringMissCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, stringEvictionCountStrategyAnalyzer.getBestStrategy(), stringEvictionCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, stringResendCountStrategyAnalyzer.getBestStrategy(), stringResendCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, stringCapacityStrategyAnalyzer.getBestStrategy(), stringCapacityStrategyAnalyzer.getValues());
+        }
+
+    }
+
+    public static class MetaDataCacheCodecDecoder implements CodecDecoder<MetaDataCacheBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private List<Long> sqlHitCount;
+        private List<Long> sqlMissCount;
+        private List<Long> sqlEvictionCount;
+        private List<Long> sqlResendCount;
+        private List<Long> sqlCapacity;
+        private List<Long> apiHitCount;
+        private List<Long> apiMissCount;
+        private List<Long> apiEvictionCount;
+        private List<Long> apiResendCount;
+        private List<Long> apiCapacity;
+        private List<Long> stringHitCount;
+        private List<Long> stringMissCount;
+        private List<Long> stringEvictionCount;
+        private List<Long> stringResendCount;
+        private List<Long> stringCapacity;
+
+        public MetaDataCacheCodecDecoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void decode(Buffer valueBuffer, AgentStatHeaderDecoder headerDecoder, int valueSize) {
+            EncodingStrategy<Long> sqlHitCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> sqlMissCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> sqlEvictionCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> sqlResendCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> sqlCapacityEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> apiHitCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> apiMissCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> apiEvictionCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> apiResendCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> apiCapacityEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> stringHitCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> stringMissCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> stringEvictionCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> stringResendCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> stringCapacityEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            // decode values
+            this.sqlHitCount = this.codec.decodeValues(valueBuffer, sqlHitCountEncodingStrategy, valueSize);
+            this.sqlMissCount = this.codec.decodeValues(valueBuffer, sqlMissCountEncodingStrategy, valueSize);
+            this.sqlEvictionCount = this.codec.decodeValues(valueBuffer, sqlEvictionCountEncodingStrategy, valueSize);
+            this.sqlResendCount = this.codec.decodeValues(valueBuffer, sqlResendCountEncodingStrategy, valueSize);
+            this.sqlCapacity = this.codec.decodeValues(valueBuffer, sqlCapacityEncodingStrategy, valueSize);
+            this.apiHitCount = this.codec.decodeValues(valueBuffer, apiHitCountEncodingStrategy, valueSize);
+            this.apiMissCount = this.codec.decodeValues(valueBuffer, apiMissCountEncodingStrategy, valueSize);
+            this.apiEvictionCount = this.codec.decodeValues(valueBuffer, apiEvictionCountEncodingStrategy, valueSize);
+            this.apiResendCount = this.codec.decodeValues(valueBuffer, apiResendCountEncodingStrategy, valueSize);
+            this.apiCapacity = this.codec.decodeValues(valueBuffer, apiCapacityEncodingStrategy, valueSize);
+            this.stringHitCount = this.codec.decodeValues(valueBuffer, stringHitCountEncodingStrategy, valueSize);
+            this.stringMissCount = this.codec.decodeValues(valueBuffer, stringMissCountEncodingStrategy, valueSize);
+            this.stringEvictionCount = this.codec.decodeValues(valueBuffer, stringEvictionCountEncodingStrategy, valueSize);
+            this.stringResendCount = this.codec.decodeValues(valueBuffer, stringResendCountEncodingStrategy, valueSize);
+            this.stringCapacity = this.codec.decodeValues(valueBuffer, stringCapacityEncodingStrategy, valueSize);
+        }
+
+        @Override
+        public MetaDataCacheBo getValue(int index) {
+            MetaDataCacheBo metaDataCacheBo = new MetaDataCacheBo();
+            metaDataCacheBo.setSqlHitCount(sqlHitCount.get(index));
+            metaDataCacheBo.setSqlMissCount(sqlMissCount.get(index));
+            metaDataCacheBo.setSqlEvictionCount(sqlEvictionCount.get(index));
+            metaDataCacheBo.setSqlResendCount(sqlResendCount.get(index));
+            metaDataCacheBo.setSqlCapacity(sqlCapacity.get(index));
+            metaDataCacheBo.setApiHitCount(apiHitCount.get(index));
+            metaDataCacheBo.setApiMissCount(apiMissCount.get(index));
+            metaDataCacheBo.setApiEvictionCount(apiEvictionCount.get(index));
+            metaDataCacheBo.setApiResendCount(apiResendCount.get(index));
+            metaDataCacheBo.setApiCapacity(apiCapacity.get(index));
+            metaDataCacheBo.setStringHitCount(stringHitCount.get(index));
+            metaDataCacheBo.setStringMissCount(stringMissCount.get(index));
+            metaDataCacheBo.setStringEvictionCount(stringEvictionCount.get(index));
+            metaDataCacheBo.setStringResendCount(stringResendCount.get(index));
+            metaDataCacheBo.setStringCapacity(stringCapacity.get(index));
+            return metaDataCacheBo;
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.stat;
+
+import com.navercorp.pinpoint.common.server.bo.codec.stat.InterceptorOverheadEncoder;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InterceptorOverheadSerializer extends AgentStatSerializer<InterceptorOverheadListBo> {
+
+    @Autowired
+    public InterceptorOverheadSerializer(InterceptorOverheadEncoder interceptorOverheadEncoder) {
+        super(interceptorOverheadEncoder);
+    }
+}
@@ -37,6 +37,8 @@ public class AgentStatBo {
     private List<DeadlockBo> deadlockBos;
     private List<FileDescriptorBo> fileDescriptorBos;
     private List<DirectBufferBo> directBufferBos;
+    private List<MetaDataCacheBo> metaDataCacheBos;
+    private List<InterceptorOverheadListBo> interceptorOverheadListBos;
 
     public long getStartTimestamp() {
         return startTimestamp;
@@ -130,6 +132,22 @@ public class AgentStatBo {
 
     public void setDirectBufferBos(List<DirectBufferBo> directBufferBos) { this.directBufferBos = directBufferBos; }
 
+    public List<MetaDataCacheBo> getMetaDataCacheBos() {
+        return metaDataCacheBos;
+    }
+
+    public void setMetaDataCacheBos(List<MetaDataCacheBo> metaDataCacheBos) {
+        this.metaDataCacheBos = metaDataCacheBos;
+    }
+
+    public List<InterceptorOverheadListBo> getInterceptorOverheadListBos() {
+        return interceptorOverheadListBos;
+    }
+
+    public void setInterceptorOverheadListBos(List<InterceptorOverheadListBo> interceptorOverheadListBos) {
+        this.interceptorOverheadListBos = interceptorOverheadListBos;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("AgentStatBo{");
@@ -144,6 +162,8 @@ public class AgentStatBo {
         sb.append(", deadlockBos=").append(deadlockBos);
         sb.append(", fileDescriptorBos=").append(fileDescriptorBos);
         sb.append(", directBufferBos=").append(directBufferBos);
+        sb.append(", metaDataCacheBos=").append(metaDataCacheBos);
+        sb.append(", interceptorOverheadListBos=").append(interceptorOverheadListBos);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+/**
+ * Sampled interceptor call count and time of one plugin interceptor for a collection interval.
+ * plugin and interceptor names are string metadata ids, sampledTime is in microseconds.
+ */
+public class InterceptorOverheadBo implements AgentStatDataPoint {
+
+    public static final int UNCOLLECTED_ID = -1;
+    public static final long UNCOLLECTED_VALUE = -1;
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    private int pluginNameId = UNCOLLECTED_ID;
+    private int interceptorNameId = UNCOLLECTED_ID;
+    private long sampledCount = UNCOLLECTED_VALUE;
+    private long sampledTime = UNCOLLECTED_VALUE;
+    private int sampleRate = 1;
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.INTERCEPTOR_OVERHEAD;
+    }
+
+    public int getPluginNameId() {
+        return pluginNameId;
+    }
+
+    public void setPluginNameId(int pluginNameId) {
+        this.pluginNameId = pluginNameId;
+    }
+
+    public int getInterceptorNameId() {
+        return interceptorNameId;
+    }
+
+    public void setInterceptorNameId(int interceptorNameId) {
+        this.interceptorNameId = interceptorNameId;
+    }
+
+    public long getSampledCount() {
+        return sampledCount;
+    }
+
+    public void setSampledCount(long sampledCount) {
+        this.sampledCount = sampledCount;
+    }
+
+    public long getSampledTime() {
+        return sampledTime;
+    }
+
+    public void setSampledTime(long sampledTime) {
+        this.sampledTime = sampledTime;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        InterceptorOverheadBo that = (InterceptorOverheadBo) o;
+
+        if (startTimestamp != that.startTimestamp) return false;
+        if (timestamp != that.timestamp) return false;
+        if (pluginNameId != that.pluginNameId) return false;
+        if (interceptorNameId != that.interceptorNameId) return false;
+        if (sampledCount != that.sampledCount) return false;
+        if (sampledTime != that.sampledTime) return false;
+        if (sampleRate != that.sampleRate) return false;
+        return agentId != null ? agentId.equals(that.agentId) : that.agentId == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId != null ? agentId.hashCode() : 0;
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        result = 31 * result + pluginNameId;
+        result = 31 * result + interceptorNameId;
+        result = 31 * result + (int) (sampledCount ^ (sampledCount >>> 32));
+        result = 31 * result + (int) (sampledTime ^ (sampledTime >>> 32));
+        result = 31 * result + sampleRate;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("InterceptorOverheadBo{");
+        sb.append("agentId='").append(agentId).append('\'');
+        sb.append(", startTimestamp=").append(startTimestamp);
+        sb.append(", timestamp=").append(timestamp);
+        sb.append(", pluginNameId=").append(pluginNameId);
+        sb.append(", interceptorNameId=").append(interceptorNameId);
+        sb.append(", sampledCount=").append(sampledCount);
+        sb.append(", sampledTime=").append(sampledTime);
+        sb.append(", sampleRate=").append(sampleRate);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterceptorOverheadListBo implements AgentStatDataPointList<InterceptorOverheadBo> {
+
+    private final List<InterceptorOverheadBo> interceptorOverheadBoList = new ArrayList<InterceptorOverheadBo>();
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.INTERCEPTOR_OVERHEAD;
+    }
+
+    @Override
+    public boolean add(InterceptorOverheadBo element) {
+        return interceptorOverheadBoList.add(element);
+    }
+
+    @Override
+    public boolean remove(InterceptorOverheadBo element) {
+        return interceptorOverheadBoList.remove(element);
+    }
+
+    @Override
+    public int size() {
+        if (interceptorOverheadBoList == null) {
+            return 0;
+        }
+
+        return interceptorOverheadBoList.size();
+    }
+
+    @Override
+    public List<InterceptorOverheadBo> getList() {
+        return new ArrayList<InterceptorOverheadBo>(interceptorOverheadBoList);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        InterceptorOverheadListBo that = (InterceptorOverheadListBo) o;
+
+        if (startTimestamp != that.startTimestamp) return false;
+        if (timestamp != that.timestamp) return false;
+        if (interceptorOverheadBoList != null ? !interceptorOverheadBoList.equals(that.interceptorOverheadBoList) : that.interceptorOverheadBoList != null) return false;
+        return agentId != null ? agentId.equals(that.agentId) : that.agentId == null;
+
+    }
+
+    @Override
+    public int hashCode() {
+        int result = interceptorOverheadBoList != null ? interceptorOverheadBoList.hashCode() : 0;
+        result = 31 * result + (agentId != null ? agentId.hashCode() : 0);
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("InterceptorOverheadListBo{");
+        sb.append("interceptorOverheadBoList=").append(interceptorOverheadBoList);
+        sb.append(", agentId='").append(agentId).append('\'');
+        sb.append(", startTimestamp=").append(startTimestamp);
+        sb.append(", timestamp=").append(timestamp);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+/**
+ * Hit, miss, eviction and resend counts of the agent metadata caches for a collection interval.
+ */
+public class MetaDataCacheBo implements AgentStatDataPoint {
+
+    public static final long UNCOLLECTED_VALUE = -1;
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    private long sqlHitCount = UNCOLLECTED_VALUE;
+    private long sqlMissCount = UNCOLLECTED_VALUE;
+    private long sqlEvictionCount = UNCOLLECTED_VALUE;
+    private long sqlResendCount = UNCOLLECTED_VALUE;
+    private long sqlCapacity = UNCOLLECTED_VALUE;
+
+    private long apiHitCount = UNCOLLECTED_VALUE;
+    private long apiMissCount = UNCOLLECTED_VALUE;
+    private long apiEvictionCount = UNCOLLECTED_VALUE;
+    private long apiResendCount = UNCOLLECTED_VALUE;
+    private long apiCapacity = UNCOLLECTED_VALUE;
+
+    private long stringHitCount = UNCOLLECTED_VALUE;
+    private long stringMissCount = UNCOLLECTED_VALUE;
+    private long stringEvictionCount = UNCOLLECTED_VALUE;
+    private long stringResendCount = UNCOLLECTED_VALUE;
+    private long stringCapacity = UNCOLLECTED_VALUE;
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.META_DATA_CACHE;
+    }
+
+    public long getSqlHitCount() {
+        return sqlHitCount;
+    }
+
+    public void setSqlHitCount(long sqlHitCount) {
+        this.sqlHitCount = sqlHitCount;
+    }
+
+    public long getSqlMissCount() {
+        return sqlMissCount;
+    }
+
+    public void setSqlMissCount(long sqlMissCount) {
+        this.sqlMissCount = sqlMissCount;
+    }
+
+    public long getSqlEvictionCount() {
+        return sqlEvictionCount;
+    }
+
+    public void setSqlEvictionCount(long sqlEvictionCount) {
+        this.sqlEvictionCount = sqlEvictionCount;
+    }
+
+    public long getSqlResendCount() {
+        return sqlResendCount;
+    }
+
+    public void setSqlResendCount(long sqlResendCount) {
+        this.sqlResendCount = sqlResendCount;
+    }
+
+    public long getSqlCapacity() {
+        return sqlCapacity;
+    }
+
+    public void setSqlCapacity(long sqlCapacity) {
+        this.sqlCapacity = sqlCapacity;
+    }
+
+    public long getApiHitCount() {
+        return apiHitCount;
+    }
+
+    public void setApiHitCount(long apiHitCount) {
+        this.apiHitCount = apiHitCount;
+    }
+
+    public long getApiMissCount() {
+        return apiMissCount;
+    }
+
+    public void setApiMissCount(long apiMissCount) {
+        this.apiMissCount = apiMissCount;
+    }
+
+    public long getApiEvictionCount() {
+        return apiEvictionCount;
+    }
+
+    public void setApiEvictionCount(long apiEvictionCount) {
+        this.apiEvictionCount = apiEvictionCount;
+    }
+
+    public long getApiResendCount() {
+        return apiResendCount;
+    }
+
+    public void setApiResendCount(long apiResendCount) {
+        this.apiResendCount = apiResendCount;
+    }
+
+    public long getApiCapacity() {
+        return apiCapacity;
+    }
+
+    public void setApiCapacity(long apiCapacity) {
+        this.apiCapacity = apiCapacity;
+    }
+
+    public long getStringHitCount() {
+        return stringHitCount;
+    }
+
+    public void setStringHitCount(long stringHitCount) {
+        this.stringHitCount = stringHitCount;
+    }
+
+    public long getStringMissCount() {
+        return stringMissCount;
+    }
+
+    public void setStringMissCount(long stringMissCount) {
+        this.stringMissCount = stringMissCount;
+    }
+
+    public long getStringEvictionCount() {
+        return stringEvictionCount;
+    }
+
+    public void setStringEvictionCount(long stringEvictionCount) {
+        this.stringEvictionCount = stringEvictionCount;
+    }
+
+    public long getStringResendCount() {
+        return stringResendCount;
+    }
+
+    public void setStringResendCount(long stringResendCount) {
+        this.stringResendCount = stringResendCount;
+    }
+
+    public long getStringCapacity() {
+        return stringCapacity;
+    }
+
+    public void setStringCapacity(long stringCapacity) {
+        this.stringCapacity = stringCapacity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MetaDataCacheBo that = (MetaDataCacheBo) o;
+
+        if (startTimestamp != that.startTimestamp) return false;
+        if (timestamp != that.timestamp) return false;
+        if (sqlHitCount != that.sqlHitCount) return false;
+        if (sqlMissCount != that.sqlMissCount) return false;
+        if (sqlEvictionCount != that.sqlEvictionCount) return false;
+        if (sqlResendCount != that.sqlResendCount) return false;
+        if (sqlCapacity != that.sqlCapacity) return false;
+        if (apiHitCount != that.apiHitCount) return false;
+        if (apiMissCount != that.apiMissCount) return false;
+        if (apiEvictionCount != that.apiEvictionCount) return false;
+        if (apiResendCount != that.apiResendCount) return false;
+        if (apiCapacity != that.apiCapacity) return false;
+        if (stringHitCount != that.stringHitCount) return false;
+        if (stringMissCount != that.stringMissCount) return false;
+        if (stringEvictionCount != that.stringEvictionCount) return false;
+        if (stringResendCount != that.stringResendCount) return false;
+        if (stringCapacity != that.stringCapacity) return false;
+        return agentId != null ? agentId.equals(that.agentId) : that.agentId == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId != null ? agentId.hashCode() : 0;
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        result = 31 * result + (int) (sqlHitCount ^ (sqlHitCount >>> 32));
+        result = 31 * result + (int) (sqlMissCount ^ (sqlMissCount >>> 32));
+        result = 31 * result + (int) (sqlEvictionCount ^ (sqlEvictionCount >>> 32));
+        result = 31 * result + (int) (sqlResendCount ^ (sqlResendCount >>> 32));
+        result = 31 * result + (int) (sqlCapacity ^ (sqlCapacity >>> 32));
+        result = 31 * result + (int) (apiHitCount ^ (apiHitCount >>> 32));
+        result = 31 * result + (int) (apiMissCount ^ (apiMissCount >>> 32));
+        result = 31 * result + (int) (apiEvictionCount ^ (apiEvictionCount >>> 32));
+        result = 31 * result + (int) (apiResendCount ^ (apiResendCount >>> 32));
+        result = 31 * result + (int) (apiCapacity ^ (apiCapacity >>> 32));
+        result = 31 * result + (int) (stringHitCount ^ (stringHitCount >>> 32));
+        result = 31 * result + (int) (stringMissCount ^ (stringMissCount >>> 32));
+        result = 31 * result + (int) (stringEvictionCount ^ (stringEvictionCount >>> 32));
+        result = 31 * result + (int) (stringResendCount ^ (stringResendCount >>> 32));
+        result = 31 * result + (int) (stringCapacity ^ (stringCapacity >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MetaDataCacheBo{" +
+                "agentId='" + agentId + '\'' +
+                ", startTimestamp=" + startTimestamp +
+                ", timestamp=" + timestamp +
+                ", sqlHitCount=" + sqlHitCount +
+                ", sqlMissCount=" + sqlMissCount +
+                ", sqlEvictionCount=" + sqlEvictionCount +
+                ", sqlResendCount=" + sqlResendCount +
+                ", sqlCapacity=" + sqlCapacity +
+                ", apiHitCount=" + apiHitCount +
+                ", apiMissCount=" + apiMissCount +
+                ", apiEvictionCount=" + apiEvictionCount +
+                ", apiResendCount=" + apiResendCount +
+                ", apiCapacity=" + apiCapacity +
+                ", stringHitCount=" + stringHitCount +
+                ", stringMissCount=" + stringMissCount +
+                ", stringEvictionCount=" + stringEvictionCount +
+                ", stringResendCount=" + stringResendCount +
+                ", stringCapacity=" + stringCapacity +
+                '}';
+    }
+}
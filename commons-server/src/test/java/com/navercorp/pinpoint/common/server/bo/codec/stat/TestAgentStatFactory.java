@@ -394,6 +394,74 @@ public class TestAgentStatFactory {
         }
         return directBufferBos;
     }
+
+    public static List<MetaDataCacheBo> createMetaDataCacheBos(String agentId, long startTimestamp, long initialTimestamp) {
+        final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+        return createMetaDataCacheBos(agentId, startTimestamp, initialTimestamp, numValues);
+    }
+
+    public static List<MetaDataCacheBo> createMetaDataCacheBos(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        List<MetaDataCacheBo> metaDataCacheBos = new ArrayList<MetaDataCacheBo>(numValues);
+        List<Long> startTimestamps = createStartTimestamps(startTimestamp, numValues);
+        List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
+        List<Long> hitCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 100000L, numValues);
+        List<Long> missCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 1000L, numValues);
+        List<Long> evictionCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 1000L, numValues);
+        List<Long> resendCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 100L, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            MetaDataCacheBo metaDataCacheBo = new MetaDataCacheBo();
+            metaDataCacheBo.setStartTimestamp(startTimestamps.get(i));
+            metaDataCacheBo.setAgentId(agentId);
+            metaDataCacheBo.setTimestamp(timestamps.get(i));
+            metaDataCacheBo.setSqlHitCount(hitCounts.get(i));
+            metaDataCacheBo.setSqlMissCount(missCounts.get(i));
+            metaDataCacheBo.setSqlEvictionCount(evictionCounts.get(i));
+            metaDataCacheBo.setSqlResendCount(resendCounts.get(i));
+            metaDataCacheBo.setSqlCapacity(1024);
+            metaDataCacheBo.setApiHitCount(hitCounts.get(i) / 2);
+            metaDataCacheBo.setApiMissCount(missCounts.get(i) / 2);
+            metaDataCacheBo.setApiCapacity(1024);
+            // string cache not collected
+            metaDataCacheBos.add(metaDataCacheBo);
+        }
+        return metaDataCacheBos;
+    }
+
+    public static List<InterceptorOverheadListBo> createInterceptorOverheadListBos(String agentId, long startTimestamp, long initialTimestamp) {
+        final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+        return createInterceptorOverheadListBos(agentId, startTimestamp, initialTimestamp, numValues);
+    }
+
+    public static List<InterceptorOverheadListBo> createInterceptorOverheadListBos(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        List<InterceptorOverheadListBo> interceptorOverheadListBos = new ArrayList<InterceptorOverheadListBo>(numValues);
+        List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            InterceptorOverheadListBo interceptorOverheadListBo = new InterceptorOverheadListBo();
+            interceptorOverheadListBo.setAgentId(agentId);
+            interceptorOverheadListBo.setStartTimestamp(startTimestamp);
+            interceptorOverheadListBo.setTimestamp(timestamps.get(i));
+
+            int interceptorCount = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+            for (int j = 0; j < interceptorCount; j++) {
+                InterceptorOverheadBo interceptorOverheadBo = new InterceptorOverheadBo();
+                interceptorOverheadBo.setAgentId(agentId);
+                interceptorOverheadBo.setStartTimestamp(startTimestamp);
+                interceptorOverheadBo.setTimestamp(timestamps.get(i));
+
+                interceptorOverheadBo.setPluginNameId(j / 4 + 1);
+                interceptorOverheadBo.setInterceptorNameId(j + 100);
+                interceptorOverheadBo.setSampledCount(RandomUtils.nextInt(1, 10000));
+                interceptorOverheadBo.setSampledTime(RandomUtils.nextInt(1, 1000000));
+                interceptorOverheadBo.setSampleRate(100);
+                interceptorOverheadListBo.add(interceptorOverheadBo);
+            }
+            interceptorOverheadListBos.add(interceptorOverheadListBo);
+        }
+        return interceptorOverheadListBos;
+    }
+
     private static List<Long> createStartTimestamps(long startTimestamp, int numValues) {
         return TestAgentStatDataPointFactory.LONG.createConstantValues(startTimestamp, startTimestamp, numValues);
     }
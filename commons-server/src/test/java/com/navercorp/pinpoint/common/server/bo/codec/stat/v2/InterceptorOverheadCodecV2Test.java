@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodecTestBase;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.TestAgentStatFactory;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.InterceptorOverheadListBo;
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.List;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:applicationContext-test.xml")
+public class InterceptorOverheadCodecV2Test extends AgentStatCodecTestBase<InterceptorOverheadListBo> {
+
+    @Autowired
+    private InterceptorOverheadCodecV2 interceptorOverheadCodecV2;
+
+    @Override
+    protected List<InterceptorOverheadListBo> createAgentStats(String agentId, long startTimestamp, long initialTimestamp) {
+        return TestAgentStatFactory.createInterceptorOverheadListBos(agentId, startTimestamp, initialTimestamp);
+    }
+
+    @Override
+    protected AgentStatCodec<InterceptorOverheadListBo> getCodec() {
+        return interceptorOverheadCodecV2;
+    }
+
+    @Override
+    protected void verify(InterceptorOverheadListBo expected, InterceptorOverheadListBo actual) {
+        Assert.assertEquals("agentId", expected.getAgentId(), actual.getAgentId());
+        Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
+        Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
+        Assert.assertEquals(expected.size(), actual.size());
+
+        List<InterceptorOverheadBo> expectedInterceptorOverheadList = expected.getList();
+        List<InterceptorOverheadBo> actualInterceptorOverheadList = actual.getList();
+
+        for (int i = 0; i < expectedInterceptorOverheadList.size(); i++) {
+            verify(expectedInterceptorOverheadList.get(i), actualInterceptorOverheadList.get(i));
+        }
+    }
+
+    private void verify(InterceptorOverheadBo expected, InterceptorOverheadBo actual) {
+        Assert.assertEquals("agentId", expected.getAgentId(), actual.getAgentId());
+        Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
+        Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
+
+        Assert.assertEquals("pluginNameId", expected.getPluginNameId(), actual.getPluginNameId());
+        Assert.assertEquals("interceptorNameId", expected.getInterceptorNameId(), actual.getInterceptorNameId());
+        Assert.assertEquals("sampledCount", expected.getSampledCount(), actual.getSampledCount());
+        Assert.assertEquals("sampledTime", expected.getSampledTime(), actual.getSampledTime());
+        Assert.assertEquals("sampleRate", expected.getSampleRate(), actual.getSampleRate());
+    }
+
+}
+
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodecTestBase;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.TestAgentStatFactory;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.List;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:applicationContext-test.xml")
+public class MetaDataCacheCodecV2Test extends AgentStatCodecTestBase<MetaDataCacheBo> {
+
+    @Autowired
+    private MetaDataCacheCodecV2 metaDataCacheCodecV2;
+
+    @Override
+    protected List<MetaDataCacheBo> createAgentStats(String agentId, long startTimestamp, long initialTimestamp) {
+        return TestAgentStatFactory.createMetaDataCacheBos(agentId, startTimestamp, initialTimestamp);
+    }
+
+    @Override
+    protected AgentStatCodec<MetaDataCacheBo> getCodec() {
+        return metaDataCacheCodecV2;
+    }
+
+    @Override
+    protected void verify(MetaDataCacheBo expected, MetaDataCacheBo actual) {
+        Assert.assertEquals("agentId", expected.getAgentId(), actual.getAgentId());
+        Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
+        Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
+        Assert.assertEquals("agentStatType", expected.getAgentStatType(), actual.getAgentStatType());
+        Assert.assertEquals("sqlHitCount", expected.getSqlHitCount(), actual.getSqlHitCount());
+        Assert.assertEquals("sqlMissCount", expected.getSqlMissCount(), actual.getSqlMissCount());
+        Assert.assertEquals("sqlEvictionCount", expected.getSqlEvictionCount(), actual.getSqlEvictionCount());
+        Assert.assertEquals("sqlResendCount", expected.getSqlResendCount(), actual.getSqlResendCount());
+        Assert.assertEquals("sqlCapacity", expected.getSqlCapacity(), actual.getSqlCapacity());
+        Assert.assertEquals("apiHitCount", expected.getApiHitCount(), actual.getApiHitCount());
+        Assert.assertEquals("apiMissCount", expected.getApiMissCount(), actual.getApiMissCount());
+        Assert.assertEquals("apiEvictionCount", expected.getApiEvictionCount(), actual.getApiEvictionCount());
+        Assert.assertEquals("apiResendCount", expected.getApiResendCount(), actual.getApiResendCount());
+        Assert.assertEquals("apiCapacity", expected.getApiCapacity(), actual.getApiCapacity());
+        Assert.assertEquals("stringHitCount", expected.getStringHitCount(), actual.getStringHitCount());
+        Assert.assertEquals("stringMissCount", expected.getStringMissCount(), actual.getStringMissCount());
+        Assert.assertEquals("stringEvictionCount", expected.getStringEvictionCount(), actual.getStringEvictionCount());
+        Assert.assertEquals("stringResendCount", expected.getStringResendCount(), actual.getStringResendCount());
+        Assert.assertEquals("stringCapacity", expected.getStringCapacity(), actual.getStringCapacity());
+    }
+}
@@ -98,6 +98,8 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.*;
  * <tr><td>201</td><td>cxf.args</td></tr>
  * <tr><td>300</td><td>PROXY_HTTP_HEADER</td></tr>
  * <tr><td>310</td><td>REDIS.IO</td></tr>
+ * <tr><td>330</td><td>repeat.count</td></tr>
+ * <tr><td>331</td><td>repeat.elapsed</td></tr>
  * <tr><td>9000</td><td>gson.json.length</td></tr>
  * <tr><td>9001</td><td>jackson.json.length</td></tr>
  * <tr><td>9002</td><td>json-lib.json.length</td></tr>
@@ -209,4 +211,9 @@ public interface AnnotationKey {
 
     AnnotationKey PROXY_HTTP_HEADER = AnnotationKeyFactory.of(300, "PROXY_HTTP_HEADER", VIEW_IN_RECORD_SET);
     AnnotationKey REDIS_IO = AnnotationKeyFactory.of(310, "redis.io");
+
+    // repeated SpanEvents folded into one by the agent
+    AnnotationKey REPEAT_COUNT = AnnotationKeyFactory.of(330, "repeat.count", VIEW_IN_RECORD_SET);
+    // LongIntIntByteByteStringValue. sum, min, max of the elapsed time
+    AnnotationKey REPEAT_ELAPSED = AnnotationKeyFactory.of(331, "repeat.elapsed", VIEW_IN_RECORD_SET);
 }
@@ -0,0 +1,568 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+/**
+ * Single pass sql normalizer with reusable buffers. The normalized sql and the parameters are the same as
+ * {@link DefaultSqlParser#normalizedSql(String)}, so {@link DefaultSqlParser#combineOutputParams(String, java.util.List)}
+ * restores the original sql.
+ * <p>
+ * A 64-bit fingerprint of the normalized sql is calculated without creating the normalized String.
+ * Callers that cache by fingerprint only need {@link #getNormalizedSql()} for new statements.
+ * <p>
+ * With collapseList, variable length lists are merged into one parameter so that they share one normalized sql.
+ * <pre>
+ * IN (1, 2, 3)               -&gt; IN (0#)           parameter: 1,, 2,, 3
+ * IN ('a', 'b')              -&gt; IN ('0$')         parameter: a',, 'b
+ * IN (?, ?, ?)               -&gt; IN (0#)           parameter: ?,, ?,, ?
+ * VALUES (1, 'a'), (2, 'b')  -&gt; VALUES (0#, '1$'), 2#  parameter: 1,a,(2,, 'b')
+ * </pre>
+ * Caution. not thread safe
+ */
+public class StreamingSqlNormalizer {
+
+    private static final int NEXT_TOKEN_NOT_EXIST = -1;
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+    // do not keep the buffer of a huge statement
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 16;
+
+    private static final int ELEMENT_NUMBER = 1;
+    private static final int ELEMENT_SYMBOL = 2;
+    private static final int ELEMENT_BIND = 3;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final boolean collapseList;
+
+    private StringBuilder normalized = new StringBuilder(DEFAULT_BUFFER_SIZE);
+    private StringBuilder output = new StringBuilder(DEFAULT_BUFFER_SIZE);
+
+    private CharSequence sql;
+    private boolean changed;
+    private int replaceIndex;
+    private long fingerprint;
+
+    public StreamingSqlNormalizer() {
+        this(false);
+    }
+
+    public StreamingSqlNormalizer(boolean collapseList) {
+        this.collapseList = collapseList;
+    }
+
+    /**
+     * @return true if the sql has been changed
+     */
+    public boolean normalize(final CharSequence sql) {
+        if (sql == null) {
+            throw new NullPointerException("sql must not be null");
+        }
+        reset(sql);
+
+        final StringBuilder normalized = this.normalized;
+        final int length = sql.length();
+        boolean numberTokenStartEnable = true;
+        // closing parenthesis of the first tuple of VALUES
+        int valuesTupleEnd = NEXT_TOKEN_NOT_EXIST;
+        for (int i = 0; i < length; i++) {
+            final char ch = sql.charAt(i);
+            switch (ch) {
+                // COMMENT start check
+                case '/':
+                    final int lookAhead1Char = lookAhead1(sql, i);
+                    // multi line comment and oracle hint /*+ */
+                    if (lookAhead1Char == '*') {
+                        normalized.append("/*");
+                        i += 2;
+                        for (; i < length; i++) {
+                            char stateCh = sql.charAt(i);
+                            if (stateCh == '*') {
+                                if (lookAhead1(sql, i) == '/') {
+                                    normalized.append("*/");
+                                    i++;
+                                    break;
+                                }
+                            }
+                            normalized.append(stateCh);
+                        }
+                        break;
+                        // single line comment
+                    } else if (lookAhead1Char == '/') {
+                        normalized.append("//");
+                        i += 2;
+                        i = readLine(sql, i);
+                        break;
+                    } else {
+                        // unary operator
+                        numberTokenStartEnable = true;
+                        normalized.append(ch);
+                        break;
+                    }
+                case '-':
+                    // single line comment state
+                    if (lookAhead1(sql, i) == '-') {
+                        normalized.append("--");
+                        i += 2;
+                        i = readLine(sql, i);
+                        break;
+                    } else {
+                        // unary operator
+                        numberTokenStartEnable = true;
+                        normalized.append(ch);
+                        break;
+                    }
+
+                    // SYMBOL start check
+                case '\'':
+                    // empty symbol
+                    if (lookAhead1(sql, i) == '\'') {
+                        normalized.append("''");
+                        i += 2;
+                        break;
+                    } else {
+                        this.changed = true;
+                        normalized.append('\'');
+                        i++;
+                        appendOutputSeparator();
+                        for (; i < length; i++) {
+                            char stateCh = sql.charAt(i);
+                            if (stateCh == '\'') {
+                                // a consecutive ' is the same as \'
+                                if (lookAhead1(sql, i) == '\'') {
+                                    i++;
+                                    output.append("''");
+                                    continue;
+                                } else {
+                                    normalized.append(replaceIndex++);
+                                    normalized.append(DefaultSqlParser.SYMBOL_REPLACE);
+                                    normalized.append('\'');
+                                    break;
+                                }
+                            }
+                            appendOutputParam(stateCh);
+                        }
+                        break;
+                    }
+
+                    // number start check
+                case '0':
+                case '1':
+                case '2':
+                case '3':
+                case '4':
+                case '5':
+                case '6':
+                case '7':
+                case '8':
+                case '9':
+                    if (numberTokenStartEnable) {
+                        this.changed = true;
+                        normalized.append(replaceIndex++);
+                        normalized.append(DefaultSqlParser.NUMBER_REPLACE);
+                        // number token start
+                        appendOutputSeparator();
+                        final int end = skipNumber(sql, i);
+                        output.append(sql, i, end);
+                        i = end - 1;
+                        break;
+                    } else {
+                        normalized.append(ch);
+                        break;
+                    }
+
+                    // empty space
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    // http://msdn.microsoft.com/en-us/library/ms174986.aspx
+                case '*':
+                case '+':
+                case '%':
+                case '=':
+                case '<':
+                case '>':
+                case '&':
+                case '|':
+                case '^':
+                case '~':
+                case '!':
+                case ',':
+                case ';':
+                    numberTokenStartEnable = true;
+                    normalized.append(ch);
+                    break;
+
+                case '(':
+                    numberTokenStartEnable = true;
+                    if (collapseList) {
+                        if (isPrecededBy(sql, i, "IN")) {
+                            final int listEnd = collapseList(sql, i);
+                            if (listEnd != NEXT_TOKEN_NOT_EXIST) {
+                                i = listEnd;
+                                break;
+                            }
+                        } else if (isPrecededBy(sql, i, "VALUES")) {
+                            valuesTupleEnd = findTupleEnd(sql, i);
+                        }
+                    }
+                    normalized.append(ch);
+                    break;
+
+                case ')':
+                    numberTokenStartEnable = true;
+                    normalized.append(ch);
+                    if (i == valuesTupleEnd) {
+                        valuesTupleEnd = NEXT_TOKEN_NOT_EXIST;
+                        i = collapseTuples(sql, i);
+                    }
+                    break;
+
+                case '.':
+                case '_':
+                case '@': // Assignment Operator
+                case ':': // Oracle's bind variable is possible with :bindvalue
+                    numberTokenStartEnable = false;
+                    normalized.append(ch);
+                    break;
+
+                default:
+                    if (ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z') {
+                        numberTokenStartEnable = false;
+                    } else {
+                        numberTokenStartEnable = true;
+                    }
+                    normalized.append(ch);
+                    break;
+            }
+        }
+
+        this.fingerprint = fingerprint(changed ? normalized : sql);
+        return changed;
+    }
+
+    private void reset(final CharSequence sql) {
+        if (normalized.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            this.normalized = new StringBuilder(DEFAULT_BUFFER_SIZE);
+        } else {
+            this.normalized.setLength(0);
+        }
+        if (output.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            this.output = new StringBuilder(DEFAULT_BUFFER_SIZE);
+        } else {
+            this.output.setLength(0);
+        }
+        this.sql = sql;
+        this.changed = false;
+        this.replaceIndex = 0;
+        this.fingerprint = 0;
+    }
+
+    /**
+     * IN (1, 2, 3), IN ('a', 'b'), IN (?, ?)
+     * @return index of the closing parenthesis. NEXT_TOKEN_NOT_EXIST if the list can not be collapsed.
+     */
+    private int collapseList(final CharSequence sql, final int open) {
+        final int length = sql.length();
+        int kind = 0;
+        int count = 0;
+        int first = NEXT_TOKEN_NOT_EXIST;
+        int last = NEXT_TOKEN_NOT_EXIST;
+        int i = open + 1;
+        while (true) {
+            i = skipWhitespace(sql, i);
+            if (i >= length) {
+                return NEXT_TOKEN_NOT_EXIST;
+            }
+            final char ch = sql.charAt(i);
+            final int elementKind;
+            final int contentStart;
+            final int contentEnd;
+            final int next;
+            if (ch >= '0' && ch <= '9') {
+                elementKind = ELEMENT_NUMBER;
+                contentStart = i;
+                contentEnd = skipNumber(sql, i);
+                next = contentEnd;
+            } else if (ch == '\'') {
+                elementKind = ELEMENT_SYMBOL;
+                contentStart = i + 1;
+                contentEnd = findSymbolEnd(sql, contentStart);
+                if (contentEnd == NEXT_TOKEN_NOT_EXIST) {
+                    return NEXT_TOKEN_NOT_EXIST;
+                }
+                next = contentEnd + 1;
+            } else if (ch == '?') {
+                elementKind = ELEMENT_BIND;
+                contentStart = i;
+                contentEnd = i + 1;
+                next = contentEnd;
+            } else {
+                return NEXT_TOKEN_NOT_EXIST;
+            }
+
+            if (kind == 0) {
+                kind = elementKind;
+                first = contentStart;
+            } else if (kind != elementKind) {
+                // mixed list. the restored sql would be broken
+                return NEXT_TOKEN_NOT_EXIST;
+            }
+            last = contentEnd;
+            count++;
+
+            i = skipWhitespace(sql, next);
+            if (i >= length) {
+                return NEXT_TOKEN_NOT_EXIST;
+            }
+            final char separator = sql.charAt(i);
+            if (separator == ')') {
+                break;
+            }
+            if (separator != ',') {
+                return NEXT_TOKEN_NOT_EXIST;
+            }
+            i++;
+        }
+        if (count < 2) {
+            return NEXT_TOKEN_NOT_EXIST;
+        }
+
+        this.changed = true;
+        normalized.append('(');
+        if (kind == ELEMENT_SYMBOL) {
+            normalized.append('\'').append(replaceIndex++).append(DefaultSqlParser.SYMBOL_REPLACE).append('\'');
+        } else {
+            normalized.append(replaceIndex++).append(DefaultSqlParser.NUMBER_REPLACE);
+        }
+        normalized.append(')');
+        appendOutputSeparator();
+        appendOutputParam(sql, first, last);
+        return i;
+    }
+
+    /**
+     * VALUES (1, 'a'), (2, 'b'), (3, 'c'). the tuples after the first one become one parameter.
+     * @return index of the last consumed character
+     */
+    private int collapseTuples(final CharSequence sql, final int firstTupleEnd) {
+        final int secondTupleStart = nextTupleStart(sql, firstTupleEnd);
+        if (secondTupleStart == NEXT_TOKEN_NOT_EXIST) {
+            return firstTupleEnd;
+        }
+        int end = findTupleEnd(sql, secondTupleStart);
+        if (end == NEXT_TOKEN_NOT_EXIST) {
+            return firstTupleEnd;
+        }
+        while (true) {
+            final int tupleStart = nextTupleStart(sql, end);
+            if (tupleStart == NEXT_TOKEN_NOT_EXIST) {
+                break;
+            }
+            final int tupleEnd = findTupleEnd(sql, tupleStart);
+            if (tupleEnd == NEXT_TOKEN_NOT_EXIST) {
+                break;
+            }
+            end = tupleEnd;
+        }
+
+        this.changed = true;
+        // separator between the first and the second tuple. e.g. ", "
+        normalized.append(sql, firstTupleEnd + 1, secondTupleStart);
+        normalized.append(replaceIndex++).append(DefaultSqlParser.NUMBER_REPLACE);
+        appendOutputSeparator();
+        appendOutputParam(sql, secondTupleStart, end + 1);
+        return end;
+    }
+
+    private static int nextTupleStart(final CharSequence sql, final int tupleEnd) {
+        final int length = sql.length();
+        final int comma = skipWhitespace(sql, tupleEnd + 1);
+        if (comma >= length || sql.charAt(comma) != ',') {
+            return NEXT_TOKEN_NOT_EXIST;
+        }
+        final int open = skipWhitespace(sql, comma + 1);
+        if (open >= length || sql.charAt(open) != '(') {
+            return NEXT_TOKEN_NOT_EXIST;
+        }
+        return open;
+    }
+
+    /**
+     * @return index of the matching closing parenthesis
+     */
+    private static int findTupleEnd(final CharSequence sql, final int open) {
+        final int length = sql.length();
+        int depth = 0;
+        for (int i = open; i < length; i++) {
+            final char ch = sql.charAt(i);
+            if (ch == '(') {
+                depth++;
+            } else if (ch == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            } else if (ch == '\'') {
+                i = findSymbolEnd(sql, i + 1);
+                if (i == NEXT_TOKEN_NOT_EXIST) {
+                    return NEXT_TOKEN_NOT_EXIST;
+                }
+            }
+        }
+        return NEXT_TOKEN_NOT_EXIST;
+    }
+
+    /**
+     * @return index of the closing quote
+     */
+    private static int findSymbolEnd(final CharSequence sql, final int start) {
+        final int length = sql.length();
+        for (int i = start; i < length; i++) {
+            if (sql.charAt(i) == '\'') {
+                if (lookAhead1(sql, i) == '\'') {
+                    i++;
+                    continue;
+                }
+                return i;
+            }
+        }
+        return NEXT_TOKEN_NOT_EXIST;
+    }
+
+    private static int skipNumber(final CharSequence sql, final int start) {
+        final int length = sql.length();
+        int i = start;
+        for (; i < length; i++) {
+            final char ch = sql.charAt(i);
+            if (!(ch >= '0' && ch <= '9' || ch == '.' || ch == 'E' || ch == 'e')) {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(final CharSequence sql, final int start) {
+        final int length = sql.length();
+        int i = start;
+        while (i < length && Character.isWhitespace(sql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isPrecededBy(final CharSequence sql, final int index, final String keyword) {
+        int end = index;
+        while (end > 0 && Character.isWhitespace(sql.charAt(end - 1))) {
+            end--;
+        }
+        final int start = end - keyword.length();
+        if (start < 0) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (Character.toUpperCase(sql.charAt(start + i)) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        if (start == 0) {
+            return true;
+        }
+        final char before = sql.charAt(start - 1);
+        return !(Character.isLetterOrDigit(before) || before == '_' || before == '.' || before == '@' || before == ':');
+    }
+
+    private int readLine(final CharSequence sql, int index) {
+        final int length = sql.length();
+        for (; index < length; index++) {
+            final char ch = sql.charAt(index);
+            normalized.append(ch);
+            if (ch == '\n') {
+                break;
+            }
+        }
+        return index;
+    }
+
+    private void appendOutputSeparator() {
+        if (output.length() == 0) {
+            // first parameter
+            return;
+        }
+        output.append(DefaultSqlParser.SEPARATOR);
+    }
+
+    private void appendOutputParam(final char ch) {
+        if (ch == DefaultSqlParser.SEPARATOR) {
+            output.append(DefaultSqlParser.SEPARATOR).append(DefaultSqlParser.SEPARATOR);
+        } else {
+            output.append(ch);
+        }
+    }
+
+    private void appendOutputParam(final CharSequence sql, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            appendOutputParam(sql.charAt(i));
+        }
+    }
+
+    private static int lookAhead1(final CharSequence sql, int index) {
+        index++;
+        if (index < sql.length()) {
+            return sql.charAt(index);
+        } else {
+            return NEXT_TOKEN_NOT_EXIST;
+        }
+    }
+
+    // FNV-1a 64
+    private static long fingerprint(final CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * creates the normalized sql. the original sql is reused if not changed.
+     */
+    public String getNormalizedSql() {
+        if (!changed) {
+            return sql.toString();
+        }
+        return normalized.toString();
+    }
+
+    public String getParseParameter() {
+        if (output.length() == 0) {
+            return "";
+        }
+        return output.toString();
+    }
+}
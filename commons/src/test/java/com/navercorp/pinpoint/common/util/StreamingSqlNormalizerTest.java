@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class StreamingSqlNormalizerTest {
+
+    private final SqlParser sqlParser = new DefaultSqlParser();
+    private final OutputParameterParser outputParameterParser = new OutputParameterParser();
+
+    private static final String[] SQL_LIST = {
+            "select * from table a = 1 and b=50 and c=? and d='11'",
+            "select * from table a = -1 and b=-50 and c=? and d='-11'",
+            "select * from table a = 1.0 and b=5e3 and c='a,b' and d='it''s'",
+            "select * from dual",
+            "select * from table /* comment 1 */ where a = '' -- 2\n and b = 3 // 4\n",
+            "/*+ INDEX(a) */ select a1 from table1 where id in (1, 2, 3)",
+            "select @a:=1, :bind1, table.c3 from table",
+            "''",
+            " ",
+            "select 'unclosed",
+    };
+
+    @Test
+    public void normalize_sameAsDefaultSqlParser() {
+        StreamingSqlNormalizer normalizer = new StreamingSqlNormalizer();
+        for (String sql : SQL_LIST) {
+            NormalizedSql expected = sqlParser.normalizedSql(sql);
+
+            normalizer.normalize(sql);
+            Assert.assertEquals(sql, expected.getNormalizedSql(), normalizer.getNormalizedSql());
+            Assert.assertEquals(sql, expected.getParseParameter(), normalizer.getParseParameter());
+        }
+    }
+
+    @Test
+    public void fingerprint() {
+        StreamingSqlNormalizer normalizer = new StreamingSqlNormalizer();
+        normalizer.normalize("select * from table where a = 1");
+        final long fingerprint = normalizer.getFingerprint();
+
+        normalizer.normalize("select * from table where a = 2");
+        Assert.assertEquals(fingerprint, normalizer.getFingerprint());
+
+        normalizer.normalize("select * from table where b = 1");
+        Assert.assertNotEquals(fingerprint, normalizer.getFingerprint());
+    }
+
+    @Test
+    public void collapseList() {
+        StreamingSqlNormalizer normalizer = new StreamingSqlNormalizer(true);
+
+        assertCollapse(normalizer, "select * from t where id in (1, 2, 3)", "select * from t where id in (0#)", "1,, 2,, 3");
+        assertCollapse(normalizer, "select * from t where id IN(4,5)", "select * from t where id IN(0#)", "4,,5");
+        assertCollapse(normalizer, "select * from t where a = 1 and name in ('a', 'b,c', 'it''s')",
+                "select * from t where a = 0# and name in ('1$')", "1,a',, 'b,,c',, 'it''s");
+        assertCollapse(normalizer, "select * from t where id not in (?, ?, ?) and a = ?",
+                "select * from t where id not in (0#) and a = ?", "?,, ?,, ?");
+        assertCollapse(normalizer, "insert into t (a, b) values (1, 'a'), (2, 'b'), (3, 'c')",
+                "insert into t (a, b) values (0#, '1$'), 2#", "1,a,(2,, 'b'),, (3,, 'c')");
+    }
+
+    @Test
+    public void collapseList_sameFingerprint() {
+        StreamingSqlNormalizer normalizer = new StreamingSqlNormalizer(true);
+        normalizer.normalize("select * from t where id in (1, 2)");
+        final long fingerprint = normalizer.getFingerprint();
+
+        normalizer.normalize("select * from t where id in (1, 2, 3, 4, 5, 6)");
+        Assert.assertEquals(fingerprint, normalizer.getFingerprint());
+
+        normalizer.normalize("insert into t values (?, ?), (?, ?)");
+        final long valuesFingerprint = normalizer.getFingerprint();
+        normalizer.normalize("insert into t values (?, ?), (?, ?), (?, ?)");
+        Assert.assertEquals(valuesFingerprint, normalizer.getFingerprint());
+    }
+
+    @Test
+    public void collapseList_notCollapsed() {
+        StreamingSqlNormalizer normalizer = new StreamingSqlNormalizer(true);
+        // single element, mixed elements, expressions and function arguments keep the default normalization
+        final String[] sqlList = {
+                "select * from t where id in (1)",
+                "select * from t where id in (1, 'a')",
+                "select * from t where id in (select id from t2)",
+                "select * from t where id in (a, b)",
+                "select substr(name, 1, 3) from t",
+                "insert into t values (1, 2)",
+        };
+        for (String sql : sqlList) {
+            NormalizedSql expected = sqlParser.normalizedSql(sql);
+
+            normalizer.normalize(sql);
+            Assert.assertEquals(sql, expected.getNormalizedSql(), normalizer.getNormalizedSql());
+            Assert.assertEquals(sql, expected.getParseParameter(), normalizer.getParseParameter());
+        }
+    }
+
+    private void assertCollapse(StreamingSqlNormalizer normalizer, String sql, String expectedSql, String expectedParameter) {
+        Assert.assertTrue(normalizer.normalize(sql));
+        Assert.assertEquals(expectedSql, normalizer.getNormalizedSql());
+        Assert.assertEquals(expectedParameter, normalizer.getParseParameter());
+
+        // restore
+        List<String> outputParams = outputParameterParser.parseOutputParameter(normalizer.getParseParameter());
+        Assert.assertEquals(sql, sqlParser.combineOutputParams(normalizer.getNormalizedSql(), outputParams));
+    }
+}
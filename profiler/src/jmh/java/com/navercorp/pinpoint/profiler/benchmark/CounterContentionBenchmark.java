@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+import com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.BlockIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
+import com.navercorp.pinpoint.profiler.sampler.SamplingRateSampler;
+import com.navercorp.pinpoint.profiler.sampler.StripedSamplingRateSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the shared counters on the trace start path as the number of threads grows.
+ * <pre>
+ * mvn -P jmh test-compile
+ * java -cp target/classes:target/test-classes:(test classpath) com.navercorp.pinpoint.profiler.benchmark.CounterContentionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterContentionBenchmark {
+
+    private static final int SAMPLING_RATE = 20;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    private final IdGenerator atomicIdGenerator = new AtomicIdGenerator();
+    private final IdGenerator blockIdGenerator = new BlockIdGenerator();
+
+    private final Sampler samplingRateSampler = new SamplingRateSampler(SAMPLING_RATE);
+    private final Sampler stripedSamplingRateSampler = new StripedSamplingRateSampler(SAMPLING_RATE);
+
+    @Benchmark
+    public long atomicIdGenerator() {
+        return atomicIdGenerator.nextTransactionId();
+    }
+
+    @Benchmark
+    public long blockIdGenerator() {
+        return blockIdGenerator.nextTransactionId();
+    }
+
+    @Benchmark
+    public boolean samplingRateSampler() {
+        return samplingRateSampler.isSampling();
+    }
+
+    @Benchmark
+    public boolean stripedSamplingRateSampler() {
+        return stripedSamplingRateSampler.isSampling();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threadCount : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(CounterContentionBenchmark.class.getSimpleName())
+                    .threads(threadCount)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
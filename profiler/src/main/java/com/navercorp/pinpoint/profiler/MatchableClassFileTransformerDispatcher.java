@@ -19,12 +19,15 @@ package com.navercorp.pinpoint.profiler;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.bootstrap.instrument.DynamicTransformTrigger;
 import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
 import com.navercorp.pinpoint.profiler.instrument.InstrumentEngine;
 import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadata;
 import com.navercorp.pinpoint.profiler.instrument.classreading.InternalClassMetadataReader;
 import com.navercorp.pinpoint.profiler.instrument.transformer.DebugTransformerRegistry;
+import com.navercorp.pinpoint.profiler.instrument.transformer.EmptyUnmatchedClassCache;
 import com.navercorp.pinpoint.profiler.instrument.transformer.MatchableTransformerRegistry;
 import com.navercorp.pinpoint.profiler.instrument.transformer.TransformerRegistry;
+import com.navercorp.pinpoint.profiler.instrument.transformer.UnmatchedClassCache;
 import com.navercorp.pinpoint.profiler.plugin.MatchableClassFileTransformer;
 import com.navercorp.pinpoint.profiler.plugin.PluginContextLoadResult;
 import org.slf4j.Logger;
@@ -33,6 +36,9 @@ import org.slf4j.LoggerFactory;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.security.ProtectionDomain;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author jaehong.kim
@@ -57,14 +63,21 @@ public class MatchableClassFileTransformerDispatcher implements ClassFileTransfo
 
     public MatchableClassFileTransformerDispatcher(ProfilerConfig profilerConfig, PluginContextLoadResult pluginContextLoadResult, InstrumentEngine instrumentEngine,
                                                    DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry) {
+        this(profilerConfig, pluginContextLoadResult, instrumentEngine, dynamicTransformTrigger, dynamicTransformerRegistry, EmptyUnmatchedClassCache.INSTANCE);
+    }
+
+    public MatchableClassFileTransformerDispatcher(ProfilerConfig profilerConfig, PluginContextLoadResult pluginContextLoadResult, InstrumentEngine instrumentEngine,
+                                                   DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry,
+                                                   UnmatchedClassCache unmatchedClassCache) {
         Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
         Assert.requireNonNull(pluginContextLoadResult, "pluginContexts must not be null");
         Assert.requireNonNull(instrumentEngine, "instrumentEngine must not be null");
         Assert.requireNonNull(dynamicTransformerRegistry, "dynamicTransformerRegistry must not be null");
+        Assert.requireNonNull(unmatchedClassCache, "unmatchedClassCache must not be null");
 
         this.baseClassFileTransformer = new BaseClassFileTransformer(agentClassLoader);
         this.debugTransformerRegistry = new DebugTransformerRegistry(profilerConfig, instrumentEngine, dynamicTransformTrigger);
-        this.transformerRegistry = createTransformerRegistry(pluginContextLoadResult, profilerConfig);
+        this.transformerRegistry = createTransformerRegistry(pluginContextLoadResult, profilerConfig, unmatchedClassCache);
         this.dynamicTransformerRegistry = dynamicTransformerRegistry;
 
         this.classLoaderFilter = new PinpointClassLoaderFilter(agentClassLoader);
@@ -131,8 +144,8 @@ public class MatchableClassFileTransformerDispatcher implements ClassFileTransfo
         return baseClassFileTransformer.transform(classLoader, internalName, classBeingRedefined, protectionDomain, classFileBuffer, transformer);
     }
 
-    private TransformerRegistry createTransformerRegistry(PluginContextLoadResult pluginContexts, final ProfilerConfig profilerConfig) {
-        final MatchableTransformerRegistry registry = new MatchableTransformerRegistry(profilerConfig);
+    private TransformerRegistry createTransformerRegistry(PluginContextLoadResult pluginContexts, final ProfilerConfig profilerConfig, final UnmatchedClassCache unmatchedClassCache) {
+        final MatchableTransformerRegistry registry = new MatchableTransformerRegistry(profilerConfig, unmatchedClassCache);
         for (ClassFileTransformer transformer : pluginContexts.getClassFileTransformer()) {
             if (transformer instanceof MatchableClassFileTransformer) {
                 MatchableClassFileTransformer t = (MatchableClassFileTransformer) transformer;
@@ -153,6 +166,25 @@ public class MatchableClassFileTransformerDispatcher implements ClassFileTransfo
             }
         }
 
+        scheduleMatchingTimeReport(registry, profilerConfig.getInstrumentMatcherReportDelay());
         return registry;
     }
+
+    private void scheduleMatchingTimeReport(final MatchableTransformerRegistry registry, final long delayMillis) {
+        if (delayMillis <= 0) {
+            return;
+        }
+
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-matcher-report", true));
+        executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    logger.info(registry.getMatchingTimeReport());
+                } finally {
+                    executor.shutdown();
+                }
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
 }
\ No newline at end of file
@@ -37,6 +37,7 @@ public class AsyncChildTrace implements Trace {
     private final boolean sampling;
 
     private final CallStack callStack;
+    private final SpanEventFactory spanEventFactory;
 
     private final Storage storage;
 
@@ -55,9 +56,15 @@ public class AsyncChildTrace implements Trace {
 
     public AsyncChildTrace(final TraceRoot traceRoot, CallStack callStack, Storage storage, AsyncContextFactory asyncContextFactory, boolean sampling,
                              SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder, final int asyncId, final short asyncSequence) {
+        this(traceRoot, callStack, new DefaultSpanEventFactory(), storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, asyncId, asyncSequence);
+    }
+
+    public AsyncChildTrace(final TraceRoot traceRoot, CallStack callStack, SpanEventFactory spanEventFactory, Storage storage, AsyncContextFactory asyncContextFactory, boolean sampling,
+                             SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder, final int asyncId, final short asyncSequence) {
 
         this.traceRoot = Assert.requireNonNull(traceRoot, "traceRoot must not be null");
         this.callStack = Assert.requireNonNull(callStack, "callStack must not be null");
+        this.spanEventFactory = Assert.requireNonNull(spanEventFactory, "spanEventFactory must not be null");
         this.storage = Assert.requireNonNull(storage, "storage must not be null");
         this.asyncContextFactory = Assert.requireNonNull(asyncContextFactory, "asyncContextFactory must not be null");
         this.sampling = sampling;
@@ -120,17 +127,17 @@ public class AsyncChildTrace implements Trace {
             if (isWarn) {
                 stackDump("already closed trace");
             }
-            final SpanEvent dummy = newSpanEvent(stackId);
+            // never stored. not recycled
+            final SpanEvent dummy = initSpanEvent(new SpanEvent(traceRoot), stackId);
             return dummy;
         }
         // Set properties for the case when stackFrame is not used as part of Span.
-        final SpanEvent spanEvent = newSpanEvent(stackId);
+        final SpanEvent spanEvent = initSpanEvent(spanEventFactory.newSpanEvent(traceRoot), stackId);
         this.callStack.push(spanEvent);
         return spanEvent;
     }
 
-    private SpanEvent newSpanEvent(int stackId) {
-        final SpanEvent spanEvent = new SpanEvent(traceRoot);
+    private SpanEvent initSpanEvent(SpanEvent spanEvent, int stackId) {
         spanEvent.markStartTime();
         spanEvent.setStackId(stackId);
         return spanEvent;
@@ -250,7 +257,7 @@ public class AsyncChildTrace implements Trace {
         }
 
         this.storage.close();
-
+        this.callStack.close();
     }
 
 
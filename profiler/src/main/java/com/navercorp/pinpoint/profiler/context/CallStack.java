@@ -33,4 +33,9 @@ public interface CallStack {
     SpanEvent[] copyStackFrame();
 
     int getMaxDepth();
+
+    /**
+     * releases the stack frame. the call stack is empty afterwards
+     */
+    void close();
 }
@@ -33,6 +33,7 @@ import com.navercorp.pinpoint.profiler.context.recorder.RecorderFactory;
 import com.navercorp.pinpoint.profiler.context.recorder.WrappedSpanEventRecorder;
 import com.navercorp.pinpoint.profiler.context.storage.Storage;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
+import com.navercorp.pinpoint.profiler.context.storage.TailSamplingStorageFactory;
 
 
 /**
@@ -42,6 +43,7 @@ import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
 public class DefaultBaseTraceFactory implements BaseTraceFactory {
 
     private final CallStackFactory callStackFactory;
+    private final SpanEventFactory spanEventFactory;
 
     private final StorageFactory storageFactory;
     private final Sampler sampler;
@@ -56,13 +58,28 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
 
     private final ActiveTraceRepository activeTraceRepository;
 
+    // null if tail sampling is disabled
+    private final TailSamplingStorageFactory tailSamplingStorageFactory;
 
-    public DefaultBaseTraceFactory(TraceRootFactory traceRootFactory, CallStackFactory callStackFactory, StorageFactory storageFactory,
+
+    public DefaultBaseTraceFactory(TraceRootFactory traceRootFactory, CallStackFactory callStackFactory, SpanEventFactory spanEventFactory, StorageFactory storageFactory,
                                    Sampler sampler, IdGenerator idGenerator, AsyncContextFactory asyncContextFactory,
                                    SpanFactory spanFactory, RecorderFactory recorderFactory, ActiveTraceRepository activeTraceRepository) {
+        this(traceRootFactory, callStackFactory, spanEventFactory, storageFactory, sampler, idGenerator, asyncContextFactory,
+                spanFactory, recorderFactory, activeTraceRepository, null);
+    }
+
+    /**
+     * @param tailSamplingStorageFactory records the traces not sampled by the sampler and keeps the slow or failed ones. nullable
+     */
+    public DefaultBaseTraceFactory(TraceRootFactory traceRootFactory, CallStackFactory callStackFactory, SpanEventFactory spanEventFactory, StorageFactory storageFactory,
+                                   Sampler sampler, IdGenerator idGenerator, AsyncContextFactory asyncContextFactory,
+                                   SpanFactory spanFactory, RecorderFactory recorderFactory, ActiveTraceRepository activeTraceRepository,
+                                   TailSamplingStorageFactory tailSamplingStorageFactory) {
 
         this.traceRootFactory = Assert.requireNonNull(traceRootFactory, "traceRootFactory must not be null");
         this.callStackFactory = Assert.requireNonNull(callStackFactory, "callStackFactory must not be null");
+        this.spanEventFactory = Assert.requireNonNull(spanEventFactory, "spanEventFactory must not be null");
         this.storageFactory = Assert.requireNonNull(storageFactory, "storageFactory must not be null");
         this.sampler = Assert.requireNonNull(sampler, "sampler must not be null");
         this.idGenerator = Assert.requireNonNull(idGenerator, "idGenerator must not be null");
@@ -71,12 +88,17 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         this.spanFactory = Assert.requireNonNull(spanFactory, "spanFactory must not be null");
         this.recorderFactory = Assert.requireNonNull(recorderFactory, "recorderFactory must not be null");
         this.activeTraceRepository = Assert.requireNonNull(activeTraceRepository, "activeTraceRepository must not be null");
+        this.tailSamplingStorageFactory = tailSamplingStorageFactory;
     }
 
 
     // continue to trace the request that has been determined to be sampled on previous nodes
     @Override
     public Trace continueTraceObject(final TraceId traceId) {
+        if (TailSamplingStorageFactory.isCandidate(traceId)) {
+            // the caller was not head-sampled and is likely to be discarded
+            return disableSampling();
+        }
         // TODO need to modify how to bind a datasender
         // always set true because the decision of sampling has been  made on previous nodes
         // TODO need to consider as a target to sample in case Trace object has a sampling flag (true) marked on previous node.
@@ -91,7 +113,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder();
         final ActiveTraceHandle handle = registerActiveTrace(traceRoot);
 
-        final DefaultTrace trace = new DefaultTrace(span, callStack, storage, asyncContextFactory, samplingEnable, spanRecorder, wrappedSpanEventRecorder, handle);
+        final DefaultTrace trace = new DefaultTrace(span, callStack, spanEventFactory, storage, asyncContextFactory, samplingEnable, spanRecorder, wrappedSpanEventRecorder, handle);
         return trace;
     }
 
@@ -122,14 +144,33 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
             final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder();
 
             final ActiveTraceHandle handle = registerActiveTrace(traceRoot);
-            final DefaultTrace trace = new DefaultTrace(span, callStack, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, handle);
+            final DefaultTrace trace = new DefaultTrace(span, callStack, spanEventFactory, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, handle);
 
             return trace;
+        } else if (tailSamplingStorageFactory != null) {
+            return newTailSamplingTraceObject();
         } else {
             return newDisableTrace();
         }
     }
 
+    // recorded like a sampled trace. the storage decides whether to send it when the trace ends
+    private Trace newTailSamplingTraceObject() {
+        final TraceRoot traceRoot = tailSamplingStorageFactory.newCandidateTraceRoot(traceRootFactory);
+        final Span span = spanFactory.newSpan(traceRoot);
+
+        final Storage storage = storageFactory.createStorage(traceRoot);
+        final CallStack callStack = callStackFactory.newCallStack(traceRoot);
+
+        final boolean samplingEnable = true;
+        final TraceId traceId = traceRoot.getTraceId();
+        final SpanRecorder spanRecorder = recorderFactory.newSpanRecorder(span, traceId.isRoot(), samplingEnable);
+        final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder();
+
+        final ActiveTraceHandle handle = registerActiveTrace(traceRoot);
+        return new DefaultTrace(span, callStack, spanEventFactory, storage, asyncContextFactory, samplingEnable, spanRecorder, wrappedSpanEventRecorder, handle);
+    }
+
 
     // internal async trace.
     @Override
@@ -144,7 +185,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
 
         final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder();
 
-        final Trace asyncTrace = new AsyncChildTrace(traceRoot, callStack, storage, asyncContextFactory, samplingEnable, spanRecorder, wrappedSpanEventRecorder, asyncId, asyncSequence);
+        final Trace asyncTrace = new AsyncChildTrace(traceRoot, callStack, spanEventFactory, storage, asyncContextFactory, samplingEnable, spanRecorder, wrappedSpanEventRecorder, asyncId, asyncSequence);
 
         return asyncTrace;
     }
@@ -161,6 +202,9 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
     @InterfaceAudience.LimitedPrivate("vert.x")
     @Override
     public Trace continueAsyncTraceObject(final TraceId traceId) {
+        if (TailSamplingStorageFactory.isCandidate(traceId)) {
+            return disableSampling();
+        }
 
         final boolean sampling = true;
 
@@ -177,7 +221,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
         final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder(asyncState);
 
 
-        final DefaultTrace trace = new DefaultTrace(span, callStack, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, ActiveTraceHandle.EMPTY_HANDLE);
+        final DefaultTrace trace = new DefaultTrace(span, callStack, spanEventFactory, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, ActiveTraceHandle.EMPTY_HANDLE);
 
         final AsyncTrace asyncTrace = new AsyncTrace(asyncContextFactory, traceRoot, trace, asyncState);
 
@@ -208,7 +252,7 @@ public class DefaultBaseTraceFactory implements BaseTraceFactory {
             final WrappedSpanEventRecorder wrappedSpanEventRecorder = recorderFactory.newWrappedSpanEventRecorder(asyncState);
 
 
-            final DefaultTrace trace = new DefaultTrace(span, callStack, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, ActiveTraceHandle.EMPTY_HANDLE);
+            final DefaultTrace trace = new DefaultTrace(span, callStack, spanEventFactory, storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, ActiveTraceHandle.EMPTY_HANDLE);
 
             final AsyncTrace asyncTrace = new AsyncTrace(asyncContextFactory, traceRoot, trace, asyncState);
 
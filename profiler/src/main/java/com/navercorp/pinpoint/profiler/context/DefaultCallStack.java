@@ -29,11 +29,14 @@ import java.util.Arrays;
 public class DefaultCallStack implements CallStack {
     protected static final int STACK_SIZE = 8;
     protected static final int DEFAULT_INDEX = 0;
+    private static final SpanEvent[] EMPTY_STACK = new SpanEvent[0];
 
-    protected SpanEvent[] stack = new SpanEvent[STACK_SIZE];
+    protected SpanEvent[] stack;
 
     protected final TraceRoot traceRoot;
     protected final int maxDepth;
+    // nullable. recycling disabled
+    private final SpanEventArrayPool arrayPool;
     protected int index = DEFAULT_INDEX;
     protected int overflowIndex = 0;
     protected short sequence;
@@ -43,8 +46,21 @@ public class DefaultCallStack implements CallStack {
     }
 
     public DefaultCallStack(TraceRoot traceRoot, int maxDepth) {
+        this(traceRoot, maxDepth, null);
+    }
+
+    public DefaultCallStack(TraceRoot traceRoot, int maxDepth, SpanEventArrayPool arrayPool) {
         this.traceRoot = traceRoot;
         this.maxDepth = maxDepth;
+        this.arrayPool = arrayPool;
+        this.stack = newStack(STACK_SIZE);
+    }
+
+    private SpanEvent[] newStack(int size) {
+        if (arrayPool == null) {
+            return new SpanEvent[size];
+        }
+        return arrayPool.acquire(size);
     }
 
 
@@ -78,10 +94,13 @@ public class DefaultCallStack implements CallStack {
     protected void checkExtend(final int size) {
         final SpanEvent[] originalStack = this.stack;
         if (size >= originalStack.length) {
-            final int copyStackSize = originalStack.length << 1;
-            final SpanEvent[] copyStack = new SpanEvent[copyStackSize];
+            final int copyStackSize = Math.max(STACK_SIZE, originalStack.length << 1);
+            final SpanEvent[] copyStack = newStack(copyStackSize);
             System.arraycopy(originalStack, 0, copyStack, 0, originalStack.length);
             this.stack = copyStack;
+            if (arrayPool != null) {
+                arrayPool.release(originalStack);
+            }
         }
     }
 
@@ -132,6 +151,17 @@ public class DefaultCallStack implements CallStack {
         return copyStack;
     }
 
+    @Override
+    public void close() {
+        final SpanEvent[] stack = this.stack;
+        this.stack = EMPTY_STACK;
+        this.index = DEFAULT_INDEX;
+        this.overflowIndex = 0;
+        if (arrayPool != null && stack != EMPTY_STACK) {
+            arrayPool.release(stack);
+        }
+    }
+
     @Override
     public int getMaxDepth() {
         return maxDepth;
@@ -43,6 +43,7 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
     private final boolean sampling;
 
     private final CallStack callStack;
+    private final SpanEventFactory spanEventFactory;
 
     private final Storage storage;
 
@@ -61,9 +62,15 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
 
     public DefaultTrace(Span span, CallStack callStack, Storage storage, AsyncContextFactory asyncContextFactory, boolean sampling,
                         SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder, ActiveTraceHandle activeTraceHandle) {
+        this(span, callStack, new DefaultSpanEventFactory(), storage, asyncContextFactory, sampling, spanRecorder, wrappedSpanEventRecorder, activeTraceHandle);
+    }
+
+    public DefaultTrace(Span span, CallStack callStack, SpanEventFactory spanEventFactory, Storage storage, AsyncContextFactory asyncContextFactory, boolean sampling,
+                        SpanRecorder spanRecorder, WrappedSpanEventRecorder wrappedSpanEventRecorder, ActiveTraceHandle activeTraceHandle) {
 
         this.span = Assert.requireNonNull(span, "span must not be null");
         this.callStack = Assert.requireNonNull(callStack, "callStack must not be null");
+        this.spanEventFactory = Assert.requireNonNull(spanEventFactory, "spanEventFactory must not be null");
         this.storage = Assert.requireNonNull(storage, "storage must not be null");
         this.sampling = Assert.requireNonNull(sampling, "sampling must not be null");
         this.asyncContextFactory = Assert.requireNonNull(asyncContextFactory, "asyncContextFactory must not be null");
@@ -97,17 +104,17 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
             if (isWarn) {
                 stackDump("already closed trace");
             }
-            final SpanEvent dummy = newSpanEvent(stackId);
+            // never stored. not recycled
+            final SpanEvent dummy = initSpanEvent(new SpanEvent(getTraceRoot()), stackId);
             return wrappedSpanEventRecorder(this.wrappedSpanEventRecorder, dummy);
         }
         // Set properties for the case when stackFrame is not used as part of Span.
-        final SpanEvent spanEvent = newSpanEvent(stackId);
+        final SpanEvent spanEvent = initSpanEvent(spanEventFactory.newSpanEvent(getTraceRoot()), stackId);
         this.callStack.push(spanEvent);
         return wrappedSpanEventRecorder(this.wrappedSpanEventRecorder, spanEvent);
     }
 
-    private SpanEvent newSpanEvent(int stackId) {
-        final SpanEvent spanEvent = new SpanEvent(getTraceRoot());
+    private SpanEvent initSpanEvent(SpanEvent spanEvent, int stackId) {
         spanEvent.markStartTime();
         spanEvent.setStackId(stackId);
         return spanEvent;
@@ -168,7 +175,7 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
         }
         closed = true;
 
-        final long afterTime = System.currentTimeMillis();
+        final long afterTime = getTraceRoot().getClock().getTime();
         if (!callStack.empty()) {
             if (isWarn) {
                 stackDump("not empty call stack");
@@ -182,6 +189,7 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
         }
 
         this.storage.close();
+        this.callStack.close();
 
         purgeActiveTrace(afterTime);
     }
@@ -195,6 +203,7 @@ public final class DefaultTrace implements Trace, TraceRootSupport {
 
     void flush() {
         this.storage.flush();
+        this.callStack.close();
         this.closed = true;
     }
 
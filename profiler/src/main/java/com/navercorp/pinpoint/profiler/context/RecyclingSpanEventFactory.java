@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takes {@link SpanEvent}s from thread-confined pools.
+ * The sender recycles them through {@link Recyclable#recycle()} once they are serialized.
+ * <p>
+ * allocateCount is the number of SpanEvents actually allocated. Compare it with reuseCount to see the GC reduction.
+ */
+public class RecyclingSpanEventFactory implements SpanEventFactory {
+
+    private static final long STATS_LOG_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final int poolSize;
+    private final SpanEventLeakDetector leakDetector;
+
+    private final ThreadLocal<SpanEventPool> pools = new ThreadLocal<SpanEventPool>() {
+        @Override
+        protected SpanEventPool initialValue() {
+            return new SpanEventPool(RecyclingSpanEventFactory.this, poolSize);
+        }
+    };
+
+    private final AtomicLong allocateCount = new AtomicLong();
+    private final AtomicLong reuseCount = new AtomicLong();
+    private final AtomicLong discardCount = new AtomicLong();
+    private final AtomicLong doubleReleaseCount = new AtomicLong();
+    private final AtomicLong lastStatsLogTime = new AtomicLong(System.currentTimeMillis());
+
+    public RecyclingSpanEventFactory(int poolSize, boolean leakDetection) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive");
+        }
+        this.poolSize = poolSize;
+        this.leakDetector = leakDetection ? new SpanEventLeakDetector() : null;
+    }
+
+    @Override
+    public SpanEvent newSpanEvent(TraceRoot traceRoot) {
+        return pools.get().acquire(traceRoot);
+    }
+
+    void onAcquire(SpanEvent spanEvent) {
+        if (leakDetector != null) {
+            leakDetector.track(spanEvent);
+        }
+    }
+
+    void onRelease(SpanEvent spanEvent) {
+        if (leakDetector != null) {
+            leakDetector.untrack(spanEvent);
+        }
+    }
+
+    void onDoubleRelease(SpanEvent spanEvent) {
+        final long doubleReleaseCount = this.doubleReleaseCount.incrementAndGet();
+        if (leakDetector != null) {
+            logger.warn("SpanEvent recycled twice. doubleReleaseCount:{}", doubleReleaseCount, new Exception("double recycle()"));
+        }
+    }
+
+    void incrementAllocateCount() {
+        allocateCount.incrementAndGet();
+    }
+
+    void addReuseCount(int count) {
+        reuseCount.addAndGet(count);
+        logStatsIfNeeded();
+    }
+
+    void incrementDiscardCount() {
+        discardCount.incrementAndGet();
+    }
+
+    private void logStatsIfNeeded() {
+        final long lastStatsLogTime = this.lastStatsLogTime.get();
+        final long currentTime = System.currentTimeMillis();
+        if (currentTime - lastStatsLogTime < STATS_LOG_INTERVAL) {
+            return;
+        }
+        if (this.lastStatsLogTime.compareAndSet(lastStatsLogTime, currentTime)) {
+            logger.info("SpanEvent recycle stats. {}", this);
+        }
+    }
+
+    public long getAllocateCount() {
+        return allocateCount.get();
+    }
+
+    /**
+     * approximate. flushed by each thread every 1024 reuses
+     */
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    public long getDiscardCount() {
+        return discardCount.get();
+    }
+
+    public long getDoubleReleaseCount() {
+        return doubleReleaseCount.get();
+    }
+
+    public long getLeakCount() {
+        if (leakDetector == null) {
+            return 0;
+        }
+        return leakDetector.getLeakCount();
+    }
+
+    @Override
+    public String toString() {
+        return "RecyclingSpanEventFactory{" +
+                "poolSize=" + poolSize +
+                ", leakDetection=" + (leakDetector != null) +
+                ", allocateCount=" + getAllocateCount() +
+                ", reuseCount=" + getReuseCount() +
+                ", discardCount=" + getDiscardCount() +
+                ", doubleReleaseCount=" + getDoubleReleaseCount() +
+                ", leakCount=" + getLeakCount() +
+                '}';
+    }
+}
@@ -25,6 +25,9 @@ import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.thrift.dto.TIntStringValue;
 import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+
+import java.util.List;
 
 /**
  * Span represent RPC
@@ -32,7 +35,7 @@ import com.navercorp.pinpoint.thrift.dto.TSpan;
  * @author netspider
  * @author emeroad
  */
-public class Span extends TSpan implements FrameAttachment {
+public class Span extends TSpan implements FrameAttachment, Recyclable {
     private boolean timeRecording = true;
     private Object frameObject;
 
@@ -63,7 +66,7 @@ public class Span extends TSpan implements FrameAttachment {
     }
 
     public void markAfterTime() {
-        markAfterTime(System.currentTimeMillis());
+        markAfterTime(traceRoot.getClock().getTime());
     }
 
     public void markAfterTime(long currentTime) {
@@ -143,4 +146,18 @@ public class Span extends TSpan implements FrameAttachment {
         final byte loggingInfo = shared.getLoggingInfo();
         this.setLoggingTransactionInfo(loggingInfo);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void recycle() {
+        final List<TSpanEvent> spanEventList = getSpanEventList();
+        if (spanEventList == null) {
+            return;
+        }
+        setSpanEventList(null);
+        for (TSpanEvent spanEvent : spanEventList) {
+            if (spanEvent instanceof SpanEvent) {
+                ((SpanEvent) spanEvent).recycle();
+            }
+        }
+    }
+}
@@ -19,12 +19,15 @@ package com.navercorp.pinpoint.profiler.context;
 
 import java.util.List;
 
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+
+import com.navercorp.pinpoint.profiler.context.columnar.ColumnarSpanEventList;
 import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
 
 /**
  * @author emeroad
  */
-public class SpanChunk extends TSpanChunk {
+public class SpanChunk extends TSpanChunk implements Recyclable {
 
     public SpanChunk(List<SpanEvent> spanEventList) {
         if (spanEventList == null) {
@@ -33,6 +36,13 @@ public class SpanChunk extends TSpanChunk {
         setSpanEventList((List) spanEventList);
     }
 
+    public SpanChunk(ColumnarSpanEventList spanEventList) {
+        if (spanEventList == null) {
+            throw new NullPointerException("spanEventList must not be null");
+        }
+        setSpanEventList(spanEventList);
+    }
+
     @Override
     public void setServiceType(short serviceType) {
         super.setServiceType(serviceType);
@@ -47,4 +57,18 @@ public class SpanChunk extends TSpanChunk {
     public short getServiceType() {
         return super.getServiceType();
     }
+
+    @Override
+    public void recycle() {
+        final List<TSpanEvent> spanEventList = getSpanEventList();
+        if (spanEventList == null) {
+            return;
+        }
+        setSpanEventList(null);
+        for (TSpanEvent spanEvent : spanEventList) {
+            if (spanEvent instanceof SpanEvent) {
+                ((SpanEvent) spanEvent).recycle();
+            }
+        }
+    }
 }
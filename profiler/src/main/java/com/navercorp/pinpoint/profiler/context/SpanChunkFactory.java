@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 
 import java.util.List;
@@ -26,4 +27,6 @@ import java.util.List;
 public interface SpanChunkFactory {
 
     SpanChunk create(TraceRoot traceRoot, final List<SpanEvent> flushData);
+
+    SpanChunk create(TraceRoot traceRoot, SpanEventColumns flushData);
 }
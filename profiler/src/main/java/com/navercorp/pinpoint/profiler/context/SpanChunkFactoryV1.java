@@ -20,6 +20,8 @@ import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.profiler.context.columnar.ColumnarSpanEventList;
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressor;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV1;
@@ -67,6 +69,26 @@ public class SpanChunkFactoryV1 implements SpanChunkFactory {
         }
 
         final SpanChunk spanChunk = new SpanChunk(spanEventList);
+        spanEventCompressor.compress(spanEventList, traceRoot.getTraceStartTime());
+
+        setSpanChunkHeader(spanChunk, traceRoot);
+        return spanChunk;
+    }
+
+    @Override
+    public SpanChunk create(TraceRoot traceRoot, SpanEventColumns spanEventColumns) {
+        if (spanEventColumns == null || spanEventColumns.isEmpty()) {
+            throw new IllegalArgumentException("spanEventColumns is empty.");
+        }
+        // compressed while encoding
+        final ColumnarSpanEventList spanEventList = new ColumnarSpanEventList(spanEventColumns, traceRoot.getTraceStartTime(), TraceDataFormatVersion.V1);
+        final SpanChunk spanChunk = new SpanChunk(spanEventList);
+
+        setSpanChunkHeader(spanChunk, traceRoot);
+        return spanChunk;
+    }
+
+    private void setSpanChunkHeader(SpanChunk spanChunk, TraceRoot traceRoot) {
 //        skip default version
 //        spanChunk.setVersion(V1.getVersion());
 
@@ -75,9 +97,6 @@ public class SpanChunkFactoryV1 implements SpanChunkFactory {
         spanChunk.setAgentStartTime(agentStartTime);
         spanChunk.setApplicationServiceType(applicationServiceType.getCode());
 
-
-        spanEventCompressor.compress(spanEventList, traceRoot.getTraceStartTime());
-
         final TraceId traceId = traceRoot.getTraceId();
         final ByteBuffer transactionId = transactionIdEncoder.encodeTransactionId(traceId);
         spanChunk.setTransactionId(transactionId);
@@ -85,6 +104,5 @@ public class SpanChunkFactoryV1 implements SpanChunkFactory {
         spanChunk.setSpanId(traceId.getSpanId());
 
         spanChunk.setEndPoint(traceRoot.getShared().getEndPoint());
-        return spanChunk;
     }
 }
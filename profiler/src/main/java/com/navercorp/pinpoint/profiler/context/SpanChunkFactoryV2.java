@@ -20,6 +20,8 @@ import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.profiler.context.columnar.ColumnarSpanEventList;
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressor;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2;
@@ -41,17 +43,22 @@ public class SpanChunkFactoryV2 implements SpanChunkFactory {
     private final ServiceType applicationServiceType;
     private final TransactionIdEncoder transactionIdEncoder;
 
-    private final SpanEventCompressor<Long> spanEventCompressor = new SpanEventCompressorV2();
+    private final SpanEventCompressor<Long> spanEventCompressor;
 
 
     public SpanChunkFactoryV2(String applicationName, String agentId, long agentStartTime, ServiceType applicationServiceType, TransactionIdEncoder transactionIdEncoder) {
+        this(applicationName, agentId, agentStartTime, applicationServiceType, transactionIdEncoder, new SpanEventCompressorV2());
+    }
+
+    public SpanChunkFactoryV2(String applicationName, String agentId, long agentStartTime, ServiceType applicationServiceType, TransactionIdEncoder transactionIdEncoder,
+                              SpanEventCompressor<Long> spanEventCompressor) {
 
         this.applicationName = Assert.requireNonNull(applicationName, "applicationName must not be null");
         this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
         this.agentStartTime = agentStartTime;
         this.applicationServiceType = Assert.requireNonNull(applicationServiceType, "applicationServiceType must not be null");
         this.transactionIdEncoder = Assert.requireNonNull(transactionIdEncoder, "transactionIdEncoder must not be null");
-
+        this.spanEventCompressor = Assert.requireNonNull(spanEventCompressor, "spanEventCompressor must not be null");
     }
 
 
@@ -68,6 +75,33 @@ public class SpanChunkFactoryV2 implements SpanChunkFactory {
 
 
         final SpanChunk spanChunk = new SpanChunk(spanEventList);
+
+        final long keyTime = first.getStartTime();
+        spanChunk.setKeyTime(keyTime);
+        // TODO change data compression timing to another thread  eg: DataSender thread
+        spanEventCompressor.compress(spanEventList, keyTime);
+
+        setSpanChunkHeader(spanChunk, traceRoot);
+        return spanChunk;
+    }
+
+    @Override
+    public SpanChunk create(TraceRoot traceRoot, SpanEventColumns spanEventColumns) {
+        if (spanEventColumns == null || spanEventColumns.isEmpty()) {
+            throw new IllegalArgumentException("spanEventColumns is empty.");
+        }
+
+        final long keyTime = spanEventColumns.getStartTime(0);
+        // compressed by the DataSender thread while encoding
+        final ColumnarSpanEventList spanEventList = new ColumnarSpanEventList(spanEventColumns, keyTime, V2);
+        final SpanChunk spanChunk = new SpanChunk(spanEventList);
+        spanChunk.setKeyTime(keyTime);
+
+        setSpanChunkHeader(spanChunk, traceRoot);
+        return spanChunk;
+    }
+
+    private void setSpanChunkHeader(SpanChunk spanChunk, TraceRoot traceRoot) {
         spanChunk.setVersion(V2.getVersion());
 
         spanChunk.setAgentId(agentId);
@@ -75,20 +109,12 @@ public class SpanChunkFactoryV2 implements SpanChunkFactory {
         spanChunk.setAgentStartTime(agentStartTime);
         spanChunk.setApplicationServiceType(applicationServiceType.getCode());
 
-
-        final long keyTime = first.getStartTime();
-        spanChunk.setKeyTime(keyTime);
-        // TODO change data compression timing to another thread  eg: DataSender thread
-        spanEventCompressor.compress(spanEventList, keyTime);
-
         final TraceId traceId = traceRoot.getTraceId();
         final ByteBuffer transactionId = transactionIdEncoder.encodeTransactionId(traceId);
         spanChunk.setTransactionId(transactionId);
 
         spanChunk.setSpanId(traceId.getSpanId());
         spanChunk.setEndPoint(traceRoot.getShared().getEndPoint());
-
-        return spanChunk;
     }
 
 }
@@ -31,7 +31,7 @@ import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
  */
 public class SpanEvent extends TSpanEvent implements FrameAttachment {
 
-    private final TraceRoot traceRoot;
+    private TraceRoot traceRoot;
     private int stackId;
     private boolean timeRecording = true;
     private Object frameObject;
@@ -40,6 +40,11 @@ public class SpanEvent extends TSpanEvent implements FrameAttachment {
 
     private AsyncId asyncIdObject;
 
+    // recycling. null if not pooled
+    private SpanEventPool pool;
+    private int recycleState;
+    private SpanEventLeakDetector.LeakTrace leakTrace;
+
     public SpanEvent(TraceRoot traceRoot) {
         if (traceRoot == null) {
             throw new NullPointerException("traceRoot must not be null");
@@ -47,6 +52,11 @@ public class SpanEvent extends TSpanEvent implements FrameAttachment {
         this.traceRoot = traceRoot;
     }
 
+    SpanEvent(TraceRoot traceRoot, SpanEventPool pool) {
+        this(traceRoot);
+        this.pool = pool;
+    }
+
     public TraceRoot getTraceRoot() {
         return traceRoot;
     }
@@ -64,7 +74,7 @@ public class SpanEvent extends TSpanEvent implements FrameAttachment {
     }
 
     public void markStartTime() {
-        this.startTime = System.currentTimeMillis();
+        this.startTime = traceRoot.getClock().getTime();
     }
 
     public long getStartTime() {
@@ -72,13 +82,17 @@ public class SpanEvent extends TSpanEvent implements FrameAttachment {
     }
 
     public void markAfterTime() {
-        this.afterTime = System.currentTimeMillis();
+        this.afterTime = traceRoot.getClock().getTime();
     }
 
     public long getAfterTime() {
         return afterTime;
     }
 
+    public void setAfterTime(long afterTime) {
+        this.afterTime = afterTime;
+    }
+
     public int getStackId() {
         return stackId;
     }
@@ -121,4 +135,57 @@ public class SpanEvent extends TSpanEvent implements FrameAttachment {
     public AsyncId getAsyncIdObject() {
         return asyncIdObject;
     }
+
+    /**
+     * returns this SpanEvent to the pool it was taken from. no-op if not pooled.
+     * Caution. must not be accessed after recycled
+     */
+    public void recycle() {
+        final SpanEventPool pool = this.pool;
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    int getRecycleState() {
+        return recycleState;
+    }
+
+    void setRecycleState(int recycleState) {
+        this.recycleState = recycleState;
+    }
+
+    SpanEventLeakDetector.LeakTrace getLeakTrace() {
+        return leakTrace;
+    }
+
+    void setLeakTrace(SpanEventLeakDetector.LeakTrace leakTrace) {
+        this.leakTrace = leakTrace;
+    }
+
+    void reuse(TraceRoot traceRoot) {
+        if (traceRoot == null) {
+            throw new NullPointerException("traceRoot must not be null");
+        }
+        this.traceRoot = traceRoot;
+    }
+
+    /**
+     * drops every reference so that a pooled SpanEvent does not keep the previous trace reachable
+     */
+    void clearForRecycle() {
+        clear();
+        // TSpanEvent.clear() restores the default values but keeps their isSet flags.
+        // DepthCompressCallStack relies on an unset depth
+        setEndElapsedIsSet(false);
+        setDepthIsSet(false);
+        setNextSpanIdIsSet(false);
+        this.traceRoot = null;
+        this.stackId = 0;
+        this.timeRecording = true;
+        this.frameObject = null;
+        this.startTime = 0;
+        this.afterTime = 0;
+        this.asyncIdObject = null;
+    }
 }
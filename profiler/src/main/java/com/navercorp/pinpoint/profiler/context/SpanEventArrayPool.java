@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import java.util.Arrays;
+
+/**
+ * Thread-local pool of the {@link SpanEvent} arrays backing {@link DefaultCallStack}.
+ * Arrays are power-of-two sized. Larger arrays are not pooled.
+ */
+public class SpanEventArrayPool {
+
+    static final int MIN_LENGTH = 8;
+    static final int MAX_LENGTH = 1024;
+    private static final int BUCKET_COUNT = Integer.numberOfTrailingZeros(MAX_LENGTH) - Integer.numberOfTrailingZeros(MIN_LENGTH) + 1;
+
+    private final int arraysPerBucket;
+
+    private final ThreadLocal<Buckets> buckets = new ThreadLocal<Buckets>() {
+        @Override
+        protected Buckets initialValue() {
+            return new Buckets(arraysPerBucket);
+        }
+    };
+
+    public SpanEventArrayPool() {
+        this(4);
+    }
+
+    public SpanEventArrayPool(int arraysPerBucket) {
+        if (arraysPerBucket <= 0) {
+            throw new IllegalArgumentException("arraysPerBucket must be positive");
+        }
+        this.arraysPerBucket = arraysPerBucket;
+    }
+
+    /**
+     * @return array of at least minLength. the length is rounded up to a power of two
+     */
+    public SpanEvent[] acquire(int minLength) {
+        final int length = roundUp(minLength);
+        final int bucketIndex = bucketIndex(length);
+        if (bucketIndex == -1) {
+            return new SpanEvent[length];
+        }
+        final SpanEvent[] array = buckets.get().poll(bucketIndex);
+        if (array != null) {
+            return array;
+        }
+        return new SpanEvent[length];
+    }
+
+    public void release(SpanEvent[] array) {
+        if (array == null) {
+            return;
+        }
+        final int bucketIndex = bucketIndex(array.length);
+        if (bucketIndex == -1) {
+            return;
+        }
+        Arrays.fill(array, null);
+        buckets.get().offer(bucketIndex, array);
+    }
+
+    static int roundUp(int length) {
+        if (length <= MIN_LENGTH) {
+            return MIN_LENGTH;
+        }
+        final int highestOneBit = Integer.highestOneBit(length);
+        if (highestOneBit == length) {
+            return length;
+        }
+        return highestOneBit << 1;
+    }
+
+    private static int bucketIndex(int length) {
+        if (length < MIN_LENGTH || length > MAX_LENGTH || Integer.bitCount(length) != 1) {
+            return -1;
+        }
+        return Integer.numberOfTrailingZeros(length) - Integer.numberOfTrailingZeros(MIN_LENGTH);
+    }
+
+    private static final class Buckets {
+        private final SpanEvent[][][] arrays;
+        private final int[] sizes;
+
+        private Buckets(int arraysPerBucket) {
+            this.arrays = new SpanEvent[BUCKET_COUNT][arraysPerBucket][];
+            this.sizes = new int[BUCKET_COUNT];
+        }
+
+        private SpanEvent[] poll(int bucketIndex) {
+            final int size = sizes[bucketIndex];
+            if (size == 0) {
+                return null;
+            }
+            final SpanEvent[][] bucket = arrays[bucketIndex];
+            final SpanEvent[] array = bucket[size - 1];
+            bucket[size - 1] = null;
+            sizes[bucketIndex] = size - 1;
+            return array;
+        }
+
+        private void offer(int bucketIndex, SpanEvent[] array) {
+            final int size = sizes[bucketIndex];
+            final SpanEvent[][] bucket = arrays[bucketIndex];
+            if (size < bucket.length) {
+                bucket[size] = array;
+                sizes[bucketIndex] = size + 1;
+            }
+        }
+    }
+}
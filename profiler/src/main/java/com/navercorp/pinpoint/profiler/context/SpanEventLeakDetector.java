@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Debugging aid. Reports pooled {@link SpanEvent}s that were garbage collected without being recycled,
+ * together with the stack trace of their acquisition. Too expensive for production.
+ */
+final class SpanEventLeakDetector {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ReferenceQueue<SpanEvent> referenceQueue = new ReferenceQueue<SpanEvent>();
+    // keeps the LeakTraces reachable until released
+    private final ConcurrentMap<LeakTrace, Boolean> liveTraces = new ConcurrentHashMap<LeakTrace, Boolean>();
+    private final AtomicLong leakCount = new AtomicLong();
+
+    void track(SpanEvent spanEvent) {
+        reportLeaks();
+        final LeakTrace leakTrace = new LeakTrace(spanEvent, referenceQueue);
+        liveTraces.put(leakTrace, Boolean.TRUE);
+        spanEvent.setLeakTrace(leakTrace);
+    }
+
+    void untrack(SpanEvent spanEvent) {
+        final LeakTrace leakTrace = spanEvent.getLeakTrace();
+        if (leakTrace == null) {
+            return;
+        }
+        spanEvent.setLeakTrace(null);
+        liveTraces.remove(leakTrace);
+        leakTrace.clear();
+    }
+
+    private void reportLeaks() {
+        Reference<? extends SpanEvent> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            if (liveTraces.remove(reference) != null) {
+                final long leakCount = this.leakCount.incrementAndGet();
+                logger.warn("SpanEvent was garbage collected without recycle(). leakCount:{}", leakCount, ((LeakTrace) reference).acquisition);
+            }
+        }
+    }
+
+    long getLeakCount() {
+        return leakCount.get();
+    }
+
+    static final class LeakTrace extends WeakReference<SpanEvent> {
+        private final Throwable acquisition = new Throwable("SpanEvent acquisition");
+
+        private LeakTrace(SpanEvent referent, ReferenceQueue<? super SpanEvent> queue) {
+            super(referent, queue);
+        }
+    }
+}
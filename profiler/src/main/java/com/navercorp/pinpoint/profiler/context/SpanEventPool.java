@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.sender.RingBufferAsyncQueue;
+import com.navercorp.pinpoint.profiler.sender.WaitStrategy;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * {@link SpanEvent} pool owned by a single application thread.
+ * <p>
+ * SpanEvents are taken by the owner thread and usually released by the sender thread after serialization.
+ * Releases from other threads go through a lock-free return queue, so neither side allocates.
+ */
+final class SpanEventPool {
+
+    static final int STATE_IN_USE = 0;
+    static final int STATE_RECYCLED = 1;
+
+    private static final int STATS_FLUSH_INTERVAL = 1024;
+
+    private final RecyclingSpanEventFactory factory;
+    private final Thread owner;
+
+    // owner thread only
+    private final SpanEvent[] elements;
+    private int size;
+    private int reuseCount;
+
+    private final RingBufferAsyncQueue<SpanEvent> returnQueue;
+    private final Collection<SpanEvent> drainTarget = new AbstractCollection<SpanEvent>() {
+        @Override
+        public boolean add(SpanEvent spanEvent) {
+            elements[size++] = spanEvent;
+            return true;
+        }
+
+        @Override
+        public Iterator<SpanEvent> iterator() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    SpanEventPool(RecyclingSpanEventFactory factory, int maxSize) {
+        if (factory == null) {
+            throw new NullPointerException("factory must not be null");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.factory = factory;
+        this.owner = Thread.currentThread();
+        this.elements = new SpanEvent[maxSize];
+        this.returnQueue = new RingBufferAsyncQueue<SpanEvent>(maxSize, WaitStrategy.SPIN);
+    }
+
+    SpanEvent acquire(TraceRoot traceRoot) {
+        if (size == 0) {
+            returnQueue.drainTo(drainTarget, elements.length);
+        }
+
+        final SpanEvent spanEvent;
+        if (size > 0) {
+            spanEvent = elements[--size];
+            elements[size] = null;
+            spanEvent.reuse(traceRoot);
+            spanEvent.setRecycleState(STATE_IN_USE);
+            if (++reuseCount == STATS_FLUSH_INTERVAL) {
+                factory.addReuseCount(reuseCount);
+                reuseCount = 0;
+            }
+        } else {
+            spanEvent = new SpanEvent(traceRoot, this);
+            factory.incrementAllocateCount();
+        }
+        factory.onAcquire(spanEvent);
+        return spanEvent;
+    }
+
+    void release(SpanEvent spanEvent) {
+        if (spanEvent.getRecycleState() != STATE_IN_USE) {
+            factory.onDoubleRelease(spanEvent);
+            return;
+        }
+        spanEvent.setRecycleState(STATE_RECYCLED);
+        factory.onRelease(spanEvent);
+        spanEvent.clearForRecycle();
+
+        final boolean pooled;
+        if (Thread.currentThread() == owner) {
+            pooled = push(spanEvent);
+        } else {
+            pooled = returnQueue.offer(spanEvent);
+        }
+        if (!pooled) {
+            // left to the gc
+            factory.incrementDiscardCount();
+        }
+    }
+
+    private boolean push(SpanEvent spanEvent) {
+        if (size < elements.length) {
+            elements[size++] = spanEvent;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "SpanEventPool{" +
+                "owner=" + owner.getName() +
+                ", size=" + size +
+                ", returnQueue=" + returnQueue +
+                '}';
+    }
+}
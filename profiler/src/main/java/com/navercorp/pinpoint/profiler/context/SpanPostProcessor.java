@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
+
 import java.util.List;
 
 /**
@@ -23,4 +25,6 @@ import java.util.List;
  */
 public interface SpanPostProcessor {
     Span postProcess(Span span, List<SpanEvent> spanEventList);
+
+    Span postProcess(Span span, SpanEventColumns spanEventColumns);
 }
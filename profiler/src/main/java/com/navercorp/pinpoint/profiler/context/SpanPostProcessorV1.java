@@ -17,6 +17,8 @@
 package com.navercorp.pinpoint.profiler.context;
 
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.profiler.context.columnar.ColumnarSpanEventList;
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressor;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV1;
 
@@ -42,4 +44,14 @@ public class SpanPostProcessorV1 implements SpanPostProcessor {
         }
         return span;
     }
+
+    @Override
+    public Span postProcess(Span span, SpanEventColumns spanEventColumns) {
+        span.finish();
+        if (spanEventColumns != null && !spanEventColumns.isEmpty()) {
+            final long spanStartTime = span.getStartTime();
+            span.setSpanEventList(new ColumnarSpanEventList(spanEventColumns, spanStartTime, TraceDataFormatVersion.V1));
+        }
+        return span;
+    }
 }
@@ -17,6 +17,8 @@
 package com.navercorp.pinpoint.profiler.context;
 
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.profiler.context.columnar.ColumnarSpanEventList;
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressor;
 import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2;
 
@@ -30,7 +32,18 @@ public class SpanPostProcessorV2 implements SpanPostProcessor {
     private static final TraceDataFormatVersion V2 = TraceDataFormatVersion.V2;
 
     // TODO refactor injector
-    private final SpanEventCompressor<Long> spanEventCompressor = new SpanEventCompressorV2();
+    private final SpanEventCompressor<Long> spanEventCompressor;
+
+    public SpanPostProcessorV2() {
+        this(new SpanEventCompressorV2());
+    }
+
+    public SpanPostProcessorV2(SpanEventCompressor<Long> spanEventCompressor) {
+        if (spanEventCompressor == null) {
+            throw new NullPointerException("spanEventCompressor must not be null");
+        }
+        this.spanEventCompressor = spanEventCompressor;
+    }
 
     @Override
     public Span postProcess(Span span, List<SpanEvent> spanEventList) {
@@ -43,4 +56,15 @@ public class SpanPostProcessorV2 implements SpanPostProcessor {
         }
         return span;
     }
+
+    @Override
+    public Span postProcess(Span span, SpanEventColumns spanEventColumns) {
+        span.setVersion(V2.getVersion());
+        span.finish();
+        if (spanEventColumns != null && !spanEventColumns.isEmpty()) {
+            final long spanStartTime = span.getStartTime();
+            span.setSpanEventList(new ColumnarSpanEventList(spanEventColumns, spanStartTime, V2));
+        }
+        return span;
+    }
 }
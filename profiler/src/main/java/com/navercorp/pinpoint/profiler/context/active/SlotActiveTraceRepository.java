@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.common.trace.BaseHistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSlot;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps active traces in a preallocated slot array instead of a concurrent map.
+ * <p>
+ * A trace takes a free slot near the home slot of its thread, so the slot is almost always uncontended and
+ * its cache line stays with the thread. Releasing the slot is an ordered store.
+ * Snapshots and histograms scan the slots on demand and may miss or include a trace that starts or ends during the scan.
+ * <p>
+ * When no slot is free within the probe range, the trace is not tracked. Its response time is still collected.
+ */
+public class SlotActiveTraceRepository implements ActiveTraceRepository {
+
+    public static final int DEFAULT_SLOT_SIZE = 1024 * 16;
+    private static final int MAX_SLOT_SIZE = 1 << 24;
+    private static final int MAX_PROBE = 16;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final AtomicReferenceArray<ActiveTrace> slots;
+    private final int mask;
+
+    private final ResponseTimeCollector responseTimeCollector;
+    private final AtomicLong untrackedCount = new AtomicLong();
+
+    private final HistogramSchema histogramSchema = BaseHistogramSchema.NORMAL_SCHEMA;
+    private final ActiveTraceHistogram emptyActiveTraceHistogram = new EmptyActiveTraceHistogram(histogramSchema);
+
+    public SlotActiveTraceRepository(ResponseTimeCollector responseTimeCollector) {
+        this(responseTimeCollector, DEFAULT_SLOT_SIZE);
+    }
+
+    public SlotActiveTraceRepository(ResponseTimeCollector responseTimeCollector, int slotSize) {
+        this.responseTimeCollector = Assert.requireNonNull(responseTimeCollector, "responseTimeCollector must not be null");
+        if (slotSize <= 0) {
+            throw new IllegalArgumentException("slotSize must be positive. slotSize:" + slotSize);
+        }
+        final int size = roundUpToPowerOfTwo(Math.max(slotSize, MAX_PROBE));
+        this.slots = new AtomicReferenceArray<ActiveTrace>(size);
+        this.mask = size - 1;
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        if (value >= MAX_SLOT_SIZE) {
+            return MAX_SLOT_SIZE;
+        }
+        final int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+
+    @Override
+    public ActiveTraceHandle register(TraceRoot traceRoot) {
+        final ActiveTrace activeTrace = new SampledActiveTrace(traceRoot);
+        return register0(activeTrace);
+    }
+
+    @Override
+    public ActiveTraceHandle register(long localTransactionId, long startTime, long threadId) {
+        final ActiveTrace activeTrace = new UnsampledActiveTrace(localTransactionId, startTime, threadId);
+        return register0(activeTrace);
+    }
+
+    private ActiveTraceHandle register0(ActiveTrace activeTrace) {
+        if (isDebug) {
+            logger.debug("register ActiveTrace key:{}", activeTrace);
+        }
+        final int homeSlot = homeSlot(Thread.currentThread().getId());
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            final int index = (homeSlot + probe) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, activeTrace)) {
+                return new SlotActiveTraceHandle(index, activeTrace);
+            }
+        }
+        final long untrackedCount = this.untrackedCount.incrementAndGet();
+        if (untrackedCount == 1 && logger.isWarnEnabled()) {
+            logger.warn("no free slot for ActiveTrace. increase profiler.pinpoint.activethread.slot.size. slotSize:{}", slots.length());
+        }
+        return new SlotActiveTraceHandle(-1, activeTrace);
+    }
+
+    private int homeSlot(long threadId) {
+        // spread consecutive thread ids over different cache lines
+        long hash = threadId * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    private void remove(SlotActiveTraceHandle handle, long purgeTime) {
+        if (isDebug) {
+            logger.debug("remove ActiveTrace key:{}", handle);
+        }
+        final int index = handle.index;
+        if (index >= 0) {
+            // a taken slot is only replaced by its own handle
+            if (slots.get(index) == handle.activeTrace) {
+                slots.lazySet(index, null);
+            } else {
+                // purged twice
+                return;
+            }
+        }
+        final long responseTime = purgeTime - handle.activeTrace.getStartTime();
+        responseTimeCollector.add(responseTime);
+    }
+
+    // @ThreadSafe
+    @Override
+    public List<ActiveTraceSnapshot> snapshot() {
+        List<ActiveTraceSnapshot> collectData = null;
+        for (int i = 0; i <= mask; i++) {
+            final ActiveTrace trace = slots.get(i);
+            if (trace == null || !isStarted(trace.getStartTime())) {
+                continue;
+            }
+            if (collectData == null) {
+                collectData = new ArrayList<ActiveTraceSnapshot>();
+            }
+            collectData.add(trace.snapshot());
+        }
+        if (collectData == null) {
+            return Collections.emptyList();
+        }
+        if (isDebug) {
+            logger.debug("activeTraceSnapshot size:{}", collectData.size());
+        }
+        return collectData;
+    }
+
+    // @ThreadSafe
+    @Override
+    public List<Long> getThreadIdList() {
+        final List<ActiveTraceSnapshot> snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Long> collectData = new ArrayList<Long>(snapshot.size());
+        for (ActiveTraceSnapshot activeTraceSnapshot : snapshot) {
+            collectData.add(activeTraceSnapshot.getThreadId());
+        }
+        return collectData;
+    }
+
+    // @ThreadSafe
+    @Override
+    public ActiveTraceHistogram getActiveTraceHistogram(long currentTime) {
+        DefaultActiveTraceHistogram histogram = null;
+        for (int i = 0; i <= mask; i++) {
+            final ActiveTrace trace = slots.get(i);
+            if (trace == null) {
+                continue;
+            }
+            final long startTime = trace.getStartTime();
+            if (!isStarted(startTime)) {
+                continue;
+            }
+            if (histogram == null) {
+                histogram = new DefaultActiveTraceHistogram(histogramSchema);
+            }
+            final int elapsedTime = (int) (currentTime - startTime);
+            final HistogramSlot slot = histogramSchema.findHistogramSlot(elapsedTime, false);
+            histogram.increment(slot);
+        }
+        if (histogram == null) {
+            return emptyActiveTraceHistogram;
+        }
+        return histogram;
+    }
+
+    private boolean isStarted(long startTime) {
+        return startTime > 0;
+    }
+
+    public int getSlotSize() {
+        return slots.length();
+    }
+
+    /**
+     * @return number of traces that found no free slot
+     */
+    public long getUntrackedCount() {
+        return untrackedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SlotActiveTraceRepository{" +
+                "slotSize=" + slots.length() +
+                ", untrackedCount=" + untrackedCount.get() +
+                '}';
+    }
+
+    private class SlotActiveTraceHandle implements ActiveTraceHandle {
+        private final int index;
+        private final ActiveTrace activeTrace;
+
+        SlotActiveTraceHandle(int index, ActiveTrace activeTrace) {
+            this.index = index;
+            this.activeTrace = activeTrace;
+        }
+
+        @Override
+        public void purge(long purgeTime) {
+            remove(this, purgeTime);
+        }
+
+        @Override
+        public String toString() {
+            return "SlotActiveTraceHandle{" +
+                    "index=" + index +
+                    ", id=" + activeTrace.getId() +
+                    '}';
+        }
+    }
+}
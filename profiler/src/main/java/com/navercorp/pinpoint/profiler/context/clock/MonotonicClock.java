@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.clock;
+
+import com.navercorp.pinpoint.common.util.Clock;
+
+/**
+ * Wall clock time at the start of a trace plus System.nanoTime() elapsed since then.
+ * <p>
+ * Times within a trace never go backward even if the system clock is adjusted,
+ * and elapsed times are measured with nanoTime precision before they are truncated to milliseconds.
+ */
+public class MonotonicClock implements Clock {
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    private final long startTime;
+    private final long startNanoTime;
+
+    public MonotonicClock() {
+        this(System.currentTimeMillis(), System.nanoTime());
+    }
+
+    MonotonicClock(long startTime, long startNanoTime) {
+        this.startTime = startTime;
+        this.startNanoTime = startNanoTime;
+    }
+
+    @Override
+    public long getTime() {
+        return startTime + (nanoTime() - startNanoTime) / NANOS_PER_MILLI;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "MonotonicClock{" +
+                "startTime=" + startTime +
+                ", startNanoTime=" + startNanoTime +
+                '}';
+    }
+}
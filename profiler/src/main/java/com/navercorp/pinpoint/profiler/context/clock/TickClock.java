@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.clock;
+
+import com.navercorp.pinpoint.common.util.Clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Millisecond clock cached in a volatile field and refreshed by a background thread.
+ * <p>
+ * Reading the time is a single volatile read, which is much cheaper than System.currentTimeMillis()
+ * on hosts with a slow clock source. The time lags behind the system clock by up to one tick interval.
+ */
+public class TickClock implements Clock {
+
+    private static final String THREAD_NAME = "Pinpoint-TickClock";
+
+    private final long tickIntervalNanos;
+    private final Thread tickThread;
+
+    private volatile long time;
+    private volatile boolean running = true;
+
+    public TickClock(long tickIntervalMillis) {
+        if (tickIntervalMillis <= 0) {
+            throw new IllegalArgumentException("tickIntervalMillis must be positive. tickIntervalMillis:" + tickIntervalMillis);
+        }
+        this.tickIntervalNanos = TimeUnit.MILLISECONDS.toNanos(tickIntervalMillis);
+        this.time = System.currentTimeMillis();
+
+        this.tickThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }, THREAD_NAME);
+        this.tickThread.setDaemon(true);
+        this.tickThread.start();
+    }
+
+    private void tick() {
+        while (running) {
+            final long currentTime = System.currentTimeMillis();
+            // never goes backward even if the system clock is adjusted
+            if (currentTime > this.time) {
+                this.time = currentTime;
+            }
+            LockSupport.parkNanos(tickIntervalNanos);
+        }
+    }
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    public void stop() {
+        this.running = false;
+        LockSupport.unpark(tickThread);
+    }
+
+    @Override
+    public String toString() {
+        return "TickClock{" +
+                "tickIntervalNanos=" + tickIntervalNanos +
+                ", running=" + running +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.clock;
+
+import com.navercorp.pinpoint.common.util.Clock;
+
+/**
+ * every trace shares one {@link TickClock}
+ */
+public class TickTraceClockFactory implements TraceClockFactory {
+
+    private final TickClock tickClock;
+
+    public TickTraceClockFactory(long tickIntervalMillis) {
+        this.tickClock = new TickClock(tickIntervalMillis);
+    }
+
+    @Override
+    public Clock newTraceClock() {
+        return tickClock;
+    }
+
+    @Override
+    public void close() {
+        tickClock.stop();
+    }
+
+    @Override
+    public String toString() {
+        return "TickTraceClockFactory{" +
+                "tickClock=" + tickClock +
+                '}';
+    }
+}
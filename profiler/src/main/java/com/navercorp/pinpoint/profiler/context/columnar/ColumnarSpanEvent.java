@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.columnar;
+
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+
+/**
+ * Flyweight element of {@link ColumnarSpanEventList}.
+ * write() produces the same bytes as the generated TSpanEvent standard scheme for the row, without the TSpanEvent.
+ * The inherited fields are never populated.
+ */
+final class ColumnarSpanEvent extends TSpanEvent {
+
+    // field ids of Span.thrift TSpanEvent
+    private static final TStruct STRUCT_DESC = new TStruct("TSpanEvent");
+    private static final TField SPAN_ID_FIELD_DESC = new TField("spanId", TType.I64, (short) 7);
+    private static final TField SEQUENCE_FIELD_DESC = new TField("sequence", TType.I16, (short) 8);
+    private static final TField START_ELAPSED_FIELD_DESC = new TField("startElapsed", TType.I32, (short) 9);
+    private static final TField END_ELAPSED_FIELD_DESC = new TField("endElapsed", TType.I32, (short) 10);
+    private static final TField RPC_FIELD_DESC = new TField("rpc", TType.STRING, (short) 11);
+    private static final TField SERVICE_TYPE_FIELD_DESC = new TField("serviceType", TType.I16, (short) 12);
+    private static final TField END_POINT_FIELD_DESC = new TField("endPoint", TType.STRING, (short) 13);
+    private static final TField ANNOTATIONS_FIELD_DESC = new TField("annotations", TType.LIST, (short) 14);
+    private static final TField DEPTH_FIELD_DESC = new TField("depth", TType.I32, (short) 15);
+    private static final TField NEXT_SPAN_ID_FIELD_DESC = new TField("nextSpanId", TType.I64, (short) 16);
+    private static final TField DESTINATION_ID_FIELD_DESC = new TField("destinationId", TType.STRING, (short) 20);
+    private static final TField API_ID_FIELD_DESC = new TField("apiId", TType.I32, (short) 25);
+    private static final TField EXCEPTION_INFO_FIELD_DESC = new TField("exceptionInfo", TType.STRUCT, (short) 26);
+    private static final TField ASYNC_ID_FIELD_DESC = new TField("asyncId", TType.I32, (short) 30);
+    private static final TField NEXT_ASYNC_ID_FIELD_DESC = new TField("nextAsyncId", TType.I32, (short) 31);
+    private static final TField ASYNC_SEQUENCE_FIELD_DESC = new TField("asyncSequence", TType.I16, (short) 32);
+
+    private final ColumnarSpanEventList list;
+    private final SpanEventColumns columns;
+    private int index;
+
+    ColumnarSpanEvent(ColumnarSpanEventList list) {
+        this.list = list;
+        this.columns = list.getColumns();
+    }
+
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public void write(TProtocol oprot) throws TException {
+        final SpanEventColumns columns = this.columns;
+        final int row = list.getRow(index);
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (columns.isSet(row, SpanEventColumns.SPAN_ID)) {
+            oprot.writeFieldBegin(SPAN_ID_FIELD_DESC);
+            oprot.writeI64(columns.getSpanId(row));
+            oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(SEQUENCE_FIELD_DESC);
+        oprot.writeI16(columns.getSequence(row));
+        oprot.writeFieldEnd();
+
+        oprot.writeFieldBegin(START_ELAPSED_FIELD_DESC);
+        oprot.writeI32(list.getStartElapsed(index));
+        oprot.writeFieldEnd();
+
+        final int elapsed = columns.getElapsed(row);
+        if (elapsed != 0) {
+            oprot.writeFieldBegin(END_ELAPSED_FIELD_DESC);
+            oprot.writeI32(elapsed);
+            oprot.writeFieldEnd();
+        }
+        writeString(oprot, RPC_FIELD_DESC, columns.getRpc(row));
+
+        oprot.writeFieldBegin(SERVICE_TYPE_FIELD_DESC);
+        oprot.writeI16(columns.getServiceType(row));
+        oprot.writeFieldEnd();
+
+        writeString(oprot, END_POINT_FIELD_DESC, columns.getEndPoint(row));
+
+        if (columns.isSet(row, SpanEventColumns.ANNOTATIONS)) {
+            final int offset = columns.getAnnotationOffset(row);
+            final int count = columns.getAnnotationCount(row);
+            oprot.writeFieldBegin(ANNOTATIONS_FIELD_DESC);
+            oprot.writeListBegin(new TList(TType.STRUCT, count));
+            for (int i = offset; i < offset + count; i++) {
+                columns.getAnnotation(i).write(oprot);
+            }
+            oprot.writeListEnd();
+            oprot.writeFieldEnd();
+        }
+        if (list.isDepthWritten(index)) {
+            oprot.writeFieldBegin(DEPTH_FIELD_DESC);
+            oprot.writeI32(columns.getDepth(row));
+            oprot.writeFieldEnd();
+        }
+        if (columns.isSet(row, SpanEventColumns.NEXT_SPAN_ID)) {
+            oprot.writeFieldBegin(NEXT_SPAN_ID_FIELD_DESC);
+            oprot.writeI64(columns.getNextSpanId(row));
+            oprot.writeFieldEnd();
+        }
+        writeString(oprot, DESTINATION_ID_FIELD_DESC, columns.getDestinationId(row));
+
+        if (columns.isSet(row, SpanEventColumns.API_ID)) {
+            oprot.writeFieldBegin(API_ID_FIELD_DESC);
+            oprot.writeI32(columns.getApiId(row));
+            oprot.writeFieldEnd();
+        }
+        if (columns.getExceptionInfo(row) != null) {
+            oprot.writeFieldBegin(EXCEPTION_INFO_FIELD_DESC);
+            columns.getExceptionInfo(row).write(oprot);
+            oprot.writeFieldEnd();
+        }
+        if (columns.isSet(row, SpanEventColumns.ASYNC_ID)) {
+            oprot.writeFieldBegin(ASYNC_ID_FIELD_DESC);
+            oprot.writeI32(columns.getAsyncId(row));
+            oprot.writeFieldEnd();
+        }
+        if (columns.isSet(row, SpanEventColumns.NEXT_ASYNC_ID)) {
+            oprot.writeFieldBegin(NEXT_ASYNC_ID_FIELD_DESC);
+            oprot.writeI32(columns.getNextAsyncId(row));
+            oprot.writeFieldEnd();
+        }
+        if (columns.isSet(row, SpanEventColumns.ASYNC_SEQUENCE)) {
+            oprot.writeFieldBegin(ASYNC_SEQUENCE_FIELD_DESC);
+            oprot.writeI16(columns.getAsyncSequence(row));
+            oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+    }
+
+    private static void writeString(TProtocol oprot, TField field, String value) throws TException {
+        if (value != null) {
+            oprot.writeFieldBegin(field);
+            oprot.writeString(value);
+            oprot.writeFieldEnd();
+        }
+    }
+
+    @Override
+    public String toString() {
+        final int row = list.getRow(index);
+        return "ColumnarSpanEvent{" +
+                "sequence=" + columns.getSequence(row) +
+                ", startElapsed=" + list.getStartElapsed(index) +
+                ", endElapsed=" + columns.getElapsed(row) +
+                ", serviceType=" + columns.getServiceType(row) +
+                ", apiId=" + columns.getApiId(row) +
+                ", depth=" + columns.getDepth(row) +
+                ", annotationCount=" + columns.getAnnotationCount(row) +
+                '}';
+    }
+}
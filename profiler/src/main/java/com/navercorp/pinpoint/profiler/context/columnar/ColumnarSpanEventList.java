@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.columnar;
+
+import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@code List<TSpanEvent>} view of {@link SpanEventColumns} for TSpan/TSpanChunk.
+ * <p>
+ * The elements are flyweights that encode their row straight from the columns when written.
+ * No TSpanEvent is built per event. The time and depth compression of {@link com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV1}
+ * and {@link com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2} is applied at encoding time,
+ * i.e. on the sender thread.
+ */
+public class ColumnarSpanEventList extends AbstractList<TSpanEvent> implements RandomAccess {
+
+    private final SpanEventColumns columns;
+    private final long keyTime;
+    private final boolean compressV2;
+    // row of each element. sorted by sequence for V2
+    private final int[] order;
+
+    public ColumnarSpanEventList(SpanEventColumns columns, long keyTime, TraceDataFormatVersion version) {
+        if (columns == null) {
+            throw new NullPointerException("columns must not be null");
+        }
+        if (version == null) {
+            throw new NullPointerException("version must not be null");
+        }
+        this.columns = columns;
+        this.keyTime = keyTime;
+        this.compressV2 = version == TraceDataFormatVersion.V2;
+        this.order = newOrder(columns, compressV2);
+    }
+
+    private static int[] newOrder(SpanEventColumns columns, boolean sortBySequence) {
+        final int size = columns.size();
+        final int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        if (sortBySequence) {
+            // stable insertion sort. events are stored nearly in sequence order
+            for (int i = 1; i < size; i++) {
+                final int row = order[i];
+                final short sequence = columns.getSequence(row);
+                int j = i - 1;
+                while (j >= 0 && columns.getSequence(order[j]) > sequence) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = row;
+            }
+        }
+        return order;
+    }
+
+    SpanEventColumns getColumns() {
+        return columns;
+    }
+
+    int getRow(int index) {
+        return order[index];
+    }
+
+    int getStartElapsed(int index) {
+        final int row = order[index];
+        final long prevKeyTime;
+        if (compressV2 && index > 0) {
+            prevKeyTime = columns.getStartTime(order[index - 1]);
+        } else {
+            prevKeyTime = keyTime;
+        }
+        return (int) (columns.getStartTime(row) - prevKeyTime);
+    }
+
+    boolean isDepthWritten(int index) {
+        final int row = order[index];
+        if (!columns.isSet(row, SpanEventColumns.DEPTH)) {
+            return false;
+        }
+        if (compressV2 && index > 0) {
+            // skip the same depth as the previous event
+            return columns.getDepth(row) != columns.getDepth(order[index - 1]);
+        }
+        return true;
+    }
+
+    @Override
+    public TSpanEvent get(int index) {
+        if (index < 0 || index >= order.length) {
+            throw new IndexOutOfBoundsException("index:" + index + ", size:" + order.length);
+        }
+        final ColumnarSpanEvent spanEvent = new ColumnarSpanEvent(this);
+        spanEvent.setIndex(index);
+        return spanEvent;
+    }
+
+    /**
+     * Caution. returns the same flyweight repositioned on each next(). do not keep the elements
+     */
+    @Override
+    public Iterator<TSpanEvent> iterator() {
+        return new Iterator<TSpanEvent>() {
+            private final ColumnarSpanEvent cursor = new ColumnarSpanEvent(ColumnarSpanEventList.this);
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < order.length;
+            }
+
+            @Override
+            public TSpanEvent next() {
+                if (index >= order.length) {
+                    throw new NoSuchElementException();
+                }
+                cursor.setIndex(index++);
+                return cursor;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return order.length;
+    }
+}
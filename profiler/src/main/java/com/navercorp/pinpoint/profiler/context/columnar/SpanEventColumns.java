@@ -0,0 +1,283 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.columnar;
+
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TIntStringValue;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar copy of finished {@link SpanEvent}s. one primitive array per field instead of one Thrift object per event.
+ * <p>
+ * The SpanEvent can be discarded (or recycled) as soon as it is added.
+ * Annotations of all rows are kept in one flat array.
+ * Caution. not thread safe. written by the application thread and read by the sender thread after it is handed over.
+ */
+public class SpanEventColumns {
+
+    static final int SPAN_ID = 1;
+    static final int DEPTH = 1 << 1;
+    static final int NEXT_SPAN_ID = 1 << 2;
+    static final int API_ID = 1 << 3;
+    static final int ASYNC_ID = 1 << 4;
+    static final int NEXT_ASYNC_ID = 1 << 5;
+    static final int ASYNC_SEQUENCE = 1 << 6;
+    static final int ANNOTATIONS = 1 << 7;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ANNOTATION_CAPACITY = 16;
+
+    private int size;
+
+    private int[] flags;
+    private short[] sequence;
+    private long[] startTime;
+    private int[] elapsed;
+    private short[] serviceType;
+    private int[] apiId;
+    private int[] depth;
+    private long[] spanId;
+    private long[] nextSpanId;
+    private int[] asyncId;
+    private int[] nextAsyncId;
+    private short[] asyncSequence;
+
+    private String[] rpc;
+    private String[] endPoint;
+    private String[] destinationId;
+    private TIntStringValue[] exceptionInfo;
+
+    // annotations of row i : annotations[annotationOffset[i], annotationOffset[i + 1])
+    private int[] annotationOffset;
+    private TAnnotation[] annotations;
+
+    public SpanEventColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SpanEventColumns(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        allocate(capacity);
+        this.annotations = new TAnnotation[DEFAULT_ANNOTATION_CAPACITY];
+    }
+
+    private void allocate(int capacity) {
+        this.flags = new int[capacity];
+        this.sequence = new short[capacity];
+        this.startTime = new long[capacity];
+        this.elapsed = new int[capacity];
+        this.serviceType = new short[capacity];
+        this.apiId = new int[capacity];
+        this.depth = new int[capacity];
+        this.spanId = new long[capacity];
+        this.nextSpanId = new long[capacity];
+        this.asyncId = new int[capacity];
+        this.nextAsyncId = new int[capacity];
+        this.asyncSequence = new short[capacity];
+        this.rpc = new String[capacity];
+        this.endPoint = new String[capacity];
+        this.destinationId = new String[capacity];
+        this.exceptionInfo = new TIntStringValue[capacity];
+        this.annotationOffset = new int[capacity + 1];
+    }
+
+    private void grow() {
+        final int capacity = flags.length << 1;
+        this.flags = Arrays.copyOf(flags, capacity);
+        this.sequence = Arrays.copyOf(sequence, capacity);
+        this.startTime = Arrays.copyOf(startTime, capacity);
+        this.elapsed = Arrays.copyOf(elapsed, capacity);
+        this.serviceType = Arrays.copyOf(serviceType, capacity);
+        this.apiId = Arrays.copyOf(apiId, capacity);
+        this.depth = Arrays.copyOf(depth, capacity);
+        this.spanId = Arrays.copyOf(spanId, capacity);
+        this.nextSpanId = Arrays.copyOf(nextSpanId, capacity);
+        this.asyncId = Arrays.copyOf(asyncId, capacity);
+        this.nextAsyncId = Arrays.copyOf(nextAsyncId, capacity);
+        this.asyncSequence = Arrays.copyOf(asyncSequence, capacity);
+        this.rpc = Arrays.copyOf(rpc, capacity);
+        this.endPoint = Arrays.copyOf(endPoint, capacity);
+        this.destinationId = Arrays.copyOf(destinationId, capacity);
+        this.exceptionInfo = Arrays.copyOf(exceptionInfo, capacity);
+        this.annotationOffset = Arrays.copyOf(annotationOffset, capacity + 1);
+    }
+
+    public void add(SpanEvent spanEvent) {
+        if (spanEvent == null) {
+            throw new NullPointerException("spanEvent must not be null");
+        }
+        if (size == flags.length) {
+            grow();
+        }
+        final int row = size;
+
+        int flag = 0;
+        if (spanEvent.isSetSpanId()) {
+            flag |= SPAN_ID;
+            this.spanId[row] = spanEvent.getSpanId();
+        }
+        if (spanEvent.isSetDepth()) {
+            flag |= DEPTH;
+        }
+        this.depth[row] = spanEvent.getDepth();
+        if (spanEvent.isSetNextSpanId()) {
+            flag |= NEXT_SPAN_ID;
+            this.nextSpanId[row] = spanEvent.getNextSpanId();
+        }
+        if (spanEvent.isSetApiId()) {
+            flag |= API_ID;
+            this.apiId[row] = spanEvent.getApiId();
+        }
+        if (spanEvent.isSetAsyncId()) {
+            flag |= ASYNC_ID;
+            this.asyncId[row] = spanEvent.getAsyncId();
+        }
+        if (spanEvent.isSetNextAsyncId()) {
+            flag |= NEXT_ASYNC_ID;
+            this.nextAsyncId[row] = spanEvent.getNextAsyncId();
+        }
+        if (spanEvent.isSetAsyncSequence()) {
+            flag |= ASYNC_SEQUENCE;
+            this.asyncSequence[row] = spanEvent.getAsyncSequence();
+        }
+
+        this.sequence[row] = spanEvent.getSequence();
+        final long startTime = spanEvent.getStartTime();
+        this.startTime[row] = startTime;
+        this.elapsed[row] = (int) (spanEvent.getAfterTime() - startTime);
+        this.serviceType[row] = spanEvent.getServiceType();
+
+        this.rpc[row] = spanEvent.getRpc();
+        this.endPoint[row] = spanEvent.getEndPoint();
+        this.destinationId[row] = spanEvent.getDestinationId();
+        this.exceptionInfo[row] = spanEvent.getExceptionInfo();
+
+        final List<TAnnotation> annotationList = spanEvent.getAnnotations();
+        int annotationEnd = annotationOffset[row];
+        if (annotationList != null) {
+            flag |= ANNOTATIONS;
+            for (TAnnotation annotation : annotationList) {
+                if (annotationEnd == annotations.length) {
+                    this.annotations = Arrays.copyOf(annotations, annotations.length << 1);
+                }
+                this.annotations[annotationEnd++] = annotation;
+            }
+        }
+        this.annotationOffset[row + 1] = annotationEnd;
+
+        this.flags[row] = flag;
+        this.size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isSet(int row, int flag) {
+        return (flags[row] & flag) != 0;
+    }
+
+    short getSequence(int row) {
+        return sequence[row];
+    }
+
+    public long getStartTime(int row) {
+        return startTime[row];
+    }
+
+    int getElapsed(int row) {
+        return elapsed[row];
+    }
+
+    short getServiceType(int row) {
+        return serviceType[row];
+    }
+
+    int getApiId(int row) {
+        return apiId[row];
+    }
+
+    int getDepth(int row) {
+        return depth[row];
+    }
+
+    long getSpanId(int row) {
+        return spanId[row];
+    }
+
+    long getNextSpanId(int row) {
+        return nextSpanId[row];
+    }
+
+    int getAsyncId(int row) {
+        return asyncId[row];
+    }
+
+    int getNextAsyncId(int row) {
+        return nextAsyncId[row];
+    }
+
+    short getAsyncSequence(int row) {
+        return asyncSequence[row];
+    }
+
+    String getRpc(int row) {
+        return rpc[row];
+    }
+
+    String getEndPoint(int row) {
+        return endPoint[row];
+    }
+
+    String getDestinationId(int row) {
+        return destinationId[row];
+    }
+
+    TIntStringValue getExceptionInfo(int row) {
+        return exceptionInfo[row];
+    }
+
+    int getAnnotationOffset(int row) {
+        return annotationOffset[row];
+    }
+
+    int getAnnotationCount(int row) {
+        return annotationOffset[row + 1] - annotationOffset[row];
+    }
+
+    TAnnotation getAnnotation(int index) {
+        return annotations[index];
+    }
+
+    @Override
+    public String toString() {
+        return "SpanEventColumns{" +
+                "size=" + size +
+                ", capacity=" + flags.length +
+                ", annotationCount=" + annotationOffset[size] +
+                '}';
+    }
+}
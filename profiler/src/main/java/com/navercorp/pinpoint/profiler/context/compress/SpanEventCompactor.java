@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.compress;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
+import com.navercorp.pinpoint.thrift.dto.TIntStringStringValue;
+import com.navercorp.pinpoint.thrift.dto.TLongIntIntByteByteStringValue;
+
+import java.util.List;
+
+/**
+ * Folds runs of repeated sibling SpanEvents into the first SpanEvent of the run. e.g. N+1 queries, batch loops
+ * <p>
+ * A run is made of leaf SpanEvents with consecutive sequences and the same depth, serviceType, apiId, destination and sql.
+ * The first SpanEvent of the run covers the time range of the whole run and records the number of SpanEvents,
+ * the sum/min/max of their elapsed time and the bind values of the first few. The other SpanEvents are removed and recycled.
+ * SpanEvents that call another span or an async task, and SpanEvents with an exception, are never folded.
+ * <p>
+ * Caution. the list must be sorted by sequence
+ */
+public class SpanEventCompactor {
+
+    private static final int SQL_ID = AnnotationKey.SQL_ID.getCode();
+    private static final int SQL_BINDVALUE = AnnotationKey.SQL_BINDVALUE.getCode();
+    private static final int REPEAT_COUNT = AnnotationKey.REPEAT_COUNT.getCode();
+    private static final int REPEAT_ELAPSED = AnnotationKey.REPEAT_ELAPSED.getCode();
+
+    private final int minRepeatCount;
+    private final int maxBindValueCount;
+
+    /**
+     * @param minRepeatCount shorter runs are left as they are
+     * @param maxBindValueCount number of folded SpanEvents whose bind values are kept
+     */
+    public SpanEventCompactor(int minRepeatCount, int maxBindValueCount) {
+        if (minRepeatCount < 2) {
+            throw new IllegalArgumentException("minRepeatCount must be greater than 1. minRepeatCount:" + minRepeatCount);
+        }
+        if (maxBindValueCount < 0) {
+            throw new IllegalArgumentException("negative maxBindValueCount:" + maxBindValueCount);
+        }
+        this.minRepeatCount = minRepeatCount;
+        this.maxBindValueCount = maxBindValueCount;
+    }
+
+    public void compact(List<SpanEvent> spanEventList) {
+        final int size = spanEventList.size();
+        if (size < minRepeatCount) {
+            return;
+        }
+
+        int writeIndex = 0;
+        int readIndex = 0;
+        while (readIndex < size) {
+            final int runLength = getRunLength(spanEventList, readIndex);
+            if (runLength >= minRepeatCount) {
+                fold(spanEventList, readIndex, runLength);
+                spanEventList.set(writeIndex++, spanEventList.get(readIndex));
+            } else {
+                for (int i = readIndex; i < readIndex + runLength; i++) {
+                    spanEventList.set(writeIndex++, spanEventList.get(i));
+                }
+            }
+            readIndex += runLength;
+        }
+        if (writeIndex < size) {
+            spanEventList.subList(writeIndex, size).clear();
+        }
+    }
+
+    private int getRunLength(List<SpanEvent> spanEventList, int start) {
+        final SpanEvent first = spanEventList.get(start);
+        if (!isFoldable(first)) {
+            return 1;
+        }
+
+        final int size = spanEventList.size();
+        int end = start + 1;
+        while (end < size) {
+            final SpanEvent prev = spanEventList.get(end - 1);
+            final SpanEvent current = spanEventList.get(end);
+            if (current.getSequence() != prev.getSequence() + 1) {
+                break;
+            }
+            if (!isFoldable(current) || !isSameCall(first, current)) {
+                break;
+            }
+            end++;
+        }
+
+        final int runLength = end - start;
+        if (runLength > 1 && !isLeaf(spanEventList, end - 1)) {
+            // the children of the last SpanEvent may follow, in this list or in another SpanChunk
+            return runLength - 1;
+        }
+        return runLength;
+    }
+
+    private boolean isLeaf(List<SpanEvent> spanEventList, int index) {
+        final int nextIndex = index + 1;
+        if (nextIndex >= spanEventList.size()) {
+            return false;
+        }
+        final SpanEvent spanEvent = spanEventList.get(index);
+        final SpanEvent next = spanEventList.get(nextIndex);
+        return next.getSequence() == spanEvent.getSequence() + 1 && next.getDepth() <= spanEvent.getDepth();
+    }
+
+    private boolean isFoldable(SpanEvent spanEvent) {
+        if (spanEvent.isSetNextSpanId() && spanEvent.getNextSpanId() != -1) {
+            return false;
+        }
+        if (spanEvent.isSetNextAsyncId()) {
+            return false;
+        }
+        return !spanEvent.isSetExceptionInfo();
+    }
+
+    private boolean isSameCall(SpanEvent first, SpanEvent spanEvent) {
+        if (first.getDepth() != spanEvent.getDepth()) {
+            return false;
+        }
+        if (first.getServiceType() != spanEvent.getServiceType()) {
+            return false;
+        }
+        if (first.getApiId() != spanEvent.getApiId()) {
+            return false;
+        }
+        if (!equals(first.getDestinationId(), spanEvent.getDestinationId())) {
+            return false;
+        }
+        if (!equals(first.getEndPoint(), spanEvent.getEndPoint())) {
+            return false;
+        }
+        final TIntStringStringValue firstSql = getSql(first);
+        final TIntStringStringValue sql = getSql(spanEvent);
+        if (firstSql == null || sql == null) {
+            return firstSql == sql;
+        }
+        return firstSql.getIntValue() == sql.getIntValue();
+    }
+
+    private static boolean equals(String a, String b) {
+        if (a == null) {
+            return b == null;
+        }
+        return a.equals(b);
+    }
+
+    private TIntStringStringValue getSql(SpanEvent spanEvent) {
+        final List<TAnnotation> annotations = spanEvent.getAnnotations();
+        if (annotations == null) {
+            return null;
+        }
+        for (TAnnotation annotation : annotations) {
+            if (annotation.getKey() != SQL_ID) {
+                continue;
+            }
+            final TAnnotationValue value = annotation.getValue();
+            if (value != null && value.isSetIntStringStringValue()) {
+                return value.getIntStringStringValue();
+            }
+        }
+        return null;
+    }
+
+    private void fold(List<SpanEvent> spanEventList, int start, int runLength) {
+        final SpanEvent first = spanEventList.get(start);
+
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        long afterTime = first.getAfterTime();
+        int bindValueCount = 0;
+        for (int i = start; i < start + runLength; i++) {
+            final SpanEvent spanEvent = spanEventList.get(i);
+            final int elapsed = (int) (spanEvent.getAfterTime() - spanEvent.getStartTime());
+            sum += elapsed;
+            min = Math.min(min, elapsed);
+            max = Math.max(max, elapsed);
+            afterTime = Math.max(afterTime, spanEvent.getAfterTime());
+
+            if (i == start) {
+                continue;
+            }
+            if (bindValueCount < maxBindValueCount) {
+                final TIntStringStringValue sql = getSql(spanEvent);
+                if (sql != null && sql.isSetStringValue2()) {
+                    first.addAnnotation(new Annotation(SQL_BINDVALUE, sql.getStringValue2()));
+                    bindValueCount++;
+                }
+            }
+            spanEvent.recycle();
+        }
+
+        first.setAfterTime(afterTime);
+        first.addAnnotation(new Annotation(REPEAT_COUNT, runLength));
+        final TLongIntIntByteByteStringValue elapsed = new TLongIntIntByteByteStringValue(sum, min);
+        elapsed.setIntValue2(max);
+        first.addAnnotation(new Annotation(REPEAT_ELAPSED, elapsed));
+    }
+
+    @Override
+    public String toString() {
+        return "SpanEventCompactor{" +
+                "minRepeatCount=" + minRepeatCount +
+                ", maxBindValueCount=" + maxBindValueCount +
+                '}';
+    }
+}
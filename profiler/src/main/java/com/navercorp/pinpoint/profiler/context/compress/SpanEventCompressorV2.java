@@ -29,11 +29,28 @@ public class SpanEventCompressorV2 implements SpanEventCompressor<Long> {
 
     private final static Comparator<SpanEvent> SEQUENCE_COMPARATOR = SpanEventSequenceComparator.INSTANCE;
 
+    private final SpanEventCompactor spanEventCompactor;
+
+    public SpanEventCompressorV2() {
+        this(null);
+    }
+
+    /**
+     * @param spanEventCompactor nullable. folds repeated SpanEvents before the time/depth compression
+     */
+    public SpanEventCompressorV2(SpanEventCompactor spanEventCompactor) {
+        this.spanEventCompactor = spanEventCompactor;
+    }
+
     @Override
     public void compress(List<SpanEvent> spanEventList, final Long keyTime) {
         // sort list for data compression
         Collections.sort(spanEventList, SEQUENCE_COMPARATOR);
 
+        if (spanEventCompactor != null) {
+            spanEventCompactor.compact(spanEventList);
+        }
+
         compressTime(spanEventList, keyTime);
         compressDepth(spanEventList);
     }
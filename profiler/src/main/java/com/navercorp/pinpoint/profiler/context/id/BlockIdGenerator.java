@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.id;
+
+import com.navercorp.pinpoint.profiler.util.Counter;
+import com.navercorp.pinpoint.profiler.util.CounterFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator.INITIAL_CONTINUED_DISABLED_ID;
+import static com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator.INITIAL_CONTINUED_TRANSACTION_ID;
+import static com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator.INITIAL_DISABLED_ID;
+import static com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator.INITIAL_TRANSACTION_ID;
+import static com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator.NEGATIVE_DECREMENT_CYCLE;
+
+/**
+ * {@link IdGenerator} reserving ids in per-thread blocks.
+ * <p>
+ * A thread touches the shared sequence once per block, so ids stay unique per agent
+ * while threads no longer contend on a single counter for every transaction.
+ * Ids are not ordered across threads, and the unused part of a block is lost when its thread dies.
+ * <p>
+ * The current*() methods report the value {@link AtomicIdGenerator} would have reached after issuing the same number of ids,
+ * so {@link DefaultTransactionCounter} keeps counting exactly. Issued ids are counted on a striped counter.
+ */
+public class BlockIdGenerator implements IdGenerator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int blockSize;
+
+    // id generator for sampled new traces
+    private final IdSequence transactionId;
+    // id generator for sampled continued traces
+    private final IdSequence continuedTransactionId;
+    // id generator for unsampled new traces
+    private final IdSequence disabledId;
+    // id generator for unsampled continued traces
+    private final IdSequence continuedDisabledId;
+
+    public BlockIdGenerator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockIdGenerator(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive. blockSize:" + blockSize);
+        }
+        this.blockSize = blockSize;
+        this.transactionId = new IdSequence(INITIAL_TRANSACTION_ID, 1, blockSize);
+        this.continuedTransactionId = new IdSequence(INITIAL_CONTINUED_TRANSACTION_ID, NEGATIVE_DECREMENT_CYCLE, blockSize);
+        this.disabledId = new IdSequence(INITIAL_DISABLED_ID, NEGATIVE_DECREMENT_CYCLE, blockSize);
+        this.continuedDisabledId = new IdSequence(INITIAL_CONTINUED_DISABLED_ID, NEGATIVE_DECREMENT_CYCLE, blockSize);
+    }
+
+    @Override
+    public long nextTransactionId() {
+        return transactionId.next();
+    }
+
+    @Override
+    public long nextContinuedTransactionId() {
+        return continuedTransactionId.next();
+    }
+
+    @Override
+    public long nextDisabledId() {
+        return disabledId.next();
+    }
+
+    @Override
+    public long nextContinuedDisabledId() {
+        return continuedDisabledId.next();
+    }
+
+    @Override
+    public long currentTransactionId() {
+        return transactionId.current();
+    }
+
+    @Override
+    public long currentContinuedTransactionId() {
+        return continuedTransactionId.current();
+    }
+
+    @Override
+    public long currentDisabledId() {
+        return disabledId.current();
+    }
+
+    @Override
+    public long currentContinuedDisabledId() {
+        return continuedDisabledId.current();
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockIdGenerator{" +
+                "blockSize=" + blockSize +
+                ", transactionId=" + currentTransactionId() +
+                '}';
+    }
+
+    private static final class IdSequence {
+
+        private final long initialValue;
+        private final long step;
+        private final int blockSize;
+
+        // first id of the next free block
+        private final AtomicLong nextBlock;
+        private final Counter issuedCount = CounterFactory.newCounter();
+
+        private final ThreadLocal<Block> localBlock = new ThreadLocal<Block>() {
+            @Override
+            protected Block initialValue() {
+                return new Block();
+            }
+        };
+
+        private IdSequence(long initialValue, long step, int blockSize) {
+            this.initialValue = initialValue;
+            this.step = step;
+            this.blockSize = blockSize;
+            this.nextBlock = new AtomicLong(initialValue);
+        }
+
+        private long next() {
+            final Block block = localBlock.get();
+            if (block.remaining == 0) {
+                block.nextId = nextBlock.getAndAdd(step * blockSize);
+                block.remaining = blockSize;
+            }
+            final long id = block.nextId;
+            block.nextId += step;
+            block.remaining--;
+            issuedCount.increment();
+            return id;
+        }
+
+        private long current() {
+            return initialValue + issuedCount.longValue() * step;
+        }
+    }
+
+    private static final class Block {
+        private long nextId;
+        private int remaining;
+    }
+}
@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.profiler.context.id;
 
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.common.util.Clock;
+import com.navercorp.pinpoint.common.util.SystemClock;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -29,15 +31,21 @@ public class DefaultTraceRoot implements TraceRoot {
     private final long localTransactionId;
 
     private final long traceStartTime;
+    private final Clock clock;
 
     private final Shared shared = new DefaultShared();
 
 
     public DefaultTraceRoot(TraceId traceId, String agentId, long traceStartTime, long localTransactionId) {
+        this(traceId, agentId, traceStartTime, localTransactionId, SystemClock.INSTANCE);
+    }
+
+    public DefaultTraceRoot(TraceId traceId, String agentId, long traceStartTime, long localTransactionId, Clock clock) {
         this.traceId = Assert.requireNonNull(traceId, "traceId must not be null");
         this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
         this.traceStartTime = traceStartTime;
         this.localTransactionId = localTransactionId;
+        this.clock = Assert.requireNonNull(clock, "clock must not be null");
     }
 
     @Override
@@ -64,6 +72,11 @@ public class DefaultTraceRoot implements TraceRoot {
         return shared;
     }
 
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
 
 
 
@@ -18,6 +18,9 @@ package com.navercorp.pinpoint.profiler.context.id;
 
 import com.google.inject.Inject;
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.util.Clock;
+import com.navercorp.pinpoint.profiler.context.clock.SystemTraceClockFactory;
+import com.navercorp.pinpoint.profiler.context.clock.TraceClockFactory;
 import com.navercorp.pinpoint.profiler.context.module.AgentId;
 
 /**
@@ -28,9 +31,14 @@ public class DefaultTraceRootFactory implements TraceRootFactory {
     private final String agentId;
     private final TraceIdFactory traceIdFactory;
     private final IdGenerator idGenerator;
+    private final TraceClockFactory traceClockFactory;
+
+    public DefaultTraceRootFactory(String agentId, TraceIdFactory traceIdFactory, IdGenerator idGenerator) {
+        this(agentId, traceIdFactory, idGenerator, SystemTraceClockFactory.INSTANCE);
+    }
 
     @Inject
-    public DefaultTraceRootFactory(@AgentId String agentId, TraceIdFactory traceIdFactory, IdGenerator idGenerator) {
+    public DefaultTraceRootFactory(@AgentId String agentId, TraceIdFactory traceIdFactory, IdGenerator idGenerator, TraceClockFactory traceClockFactory) {
         if (agentId == null) {
             throw new NullPointerException("agentId must not be null");
         }
@@ -40,21 +48,29 @@ public class DefaultTraceRootFactory implements TraceRootFactory {
         if (idGenerator == null) {
             throw new NullPointerException("idGenerator must not be null");
         }
+        if (traceClockFactory == null) {
+            throw new NullPointerException("traceClockFactory must not be null");
+        }
         this.agentId = agentId;
         this.traceIdFactory = traceIdFactory;
         this.idGenerator = idGenerator;
+        this.traceClockFactory = traceClockFactory;
     }
 
     @Override
     public TraceRoot newTraceRoot() {
         final long localTransactionId = idGenerator.nextTransactionId();
         final TraceId traceId = traceIdFactory.newTraceId(localTransactionId);
-        final long startTime = traceStartTime();
-        return new DefaultTraceRoot(traceId, this.agentId, startTime, localTransactionId);
+        final Clock clock = traceClockFactory.newTraceClock();
+        return new DefaultTraceRoot(traceId, this.agentId, clock.getTime(), localTransactionId, clock);
     }
 
-    private long traceStartTime() {
-        return System.currentTimeMillis();
+    @Override
+    public TraceRoot newUnsampledTraceRoot() {
+        final long disabledId = idGenerator.nextDisabledId();
+        final TraceId traceId = traceIdFactory.newTraceId(disabledId);
+        final Clock clock = traceClockFactory.newTraceClock();
+        return new DefaultTraceRoot(traceId, this.agentId, clock.getTime(), disabledId, clock);
     }
 
 
@@ -63,8 +79,8 @@ public class DefaultTraceRootFactory implements TraceRootFactory {
         if (traceId == null) {
             throw new NullPointerException("traceId must not be null");
         }
-        final long startTime = traceStartTime();
+        final Clock clock = traceClockFactory.newTraceClock();
         final long continuedTransactionId = this.idGenerator.nextContinuedTransactionId();
-        return new DefaultTraceRoot(traceId, this.agentId, startTime, continuedTransactionId);
+        return new DefaultTraceRoot(traceId, this.agentId, clock.getTime(), continuedTransactionId, clock);
     }
 }
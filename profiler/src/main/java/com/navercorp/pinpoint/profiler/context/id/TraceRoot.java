@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.profiler.context.id;
 
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.util.Clock;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -31,4 +32,9 @@ public interface TraceRoot {
 
     Shared getShared();
 
+    /**
+     * clock for the start/end time of the Span and SpanEvents of this trace
+     */
+    Clock getClock();
+
 }
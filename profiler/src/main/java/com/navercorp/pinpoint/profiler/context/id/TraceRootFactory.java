@@ -25,5 +25,10 @@ public interface TraceRootFactory {
 
     TraceRoot newTraceRoot();
 
+    /**
+     * new trace that the sampler rejected but that is still recorded. counted as an unsampled new transaction
+     */
+    TraceRoot newUnsampledTraceRoot();
+
     TraceRoot continueTraceRoot(TraceId traceId);
 }
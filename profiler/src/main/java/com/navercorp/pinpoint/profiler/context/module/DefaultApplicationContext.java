@@ -32,6 +32,7 @@ import com.navercorp.pinpoint.common.util.JvmVersion;
 import com.navercorp.pinpoint.profiler.AgentInfoSender;
 import com.navercorp.pinpoint.profiler.AgentInformation;
 import com.navercorp.pinpoint.profiler.context.ServerMetaDataRegistryService;
+import com.navercorp.pinpoint.profiler.context.clock.TraceClockFactory;
 import com.navercorp.pinpoint.profiler.context.javamodule.ClassFileTransformerModuleHandler;
 import com.navercorp.pinpoint.profiler.instrument.ASMBytecodeDumpService;
 import com.navercorp.pinpoint.profiler.instrument.BytecodeDumpTransformer;
@@ -64,6 +65,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final AgentStatMonitor agentStatMonitor;
 
     private final TraceContext traceContext;
+    private final TraceClockFactory traceClockFactory;
 
     private final PinpointClientFactory clientFactory;
     private final EnhancedDataSender tcpDataSender;
@@ -129,6 +131,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         logger.info("tcpDataSender:{}", tcpDataSender);
 
         this.traceContext = injector.getInstance(TraceContext.class);
+        this.traceClockFactory = injector.getInstance(TraceClockFactory.class);
 
         this.agentInformation = injector.getInstance(AgentInformation.class);
         logger.info("agentInformation:{}", agentInformation);
@@ -231,6 +234,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.agentInfoSender.stop();
         this.agentStatMonitor.stop();
         this.deadlockMonitor.stop();
+        this.traceClockFactory.close();
 
         // Need to process stop
         this.spanDataSender.stop();
@@ -37,6 +37,10 @@ import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.DetailedMemor
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.GarbageCollectorMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.JvmGcMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.MemoryMetricProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.metadata.MetaDataCacheMetricCollectorProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.metadata.MetaDataCacheMetricProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.overhead.InterceptorOverheadMetricCollectorProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.overhead.InterceptorOverheadMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.response.ResponseTimeMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.response.ResponseTimeMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.transaction.TransactionMetricCollectorProvider;
@@ -50,6 +54,8 @@ import com.navercorp.pinpoint.profiler.monitor.collector.deadlock.DeadlockMetric
 import com.navercorp.pinpoint.profiler.monitor.collector.directbuffer.DirectBufferMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.filedescriptor.FileDescriptorMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.jvmgc.JvmGcMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.metadata.MetaDataCacheMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.overhead.InterceptorOverheadMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.response.ResponseTimeMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.transaction.TransactionMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.metric.activethread.ActiveTraceMetric;
@@ -62,6 +68,8 @@ import com.navercorp.pinpoint.profiler.monitor.metric.gc.DetailedGarbageCollecto
 import com.navercorp.pinpoint.profiler.monitor.metric.gc.GarbageCollectorMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.memory.DetailedMemoryMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.memory.MemoryMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.MetaDataCacheMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetric;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
@@ -108,6 +116,12 @@ public class StatsModule extends AbstractModule {
         bind(DeadlockMetric.class).toProvider(DeadlockMetricProvider.class).in(Scopes.SINGLETON);
         bind(DeadlockMetricCollector.class).toProvider(DeadlockMetricCollectorProvider.class).in(Scopes.SINGLETON);
 
+        bind(MetaDataCacheMetric.class).toProvider(MetaDataCacheMetricProvider.class).in(Scopes.SINGLETON);
+        bind(MetaDataCacheMetricCollector.class).toProvider(MetaDataCacheMetricCollectorProvider.class).in(Scopes.SINGLETON);
+
+        bind(InterceptorOverheadMetric.class).toProvider(InterceptorOverheadMetricProvider.class).in(Scopes.SINGLETON);
+        bind(InterceptorOverheadMetricCollector.class).toProvider(InterceptorOverheadMetricCollectorProvider.class).in(Scopes.SINGLETON);
+
         bind(new TypeLiteral<AgentStatMetricCollector<TAgentStat>>() {})
                 .annotatedWith(Names.named("AgentStatCollector"))
                 .to(AgentStatCollector.class).in(Scopes.SINGLETON);
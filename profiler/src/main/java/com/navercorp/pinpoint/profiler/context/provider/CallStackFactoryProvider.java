@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.profiler.context.CallStackFactory;
 import com.navercorp.pinpoint.profiler.context.CallStackFactoryV1;
 import com.navercorp.pinpoint.profiler.context.CallStackFactoryV2;
+import com.navercorp.pinpoint.profiler.context.SpanEventArrayPool;
 import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
 
 /**
@@ -31,6 +32,7 @@ public class CallStackFactoryProvider implements Provider<CallStackFactory> {
 
     private final TraceDataFormatVersion version;
     private final int callStackMaxDepth;
+    private final boolean recycleEnable;
 
 
     @Inject
@@ -40,15 +42,17 @@ public class CallStackFactoryProvider implements Provider<CallStackFactory> {
         }
         this.version = TraceDataFormatVersion.getTraceDataFormatVersion(profilerConfig);
         this.callStackMaxDepth = profilerConfig.getCallStackMaxDepth();
+        this.recycleEnable = profilerConfig.isSpanEventRecycleEnable();
     }
 
     @Override
     public CallStackFactory get() {
+        final SpanEventArrayPool arrayPool = recycleEnable ? new SpanEventArrayPool() : null;
         if (version == TraceDataFormatVersion.V2) {
-            return new CallStackFactoryV2(callStackMaxDepth);
+            return new CallStackFactoryV2(callStackMaxDepth, arrayPool);
         }
         if(version == TraceDataFormatVersion.V1) {
-            return new CallStackFactoryV1(callStackMaxDepth);
+            return new CallStackFactoryV1(callStackMaxDepth, arrayPool);
         }
         throw new UnsupportedOperationException("unknown version :" + version);
     }
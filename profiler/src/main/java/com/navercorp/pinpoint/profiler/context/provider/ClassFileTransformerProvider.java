@@ -24,9 +24,13 @@ import com.navercorp.pinpoint.profiler.MatchableClassFileTransformerDispatcher;
 import com.navercorp.pinpoint.profiler.instrument.InstrumentEngine;
 import com.navercorp.pinpoint.profiler.DefaultClassFileTransformerDispatcher;
 import com.navercorp.pinpoint.profiler.DynamicTransformerRegistry;
+import com.navercorp.pinpoint.profiler.context.module.PluginJars;
+import com.navercorp.pinpoint.profiler.instrument.transformer.UnmatchedClassCache;
+import com.navercorp.pinpoint.profiler.instrument.transformer.UnmatchedClassCacheFactory;
 import com.navercorp.pinpoint.profiler.plugin.PluginContextLoadResult;
 
 import java.lang.instrument.ClassFileTransformer;
+import java.util.List;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -38,10 +42,12 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
     private final InstrumentEngine instrumentEngine;
     private final DynamicTransformTrigger dynamicTransformTrigger;
     private final DynamicTransformerRegistry dynamicTransformerRegistry;
+    private final List<String> pluginJars;
 
     @Inject
     public ClassFileTransformerProvider(ProfilerConfig profilerConfig, InstrumentEngine instrumentEngine, PluginContextLoadResult pluginContextLoadResult,
-                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry) {
+                                        DynamicTransformTrigger dynamicTransformTrigger, DynamicTransformerRegistry dynamicTransformerRegistry,
+                                        @PluginJars List<String> pluginJars) {
         if (profilerConfig == null) {
             throw new NullPointerException("profilerConfig must not be null");
         }
@@ -57,17 +63,22 @@ public class ClassFileTransformerProvider implements Provider<ClassFileTransform
         if (dynamicTransformerRegistry == null) {
             throw new NullPointerException("dynamicTransformerRegistry must not be null");
         }
+        if (pluginJars == null) {
+            throw new NullPointerException("pluginJars must not be null");
+        }
         this.profilerConfig = profilerConfig;
         this.instrumentEngine = instrumentEngine;
         this.pluginContextLoadResult = pluginContextLoadResult;
         this.dynamicTransformTrigger = dynamicTransformTrigger;
         this.dynamicTransformerRegistry = dynamicTransformerRegistry;
+        this.pluginJars = pluginJars;
     }
 
     @Override
     public ClassFileTransformer get() {
         if (this.profilerConfig.isInstrumentMatcherEnable()) {
-            return new MatchableClassFileTransformerDispatcher(profilerConfig, pluginContextLoadResult, instrumentEngine, dynamicTransformTrigger, dynamicTransformerRegistry);
+            final UnmatchedClassCache unmatchedClassCache = new UnmatchedClassCacheFactory(profilerConfig, pluginJars).createUnmatchedClassCache();
+            return new MatchableClassFileTransformerDispatcher(profilerConfig, pluginContextLoadResult, instrumentEngine, dynamicTransformTrigger, dynamicTransformerRegistry, unmatchedClassCache);
         }
         return new DefaultClassFileTransformerDispatcher(profilerConfig, pluginContextLoadResult, instrumentEngine, dynamicTransformTrigger, dynamicTransformerRegistry);
     }
@@ -20,11 +20,13 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
 import com.navercorp.pinpoint.profiler.receiver.CommandDispatcher;
 import com.navercorp.pinpoint.profiler.receiver.ProfilerCommandLocatorBuilder;
 import com.navercorp.pinpoint.profiler.receiver.ProfilerCommandServiceLocator;
 import com.navercorp.pinpoint.profiler.receiver.service.ActiveThreadService;
 import com.navercorp.pinpoint.profiler.receiver.service.EchoService;
+import com.navercorp.pinpoint.profiler.receiver.service.InterceptorOverheadService;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -33,18 +35,24 @@ public class CommandDispatcherProvider implements Provider<CommandDispatcher> {
 
     private final ProfilerConfig profilerConfig;
     private final ActiveTraceRepository activeTraceRepository;
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory;
 
     @Inject
-    public CommandDispatcherProvider(ProfilerConfig profilerConfig, Provider<ActiveTraceRepository> activeTraceRepositoryProvider) {
+    public CommandDispatcherProvider(ProfilerConfig profilerConfig, Provider<ActiveTraceRepository> activeTraceRepositoryProvider,
+                                     InterceptorOverheadMeterFactory interceptorOverheadMeterFactory) {
         if (profilerConfig == null) {
             throw new NullPointerException("profilerConfig must not be null");
         }
         if (activeTraceRepositoryProvider == null) {
             throw new NullPointerException("activeTraceRepositoryProvider must not be null");
         }
+        if (interceptorOverheadMeterFactory == null) {
+            throw new NullPointerException("interceptorOverheadMeterFactory must not be null");
+        }
 
         this.profilerConfig = profilerConfig;
         this.activeTraceRepository = activeTraceRepositoryProvider.get();
+        this.interceptorOverheadMeterFactory = interceptorOverheadMeterFactory;
     }
 
     @Override
@@ -55,6 +63,9 @@ public class CommandDispatcherProvider implements Provider<CommandDispatcher> {
             ActiveThreadService activeThreadService = new ActiveThreadService(profilerConfig, activeTraceRepository);
             builder.addService(activeThreadService);
         }
+        if (interceptorOverheadMeterFactory.isEnable()) {
+            builder.addService(new InterceptorOverheadService(interceptorOverheadMeterFactory.getRecorder()));
+        }
 
         ProfilerCommandServiceLocator commandServiceLocator = builder.build();
         CommandDispatcher commandDispatcher = new CommandDispatcher(commandServiceLocator);
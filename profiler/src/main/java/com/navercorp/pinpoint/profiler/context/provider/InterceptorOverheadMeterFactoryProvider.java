@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadRecorder;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InterceptorOverheadMeterFactoryProvider implements Provider<InterceptorOverheadMeterFactory> {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ProfilerConfig profilerConfig;
+
+    @Inject
+    public InterceptorOverheadMeterFactoryProvider(ProfilerConfig profilerConfig) {
+        this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
+    }
+
+    @Override
+    public InterceptorOverheadMeterFactory get() {
+        if (!profilerConfig.isInterceptorOverheadEnable()) {
+            return new InterceptorOverheadMeterFactory();
+        }
+        final int sampleRate = profilerConfig.getInterceptorOverheadSampleRate();
+        final int maxInterceptorCount = profilerConfig.getInterceptorOverheadMaxInterceptorCount();
+        if (sampleRate <= 0 || maxInterceptorCount <= 0) {
+            logger.warn("invalid interceptor overhead option. sampleRate:{} maxInterceptorCount:{}", sampleRate, maxInterceptorCount);
+            return new InterceptorOverheadMeterFactory();
+        }
+        logger.info("interceptor overhead enabled. sampleRate:{} maxInterceptorCount:{}", sampleRate, maxInterceptorCount);
+        return new InterceptorOverheadMeterFactory(new InterceptorOverheadRecorder(sampleRate, maxInterceptorCount));
+    }
+}
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.profiler.context.monitor.DataSourceMonitorRegistryService;
 import com.navercorp.pinpoint.profiler.interceptor.factory.ExceptionHandlerFactory;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
 import com.navercorp.pinpoint.profiler.metadata.ApiMetaDataService;
 import com.navercorp.pinpoint.profiler.objectfactory.ObjectBinderFactory;
 
@@ -36,6 +37,7 @@ public class ObjectBinderFactoryProvider implements Provider<ObjectBinderFactory
     private final DataSourceMonitorRegistryService dataSourceMonitorRegistryService;
     private final Provider<ApiMetaDataService> apiMetaDataServiceProvider;
     private final ExceptionHandlerFactory exceptionHandlerFactory;
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory;
 
 
     @Inject
@@ -43,17 +45,19 @@ public class ObjectBinderFactoryProvider implements Provider<ObjectBinderFactory
                                        Provider<TraceContext> traceContextProvider,
                                        DataSourceMonitorRegistryService dataSourceMonitorRegistryService,
                                        Provider<ApiMetaDataService> apiMetaDataServiceProvider,
-                                       ExceptionHandlerFactory exceptionHandlerFactory) {
+                                       ExceptionHandlerFactory exceptionHandlerFactory,
+                                       InterceptorOverheadMeterFactory interceptorOverheadMeterFactory) {
         this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
         this.traceContextProvider = Assert.requireNonNull(traceContextProvider, "traceContextProvider must not be null");
         this.dataSourceMonitorRegistryService = Assert.requireNonNull(dataSourceMonitorRegistryService, "dataSourceMonitorRegistryService must not be null");
         this.apiMetaDataServiceProvider = Assert.requireNonNull(apiMetaDataServiceProvider, "apiMetaDataServiceProvider must not be null");
         this.exceptionHandlerFactory = Assert.requireNonNull(exceptionHandlerFactory, "exceptionHandlerFactory must not be null");
+        this.interceptorOverheadMeterFactory = Assert.requireNonNull(interceptorOverheadMeterFactory, "interceptorOverheadMeterFactory must not be null");
     }
 
     @Override
     public ObjectBinderFactory get() {
-        return new ObjectBinderFactory(profilerConfig, traceContextProvider, dataSourceMonitorRegistryService, apiMetaDataServiceProvider, exceptionHandlerFactory);
+        return new ObjectBinderFactory(profilerConfig, traceContextProvider, dataSourceMonitorRegistryService, apiMetaDataServiceProvider, exceptionHandlerFactory, interceptorOverheadMeterFactory);
     }
 
 }
@@ -37,9 +37,16 @@ public class SamplerProvider implements Provider<Sampler> {
     @Override
     public Sampler get() {
         boolean samplingEnable = profilerConfig.isSamplingEnable();
-        int samplingRate = profilerConfig.getSamplingRate();
 
         SamplerFactory samplerFactory = new SamplerFactory();
+        if (profilerConfig.isSamplingAdaptiveEnable()) {
+            int tracesPerSecond = profilerConfig.getSamplingAdaptiveTracesPerSecond();
+            return samplerFactory.createAdaptiveSampler(samplingEnable, tracesPerSecond);
+        }
+        int samplingRate = profilerConfig.getSamplingRate();
+        if (profilerConfig.isSamplingStripedEnable()) {
+            return samplerFactory.createStripedSampler(samplingEnable, samplingRate);
+        }
         return samplerFactory.createSampler(samplingEnable, samplingRate);
     }
 }
@@ -25,6 +25,8 @@ import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV1;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV2;
 import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompactor;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2;
 import com.navercorp.pinpoint.profiler.context.id.TransactionIdEncoder;
 import com.navercorp.pinpoint.profiler.context.module.AgentId;
 import com.navercorp.pinpoint.profiler.context.module.AgentStartTime;
@@ -42,6 +44,7 @@ public class SpanChunkFactoryProvider implements Provider<SpanChunkFactory> {
     private final ServiceType applicationServiceType;
     private final TraceDataFormatVersion version;
     private final TransactionIdEncoder transactionIdEncoder;
+    private final SpanEventCompactor spanEventCompactor;
 
 
     @Inject
@@ -57,13 +60,15 @@ public class SpanChunkFactoryProvider implements Provider<SpanChunkFactory> {
 
 
         this.version = TraceDataFormatVersion.getTraceDataFormatVersion(profilerConfig);
+        this.spanEventCompactor = SpanPostProcessorProvider.newSpanEventCompactor(profilerConfig);
     }
 
 
     @Override
     public SpanChunkFactory get() {
         if (this.version == TraceDataFormatVersion.V2) {
-            return new SpanChunkFactoryV2(applicationName, agentId, agentStartTime, applicationServiceType, transactionIdEncoder);
+            final SpanEventCompressorV2 spanEventCompressor = new SpanEventCompressorV2(spanEventCompactor);
+            return new SpanChunkFactoryV2(applicationName, agentId, agentStartTime, applicationServiceType, transactionIdEncoder, spanEventCompressor);
         }
         if (this.version == TraceDataFormatVersion.V1) {
             return new SpanChunkFactoryV1(applicationName, agentId, agentStartTime, applicationServiceType, transactionIdEncoder);
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.context.DefaultSpanEventFactory;
+import com.navercorp.pinpoint.profiler.context.RecyclingSpanEventFactory;
+import com.navercorp.pinpoint.profiler.context.SpanEventFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SpanEventFactoryProvider implements Provider<SpanEventFactory> {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final boolean recycleEnable;
+    private final int poolSize;
+    private final boolean leakDetection;
+
+    @Inject
+    public SpanEventFactoryProvider(ProfilerConfig profilerConfig) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.recycleEnable = profilerConfig.isSpanEventRecycleEnable();
+        this.poolSize = profilerConfig.getSpanEventRecyclePoolSize();
+        this.leakDetection = profilerConfig.isSpanEventRecycleLeakDetectionEnable();
+    }
+
+    @Override
+    public SpanEventFactory get() {
+        if (recycleEnable) {
+            final SpanEventFactory spanEventFactory = new RecyclingSpanEventFactory(poolSize, leakDetection);
+            logger.info("SpanEvent recycle enabled. {}", spanEventFactory);
+            return spanEventFactory;
+        }
+        return new DefaultSpanEventFactory();
+    }
+}
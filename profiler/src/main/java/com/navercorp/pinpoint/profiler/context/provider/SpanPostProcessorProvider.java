@@ -23,6 +23,8 @@ import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
 import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV1;
 import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV2;
 import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompactor;
+import com.navercorp.pinpoint.profiler.context.compress.SpanEventCompressorV2;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -30,6 +32,7 @@ import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
 public class SpanPostProcessorProvider implements Provider<SpanPostProcessor> {
 
     private final TraceDataFormatVersion version;
+    private final SpanEventCompactor spanEventCompactor;
 
     @Inject
     public SpanPostProcessorProvider(ProfilerConfig profilerConfig) {
@@ -38,12 +41,20 @@ public class SpanPostProcessorProvider implements Provider<SpanPostProcessor> {
         }
 
         this.version = TraceDataFormatVersion.getTraceDataFormatVersion(profilerConfig);
+        this.spanEventCompactor = newSpanEventCompactor(profilerConfig);
+    }
+
+    static SpanEventCompactor newSpanEventCompactor(ProfilerConfig profilerConfig) {
+        if (!profilerConfig.isIoBufferingCompactionEnable()) {
+            return null;
+        }
+        return new SpanEventCompactor(profilerConfig.getIoBufferingCompactionMinRepeat(), profilerConfig.getIoBufferingCompactionBindValues());
     }
 
     @Override
     public SpanPostProcessor get() {
         if (version == TraceDataFormatVersion.V2) {
-            return new SpanPostProcessorV2();
+            return new SpanPostProcessorV2(new SpanEventCompressorV2(spanEventCompactor));
         }
         if (version == TraceDataFormatVersion.V1) {
             return new SpanPostProcessorV1();
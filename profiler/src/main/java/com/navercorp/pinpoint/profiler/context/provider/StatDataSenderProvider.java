@@ -20,6 +20,7 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.profiler.context.module.SpanStatClientFactory;
+import com.navercorp.pinpoint.profiler.sender.AsyncQueueingExecutorConfig;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
 import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
 import com.navercorp.pinpoint.profiler.sender.UdpDataSenderFactory;
@@ -45,6 +46,8 @@ public class StatDataSenderProvider implements Provider<DataSender> {
     private final int sendBufferSize;
     private final String ioType;
     private final String transportType;
+    private final AsyncQueueingExecutorConfig executorConfig;
+    private final int packetSize;
 
     @Inject
     public StatDataSenderProvider(ProfilerConfig profilerConfig, @SpanStatClientFactory Provider<PinpointClientFactory> clientFactoryProvider) {
@@ -64,6 +67,8 @@ public class StatDataSenderProvider implements Provider<DataSender> {
         this.sendBufferSize = profilerConfig.getStatDataSenderSocketSendBufferSize();
         this.ioType = profilerConfig.getStatDataSenderSocketType();
         this.transportType = profilerConfig.getStatDataSenderTransportType();
+        this.packetSize = profilerConfig.isStatDataSenderPackingEnable() ? profilerConfig.getStatDataSenderPackingSize() : 0;
+        this.executorConfig = new AsyncQueueingExecutorConfig(profilerConfig.getDataSenderQueueType(), profilerConfig.getDataSenderQueueDrainSize(), profilerConfig.getDataSenderQueueWaitStrategy());
     }
 
     @Override
@@ -74,9 +79,9 @@ public class StatDataSenderProvider implements Provider<DataSender> {
             }
 
             PinpointClientFactory pinpointClientFactory = clientFactoryProvider.get();
-            return new TcpDataSender("StatDataSender", ip, port, pinpointClientFactory);
+            return new TcpDataSender("StatDataSender", ip, port, pinpointClientFactory, executorConfig);
         } else {
-            UdpDataSenderFactory factory = new UdpDataSenderFactory(ip, port, UDP_EXECUTOR_NAME, writeQueueSize, timeout, sendBufferSize);
+            UdpDataSenderFactory factory = new UdpDataSenderFactory(ip, port, UDP_EXECUTOR_NAME, writeQueueSize, timeout, sendBufferSize, executorConfig, packetSize);
             return factory.create(ioType);
         }
     }
@@ -91,6 +96,8 @@ public class StatDataSenderProvider implements Provider<DataSender> {
         sb.append(", sendBufferSize=").append(sendBufferSize);
         sb.append(", ioType='").append(ioType).append('\'');
         sb.append(", transportType='").append(transportType).append('\'');
+        sb.append(", executorConfig=").append(executorConfig);
+        sb.append(", packetSize=").append(packetSize);
         sb.append('}');
         return sb.toString();
     }
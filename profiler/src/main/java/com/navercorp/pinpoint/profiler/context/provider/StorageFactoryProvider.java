@@ -23,8 +23,10 @@ import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
 import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
 import com.navercorp.pinpoint.profiler.context.module.SpanDataSender;
 import com.navercorp.pinpoint.profiler.context.storage.BufferedStorageFactory;
+import com.navercorp.pinpoint.profiler.context.storage.ColumnarBufferedStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.SpanStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.StorageFactory;
+import com.navercorp.pinpoint.profiler.context.storage.TailSamplingStorageFactory;
 import com.navercorp.pinpoint.profiler.context.storage.TraceLogDelegateStorage;
 import com.navercorp.pinpoint.profiler.context.storage.TraceLogDelegateStorageFactory;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
@@ -65,13 +67,23 @@ public class StorageFactoryProvider implements Provider<StorageFactory> {
         if (isTraceLogEnabled()) {
             storageFactory = new TraceLogDelegateStorageFactory(storageFactory);
         }
+        if (profilerConfig.isSamplingTailEnable()) {
+            final long threshold = profilerConfig.getSamplingTailThreshold();
+            final int maxBufferedEvents = profilerConfig.getSamplingTailBufferMaxEvents();
+            storageFactory = new TailSamplingStorageFactory(storageFactory, threshold, maxBufferedEvents);
+        }
         return storageFactory;
     }
 
     private StorageFactory newStorageFactory() {
         if (profilerConfig.isIoBufferingEnable()) {
             int ioBufferingBufferSize = this.profilerConfig.getIoBufferingBufferSize();
-            return new BufferedStorageFactory(ioBufferingBufferSize, this.spanDataSender, this.spanPostProcessor, this.spanChunkFactory);
+            if (profilerConfig.isIoBufferingColumnarEnable()) {
+                return new ColumnarBufferedStorageFactory(ioBufferingBufferSize, this.spanDataSender, this.spanPostProcessor, this.spanChunkFactory);
+            }
+            final int ioBufferingByteBudget = this.profilerConfig.getIoBufferingByteBudget();
+            final long ioBufferingMaxAge = this.profilerConfig.getIoBufferingMaxAge();
+            return new BufferedStorageFactory(ioBufferingBufferSize, ioBufferingByteBudget, ioBufferingMaxAge, this.spanDataSender, this.spanPostProcessor, this.spanChunkFactory);
         } else {
             return new SpanStorageFactory(spanDataSender);
         }
@@ -20,23 +20,34 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
 import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.module.AgentId;
 import com.navercorp.pinpoint.profiler.context.module.DefaultClientFactory;
 import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
+import com.navercorp.pinpoint.profiler.sender.MappedSpillQueue;
+import com.navercorp.pinpoint.profiler.sender.MetaDataBatchSender;
 import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
 import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
 
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class TcpDataSenderProvider implements Provider<EnhancedDataSender> {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private final ProfilerConfig profilerConfig;
+    private final String agentId;
     private final Provider<PinpointClientFactory> clientFactoryProvider;
     private final Provider<HeaderTBaseSerializer> tBaseSerializerProvider;
 
     @Inject
-    public TcpDataSenderProvider(ProfilerConfig profilerConfig, @DefaultClientFactory Provider<PinpointClientFactory> clientFactoryProvider, Provider<HeaderTBaseSerializer> tBaseSerializerProvider) {
+    public TcpDataSenderProvider(ProfilerConfig profilerConfig, @AgentId String agentId, @DefaultClientFactory Provider<PinpointClientFactory> clientFactoryProvider, Provider<HeaderTBaseSerializer> tBaseSerializerProvider) {
         this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
+        this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
         this.clientFactoryProvider = Assert.requireNonNull(clientFactoryProvider, "clientFactoryProvider must not be null");
         this.tBaseSerializerProvider = Assert.requireNonNull(tBaseSerializerProvider, "tBaseSerializerProvider must not be null");
     }
@@ -47,6 +58,29 @@ public class TcpDataSenderProvider implements Provider<EnhancedDataSender> {
         String collectorTcpServerIp = profilerConfig.getCollectorTcpServerIp();
         int collectorTcpServerPort = profilerConfig.getCollectorTcpServerPort();
         HeaderTBaseSerializer headerTBaseSerializer = tBaseSerializerProvider.get();
-        return new TcpDataSender("Default", collectorTcpServerIp, collectorTcpServerPort, clientFactory, headerTBaseSerializer);
+        MappedSpillQueue spillQueue = createSpillQueue();
+        TcpDataSender tcpDataSender = new TcpDataSender("Default", collectorTcpServerIp, collectorTcpServerPort, clientFactory, headerTBaseSerializer, spillQueue);
+        if (profilerConfig.isMetadataBatchEnable()) {
+            return new MetaDataBatchSender(tcpDataSender, profilerConfig.getMetadataBatchSize(), profilerConfig.getMetadataBatchFlushInterval());
+        }
+        return tcpDataSender;
+    }
+
+    private MappedSpillQueue createSpillQueue() {
+        if (!profilerConfig.isTcpDataSenderSpillEnable()) {
+            return null;
+        }
+        String spillDir = profilerConfig.getTcpDataSenderSpillDir();
+        if (spillDir == null || spillDir.trim().isEmpty()) {
+            spillDir = System.getProperty("java.io.tmpdir") + File.separator + "pinpoint-spill";
+        }
+        final File directory = new File(spillDir, agentId);
+        try {
+            return new MappedSpillQueue(directory, profilerConfig.getTcpDataSenderSpillSegmentSize(), profilerConfig.getTcpDataSenderSpillSegmentCount());
+        } catch (RuntimeException e) {
+            // never stop the agent for the spill store
+            logger.warn("spill queue disabled. directory:{} Caused:{}", directory, e.getMessage(), e);
+            return null;
+        }
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.context.clock.MonotonicTraceClockFactory;
+import com.navercorp.pinpoint.profiler.context.clock.SystemTraceClockFactory;
+import com.navercorp.pinpoint.profiler.context.clock.TickTraceClockFactory;
+import com.navercorp.pinpoint.profiler.context.clock.TraceClockFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TraceClockFactoryProvider implements Provider<TraceClockFactory> {
+
+    private static final String SYSTEM = "system";
+    private static final String TICK = "tick";
+    private static final String MONOTONIC = "monotonic";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final String traceClockType;
+    private final long tickInterval;
+
+    @Inject
+    public TraceClockFactoryProvider(ProfilerConfig profilerConfig) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.traceClockType = profilerConfig.getTraceClockType();
+        this.tickInterval = profilerConfig.getTraceClockTickInterval();
+    }
+
+    @Override
+    public TraceClockFactory get() {
+        if (TICK.equalsIgnoreCase(traceClockType)) {
+            logger.info("TickTraceClockFactory tickInterval:{}", tickInterval);
+            return new TickTraceClockFactory(tickInterval);
+        }
+        if (MONOTONIC.equalsIgnoreCase(traceClockType)) {
+            logger.info("MonotonicTraceClockFactory");
+            return new MonotonicTraceClockFactory();
+        }
+        if (!SYSTEM.equalsIgnoreCase(traceClockType)) {
+            logger.warn("unknown trace clock type:{}. use {}", traceClockType, SYSTEM);
+        }
+        return SystemTraceClockFactory.INSTANCE;
+    }
+}
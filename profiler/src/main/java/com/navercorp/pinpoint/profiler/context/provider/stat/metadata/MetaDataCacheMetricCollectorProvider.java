@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.metadata;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.monitor.collector.metadata.DefaultMetaDataCacheMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.metadata.MetaDataCacheMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.metadata.UnsupportedMetaDataCacheMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.MetaDataCacheMetric;
+
+public class MetaDataCacheMetricCollectorProvider implements Provider<MetaDataCacheMetricCollector> {
+
+    private final MetaDataCacheMetric metaDataCacheMetric;
+
+    @Inject
+    public MetaDataCacheMetricCollectorProvider(MetaDataCacheMetric metaDataCacheMetric) {
+        if (metaDataCacheMetric == null) {
+            throw new NullPointerException("metaDataCacheMetric must not be null");
+        }
+        this.metaDataCacheMetric = metaDataCacheMetric;
+    }
+
+    @Override
+    public MetaDataCacheMetricCollector get() {
+        if (metaDataCacheMetric == MetaDataCacheMetric.UNSUPPORTED_META_DATA_CACHE_METRIC) {
+            return new UnsupportedMetaDataCacheMetricCollector();
+        }
+        return new DefaultMetaDataCacheMetricCollector(metaDataCacheMetric);
+    }
+}
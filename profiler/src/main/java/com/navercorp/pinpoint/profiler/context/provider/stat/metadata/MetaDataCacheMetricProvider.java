@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.metadata;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.metadata.ApiMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.CachingMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.SimpleCache;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.DefaultMetaDataCacheMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.MetaDataCacheMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MetaDataCacheMetricProvider implements Provider<MetaDataCacheMetric> {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ProfilerConfig profilerConfig;
+    private final SqlMetaDataService sqlMetaDataService;
+    private final ApiMetaDataService apiMetaDataService;
+    private final StringMetaDataService stringMetaDataService;
+
+    @Inject
+    public MetaDataCacheMetricProvider(ProfilerConfig profilerConfig, SqlMetaDataService sqlMetaDataService,
+                                       ApiMetaDataService apiMetaDataService, StringMetaDataService stringMetaDataService) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.sqlMetaDataService = sqlMetaDataService;
+        this.apiMetaDataService = apiMetaDataService;
+        this.stringMetaDataService = stringMetaDataService;
+    }
+
+    @Override
+    public MetaDataCacheMetric get() {
+        final SimpleCache<?> sqlCache = getMetaDataCache(sqlMetaDataService);
+        final SimpleCache<?> apiCache = getMetaDataCache(apiMetaDataService);
+        final SimpleCache<?> stringCache = getMetaDataCache(stringMetaDataService);
+        if (sqlCache == null && apiCache == null && stringCache == null) {
+            return MetaDataCacheMetric.UNSUPPORTED_META_DATA_CACHE_METRIC;
+        }
+
+        long autoGrowMemoryBudget = -1;
+        if (profilerConfig.isMetadataCacheAutoGrowEnable()) {
+            autoGrowMemoryBudget = profilerConfig.getMetadataCacheAutoGrowMemoryBudget();
+            logger.info("metadata cache auto grow enabled. memoryBudget:{}", autoGrowMemoryBudget);
+        }
+        return new DefaultMetaDataCacheMetric(sqlCache, apiCache, stringCache, autoGrowMemoryBudget);
+    }
+
+    private SimpleCache<?> getMetaDataCache(Object metaDataService) {
+        if (metaDataService instanceof CachingMetaDataService) {
+            return ((CachingMetaDataService) metaDataService).getMetaDataCache();
+        }
+        return null;
+    }
+}
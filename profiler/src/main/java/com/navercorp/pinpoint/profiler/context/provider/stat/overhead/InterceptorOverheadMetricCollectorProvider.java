@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.overhead;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+import com.navercorp.pinpoint.profiler.monitor.collector.overhead.DefaultInterceptorOverheadMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.overhead.InterceptorOverheadMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.overhead.UnsupportedInterceptorOverheadMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadMetric;
+
+public class InterceptorOverheadMetricCollectorProvider implements Provider<InterceptorOverheadMetricCollector> {
+
+    private final InterceptorOverheadMetric interceptorOverheadMetric;
+    private final StringMetaDataService stringMetaDataService;
+
+    @Inject
+    public InterceptorOverheadMetricCollectorProvider(InterceptorOverheadMetric interceptorOverheadMetric, StringMetaDataService stringMetaDataService) {
+        if (interceptorOverheadMetric == null) {
+            throw new NullPointerException("interceptorOverheadMetric must not be null");
+        }
+        if (stringMetaDataService == null) {
+            throw new NullPointerException("stringMetaDataService must not be null");
+        }
+        this.interceptorOverheadMetric = interceptorOverheadMetric;
+        this.stringMetaDataService = stringMetaDataService;
+    }
+
+    @Override
+    public InterceptorOverheadMetricCollector get() {
+        if (interceptorOverheadMetric == InterceptorOverheadMetric.UNSUPPORTED_INTERCEPTOR_OVERHEAD_METRIC) {
+            return new UnsupportedInterceptorOverheadMetricCollector();
+        }
+        return new DefaultInterceptorOverheadMetricCollector(interceptorOverheadMetric, stringMetaDataService);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.overhead;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.DefaultInterceptorOverheadMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadMetric;
+
+public class InterceptorOverheadMetricProvider implements Provider<InterceptorOverheadMetric> {
+
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory;
+
+    @Inject
+    public InterceptorOverheadMetricProvider(InterceptorOverheadMeterFactory interceptorOverheadMeterFactory) {
+        if (interceptorOverheadMeterFactory == null) {
+            throw new NullPointerException("interceptorOverheadMeterFactory must not be null");
+        }
+        this.interceptorOverheadMeterFactory = interceptorOverheadMeterFactory;
+    }
+
+    @Override
+    public InterceptorOverheadMetric get() {
+        if (!interceptorOverheadMeterFactory.isEnable()) {
+            return InterceptorOverheadMetric.UNSUPPORTED_INTERCEPTOR_OVERHEAD_METRIC;
+        }
+        return new DefaultInterceptorOverheadMetric(interceptorOverheadMeterFactory.getRecorder());
+    }
+}
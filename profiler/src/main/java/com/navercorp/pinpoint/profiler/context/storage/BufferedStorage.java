@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.profiler.context.*;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
+import com.navercorp.pinpoint.profiler.sender.UdpDataSender;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Buffers SpanEvents and flushes them as a SpanChunk when one of the limits is reached.
+ * <ul>
+ *     <li>bufferSize : number of SpanEvents. ignored if the byte budget is set</li>
+ *     <li>byteBudget : estimated serialized size of the SpanChunk, capped at the max udp packet size.
+ *     0 flushes by bufferSize without estimating SpanEvents, so the chunk size is not bounded then</li>
+ *     <li>maxAge : age of the oldest buffered SpanEvent. checked when a SpanEvent is stored</li>
+ * </ul>
  * @author emeroad
  * @author jaehong.kim
  */
@@ -38,10 +46,19 @@ public class BufferedStorage implements Storage {
 
     private static final int DEFAULT_BUFFER_SIZE = 20;
 
+    // SpanChunk header. agentId, applicationName, transactionId, ...
+    static final int SPAN_CHUNK_RESERVE_SIZE = 256;
+    static final int MAX_BYTE_BUDGET = UdpDataSender.UDP_MAX_PACKET_LENGTH;
+
     private final int bufferSize;
+    private final boolean countLimit;
+    private final int eventByteBudget;
+    private final long maxAge;
 
     private final TraceRoot traceRoot;
     private List<SpanEvent> storage;
+    private int bufferedBytes;
+    private long bufferStartTime;
     private final DataSender dataSender;
 
     private final SpanPostProcessor spanPostProcessor;
@@ -49,31 +66,80 @@ public class BufferedStorage implements Storage {
 
 
     public BufferedStorage(TraceRoot traceRoot, DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory, int bufferSize) {
+        this(traceRoot, dataSender, spanPostProcessor, spanChunkFactory, bufferSize, 0, 0);
+    }
+
+    /**
+     * @param byteBudget flush size of the SpanChunk in bytes. 0 to flush by bufferSize
+     * @param maxAge flush interval of long-running traces in milliseconds. 0 to disable
+     */
+    public BufferedStorage(TraceRoot traceRoot, DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory, int bufferSize,
+                           int byteBudget, long maxAge) {
+        if (byteBudget < 0) {
+            throw new IllegalArgumentException("negative byteBudget:" + byteBudget);
+        }
+        if (byteBudget != 0 && byteBudget <= SPAN_CHUNK_RESERVE_SIZE) {
+            throw new IllegalArgumentException("byteBudget must be greater than " + SPAN_CHUNK_RESERVE_SIZE + ". byteBudget:" + byteBudget);
+        }
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("negative maxAge:" + maxAge);
+        }
         this.traceRoot = Assert.requireNonNull(traceRoot, "traceRoot must not be null");
         this.dataSender = Assert.requireNonNull(dataSender, "dataSender must not be null");
         this.spanPostProcessor = Assert.requireNonNull(spanPostProcessor, "spanPostProcessor must not be null");
         this.spanChunkFactory = Assert.requireNonNull(spanChunkFactory, "spanChunkFactory must not be null");
         this.bufferSize = bufferSize;
+        this.countLimit = byteBudget == 0;
+        this.eventByteBudget = countLimit ? 0 : Math.min(byteBudget, MAX_BYTE_BUDGET) - SPAN_CHUNK_RESERVE_SIZE;
+        this.maxAge = maxAge;
         this.storage = allocateBuffer();
     }
 
     @Override
     public void store(SpanEvent spanEvent) {
+        int spanEventSize = 0;
+        if (!countLimit) {
+            spanEventSize = SpanEventSizeEstimator.estimate(spanEvent);
+            if (bufferedBytes + spanEventSize > eventByteBudget && CollectionUtils.hasLength(this.storage)) {
+                // the SpanEvent does not fit in the current chunk
+                sendSpanChunk();
+            }
+        }
+
         final List<SpanEvent> storage = getBuffer();
+        if (storage.isEmpty()) {
+            this.bufferStartTime = currentTime();
+        }
         storage.add(spanEvent);
+        this.bufferedBytes += spanEventSize;
 
         if (overflow(storage)) {
-            final List<SpanEvent> flushData = clearBuffer();
-            final SpanChunk spanChunk = spanChunkFactory.create(traceRoot, flushData);
-            if (isDebug) {
-                logger.debug("[BufferedStorage] Flush span-chunk {}", spanChunk);
-            }
-            dataSender.send(spanChunk);
+            sendSpanChunk();
+        }
+    }
+
+    private void sendSpanChunk() {
+        final List<SpanEvent> flushData = clearBuffer();
+        final SpanChunk spanChunk = spanChunkFactory.create(traceRoot, flushData);
+        if (isDebug) {
+            logger.debug("[BufferedStorage] Flush span-chunk {}", spanChunk);
         }
+        dataSender.send(spanChunk);
     }
 
     private boolean overflow(List<SpanEvent> storage) {
-        return storage.size() >= bufferSize;
+        if (countLimit) {
+            if (storage.size() >= bufferSize) {
+                return true;
+            }
+        } else if (bufferedBytes >= eventByteBudget) {
+            return true;
+        }
+        return maxAge > 0 && currentTime() - bufferStartTime >= maxAge;
+    }
+
+    long currentTime() {
+        return traceRoot.getClock().getTime();
     }
 
 
@@ -93,6 +159,7 @@ public class BufferedStorage implements Storage {
     private List<SpanEvent> clearBuffer() {
         final List<SpanEvent> copy = this.storage;
         this.storage = null;
+        this.bufferedBytes = 0;
         return copy;
     }
 
@@ -124,6 +191,11 @@ public class BufferedStorage implements Storage {
 
     @Override
     public String toString() {
-        return "BufferedStorage{" + "bufferSize=" + bufferSize + ", dataSender=" + dataSender + '}';
+        return "BufferedStorage{" +
+                "bufferSize=" + bufferSize +
+                ", eventByteBudget=" + eventByteBudget +
+                ", maxAge=" + maxAge +
+                ", dataSender=" + dataSender +
+                '}';
     }
 }
\ No newline at end of file
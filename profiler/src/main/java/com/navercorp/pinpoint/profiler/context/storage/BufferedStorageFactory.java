@@ -28,10 +28,17 @@ public class BufferedStorageFactory implements StorageFactory {
 
     private final DataSender dataSender;
     private final int ioBufferingBufferSize;
+    private final int ioBufferingByteBudget;
+    private final long ioBufferingMaxAge;
     private final SpanPostProcessor spanPostProcessor;
     private final SpanChunkFactory spanChunkFactory;
 
     public BufferedStorageFactory(int ioBufferingBufferSize, DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory) {
+        this(ioBufferingBufferSize, 0, 0, dataSender, spanPostProcessor, spanChunkFactory);
+    }
+
+    public BufferedStorageFactory(int ioBufferingBufferSize, int ioBufferingByteBudget, long ioBufferingMaxAge,
+                                  DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory) {
         if (dataSender == null) {
             throw new NullPointerException("dataSender must not be null");
         }
@@ -41,6 +48,8 @@ public class BufferedStorageFactory implements StorageFactory {
         this.dataSender = dataSender;
 
         this.ioBufferingBufferSize = ioBufferingBufferSize;
+        this.ioBufferingByteBudget = ioBufferingByteBudget;
+        this.ioBufferingMaxAge = ioBufferingMaxAge;
         this.spanPostProcessor = spanPostProcessor;
         this.spanChunkFactory = spanChunkFactory;
     }
@@ -48,7 +57,8 @@ public class BufferedStorageFactory implements StorageFactory {
 
     @Override
     public Storage createStorage(TraceRoot traceRoot) {
-        BufferedStorage bufferedStorage = new BufferedStorage(traceRoot, this.dataSender, spanPostProcessor, spanChunkFactory, this.ioBufferingBufferSize);
+        BufferedStorage bufferedStorage = new BufferedStorage(traceRoot, this.dataSender, spanPostProcessor, spanChunkFactory, this.ioBufferingBufferSize,
+                this.ioBufferingByteBudget, this.ioBufferingMaxAge);
         return bufferedStorage;
     }
 
@@ -57,6 +67,8 @@ public class BufferedStorageFactory implements StorageFactory {
         return "BufferedStorageFactory{" +
                 "dataSender=" + dataSender +
                 ", ioBufferingBufferSize=" + ioBufferingBufferSize +
+                ", ioBufferingByteBudget=" + ioBufferingByteBudget +
+                ", ioBufferingMaxAge=" + ioBufferingMaxAge +
                 ", spanChunkFactory=" + spanChunkFactory +
                 '}';
     }
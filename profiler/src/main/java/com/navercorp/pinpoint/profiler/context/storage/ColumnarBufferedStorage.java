@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanChunk;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.columnar.SpanEventColumns;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BufferedStorage} that copies finished SpanEvents into {@link SpanEventColumns}.
+ * The SpanEvent is recycled right after the copy instead of being held until the sender serializes it.
+ */
+public class ColumnarBufferedStorage implements Storage {
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarBufferedStorage.class);
+    private static final boolean isDebug = logger.isDebugEnabled();
+
+    private final int bufferSize;
+
+    private final TraceRoot traceRoot;
+    private SpanEventColumns storage;
+    private final DataSender dataSender;
+
+    private final SpanPostProcessor spanPostProcessor;
+    private final SpanChunkFactory spanChunkFactory;
+
+    public ColumnarBufferedStorage(TraceRoot traceRoot, DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory, int bufferSize) {
+        this.traceRoot = Assert.requireNonNull(traceRoot, "traceRoot must not be null");
+        this.dataSender = Assert.requireNonNull(dataSender, "dataSender must not be null");
+        this.spanPostProcessor = Assert.requireNonNull(spanPostProcessor, "spanPostProcessor must not be null");
+        this.spanChunkFactory = Assert.requireNonNull(spanChunkFactory, "spanChunkFactory must not be null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void store(SpanEvent spanEvent) {
+        final SpanEventColumns storage = getBuffer();
+        storage.add(spanEvent);
+        spanEvent.recycle();
+
+        if (storage.size() >= bufferSize) {
+            final SpanEventColumns flushData = clearBuffer();
+            final SpanChunk spanChunk = spanChunkFactory.create(traceRoot, flushData);
+            if (isDebug) {
+                logger.debug("[ColumnarBufferedStorage] Flush span-chunk {}", spanChunk);
+            }
+            dataSender.send(spanChunk);
+        }
+    }
+
+    private SpanEventColumns getBuffer() {
+        SpanEventColumns copy = this.storage;
+        if (copy == null) {
+            // handed over to the sender on flush. never reused
+            copy = new SpanEventColumns(bufferSize);
+            this.storage = copy;
+        }
+        return copy;
+    }
+
+    private SpanEventColumns clearBuffer() {
+        final SpanEventColumns copy = this.storage;
+        this.storage = null;
+        return copy;
+    }
+
+    @Override
+    public void store(Span span) {
+        final SpanEventColumns storage = clearBuffer();
+        span = spanPostProcessor.postProcess(span, storage);
+        dataSender.send(span);
+
+        if (isDebug) {
+            logger.debug("[ColumnarBufferedStorage] Flush span {}", span);
+        }
+    }
+
+    @Override
+    public void flush() {
+        final SpanEventColumns storage = clearBuffer();
+        if (storage != null && !storage.isEmpty()) {
+            final SpanChunk spanChunk = spanChunkFactory.create(traceRoot, storage);
+            dataSender.send(spanChunk);
+            if (isDebug) {
+                logger.debug("flush span chunk {}", spanChunk);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBufferedStorage{" + "bufferSize=" + bufferSize + ", dataSender=" + dataSender + '}';
+    }
+}
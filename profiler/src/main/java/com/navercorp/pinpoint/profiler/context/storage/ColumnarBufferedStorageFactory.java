@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+
+public class ColumnarBufferedStorageFactory implements StorageFactory {
+
+    private final DataSender dataSender;
+    private final int ioBufferingBufferSize;
+    private final SpanPostProcessor spanPostProcessor;
+    private final SpanChunkFactory spanChunkFactory;
+
+    public ColumnarBufferedStorageFactory(int ioBufferingBufferSize, DataSender dataSender, SpanPostProcessor spanPostProcessor, SpanChunkFactory spanChunkFactory) {
+        this.dataSender = Assert.requireNonNull(dataSender, "dataSender must not be null");
+        this.ioBufferingBufferSize = ioBufferingBufferSize;
+        this.spanPostProcessor = Assert.requireNonNull(spanPostProcessor, "spanPostProcessor must not be null");
+        this.spanChunkFactory = Assert.requireNonNull(spanChunkFactory, "spanChunkFactory must not be null");
+    }
+
+    @Override
+    public Storage createStorage(TraceRoot traceRoot) {
+        return new ColumnarBufferedStorage(traceRoot, this.dataSender, spanPostProcessor, spanChunkFactory, this.ioBufferingBufferSize);
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarBufferedStorageFactory{" +
+                "dataSender=" + dataSender +
+                ", ioBufferingBufferSize=" + ioBufferingBufferSize +
+                ", spanChunkFactory=" + spanChunkFactory +
+                '}';
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
+import com.navercorp.pinpoint.thrift.dto.TIntStringStringValue;
+import com.navercorp.pinpoint.thrift.dto.TIntStringValue;
+import com.navercorp.pinpoint.thrift.dto.TLongIntIntByteByteStringValue;
+
+import java.util.List;
+
+/**
+ * Estimates the compact protocol size of a SpanEvent without serializing it.
+ * <p>
+ * Numeric fields are counted at their maximum varint length and strings at their utf-8 length,
+ * so the estimate is an upper bound for the usual SpanEvent.
+ */
+final class SpanEventSizeEstimator {
+
+    // field header + varint
+    private static final int INT_FIELD_SIZE = 1 + 5;
+    private static final int LONG_FIELD_SIZE = 1 + 10;
+    // field header + length
+    private static final int STRING_FIELD_OVERHEAD = 1 + 5;
+    private static final int STRUCT_OVERHEAD = 1 + 1;
+
+    // sequence, startElapsed, endElapsed, serviceType, depth, apiId, asyncId, asyncSequence
+    private static final int SPAN_EVENT_FIXED_SIZE = STRUCT_OVERHEAD + 8 * INT_FIELD_SIZE;
+
+    private SpanEventSizeEstimator() {
+    }
+
+    static int estimate(SpanEvent spanEvent) {
+        int size = SPAN_EVENT_FIXED_SIZE;
+        if (spanEvent.isSetNextSpanId()) {
+            size += LONG_FIELD_SIZE;
+        }
+        if (spanEvent.isSetNextAsyncId()) {
+            size += INT_FIELD_SIZE;
+        }
+        size += stringSize(spanEvent.getRpc());
+        size += stringSize(spanEvent.getEndPoint());
+        size += stringSize(spanEvent.getDestinationId());
+
+        final TIntStringValue exceptionInfo = spanEvent.getExceptionInfo();
+        if (exceptionInfo != null) {
+            size += STRUCT_OVERHEAD + INT_FIELD_SIZE + stringSize(exceptionInfo.getStringValue());
+        }
+
+        final List<TAnnotation> annotations = spanEvent.getAnnotations();
+        if (annotations != null) {
+            // list header
+            size += 1 + 5;
+            for (TAnnotation annotation : annotations) {
+                size += STRUCT_OVERHEAD + INT_FIELD_SIZE + annotationValueSize(annotation.getValue());
+            }
+        }
+        return size;
+    }
+
+    private static int annotationValueSize(TAnnotationValue value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.isSetStringValue()) {
+            return STRUCT_OVERHEAD + stringSize(value.getStringValue());
+        }
+        if (value.isSetBinaryValue()) {
+            final byte[] binaryValue = value.getBinaryValue();
+            return STRUCT_OVERHEAD + STRING_FIELD_OVERHEAD + (binaryValue == null ? 0 : binaryValue.length);
+        }
+        if (value.isSetIntStringValue()) {
+            final TIntStringValue intStringValue = value.getIntStringValue();
+            return 2 * STRUCT_OVERHEAD + INT_FIELD_SIZE + stringSize(intStringValue.getStringValue());
+        }
+        if (value.isSetIntStringStringValue()) {
+            final TIntStringStringValue intStringStringValue = value.getIntStringStringValue();
+            return 2 * STRUCT_OVERHEAD + INT_FIELD_SIZE + stringSize(intStringStringValue.getStringValue1()) + stringSize(intStringStringValue.getStringValue2());
+        }
+        if (value.isSetLongIntIntByteByteStringValue()) {
+            final TLongIntIntByteByteStringValue longIntIntByteByteStringValue = value.getLongIntIntByteByteStringValue();
+            return 2 * STRUCT_OVERHEAD + LONG_FIELD_SIZE + 4 * INT_FIELD_SIZE + stringSize(longIntIntByteByteStringValue.getStringValue());
+        }
+        // bool, int, long, short, double, byte, intBooleanIntBoolean
+        return STRUCT_OVERHEAD + 4 * INT_FIELD_SIZE;
+    }
+
+    static int stringSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return STRING_FIELD_OVERHEAD + utf8Length(value);
+    }
+
+    private static int utf8Length(String value) {
+        final int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            final char ch = value.charAt(i);
+            if (ch >= 0x800) {
+                utf8Length += 2;
+            } else if (ch >= 0x80) {
+                utf8Length += 1;
+            }
+        }
+        return utf8Length;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the SpanEvents of a trace that was not head-sampled until the trace is promoted or discarded.
+ * Caution. not thread safe, same as the other storages
+ */
+public class TailSamplingStorage implements Storage {
+
+    private final TailSamplingTraceRoot traceRoot;
+    private final TailSamplingStorageFactory factory;
+    private final boolean rootStorage;
+
+    private ArrayList<SpanEvent> buffer;
+    private int peakBufferSize;
+    // budget reserved from the factory but not used yet
+    private int reserved;
+    private boolean overflow = false;
+
+    TailSamplingStorage(TailSamplingTraceRoot traceRoot, TailSamplingStorageFactory factory, boolean rootStorage) {
+        if (traceRoot == null) {
+            throw new NullPointerException("traceRoot must not be null");
+        }
+        if (factory == null) {
+            throw new NullPointerException("factory must not be null");
+        }
+        this.traceRoot = traceRoot;
+        this.factory = factory;
+        this.rootStorage = rootStorage;
+    }
+
+    @Override
+    public void store(SpanEvent spanEvent) {
+        if (overflow) {
+            spanEvent.recycle();
+            return;
+        }
+        if (reserved == 0) {
+            reserved = factory.reserve();
+            if (reserved == 0) {
+                // buffer limit exceeded. keep the Span only
+                this.overflow = true;
+                factory.incrementOverflowCount();
+                spanEvent.recycle();
+                factory.discard(buffer);
+                return;
+            }
+        }
+        reserved--;
+        if (buffer == null) {
+            buffer = factory.acquireBuffer();
+        }
+        buffer.add(spanEvent);
+        if (buffer.size() > peakBufferSize) {
+            peakBufferSize = buffer.size();
+        }
+    }
+
+    @Override
+    public void store(Span span) {
+        final boolean promote = factory.isPromotable(traceRoot, span);
+        final List<List<SpanEvent>> pendingList = traceRoot.decide(promote);
+        if (promote) {
+            factory.promote(traceRoot, buffer, span);
+            factory.incrementPromoteCount();
+            for (List<SpanEvent> pending : pendingList) {
+                factory.promote(traceRoot, pending);
+            }
+        } else {
+            factory.discard(buffer);
+            factory.incrementDiscardCount();
+            for (List<SpanEvent> pending : pendingList) {
+                factory.discard(pending);
+            }
+        }
+        releaseBuffer();
+        releaseReserved();
+    }
+
+    @Override
+    public void flush() {
+        if (buffer == null || buffer.isEmpty()) {
+            return;
+        }
+        final int decision = traceRoot.handOver(buffer);
+        if (decision == TailSamplingTraceRoot.PROMOTED) {
+            factory.promote(traceRoot, buffer);
+        } else if (decision == TailSamplingTraceRoot.DISCARDED) {
+            factory.discard(buffer);
+        }
+        // UNDECIDED : handed over to the root trace
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        if (rootStorage) {
+            // the Span was never stored. e.g. corrupted call stack
+            for (List<SpanEvent> pending : traceRoot.decide(false)) {
+                factory.discard(pending);
+            }
+        }
+        factory.discard(buffer);
+        releaseBuffer();
+        releaseReserved();
+    }
+
+    private void releaseReserved() {
+        factory.release(reserved);
+        this.reserved = 0;
+    }
+
+    private void releaseBuffer() {
+        final ArrayList<SpanEvent> copy = this.buffer;
+        this.buffer = null;
+        if (copy != null) {
+            factory.releaseBuffer(copy, peakBufferSize);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingStorage{" +
+                "traceRoot=" + traceRoot +
+                ", rootStorage=" + rootStorage +
+                ", overflow=" + overflow +
+                '}';
+    }
+}
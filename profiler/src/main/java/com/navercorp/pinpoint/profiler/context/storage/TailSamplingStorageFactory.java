@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRootFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tail-based sampling. Records the traces that were not head-sampled and keeps only the slow or failed ones.
+ * <p>
+ * The SpanEvents of such a trace stay in memory until its Span is stored. The trace is then passed to the delegate
+ * storage if it took longer than the threshold or ended with an error, and discarded otherwise without being serialized.
+ * Async child traces follow the decision of the root trace.
+ * <p>
+ * Candidates are counted as unsampled transactions, and their trace id carries {@link #CANDIDATE_FLAG}
+ * so that downstream agents do not sample the calls they receive from a trace that will most likely be discarded.
+ * <p>
+ * At most maxBufferedEvents SpanEvents are held at once. Storages reserve the budget in chunks of
+ * {@link #RESERVE_CHUNK_SIZE}, so the limit is approximate. A trace that hits the limit loses its SpanEvents,
+ * but its Span is still sent when promoted.
+ */
+public class TailSamplingStorageFactory implements StorageFactory {
+
+    public static final short CANDIDATE_FLAG = 0x01;
+
+    static final int RESERVE_CHUNK_SIZE = 32;
+
+    // larger buffers are left to the gc instead of being kept by the thread
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024;
+
+    private final StorageFactory delegate;
+    private final long threshold;
+    private final int maxBufferedEvents;
+
+    private final AtomicInteger bufferedEvents = new AtomicInteger();
+    private final ThreadLocal<ArrayList<SpanEvent>> buffers = new ThreadLocal<ArrayList<SpanEvent>>();
+
+    private final AtomicLong promoteCount = new AtomicLong();
+    private final AtomicLong discardCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    public TailSamplingStorageFactory(StorageFactory delegate, long threshold, int maxBufferedEvents) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate must not be null");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("negative threshold:" + threshold);
+        }
+        if (maxBufferedEvents < 0) {
+            throw new IllegalArgumentException("negative maxBufferedEvents:" + maxBufferedEvents);
+        }
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.maxBufferedEvents = maxBufferedEvents;
+    }
+
+    public static boolean isCandidate(TraceId traceId) {
+        return (traceId.getFlags() & CANDIDATE_FLAG) != 0;
+    }
+
+    /**
+     * new trace that was not head-sampled. Storages created for the returned TraceRoot buffer their SpanEvents
+     */
+    public TraceRoot newCandidateTraceRoot(TraceRootFactory traceRootFactory) {
+        return newCandidateTraceRoot(traceRootFactory.newUnsampledTraceRoot());
+    }
+
+    TraceRoot newCandidateTraceRoot(TraceRoot traceRoot) {
+        return new TailSamplingTraceRoot(traceRoot);
+    }
+
+    @Override
+    public Storage createStorage(TraceRoot traceRoot) {
+        if (traceRoot instanceof TailSamplingTraceRoot) {
+            final TailSamplingTraceRoot candidate = (TailSamplingTraceRoot) traceRoot;
+            return new TailSamplingStorage(candidate, this, candidate.claimRootStorage());
+        }
+        return delegate.createStorage(traceRoot);
+    }
+
+    boolean isPromotable(TraceRoot traceRoot, Span span) {
+        if (span.getElapsed() >= threshold) {
+            return true;
+        }
+        // Span.finish() copies the error code later, in the SpanPostProcessor
+        if (traceRoot.getShared().getErrorCode() != 0) {
+            return true;
+        }
+        return span.isSetErrCode() && span.getErrCode() != 0 || span.isSetExceptionInfo();
+    }
+
+    /**
+     * @return number of SpanEvents granted, up to {@link #RESERVE_CHUNK_SIZE}. 0 if the buffer limit is reached
+     */
+    int reserve() {
+        while (true) {
+            final int current = bufferedEvents.get();
+            final int available = maxBufferedEvents - current;
+            if (available <= 0) {
+                return 0;
+            }
+            final int granted = Math.min(RESERVE_CHUNK_SIZE, available);
+            if (bufferedEvents.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    void release(int reserved) {
+        if (reserved > 0) {
+            bufferedEvents.addAndGet(-reserved);
+        }
+    }
+
+    void promote(TraceRoot traceRoot, List<SpanEvent> spanEventList, Span span) {
+        final Storage storage = delegate.createStorage(traceRoot);
+        store(storage, spanEventList);
+        storage.store(span);
+        storage.close();
+    }
+
+    void promote(TraceRoot traceRoot, List<SpanEvent> spanEventList) {
+        final Storage storage = delegate.createStorage(traceRoot);
+        store(storage, spanEventList);
+        storage.flush();
+        storage.close();
+    }
+
+    private void store(Storage storage, List<SpanEvent> spanEventList) {
+        if (spanEventList == null) {
+            return;
+        }
+        for (SpanEvent spanEvent : spanEventList) {
+            storage.store(spanEvent);
+        }
+        bufferedEvents.addAndGet(-spanEventList.size());
+        spanEventList.clear();
+    }
+
+    void discard(List<SpanEvent> spanEventList) {
+        if (spanEventList == null || spanEventList.isEmpty()) {
+            return;
+        }
+        for (SpanEvent spanEvent : spanEventList) {
+            spanEvent.recycle();
+        }
+        bufferedEvents.addAndGet(-spanEventList.size());
+        spanEventList.clear();
+    }
+
+    void incrementPromoteCount() {
+        promoteCount.incrementAndGet();
+    }
+
+    void incrementDiscardCount() {
+        discardCount.incrementAndGet();
+    }
+
+    void incrementOverflowCount() {
+        overflowCount.incrementAndGet();
+    }
+
+    ArrayList<SpanEvent> acquireBuffer() {
+        final ArrayList<SpanEvent> buffer = buffers.get();
+        if (buffer != null) {
+            buffers.set(null);
+            return buffer;
+        }
+        return new ArrayList<SpanEvent>();
+    }
+
+    void releaseBuffer(ArrayList<SpanEvent> buffer, int peakBufferSize) {
+        if (peakBufferSize > MAX_RETAINED_BUFFER_SIZE) {
+            return;
+        }
+        buffer.clear();
+        if (buffers.get() == null) {
+            buffers.set(buffer);
+        }
+    }
+
+    /**
+     * SpanEvents buffered by the traces plus the budget reserved by their storages
+     */
+    public int getBufferedEventCount() {
+        return bufferedEvents.get();
+    }
+
+    public long getPromoteCount() {
+        return promoteCount.get();
+    }
+
+    public long getDiscardCount() {
+        return discardCount.get();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingStorageFactory{" +
+                "delegate=" + delegate +
+                ", threshold=" + threshold +
+                ", maxBufferedEvents=" + maxBufferedEvents +
+                ", bufferedEvents=" + getBufferedEventCount() +
+                ", promoteCount=" + getPromoteCount() +
+                ", discardCount=" + getDiscardCount() +
+                ", overflowCount=" + getOverflowCount() +
+                '}';
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.util.Clock;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link TraceRoot} of a trace that was not head-sampled.
+ * Holds the keep/discard decision shared by the root trace and its async child traces.
+ */
+final class TailSamplingTraceRoot implements TraceRoot {
+
+    static final int UNDECIDED = 0;
+    static final int PROMOTED = 1;
+    static final int DISCARDED = 2;
+
+    private final TraceRoot traceRoot;
+    private final TraceId traceId;
+
+    private boolean rootStorageCreated;
+    private int decision = UNDECIDED;
+    // SpanEvents of async child traces that finished before the root trace
+    private List<List<SpanEvent>> pendingList;
+
+    TailSamplingTraceRoot(TraceRoot traceRoot) {
+        if (traceRoot == null) {
+            throw new NullPointerException("traceRoot must not be null");
+        }
+        this.traceRoot = traceRoot;
+        this.traceId = newCandidateTraceId(traceRoot.getTraceId());
+    }
+
+    // downstream agents see the flag and do not sample their part of the transaction
+    private static TraceId newCandidateTraceId(TraceId traceId) {
+        final short flags = (short) (traceId.getFlags() | TailSamplingStorageFactory.CANDIDATE_FLAG);
+        return new DefaultTraceId(traceId.getAgentId(), traceId.getAgentStartTime(), traceId.getTransactionSequence(),
+                traceId.getParentSpanId(), traceId.getSpanId(), flags);
+    }
+
+    @Override
+    public TraceId getTraceId() {
+        return traceId;
+    }
+
+    @Override
+    public long getLocalTransactionId() {
+        return traceRoot.getLocalTransactionId();
+    }
+
+    @Override
+    public long getTraceStartTime() {
+        return traceRoot.getTraceStartTime();
+    }
+
+    @Override
+    public Shared getShared() {
+        return traceRoot.getShared();
+    }
+
+    @Override
+    public Clock getClock() {
+        return traceRoot.getClock();
+    }
+
+    /**
+     * the first storage created for this trace belongs to the root trace
+     */
+    synchronized boolean claimRootStorage() {
+        if (rootStorageCreated) {
+            return false;
+        }
+        rootStorageCreated = true;
+        return true;
+    }
+
+    synchronized int getDecision() {
+        return decision;
+    }
+
+    /**
+     * @return SpanEvents handed over by async child traces. empty if already decided
+     */
+    synchronized List<List<SpanEvent>> decide(boolean promote) {
+        if (decision != UNDECIDED) {
+            return Collections.emptyList();
+        }
+        this.decision = promote ? PROMOTED : DISCARDED;
+
+        final List<List<SpanEvent>> copy = this.pendingList;
+        this.pendingList = null;
+        if (copy == null) {
+            return Collections.emptyList();
+        }
+        return copy;
+    }
+
+    /**
+     * keeps a copy of the given SpanEvents until the root trace decides.
+     * @return the decision. the SpanEvents were handed over only if {@link #UNDECIDED}
+     */
+    synchronized int handOver(List<SpanEvent> spanEventList) {
+        if (decision != UNDECIDED) {
+            return decision;
+        }
+        if (pendingList == null) {
+            pendingList = new ArrayList<List<SpanEvent>>();
+        }
+        pendingList.add(new ArrayList<SpanEvent>(spanEventList));
+        return UNDECIDED;
+    }
+
+    @Override
+    public String toString() {
+        return "TailSamplingTraceRoot{" +
+                "traceRoot=" + traceRoot +
+                ", decision=" + getDecision() +
+                '}';
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+/**
+ * Bloom filter of the top-level package of every indexed class and package name. e.g. com, org, io
+ * <p>
+ * {@link #mightMatch(String)} returning false means no class or package index can match the class,
+ * so most JDK and application classes are rejected with one hash of their first package segment.
+ * False positives only fall through to the real index lookup, a matchable class is never rejected.
+ * <p>
+ * Caution. add() is not thread safe. the filter must be fully built before it is shared.
+ */
+class IndexedPackageFilter {
+
+    private static final int BIT_SIZE = 1 << 12;
+    private static final int BIT_MASK = BIT_SIZE - 1;
+    private static final char PACKAGE_SEPARATOR = '/';
+
+    private final long[] bits = new long[BIT_SIZE / Long.SIZE];
+    // an indexed package name without separator can be the prefix of any top-level package
+    private boolean acceptAll = false;
+
+    public void addClassName(final String classInternalName) {
+        final int end = segmentEnd(classInternalName);
+        setBits(hash(classInternalName, end));
+    }
+
+    public void addPackageName(final String packageInternalName) {
+        final int separator = packageInternalName.indexOf(PACKAGE_SEPARATOR);
+        if (separator == -1) {
+            // e.g. "com", "co". prefix of a top-level package
+            this.acceptAll = true;
+            return;
+        }
+        setBits(hash(packageInternalName, separator));
+    }
+
+    public boolean mightMatch(final String classInternalName) {
+        if (acceptAll) {
+            return true;
+        }
+        final int hash = hash(classInternalName, segmentEnd(classInternalName));
+        return isSet(hash) && isSet(rehash(hash));
+    }
+
+    private static int segmentEnd(final String internalName) {
+        final int separator = internalName.indexOf(PACKAGE_SEPARATOR);
+        if (separator == -1) {
+            // default package
+            return internalName.length();
+        }
+        return separator;
+    }
+
+    // String.hashCode() of the segment without substring
+    private static int hash(final String name, final int end) {
+        int hash = 0;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + name.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int rehash(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void setBits(final int hash) {
+        set(hash);
+        set(rehash(hash));
+    }
+
+    private void set(final int hash) {
+        final int index = hash & BIT_MASK;
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private boolean isSet(final int hash) {
+        final int index = hash & BIT_MASK;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedPackageFilter{" +
+                "acceptAll=" + acceptAll +
+                '}';
+    }
+}
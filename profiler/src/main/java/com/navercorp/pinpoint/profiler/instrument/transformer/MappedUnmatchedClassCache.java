@@ -0,0 +1,338 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+
+/**
+ * Open addressing hash set of 64-bit class keys in a memory-mapped file, kept across restarts.
+ * <pre>
+ * file   : header slot*
+ * header : magic(int32) version(int32) fingerprint(int64) capacity(int32) state(int32) checksum(int64)
+ * slot   : key(int64). 0 is empty
+ * </pre>
+ * The key is a hash of the class name and the class bytes. The whole file is discarded on open
+ * when the fingerprint (agent version, plugin jars, profiler properties) or the capacity does not match,
+ * when it was not closed cleanly, or when the slots do not add up to the checksum.
+ * <p>
+ * The file is locked while it is open. When another process holds the lock, the table is kept in memory only.
+ * <p>
+ * put() is synchronized. contains() reads the mapped slots without lock, a concurrent put() can only cause a miss.
+ */
+public class MappedUnmatchedClassCache implements UnmatchedClassCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedUnmatchedClassCache.class);
+
+    static final int MAGIC = 0x50504d43;
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    private static final int FINGERPRINT_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int STATE_OFFSET = 20;
+    private static final int CHECKSUM_OFFSET = 24;
+
+    // written by close(). any other state means the process died with the file open
+    static final int STATE_CLEAN = 1;
+    static final int STATE_OPEN = 2;
+
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 24;
+    private static final int MAX_PROBE = 32;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ByteBuffer buffer;
+    // null when kept in memory
+    private final RandomAccessFile randomAccessFile;
+    private final FileLock lock;
+    private final int capacity;
+    private final int mask;
+    // stop inserting at 75% load. probing gets long and a full table never finishes a lookup
+    private final int maxSize;
+    private int size;
+    // sum of the keys
+    private long checksum;
+    private boolean closed;
+
+    public MappedUnmatchedClassCache(File file, int capacity, long fingerprint) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file must not be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = roundUpToPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.maxSize = this.capacity - (this.capacity >>> 2);
+
+        final long fileSize = HEADER_SIZE + (long) this.capacity * 8;
+        final RandomAccessFile randomAccessFile = openFile(file);
+        final FileLock lock = tryLock(randomAccessFile);
+        if (lock == null) {
+            randomAccessFile.close();
+            logger.info("Unmatched class cache is in use by another process. keep it in memory. file={}", file);
+            this.randomAccessFile = null;
+            this.lock = null;
+            this.buffer = ByteBuffer.allocate((int) fileSize);
+            return;
+        }
+
+        try {
+            this.buffer = map(file, randomAccessFile, fileSize, this.capacity, fingerprint);
+        } catch (IOException e) {
+            lock.release();
+            randomAccessFile.close();
+            throw e;
+        }
+        this.randomAccessFile = randomAccessFile;
+        this.lock = lock;
+        load(file);
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        if (value <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        if (value >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        }
+        return highestOneBit << 1;
+    }
+
+    private static RandomAccessFile openFile(File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Failed to create directory " + parent);
+        }
+        return new RandomAccessFile(file, "rw");
+    }
+
+    private static FileLock tryLock(RandomAccessFile randomAccessFile) throws IOException {
+        try {
+            return randomAccessFile.getChannel().tryLock();
+        } catch (OverlappingFileLockException e) {
+            // held by this process
+            return null;
+        }
+    }
+
+    private static MappedByteBuffer map(File file, RandomAccessFile randomAccessFile, long fileSize, int capacity, long fingerprint) throws IOException {
+        final boolean valid = isValid(randomAccessFile, fileSize, capacity, fingerprint);
+        if (!valid) {
+            // truncate and extend. the extended part reads as zero
+            randomAccessFile.setLength(0);
+            randomAccessFile.setLength(fileSize);
+        }
+        final MappedByteBuffer buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        if (!valid) {
+            logger.info("Create unmatched class cache. file={}, capacity={}", file, capacity);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(FINGERPRINT_OFFSET, fingerprint);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            buffer.putInt(STATE_OFFSET, STATE_CLEAN);
+            buffer.putLong(CHECKSUM_OFFSET, 0);
+        }
+        return buffer;
+    }
+
+    private static boolean isValid(RandomAccessFile file, long fileSize, int capacity, long fingerprint) throws IOException {
+        if (file.length() != fileSize) {
+            return false;
+        }
+        file.seek(0);
+        if (file.readInt() != MAGIC) {
+            return false;
+        }
+        if (file.readInt() != VERSION) {
+            return false;
+        }
+        if (file.readLong() != fingerprint) {
+            logger.info("Unmatched class cache is outdated. discard it");
+            return false;
+        }
+        if (file.readInt() != capacity) {
+            return false;
+        }
+        if (file.readInt() != STATE_CLEAN) {
+            logger.info("Unmatched class cache was not closed cleanly. discard it");
+            return false;
+        }
+        return true;
+    }
+
+    private void load(File file) throws IOException {
+        int count = 0;
+        long sum = 0;
+        for (int i = 0; i < capacity; i++) {
+            final long slot = getSlot(i);
+            if (slot != 0) {
+                count++;
+                sum += slot;
+            }
+        }
+        if (sum != buffer.getLong(CHECKSUM_OFFSET)) {
+            logger.info("Unmatched class cache is corrupted. discard it. file={}", file);
+            for (int i = 0; i < capacity; i++) {
+                buffer.putLong(slotOffset(i), 0);
+            }
+            count = 0;
+            sum = 0;
+        }
+        this.size = count;
+        this.checksum = sum;
+        // the slots are modified from here on. a crash before close() discards the file on the next open
+        buffer.putInt(STATE_OFFSET, STATE_OPEN);
+        ((MappedByteBuffer) buffer).force();
+    }
+
+    @Override
+    public boolean contains(String classInternalName, byte[] classFileBuffer) {
+        final long key = key(classInternalName, classFileBuffer);
+        int index = index(key);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            final long slot = getSlot(index);
+            if (slot == key) {
+                return true;
+            }
+            if (slot == 0) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void put(String classInternalName, byte[] classFileBuffer) {
+        if (closed || size >= maxSize) {
+            return;
+        }
+        final long key = key(classInternalName, classFileBuffer);
+        int index = index(key);
+        for (int probe = 0; probe < MAX_PROBE; probe++) {
+            final long slot = getSlot(index);
+            if (slot == key) {
+                return;
+            }
+            if (slot == 0) {
+                buffer.putLong(slotOffset(index), key);
+                size++;
+                checksum += key;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * writes the checksum and marks the file clean. put() is ignored afterwards, contains() still works.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (randomAccessFile == null) {
+            return;
+        }
+        try {
+            final MappedByteBuffer mappedBuffer = (MappedByteBuffer) buffer;
+            // slots first, so that a clean state never comes with missing slots
+            mappedBuffer.force();
+            buffer.putLong(CHECKSUM_OFFSET, checksum);
+            buffer.putInt(STATE_OFFSET, STATE_CLEAN);
+            mappedBuffer.force();
+        } finally {
+            try {
+                lock.release();
+                randomAccessFile.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close unmatched class cache", e);
+            }
+        }
+    }
+
+    private long getSlot(int index) {
+        return buffer.getLong(slotOffset(index));
+    }
+
+    private static int slotOffset(int index) {
+        return HEADER_SIZE + (index << 3);
+    }
+
+    private int index(long key) {
+        final long h = key ^ (key >>> 32);
+        return (int) h & mask;
+    }
+
+    // FNV-1a 64 of the class name and the class bytes. 0 is reserved for empty slots
+    static long key(String classInternalName, byte[] classFileBuffer) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < classInternalName.length(); i++) {
+            hash ^= classInternalName.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        for (byte b : classFileBuffer) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        if (hash == 0) {
+            return 1;
+        }
+        return hash;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return false if the table is kept in memory only.
+     */
+    public boolean isPersistent() {
+        return randomAccessFile != null;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedUnmatchedClassCache{" +
+                "capacity=" + capacity +
+                ", persistent=" + isPersistent() +
+                ", size=" + size() +
+                '}';
+    }
+}
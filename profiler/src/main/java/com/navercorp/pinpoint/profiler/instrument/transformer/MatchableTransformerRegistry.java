@@ -28,13 +28,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.instrument.ClassFileTransformer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -49,22 +48,28 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
 
     // class matcher operand.
     private final Map<String, IndexValue> classNameBasedIndex = new HashMap<String, IndexValue>(64);
-    // package matcher operand.
-    private final Map<String, Set<IndexValue>> packageNameBasedIndex;
+    // package matcher operand. sorted by package name length.
+    private final PackageNameTrie<IndexValue> packageNameBasedIndex = new PackageNameTrie<IndexValue>();
+    // top-level packages of the class and package indexes.
+    private final IndexedPackageFilter indexedPackageFilter = new IndexedPackageFilter();
+    // for matching time report.
+    private final List<IndexValue> indexValues = new ArrayList<IndexValue>();
 
     private final TransformerMatcherExecutionPlanner executionPlanner = new TransformerMatcherExecutionPlanner();
     private final TransformerMatcher transformerMatcher;
+    // classes matched without success on previous runs.
+    private final UnmatchedClassCache unmatchedClassCache;
 
     public MatchableTransformerRegistry(final ProfilerConfig profilerConfig) {
-        // sorted by package name length.
-        this.packageNameBasedIndex = new TreeMap<String, Set<IndexValue>>(new Comparator<String>() {
-            @Override
-            public int compare(String key1, String key2) {
-                return key1.length() - key2.length();
-            }
-        });
+        this(profilerConfig, EmptyUnmatchedClassCache.INSTANCE);
+    }
 
+    public MatchableTransformerRegistry(final ProfilerConfig profilerConfig, final UnmatchedClassCache unmatchedClassCache) {
+        if (unmatchedClassCache == null) {
+            throw new NullPointerException("unmatchedClassCache must not be null");
+        }
         this.transformerMatcher = new DefaultTransformerMatcher(profilerConfig.getInstrumentMatcherCacheConfig());
+        this.unmatchedClassCache = unmatchedClassCache;
     }
 
     @Override
@@ -80,7 +85,12 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
             return transformer;
         }
 
-        ClassMetadataWrapper classMetadataWrapper = new ClassMetadataWrapper(classFileBuffer, classMetadata);
+        // not indexed package.
+        if (!this.indexedPackageFilter.mightMatch(classInternalName)) {
+            return null;
+        }
+
+        ClassMetadataWrapper classMetadataWrapper = new ClassMetadataWrapper(classInternalName, classFileBuffer, classMetadata);
         // find class name based.
         if (!this.classNameBasedIndex.isEmpty()) {
             transformer = findClassBasedTransformer(classLoader, classInternalName, classMetadataWrapper);
@@ -98,6 +108,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         }
 
         // not found.
+        classMetadataWrapper.putUnmatched();
         return null;
     }
 
@@ -119,15 +130,15 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     }
 
     private ClassFileTransformer findPackageBasedTransformer(final ClassLoader classLoader, final String classInternalName, final ClassMetadataWrapper classMetadataWrapper) {
-        for (Map.Entry<String, Set<IndexValue>> entry : this.packageNameBasedIndex.entrySet()) {
-            final String packageInternalName = entry.getKey();
-            if (classInternalName.startsWith(packageInternalName)) {
-                for (IndexValue value : entry.getValue()) {
-                    ClassFileTransformer transformer = match(classLoader, value, classMetadataWrapper);
-                    if (transformer != null) {
-                        return transformer;
-                    }
-                }
+        final List<IndexValue> indexValues = new ArrayList<IndexValue>(4);
+        if (!this.packageNameBasedIndex.find(classInternalName, indexValues)) {
+            return null;
+        }
+
+        for (IndexValue value : indexValues) {
+            ClassFileTransformer transformer = match(classLoader, value, classMetadataWrapper);
+            if (transformer != null) {
+                return transformer;
             }
         }
 
@@ -135,6 +146,10 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
     }
 
     private ClassFileTransformer match(final ClassLoader classLoader, final IndexValue indexValue, final ClassMetadataWrapper classMetadataWrapper) {
+        if (classMetadataWrapper.isUnmatched()) {
+            return null;
+        }
+        classMetadataWrapper.evaluate(indexValue);
         final long startTime = System.currentTimeMillis();
         if (transformerMatcher.match(classLoader, indexValue.operand, classMetadataWrapper.get())) {
             long elapsedTime = indexValue.accumulatorTime(startTime);
@@ -168,7 +183,8 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         }
 
         boolean indexed;
-        final IndexValue indexValue = new IndexValue(condition, transformer);
+        final IndexValue indexValue = new IndexValue(condition, transformer, executionPlanner.isClassLoaderIndependent(condition));
+        this.indexValues.add(indexValue);
         for (MatcherOperand operand : indexedMatcherOperands) {
             if (operand instanceof ClassInternalNameMatcherOperand) {
                 ClassInternalNameMatcherOperand classInternalNameMatcherOperand = (ClassInternalNameMatcherOperand) operand;
@@ -176,10 +192,12 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
                 if (prev != null) {
                     throw new IllegalStateException("Transformer already exist. class=" + classInternalNameMatcherOperand.getClassInternalName() + ", new=" + indexValue + ", prev=" + prev);
                 }
+                this.indexedPackageFilter.addClassName(classInternalNameMatcherOperand.getClassInternalName());
                 indexed = true;
             } else if (operand instanceof PackageInternalNameMatcherOperand) {
                 PackageInternalNameMatcherOperand packageInternalNameMatcherOperand = (PackageInternalNameMatcherOperand) operand;
-                addIndexData(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue, this.packageNameBasedIndex);
+                this.packageNameBasedIndex.put(packageInternalNameMatcherOperand.getPackageInternalName(), indexValue);
+                this.indexedPackageFilter.addPackageName(packageInternalNameMatcherOperand.getPackageInternalName());
                 indexed = true;
             } else {
                 throw new IllegalArgumentException("invalid matcher or execution planner - unknown operand. condition=" + condition + ", unknown operand=" + operand);
@@ -191,41 +209,103 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
         }
     }
 
-    private void addIndexData(final String key, final IndexValue indexValue, final Map<String, Set<IndexValue>> index) {
-        Set<IndexValue> indexValueSet = index.get(key);
-        if (indexValueSet == null) {
-            indexValueSet = new HashSet<IndexValue>();
-            index.put(key, indexValueSet);
+    /**
+     * accumulated matching time of each transformer, slowest first.
+     */
+    public String getMatchingTimeReport() {
+        final List<IndexValue> sorted = new ArrayList<IndexValue>(this.indexValues);
+        Collections.sort(sorted, new Comparator<IndexValue>() {
+            @Override
+            public int compare(IndexValue value1, IndexValue value2) {
+                final long time1 = value1.accumulatorTimeMillis.get();
+                final long time2 = value2.accumulatorTimeMillis.get();
+                if (time1 == time2) {
+                    return 0;
+                }
+                return time1 > time2 ? -1 : 1;
+            }
+        });
+
+        long totalTimeMillis = 0;
+        long totalCount = 0;
+        final StringBuilder sb = new StringBuilder(128 * (sorted.size() + 1));
+        for (IndexValue value : sorted) {
+            final long timeMillis = value.accumulatorTimeMillis.get();
+            final long count = value.accumulatorCount.get();
+            totalTimeMillis += timeMillis;
+            totalCount += count;
+            sb.append(System.getProperty("line.separator"));
+            sb.append("  ").append(timeMillis).append("ms, count=").append(count);
+            sb.append(", operand=").append(value.operand);
+            sb.append(", transformer=").append(value.transformer);
         }
-        indexValueSet.add(indexValue);
+        sb.insert(0, "Matching time report. transformers=" + sorted.size() + ", total=" + totalTimeMillis + "ms, count=" + totalCount);
+        return sb.toString();
     }
 
     static class IndexValue {
         private final MatcherOperand operand;
         private final ClassFileTransformer transformer;
+        // the result is the same for every class loader.
+        private final boolean classLoaderIndependent;
         private final AtomicLong accumulatorTimeMillis = new AtomicLong(0);
+        private final AtomicLong accumulatorCount = new AtomicLong(0);
 
-        public IndexValue(final MatcherOperand operand, final ClassFileTransformer transformer) {
+        public IndexValue(final MatcherOperand operand, final ClassFileTransformer transformer, final boolean classLoaderIndependent) {
             this.operand = operand;
             this.transformer = transformer;
+            this.classLoaderIndependent = classLoaderIndependent;
         }
 
         public long accumulatorTime(final long startTimeMillis) {
             final long elapsedTimeMillis = System.currentTimeMillis() - startTimeMillis;
             accumulatorTimeMillis.addAndGet(elapsedTimeMillis);
+            accumulatorCount.incrementAndGet();
             return elapsedTimeMillis;
         }
     }
 
     class ClassMetadataWrapper {
+        private final String classInternalName;
         private final byte[] classFileBuffer;
         private InternalClassMetadata classMetadata;
-
-        ClassMetadataWrapper(final byte[] classFileBuffer, final InternalClassMetadata classMetadata) {
+        private boolean readFailed = false;
+        // a matcher read the class hierarchy through the class loader.
+        private boolean classLoaderDependent = false;
+        // null until the first matcher is evaluated.
+        private Boolean unmatched;
+
+        ClassMetadataWrapper(final String classInternalName, final byte[] classFileBuffer, final InternalClassMetadata classMetadata) {
+            this.classInternalName = classInternalName;
             this.classFileBuffer = classFileBuffer;
             this.classMetadata = classMetadata;
         }
 
+        /**
+         * @return true if no transformer matched this class on a previous run.
+         */
+        public boolean isUnmatched() {
+            if (this.unmatched == null) {
+                this.unmatched = unmatchedClassCache.contains(this.classInternalName, this.classFileBuffer);
+            }
+            return this.unmatched;
+        }
+
+        public void evaluate(final IndexValue indexValue) {
+            if (!indexValue.classLoaderIndependent) {
+                this.classLoaderDependent = true;
+            }
+        }
+
+        public void putUnmatched() {
+            // evaluated without cache hit or read failure.
+            // the same bytes can match under another class loader when a hierarchy matcher was evaluated,
+            // and a super type that failed to load reads as a miss. neither is kept.
+            if (Boolean.FALSE.equals(this.unmatched) && !this.readFailed && !this.classLoaderDependent) {
+                unmatchedClassCache.put(this.classInternalName, this.classFileBuffer);
+            }
+        }
+
         public InternalClassMetadata get() {
             if (this.classMetadata == null) {
                 try {
@@ -234,6 +314,7 @@ public class MatchableTransformerRegistry implements TransformerRegistry {
                     if (logger.isInfoEnabled()) {
                         logger.info("Failed to read metadata of class bytes.", e);
                     }
+                    this.readFailed = true;
                     return null;
                 }
             }
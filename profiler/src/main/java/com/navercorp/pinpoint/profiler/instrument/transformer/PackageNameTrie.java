@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compressed prefix trie of package internal names. e.g. com/mysql/jdbc, org/apache/catalina
+ * <p>
+ * {@link #find(String, List)} collects the values of every key that is a prefix of the given class name
+ * ({@link String#startsWith(String)} semantics) by walking only the nodes along the class name.
+ * Values are collected in order of key length, shortest first.
+ * <p>
+ * Caution. put() is not thread safe. the trie must be fully built before it is shared.
+ */
+class PackageNameTrie<V> {
+
+    private final Node<V> root = new Node<V>("");
+    private int size;
+
+    public void put(final String key, final V value) {
+        if (key == null) {
+            throw new NullPointerException("key must not be null");
+        }
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+
+        Node<V> node = this.root;
+        int position = 0;
+        while (position < key.length()) {
+            final Node<V> child = node.getChild(key.charAt(position));
+            if (child == null) {
+                final Node<V> leaf = new Node<V>(key.substring(position));
+                node.addChild(leaf);
+                node = leaf;
+                break;
+            }
+
+            final int common = commonPrefixLength(child.edge, key, position);
+            if (common < child.edge.length()) {
+                // split the edge. child.edge = common part + rest
+                final Node<V> intermediate = new Node<V>(child.edge.substring(0, common));
+                node.replaceChild(intermediate);
+                child.edge = child.edge.substring(common);
+                intermediate.addChild(child);
+                node = intermediate;
+            } else {
+                node = child;
+            }
+            position += common;
+        }
+
+        if (node.addValue(value)) {
+            this.size++;
+        }
+    }
+
+    private static int commonPrefixLength(final String edge, final String key, final int offset) {
+        final int max = Math.min(edge.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && edge.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return true if at least one value was found.
+     */
+    public boolean find(final String classInternalName, final List<V> result) {
+        boolean found = false;
+        Node<V> node = this.root;
+        int position = 0;
+        while (true) {
+            if (node.values != null) {
+                result.addAll(node.values);
+                found = true;
+            }
+            if (position >= classInternalName.length()) {
+                return found;
+            }
+            final Node<V> child = node.getChild(classInternalName.charAt(position));
+            if (child == null || !classInternalName.regionMatches(position, child.edge, 0, child.edge.length())) {
+                return found;
+            }
+            position += child.edge.length();
+            node = child;
+        }
+    }
+
+    /**
+     * @return number of values.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return all keys with at least one value.
+     */
+    public List<String> keys() {
+        final List<String> keys = new ArrayList<String>();
+        collectKeys(this.root, "", keys);
+        return keys;
+    }
+
+    private void collectKeys(final Node<V> node, final String prefix, final List<String> keys) {
+        final String key = prefix + node.edge;
+        if (node.values != null) {
+            keys.add(key);
+        }
+        for (Node<V> child : node.children) {
+            collectKeys(child, key, keys);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PackageNameTrie{" +
+                "keys=" + keys() +
+                ", size=" + size +
+                '}';
+    }
+
+    @SuppressWarnings("unchecked")
+    private static class Node<V> {
+        private static final Node[] EMPTY = new Node[0];
+
+        private String edge;
+        private Node<V>[] children = EMPTY;
+        private List<V> values;
+
+        private Node(final String edge) {
+            this.edge = edge;
+        }
+
+        // edges of children never share the first character
+        private Node<V> getChild(final char c) {
+            final Node<V>[] children = this.children;
+            for (Node<V> child : children) {
+                if (child.edge.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private void addChild(final Node<V> child) {
+            final Node<V>[] copy = new Node[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, children.length);
+            copy[children.length] = child;
+            this.children = copy;
+        }
+
+        private void replaceChild(final Node<V> child) {
+            final char c = child.edge.charAt(0);
+            for (int i = 0; i < children.length; i++) {
+                if (children[i].edge.charAt(0) == c) {
+                    children[i] = child;
+                    return;
+                }
+            }
+            throw new IllegalStateException("child not found. edge=" + child.edge);
+        }
+
+        private boolean addValue(final V value) {
+            if (values == null) {
+                this.values = Collections.singletonList(value);
+                return true;
+            }
+            if (values.contains(value)) {
+                return false;
+            }
+            final List<V> copy = new ArrayList<V>(values.size() + 1);
+            copy.addAll(values);
+            copy.add(value);
+            this.values = copy;
+            return true;
+        }
+    }
+}
@@ -15,7 +15,12 @@
  */
 package com.navercorp.pinpoint.profiler.instrument.transformer;
 
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.AnnotationInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.ClassInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.InterfaceInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.MatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.PackageInternalNameMatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.SuperClassInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operator.AndMatcherOperator;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operator.MatcherOperator;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operator.NotMatcherOperator;
@@ -36,6 +41,34 @@ public class TransformerMatcherExecutionPlanner {
         return index;
     }
 
+    /**
+     * @return true if the operand reads only the name and the bytes of the class itself.
+     * interface, super class and annotation hierarchies are read through the class loader, the result can differ by class loader.
+     */
+    public boolean isClassLoaderIndependent(final MatcherOperand operand) {
+        if (operand.isOperator()) {
+            final MatcherOperator operator = (MatcherOperator) operand;
+            final MatcherOperand leftOperand = operator.getLeftOperand();
+            if (leftOperand != null && !isClassLoaderIndependent(leftOperand)) {
+                return false;
+            }
+            final MatcherOperand rightOperand = operator.getRightOperand();
+            return rightOperand == null || isClassLoaderIndependent(rightOperand);
+        }
+
+        if (operand instanceof ClassInternalNameMatcherOperand || operand instanceof PackageInternalNameMatcherOperand) {
+            return true;
+        } else if (operand instanceof InterfaceInternalNameMatcherOperand) {
+            return !((InterfaceInternalNameMatcherOperand) operand).isConsiderHierarchy();
+        } else if (operand instanceof SuperClassInternalNameMatcherOperand) {
+            return !((SuperClassInternalNameMatcherOperand) operand).isConsiderHierarchy();
+        } else if (operand instanceof AnnotationInternalNameMatcherOperand) {
+            return !((AnnotationInternalNameMatcherOperand) operand).isConsiderMetaAnnotation();
+        }
+        // unknown.
+        return false;
+    }
+
     // find indexed operands.
     private boolean traversal(final MatcherOperand operand, final List<MatcherOperand> index) {
         if (!operand.isOperator()) {
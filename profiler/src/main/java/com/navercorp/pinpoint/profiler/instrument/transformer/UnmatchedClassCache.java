@@ -0,0 +1,29 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+/**
+ * Classes that were already checked against every candidate transformer without a match.
+ * Only results that do not depend on the class loader are put.
+ */
+public interface UnmatchedClassCache {
+
+    boolean contains(String classInternalName, byte[] classFileBuffer);
+
+    void put(String classInternalName, byte[] classFileBuffer);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.Version;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class UnmatchedClassCacheFactory {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ProfilerConfig profilerConfig;
+    private final List<String> pluginJars;
+
+    public UnmatchedClassCacheFactory(ProfilerConfig profilerConfig, List<String> pluginJars) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        if (pluginJars == null) {
+            throw new NullPointerException("pluginJars must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.pluginJars = pluginJars;
+    }
+
+    public UnmatchedClassCache createUnmatchedClassCache() {
+        final String fileName = profilerConfig.getInstrumentMatcherPersistentCacheFile();
+        if (StringUtils.isEmpty(fileName)) {
+            return EmptyUnmatchedClassCache.INSTANCE;
+        }
+
+        final File file = new File(fileName.trim());
+        try {
+            final MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, profilerConfig.getInstrumentMatcherPersistentCacheSize(), fingerprint());
+            logger.info("Unmatched class cache. file={}, {}", file, cache);
+            registerShutdownHook(cache);
+            return cache;
+        } catch (Exception e) {
+            logger.warn("Failed to open unmatched class cache. file={}", file, e);
+            return EmptyUnmatchedClassCache.INSTANCE;
+        }
+    }
+
+    // the file is discarded on the next open unless it is closed
+    private void registerShutdownHook(final MappedUnmatchedClassCache cache) {
+        final Runnable close = new Runnable() {
+            @Override
+            public void run() {
+                cache.close();
+            }
+        };
+        final PinpointThreadFactory threadFactory = new PinpointThreadFactory("Pinpoint-unmatched-class-cache-shutdown-hook", false);
+        Runtime.getRuntime().addShutdownHook(threadFactory.newThread(close));
+    }
+
+    /**
+     * agent version, plugin jars and profiler properties. any change can change the result of the matchers.
+     */
+    long fingerprint() {
+        final List<String> keys = new ArrayList<String>();
+        keys.add(Version.VERSION);
+
+        final List<String> sortedPluginJars = new ArrayList<String>(pluginJars);
+        Collections.sort(sortedPluginJars);
+        for (String pluginJar : sortedPluginJars) {
+            final File file = new File(pluginJar);
+            keys.add(pluginJar + ':' + file.length() + ':' + file.lastModified());
+        }
+
+        final Map<String, String> properties = new TreeMap<String, String>(profilerConfig.readPattern("profiler\\..*"));
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            keys.add(entry.getKey() + '=' + entry.getValue());
+        }
+
+        long hash = FNV_OFFSET_BASIS;
+        for (String key : keys) {
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= FNV_PRIME;
+            }
+            // separator
+            hash ^= 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
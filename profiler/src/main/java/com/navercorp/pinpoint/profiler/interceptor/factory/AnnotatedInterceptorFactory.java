@@ -41,6 +41,16 @@ import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleStaticAroundI
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandler;
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadRecorder;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredApiIdAwareAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor0;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor1;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor3;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor4;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredAroundInterceptor5;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.MeteredStaticAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedApiIdAwareAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedInterceptor0;
@@ -68,6 +78,8 @@ import com.navercorp.pinpoint.profiler.instrument.ScopeInfo;
 import com.navercorp.pinpoint.profiler.metadata.ApiMetaDataService;
 import com.navercorp.pinpoint.profiler.objectfactory.AutoBindingObjectFactory;
 import com.navercorp.pinpoint.profiler.objectfactory.InterceptorArgumentProvider;
+import com.navercorp.pinpoint.profiler.plugin.PluginConfig;
+import com.navercorp.pinpoint.profiler.plugin.PluginInstrumentContext;
 
 /**
  * @author Jongho Moon
@@ -80,19 +92,34 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
     private final ApiMetaDataService apiMetaDataService;
     private final InstrumentContext pluginContext;
     private final ExceptionHandlerFactory exceptionHandlerFactory;
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory;
+    private final String pluginName;
 
     public AnnotatedInterceptorFactory(ProfilerConfig profilerConfig,
                                        TraceContext traceContext,
                                        DataSourceMonitorRegistry dataSourceMonitorRegistry,
                                        ApiMetaDataService apiMetaDataService,
                                        InstrumentContext pluginContext,
-                                       ExceptionHandlerFactory exceptionHandlerFactory) {
+                                       ExceptionHandlerFactory exceptionHandlerFactory,
+                                       InterceptorOverheadMeterFactory interceptorOverheadMeterFactory) {
         this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
         this.traceContext = Assert.requireNonNull(traceContext, "traceContext must not be null");
         this.dataSourceMonitorRegistry = Assert.requireNonNull(dataSourceMonitorRegistry, "dataSourceMonitorRegistry must not be null");
         this.apiMetaDataService = Assert.requireNonNull(apiMetaDataService, "apiMetaDataService must not be null");
         this.pluginContext = Assert.requireNonNull(pluginContext, "pluginContext must not be null");
         this.exceptionHandlerFactory = Assert.requireNonNull(exceptionHandlerFactory, "exceptionHandlerFactory must not be null");
+        this.interceptorOverheadMeterFactory = Assert.requireNonNull(interceptorOverheadMeterFactory, "interceptorOverheadMeterFactory must not be null");
+        this.pluginName = getPluginName(pluginContext);
+    }
+
+    private static String getPluginName(InstrumentContext pluginContext) {
+        if (pluginContext instanceof PluginInstrumentContext) {
+            final PluginConfig pluginConfig = ((PluginInstrumentContext) pluginContext).getPluginConfig();
+            if (pluginConfig != null) {
+                return pluginConfig.getPluginName();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -105,6 +132,14 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
 
         Interceptor interceptor = (Interceptor) factory.createInstance(objectFactory, interceptorArgumentProvider);
 
+        if (interceptorOverheadMeterFactory.isEnable()) {
+            // innermost, so that scope and exception handling are not charged to the plugin
+            final int meterId = interceptorOverheadMeterFactory.register(pluginName, interceptorClassName);
+            if (meterId != InterceptorOverheadRecorder.NOT_REGISTERED) {
+                interceptor = wrapByOverheadMeter(interceptor, interceptorOverheadMeterFactory.getRecorder(), meterId);
+            }
+        }
+
         if (interceptorScope != null) {
             if (exceptionHandlerFactory.isHandleException()) {
                 interceptor = wrapByExceptionHandleScope(interceptor, interceptorScope, getExecutionPolicy(scopeInfo.getExecutionPolicy()));
@@ -127,6 +162,30 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
         return policy;
     }
 
+    private Interceptor wrapByOverheadMeter(Interceptor interceptor, InterceptorOverheadRecorder recorder, int meterId) {
+        if (interceptor instanceof AroundInterceptor) {
+            return new MeteredAroundInterceptor((AroundInterceptor) interceptor, recorder, meterId);
+        } else if (interceptor instanceof StaticAroundInterceptor) {
+            return new MeteredStaticAroundInterceptor((StaticAroundInterceptor) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor5) {
+            return new MeteredAroundInterceptor5((AroundInterceptor5) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor4) {
+            return new MeteredAroundInterceptor4((AroundInterceptor4) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor3) {
+            return new MeteredAroundInterceptor3((AroundInterceptor3) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor2) {
+            return new MeteredAroundInterceptor2((AroundInterceptor2) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor1) {
+            return new MeteredAroundInterceptor1((AroundInterceptor1) interceptor, recorder, meterId);
+        } else if (interceptor instanceof AroundInterceptor0) {
+            return new MeteredAroundInterceptor0((AroundInterceptor0) interceptor, recorder, meterId);
+        } else if (interceptor instanceof ApiIdAwareAroundInterceptor) {
+            return new MeteredApiIdAwareAroundInterceptor((ApiIdAwareAroundInterceptor) interceptor, recorder, meterId);
+        }
+        // unknown interceptor type. leave it unmetered
+        return interceptor;
+    }
+
     private Interceptor wrapByScope(Interceptor interceptor, InterceptorScope scope, ExecutionPolicy policy) {
         if (interceptor instanceof AroundInterceptor) {
             return new ScopedInterceptor((AroundInterceptor) interceptor, scope, policy);
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.interceptor.factory;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadRecorder;
+
+/**
+ * Holds the interceptor overhead recorder when profiler.interceptor.overhead.enable is set.
+ */
+public class InterceptorOverheadMeterFactory {
+
+    static final String UNKNOWN_PLUGIN = "unknown";
+
+    private final InterceptorOverheadRecorder recorder;
+
+    public InterceptorOverheadMeterFactory() {
+        this.recorder = null;
+    }
+
+    public InterceptorOverheadMeterFactory(InterceptorOverheadRecorder recorder) {
+        if (recorder == null) {
+            throw new NullPointerException("recorder must not be null");
+        }
+        this.recorder = recorder;
+    }
+
+    public boolean isEnable() {
+        return recorder != null;
+    }
+
+    public InterceptorOverheadRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * @param pluginName name of the plugin jar the interceptor was loaded from. null if unknown
+     * @return meter id of the interceptor class, or {@link InterceptorOverheadRecorder#NOT_REGISTERED}
+     */
+    public int register(String pluginName, String interceptorClassName) {
+        if (recorder == null) {
+            return InterceptorOverheadRecorder.NOT_REGISTERED;
+        }
+        if (pluginName == null) {
+            pluginName = UNKNOWN_PLUGIN;
+        }
+        return recorder.register(pluginName, interceptorClassName);
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorOverheadMeterFactory{" +
+                "recorder=" + recorder +
+                '}';
+    }
+}
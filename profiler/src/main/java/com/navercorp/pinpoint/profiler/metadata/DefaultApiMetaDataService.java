@@ -23,7 +23,7 @@ import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
 /**
  * @author Woonduk Kang(emeroad)
  */
-public class DefaultApiMetaDataService implements ApiMetaDataService {
+public class DefaultApiMetaDataService implements ApiMetaDataService, CachingMetaDataService {
 
     private final SimpleCache<String> apiCache = new SimpleCache<String>();
 
@@ -65,4 +65,9 @@ public class DefaultApiMetaDataService implements ApiMetaDataService {
 
         return result.getId();
     }
+
+    @Override
+    public SimpleCache<?> getMetaDataCache() {
+        return apiCache;
+    }
 }
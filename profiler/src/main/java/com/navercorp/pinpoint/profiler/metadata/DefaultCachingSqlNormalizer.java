@@ -17,7 +17,7 @@
 package com.navercorp.pinpoint.profiler.metadata;
 
 import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
-import com.navercorp.pinpoint.common.util.*;
+import com.navercorp.pinpoint.common.util.StreamingSqlNormalizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,12 +30,22 @@ public class DefaultCachingSqlNormalizer implements CachingSqlNormalizer {
 
     private static final DefaultParsingResult EMPTY_OBJECT = new DefaultParsingResult("");
 
-    private final SimpleCache<String> sqlCache;
-    private final SqlParser sqlParser;
+    // keyed by the fingerprint of the normalized sql. the normalized sql is created for new statements only
+    private final SimpleCache<Long> sqlCache;
+    private final ThreadLocal<StreamingSqlNormalizer> sqlNormalizer;
 
     public DefaultCachingSqlNormalizer(int cacheSize) {
-        this.sqlCache = new SimpleCache<String>(cacheSize);
-        this.sqlParser = new DefaultSqlParser();
+        this(cacheSize, false);
+    }
+
+    public DefaultCachingSqlNormalizer(int cacheSize, final boolean collapseList) {
+        this.sqlCache = new SimpleCache<Long>(cacheSize);
+        this.sqlNormalizer = new ThreadLocal<StreamingSqlNormalizer>() {
+            @Override
+            protected StreamingSqlNormalizer initialValue() {
+                return new StreamingSqlNormalizer(collapseList);
+            }
+        };
     }
 
     @Override
@@ -69,9 +79,10 @@ public class DefaultCachingSqlNormalizer implements CachingSqlNormalizer {
         final ParsingResultInternal parsingResultInternal = (ParsingResultInternal) parsingResult;
 
         final String originalSql = parsingResultInternal.getOriginalSql();
-        final NormalizedSql normalizedSql = this.sqlParser.normalizedSql(originalSql);
+        final StreamingSqlNormalizer normalizer = this.sqlNormalizer.get();
+        normalizer.normalize(originalSql);
 
-        final Result cachingResult = this.sqlCache.put(normalizedSql.getNormalizedSql());
+        final Result cachingResult = this.sqlCache.put(normalizer.getFingerprint());
 
         // set normalizedSql
         // set sqlId
@@ -82,11 +93,18 @@ public class DefaultCachingSqlNormalizer implements CachingSqlNormalizer {
             }
         }
 
-        parsingResultInternal.setSql(normalizedSql.getNormalizedSql());
-        parsingResultInternal.setOutput(normalizedSql.getParseParameter());
+        if (cachingResult.isNewValue()) {
+            // only new statements are sent as sql metadata
+            parsingResultInternal.setSql(normalizer.getNormalizedSql());
+        }
+        parsingResultInternal.setOutput(normalizer.getParseParameter());
 
         return cachingResult.isNewValue();
     }
 
+    public SimpleCache<Long> getSqlCache() {
+        return sqlCache;
+    }
+
 
 }
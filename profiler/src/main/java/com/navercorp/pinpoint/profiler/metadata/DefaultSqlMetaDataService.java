@@ -29,12 +29,12 @@ import org.slf4j.LoggerFactory;
 /**
  * @author Woonduk Kang(emeroad)
  */
-public class DefaultSqlMetaDataService implements SqlMetaDataService {
+public class DefaultSqlMetaDataService implements SqlMetaDataService, CachingMetaDataService {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final boolean isDebug = logger.isDebugEnabled();
 
-    private final CachingSqlNormalizer cachingSqlNormalizer;
+    private final DefaultCachingSqlNormalizer cachingSqlNormalizer;
 
     private final String agentId;
     private final long agentStartTime;
@@ -43,10 +43,14 @@ public class DefaultSqlMetaDataService implements SqlMetaDataService {
     @Inject
     public DefaultSqlMetaDataService(ProfilerConfig profilerConfig, @AgentId String agentId,
                                      @AgentStartTime long agentStartTime, EnhancedDataSender enhancedDataSender) {
-        this(agentId, agentStartTime, enhancedDataSender, profilerConfig.getJdbcSqlCacheSize());
+        this(agentId, agentStartTime, enhancedDataSender, profilerConfig.getJdbcSqlCacheSize(), profilerConfig.isJdbcSqlCollapseList());
     }
 
     public DefaultSqlMetaDataService(String agentId, long agentStartTime, EnhancedDataSender enhancedDataSender, int jdbcSqlCacheSize) {
+        this(agentId, agentStartTime, enhancedDataSender, jdbcSqlCacheSize, false);
+    }
+
+    public DefaultSqlMetaDataService(String agentId, long agentStartTime, EnhancedDataSender enhancedDataSender, int jdbcSqlCacheSize, boolean jdbcSqlCollapseList) {
         if (agentId == null) {
             throw new NullPointerException("agentId must not be null");
         }
@@ -56,7 +60,7 @@ public class DefaultSqlMetaDataService implements SqlMetaDataService {
         this.agentId = agentId;
         this.agentStartTime = agentStartTime;
         this.enhancedDataSender = enhancedDataSender;
-        this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer(jdbcSqlCacheSize);
+        this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer(jdbcSqlCacheSize, jdbcSqlCollapseList);
     }
 
     @Override
@@ -94,4 +98,9 @@ public class DefaultSqlMetaDataService implements SqlMetaDataService {
         return isNewValue;
     }
 
+    @Override
+    public SimpleCache<?> getMetaDataCache() {
+        return cachingSqlNormalizer.getSqlCache();
+    }
+
 }
@@ -25,7 +25,7 @@ import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
 /**
  * @author Woonduk Kang(emeroad)
  */
-public class DefaultStringMetaDataService implements StringMetaDataService {
+public class DefaultStringMetaDataService implements StringMetaDataService, CachingMetaDataService {
 
     private final SimpleCache<String> stringCache = new SimpleCache<String>();
 
@@ -63,4 +63,9 @@ public class DefaultStringMetaDataService implements StringMetaDataService {
         }
         return result.getId();
     }
+
+    @Override
+    public SimpleCache<?> getMetaDataCache() {
+        return stringCache;
+    }
 }
@@ -18,10 +18,16 @@ package com.navercorp.pinpoint.profiler.metadata;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
 import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.profiler.util.Counter;
+import com.navercorp.pinpoint.profiler.util.CounterFactory;
 
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * @author emeroad
@@ -29,8 +35,25 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class SimpleCache<T> {
     // zero means not exist.
     private final AtomicInteger idGen;
-    private final ConcurrentMap<T, Result> cache;
+    private volatile ConcurrentMap<T, Result> cache;
+    private volatile int cacheSize;
 
+    private final Counter hitCounter = CounterFactory.newCounter();
+    private final Counter missCounter = CounterFactory.newCounter();
+    private final Counter evictionCounter = CounterFactory.newCounter();
+    private final Counter resendCounter = CounterFactory.newCounter();
+    // evicted values coming back are sent again with a new id
+    private final EvictedValueFilter evictedValueFilter = new EvictedValueFilter();
+
+    private final RemovalListener<T, Result> evictionListener = new RemovalListener<T, Result>() {
+        @Override
+        public void onRemoval(RemovalNotification<T, Result> notification) {
+            if (notification.getCause() == RemovalCause.SIZE) {
+                evictionCounter.increment();
+                evictedValueFilter.put(notification.getKey());
+            }
+        }
+    };
 
     public SimpleCache() {
         this(1024, 1);
@@ -42,6 +65,7 @@ public class SimpleCache<T> {
 
     public SimpleCache(int cacheSize, int startValue) {
         idGen = new AtomicInteger(startValue);
+        this.cacheSize = cacheSize;
         cache = createCache(cacheSize);
     }
 
@@ -50,25 +74,137 @@ public class SimpleCache<T> {
         cacheBuilder.concurrencyLevel(64);
         cacheBuilder.initialCapacity(maxCacheSize);
         cacheBuilder.maximumSize(maxCacheSize);
-        Cache<T, Result> localCache = cacheBuilder.build();
+        Cache<T, Result> localCache = cacheBuilder.removalListener(evictionListener).build();
         ConcurrentMap<T, Result> cache = localCache.asMap();
         return cache;
     }
 
     public Result put(T value) {
-        final Result find = this.cache.get(value);
+        final ConcurrentMap<T, Result> cache = this.cache;
+        final Result find = cache.get(value);
         if (find != null) {
+            hitCounter.increment();
             return find;
         }
         
         // Use negative values too to reduce data size
         final int newId = BytesUtils.zigzagToInt(idGen.getAndIncrement());
         final Result result = new Result(false, newId);
-        final Result before = this.cache.putIfAbsent(value, result);
+        final Result before = cache.putIfAbsent(value, result);
         if (before != null) {
+            hitCounter.increment();
             return before;
         }
+        missCounter.increment();
+        if (evictedValueFilter.mightContain(value)) {
+            resendCounter.increment();
+        }
         return new Result(true, newId);
     }
 
+    /**
+     * Replaces the cache with a larger one, keeping the ids of the cached values.
+     * A value put concurrently with the copy may be assigned a new id and sent again.
+     *
+     * @return false if newCacheSize is not larger than the current cache size
+     */
+    public synchronized boolean grow(int newCacheSize) {
+        if (newCacheSize <= cacheSize) {
+            return false;
+        }
+        final ConcurrentMap<T, Result> newCache = createCache(newCacheSize);
+        newCache.putAll(this.cache);
+        this.cache = newCache;
+        this.cacheSize = newCacheSize;
+        return true;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCounter.longValue();
+    }
+
+    public long getMissCount() {
+        return missCounter.longValue();
+    }
+
+    public long getEvictionCount() {
+        return evictionCounter.longValue();
+    }
+
+    /**
+     * @return number of values sent again after being evicted. approximate, may include false positives
+     */
+    public long getResendCount() {
+        return resendCounter.longValue();
+    }
+
+    /**
+     * Two generation bloom filter of evicted values.
+     * The older generation is dropped once the current one is filled, so the false positive rate stays bounded.
+     */
+    private static class EvictedValueFilter {
+        private static final int BITS = 1 << 16;
+        private static final int GENERATION_LIMIT = BITS >>> 4;
+
+        private volatile AtomicLongArray current = new AtomicLongArray(BITS >>> 6);
+        private volatile AtomicLongArray previous = new AtomicLongArray(BITS >>> 6);
+        private final AtomicInteger count = new AtomicInteger();
+
+        void put(Object value) {
+            if (count.incrementAndGet() > GENERATION_LIMIT) {
+                rotate();
+            }
+            final int hash = value.hashCode();
+            set(current, hash1(hash));
+            set(current, hash2(hash));
+        }
+
+        private synchronized void rotate() {
+            if (count.get() <= GENERATION_LIMIT) {
+                return;
+            }
+            this.previous = current;
+            this.current = new AtomicLongArray(BITS >>> 6);
+            count.set(0);
+        }
+
+        boolean mightContain(Object value) {
+            final int hash = value.hashCode();
+            final int hash1 = hash1(hash);
+            final int hash2 = hash2(hash);
+            return (get(current, hash1) && get(current, hash2)) || (get(previous, hash1) && get(previous, hash2));
+        }
+
+        private static int hash1(int hash) {
+            return (hash * 0x9E3779B9) >>> 16;
+        }
+
+        private static int hash2(int hash) {
+            return (hash * 0x85EBCA6B + 0x7F4A7C15) >>> 16;
+        }
+
+        private static void set(AtomicLongArray bits, int index) {
+            final int word = index >>> 6;
+            final long mask = 1L << index;
+            while (true) {
+                final long value = bits.get(word);
+                if ((value & mask) != 0 || bits.compareAndSet(word, value, value | mask)) {
+                    return;
+                }
+            }
+        }
+
+        private static boolean get(AtomicLongArray bits, int index) {
+            return (bits.get(index >>> 6) & (1L << index)) != 0;
+        }
+    }
+
 }
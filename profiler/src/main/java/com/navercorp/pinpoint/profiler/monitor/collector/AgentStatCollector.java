@@ -26,6 +26,8 @@ import com.navercorp.pinpoint.profiler.monitor.collector.deadlock.DeadlockMetric
 import com.navercorp.pinpoint.profiler.monitor.collector.directbuffer.DirectBufferMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.filedescriptor.FileDescriptorMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.jvmgc.JvmGcMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.metadata.MetaDataCacheMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.overhead.InterceptorOverheadMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.response.ResponseTimeMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.transaction.TransactionMetricCollector;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
@@ -46,6 +48,8 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
     private final DeadlockMetricCollector deadlockMetricCollector;
     private final FileDescriptorMetricCollector fileDescriptorMetricCollector;
     private final DirectBufferMetricCollector directBufferMetricCollector;
+    private final MetaDataCacheMetricCollector metaDataCacheMetricCollector;
+    private final InterceptorOverheadMetricCollector interceptorOverheadMetricCollector;
 
     @Inject
     public AgentStatCollector(
@@ -59,7 +63,9 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
             ResponseTimeMetricCollector responseTimeMetricCollector,
             DeadlockMetricCollector deadlockMetricCollector,
             FileDescriptorMetricCollector fileDescriptorMetricCollector,
-            DirectBufferMetricCollector directBufferMetricCollector) {
+            DirectBufferMetricCollector directBufferMetricCollector,
+            MetaDataCacheMetricCollector metaDataCacheMetricCollector,
+            InterceptorOverheadMetricCollector interceptorOverheadMetricCollector) {
         if (agentId == null) {
             throw new NullPointerException("agentId must not be null");
         }
@@ -90,6 +96,12 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         if (directBufferMetricCollector == null) {
             throw new NullPointerException("directBufferMetricCollector may not be null");
         }
+        if (metaDataCacheMetricCollector == null) {
+            throw new NullPointerException("metaDataCacheMetricCollector may not be null");
+        }
+        if (interceptorOverheadMetricCollector == null) {
+            throw new NullPointerException("interceptorOverheadMetricCollector may not be null");
+        }
 
         this.agentId = agentId;
         this.agentStartTimestamp = agentStartTimestamp;
@@ -102,6 +114,8 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         this.deadlockMetricCollector = deadlockMetricCollector;
         this.fileDescriptorMetricCollector = fileDescriptorMetricCollector;
         this.directBufferMetricCollector = directBufferMetricCollector;
+        this.metaDataCacheMetricCollector = metaDataCacheMetricCollector;
+        this.interceptorOverheadMetricCollector = interceptorOverheadMetricCollector;
     }
 
     @Override
@@ -118,6 +132,8 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         agentStat.setDeadlock(deadlockMetricCollector.collect());
         agentStat.setFileDescriptor(fileDescriptorMetricCollector.collect());
         agentStat.setDirectBuffer(directBufferMetricCollector.collect());
+        agentStat.setMetaDataCache(metaDataCacheMetricCollector.collect());
+        agentStat.setInterceptorOverhead(interceptorOverheadMetricCollector.collect());
 
         return agentStat;
     }
@@ -136,6 +152,8 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         sb.append(", deadlockMetricCollector=").append(deadlockMetricCollector);
         sb.append(", fileDescriptorMetricCollector=").append(fileDescriptorMetricCollector);
         sb.append(", directBufferMetricCollector=").append(directBufferMetricCollector);
+        sb.append(", metaDataCacheMetricCollector=").append(metaDataCacheMetricCollector);
+        sb.append(", interceptorOverheadMetricCollector=").append(interceptorOverheadMetricCollector);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.collector.metadata;
+
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.CacheMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.MetaDataCacheMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.metadata.MetaDataCacheMetricSnapshot;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataCache;
+
+public class DefaultMetaDataCacheMetricCollector implements MetaDataCacheMetricCollector {
+
+    private final MetaDataCacheMetric metaDataCacheMetric;
+
+    public DefaultMetaDataCacheMetricCollector(MetaDataCacheMetric metaDataCacheMetric) {
+        if (metaDataCacheMetric == null) {
+            throw new NullPointerException("metaDataCacheMetric must not be null");
+        }
+        this.metaDataCacheMetric = metaDataCacheMetric;
+    }
+
+    @Override
+    public TMetaDataCache collect() {
+        final MetaDataCacheMetricSnapshot snapshot = metaDataCacheMetric.getSnapshot();
+        final TMetaDataCache metaDataCache = new TMetaDataCache();
+
+        final CacheMetricSnapshot sqlCache = snapshot.getSqlCache();
+        if (sqlCache != null) {
+            metaDataCache.setSqlHitCount(sqlCache.getHitCount());
+            metaDataCache.setSqlMissCount(sqlCache.getMissCount());
+            metaDataCache.setSqlEvictionCount(sqlCache.getEvictionCount());
+            metaDataCache.setSqlResendCount(sqlCache.getResendCount());
+            metaDataCache.setSqlCapacity(sqlCache.getCacheSize());
+        }
+        final CacheMetricSnapshot apiCache = snapshot.getApiCache();
+        if (apiCache != null) {
+            metaDataCache.setApiHitCount(apiCache.getHitCount());
+            metaDataCache.setApiMissCount(apiCache.getMissCount());
+            metaDataCache.setApiEvictionCount(apiCache.getEvictionCount());
+            metaDataCache.setApiResendCount(apiCache.getResendCount());
+            metaDataCache.setApiCapacity(apiCache.getCacheSize());
+        }
+        final CacheMetricSnapshot stringCache = snapshot.getStringCache();
+        if (stringCache != null) {
+            metaDataCache.setStringHitCount(stringCache.getHitCount());
+            metaDataCache.setStringMissCount(stringCache.getMissCount());
+            metaDataCache.setStringEvictionCount(stringCache.getEvictionCount());
+            metaDataCache.setStringResendCount(stringCache.getResendCount());
+            metaDataCache.setStringCapacity(stringCache.getCacheSize());
+        }
+        return metaDataCache;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultMetaDataCacheMetricCollector{");
+        sb.append("metaDataCacheMetric=").append(metaDataCacheMetric);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.collector.overhead;
+
+import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadDelta;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.overhead.InterceptorOverheadMetricSnapshot;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverhead;
+import com.navercorp.pinpoint.thrift.dto.TInterceptorOverheadList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plugin and interceptor class names are sent as string metadata ids.
+ */
+public class DefaultInterceptorOverheadMetricCollector implements InterceptorOverheadMetricCollector {
+
+    private final InterceptorOverheadMetric interceptorOverheadMetric;
+    private final StringMetaDataService stringMetaDataService;
+
+    public DefaultInterceptorOverheadMetricCollector(InterceptorOverheadMetric interceptorOverheadMetric, StringMetaDataService stringMetaDataService) {
+        if (interceptorOverheadMetric == null) {
+            throw new NullPointerException("interceptorOverheadMetric must not be null");
+        }
+        if (stringMetaDataService == null) {
+            throw new NullPointerException("stringMetaDataService must not be null");
+        }
+        this.interceptorOverheadMetric = interceptorOverheadMetric;
+        this.stringMetaDataService = stringMetaDataService;
+    }
+
+    @Override
+    public TInterceptorOverheadList collect() {
+        final InterceptorOverheadMetricSnapshot snapshot = interceptorOverheadMetric.getSnapshot();
+        final List<InterceptorOverheadDelta> interceptorOverheads = snapshot.getInterceptorOverheads();
+        if (interceptorOverheads.isEmpty()) {
+            return null;
+        }
+
+        final TInterceptorOverheadList interceptorOverheadList = new TInterceptorOverheadList();
+        for (InterceptorOverheadDelta delta : interceptorOverheads) {
+            final TInterceptorOverhead interceptorOverhead = new TInterceptorOverhead();
+            interceptorOverhead.setPluginNameId(stringMetaDataService.cacheString(delta.getPluginName()));
+            interceptorOverhead.setInterceptorNameId(stringMetaDataService.cacheString(delta.getInterceptorClassName()));
+            interceptorOverhead.setSampledCount(delta.getSampledCount());
+            interceptorOverhead.setSampledTime(TimeUnit.NANOSECONDS.toMicros(delta.getSampledTime()));
+            interceptorOverhead.setSampleRate(snapshot.getSampleRate());
+            interceptorOverheadList.addToInterceptorOverheadList(interceptorOverhead);
+        }
+        return interceptorOverheadList;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultInterceptorOverheadMetricCollector{");
+        sb.append("interceptorOverheadMetric=").append(interceptorOverheadMetric);
+        sb.append('}');
+        return sb.toString();
+    }
+}
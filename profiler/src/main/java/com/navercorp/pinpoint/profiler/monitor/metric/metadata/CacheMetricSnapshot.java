@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.metadata;
+
+/**
+ * Statistics of a metadata cache for the last collection interval.
+ */
+public class CacheMetricSnapshot {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long resendCount;
+    private final int cacheSize;
+
+    public CacheMetricSnapshot(long hitCount, long missCount, long evictionCount, long resendCount, int cacheSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.resendCount = resendCount;
+        this.cacheSize = cacheSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getResendCount() {
+        return resendCount;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CacheMetricSnapshot{");
+        sb.append("hitCount=").append(hitCount);
+        sb.append(", missCount=").append(missCount);
+        sb.append(", evictionCount=").append(evictionCount);
+        sb.append(", resendCount=").append(resendCount);
+        sb.append(", cacheSize=").append(cacheSize);
+        sb.append('}');
+        return sb.toString();
+    }
+}
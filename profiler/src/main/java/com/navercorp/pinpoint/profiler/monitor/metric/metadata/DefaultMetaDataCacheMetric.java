@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.metadata;
+
+import com.navercorp.pinpoint.profiler.metadata.SimpleCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the statistics of the metadata caches as deltas of the last collection interval.
+ * <p>
+ * When auto grow is enabled, a cache that sent evicted metadata again during the interval is doubled in size,
+ * as long as the estimated memory of all metadata caches stays within the memory budget.
+ */
+public class DefaultMetaDataCacheMetric implements MetaDataCacheMetric {
+
+    // estimated bytes per cache entry. the sql cache is keyed by the fingerprint of the sql
+    public static final int SQL_CACHE_ENTRY_SIZE = 128;
+    public static final int API_CACHE_ENTRY_SIZE = 256;
+    public static final int STRING_CACHE_ENTRY_SIZE = 256;
+
+    private static final int GROWTH_FACTOR = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final CacheGauge sqlCacheGauge;
+    private final CacheGauge apiCacheGauge;
+    private final CacheGauge stringCacheGauge;
+    private final List<CacheGauge> cacheGauges = new ArrayList<CacheGauge>();
+
+    private final long autoGrowMemoryBudget;
+
+    public DefaultMetaDataCacheMetric(SimpleCache<?> sqlCache, SimpleCache<?> apiCache, SimpleCache<?> stringCache) {
+        this(sqlCache, apiCache, stringCache, -1);
+    }
+
+    /**
+     * @param sqlCache null if not collected
+     * @param apiCache null if not collected
+     * @param stringCache null if not collected
+     * @param autoGrowMemoryBudget estimated memory limit of all metadata caches in bytes. auto grow is disabled if not positive
+     */
+    public DefaultMetaDataCacheMetric(SimpleCache<?> sqlCache, SimpleCache<?> apiCache, SimpleCache<?> stringCache, long autoGrowMemoryBudget) {
+        this.sqlCacheGauge = newCacheGauge("sql", sqlCache, SQL_CACHE_ENTRY_SIZE);
+        this.apiCacheGauge = newCacheGauge("api", apiCache, API_CACHE_ENTRY_SIZE);
+        this.stringCacheGauge = newCacheGauge("string", stringCache, STRING_CACHE_ENTRY_SIZE);
+        this.autoGrowMemoryBudget = autoGrowMemoryBudget;
+    }
+
+    private CacheGauge newCacheGauge(String name, SimpleCache<?> cache, int entrySize) {
+        if (cache == null) {
+            return null;
+        }
+        final CacheGauge cacheGauge = new CacheGauge(name, cache, entrySize);
+        this.cacheGauges.add(cacheGauge);
+        return cacheGauge;
+    }
+
+    @Override
+    public MetaDataCacheMetricSnapshot getSnapshot() {
+        final CacheMetricSnapshot sqlCache = getSnapshot(sqlCacheGauge);
+        final CacheMetricSnapshot apiCache = getSnapshot(apiCacheGauge);
+        final CacheMetricSnapshot stringCache = getSnapshot(stringCacheGauge);
+        return new MetaDataCacheMetricSnapshot(sqlCache, apiCache, stringCache);
+    }
+
+    private CacheMetricSnapshot getSnapshot(CacheGauge cacheGauge) {
+        if (cacheGauge == null) {
+            return null;
+        }
+        final CacheMetricSnapshot snapshot = cacheGauge.getSnapshot();
+        if (autoGrowMemoryBudget > 0 && snapshot.getResendCount() > 0) {
+            grow(cacheGauge);
+        }
+        return snapshot;
+    }
+
+    private void grow(CacheGauge cacheGauge) {
+        final SimpleCache<?> cache = cacheGauge.cache;
+        final int cacheSize = cache.getCacheSize();
+        final long newCacheSize = (long) cacheSize * GROWTH_FACTOR;
+        if (newCacheSize > Integer.MAX_VALUE) {
+            return;
+        }
+        final long newEstimatedMemory = getEstimatedMemory() + (newCacheSize - cacheSize) * cacheGauge.entrySize;
+        if (newEstimatedMemory > autoGrowMemoryBudget) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} metadata cache can not grow. cacheSize:{}, memoryBudget:{}", cacheGauge.name, cacheSize, autoGrowMemoryBudget);
+            }
+            return;
+        }
+        if (cache.grow((int) newCacheSize)) {
+            logger.info("{} metadata cache grown. cacheSize:{} -> {}, estimatedMemory:{}", cacheGauge.name, cacheSize, newCacheSize, newEstimatedMemory);
+        }
+    }
+
+    private long getEstimatedMemory() {
+        long estimatedMemory = 0;
+        for (CacheGauge cacheGauge : cacheGauges) {
+            estimatedMemory += (long) cacheGauge.cache.getCacheSize() * cacheGauge.entrySize;
+        }
+        return estimatedMemory;
+    }
+
+    @Override
+    public String toString() {
+        return "Default MetaDataCacheMetric";
+    }
+
+    private static class CacheGauge {
+        private final String name;
+        private final SimpleCache<?> cache;
+        private final int entrySize;
+
+        private long prevHitCount;
+        private long prevMissCount;
+        private long prevEvictionCount;
+        private long prevResendCount;
+
+        private CacheGauge(String name, SimpleCache<?> cache, int entrySize) {
+            this.name = name;
+            this.cache = cache;
+            this.entrySize = entrySize;
+        }
+
+        private CacheMetricSnapshot getSnapshot() {
+            final long hitCount = cache.getHitCount();
+            final long missCount = cache.getMissCount();
+            final long evictionCount = cache.getEvictionCount();
+            final long resendCount = cache.getResendCount();
+            final CacheMetricSnapshot snapshot = new CacheMetricSnapshot(hitCount - prevHitCount, missCount - prevMissCount,
+                    evictionCount - prevEvictionCount, resendCount - prevResendCount, cache.getCacheSize());
+            this.prevHitCount = hitCount;
+            this.prevMissCount = missCount;
+            this.prevEvictionCount = evictionCount;
+            this.prevResendCount = resendCount;
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.metadata;
+
+/**
+ * @see CacheMetricSnapshot
+ */
+public class MetaDataCacheMetricSnapshot {
+
+    private final CacheMetricSnapshot sqlCache;
+    private final CacheMetricSnapshot apiCache;
+    private final CacheMetricSnapshot stringCache;
+
+    /**
+     * @param sqlCache null if not collected
+     * @param apiCache null if not collected
+     * @param stringCache null if not collected
+     */
+    public MetaDataCacheMetricSnapshot(CacheMetricSnapshot sqlCache, CacheMetricSnapshot apiCache, CacheMetricSnapshot stringCache) {
+        this.sqlCache = sqlCache;
+        this.apiCache = apiCache;
+        this.stringCache = stringCache;
+    }
+
+    public CacheMetricSnapshot getSqlCache() {
+        return sqlCache;
+    }
+
+    public CacheMetricSnapshot getApiCache() {
+        return apiCache;
+    }
+
+    public CacheMetricSnapshot getStringCache() {
+        return stringCache;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("MetaDataCacheMetricSnapshot{");
+        sb.append("sqlCache=").append(sqlCache);
+        sb.append(", apiCache=").append(apiCache);
+        sb.append(", stringCache=").append(stringCache);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.metric.overhead;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadRecorder;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns the cumulative counters of {@link InterceptorOverheadRecorder} into per collect interval deltas.
+ * Not thread safe. called by the agent stat collector thread only.
+ */
+public class DefaultInterceptorOverheadMetric implements InterceptorOverheadMetric {
+
+    private final InterceptorOverheadRecorder recorder;
+
+    private long[] prevSampledCounts = new long[0];
+    private long[] prevSampledTimes = new long[0];
+
+    public DefaultInterceptorOverheadMetric(InterceptorOverheadRecorder recorder) {
+        if (recorder == null) {
+            throw new NullPointerException("recorder must not be null");
+        }
+        this.recorder = recorder;
+    }
+
+    @Override
+    public InterceptorOverheadMetricSnapshot getSnapshot() {
+        final List<InterceptorOverheadSnapshot> snapshots = recorder.getSnapshots();
+        ensureCapacity(snapshots.size());
+
+        final List<InterceptorOverheadDelta> deltas = new ArrayList<InterceptorOverheadDelta>();
+        for (InterceptorOverheadSnapshot snapshot : snapshots) {
+            final int meterId = snapshot.getMeterId();
+            final long sampledCount = snapshot.getSampledCount() - prevSampledCounts[meterId];
+            final long sampledTime = snapshot.getSampledTime() - prevSampledTimes[meterId];
+            prevSampledCounts[meterId] = snapshot.getSampledCount();
+            prevSampledTimes[meterId] = snapshot.getSampledTime();
+            if (sampledCount > 0) {
+                deltas.add(new InterceptorOverheadDelta(snapshot.getPluginName(), snapshot.getInterceptorClassName(), sampledCount, sampledTime));
+            }
+        }
+        return new InterceptorOverheadMetricSnapshot(recorder.getSampleRate(), deltas);
+    }
+
+    private void ensureCapacity(int meterCount) {
+        if (meterCount <= prevSampledCounts.length) {
+            return;
+        }
+        final long[] newSampledCounts = new long[meterCount];
+        final long[] newSampledTimes = new long[meterCount];
+        System.arraycopy(prevSampledCounts, 0, newSampledCounts, 0, prevSampledCounts.length);
+        System.arraycopy(prevSampledTimes, 0, newSampledTimes, 0, prevSampledTimes.length);
+        this.prevSampledCounts = newSampledCounts;
+        this.prevSampledTimes = newSampledTimes;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultInterceptorOverheadMetric{" +
+                "recorder=" + recorder +
+                '}';
+    }
+}
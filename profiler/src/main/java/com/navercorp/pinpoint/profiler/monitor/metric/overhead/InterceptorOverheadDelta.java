@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.metric.overhead;
+
+/**
+ * Sampled count and time of one interceptor class since the previous snapshot.
+ */
+public class InterceptorOverheadDelta {
+
+    private final String pluginName;
+    private final String interceptorClassName;
+    private final long sampledCount;
+    private final long sampledTime;
+
+    public InterceptorOverheadDelta(String pluginName, String interceptorClassName, long sampledCount, long sampledTime) {
+        this.pluginName = pluginName;
+        this.interceptorClassName = interceptorClassName;
+        this.sampledCount = sampledCount;
+        this.sampledTime = sampledTime;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    public String getInterceptorClassName() {
+        return interceptorClassName;
+    }
+
+    public long getSampledCount() {
+        return sampledCount;
+    }
+
+    /**
+     * @return nanoseconds
+     */
+    public long getSampledTime() {
+        return sampledTime;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("InterceptorOverheadDelta{");
+        sb.append("pluginName='").append(pluginName).append('\'');
+        sb.append(", interceptorClassName='").append(interceptorClassName).append('\'');
+        sb.append(", sampledCount=").append(sampledCount);
+        sb.append(", sampledTime=").append(sampledTime);
+        sb.append('}');
+        return sb.toString();
+    }
+}
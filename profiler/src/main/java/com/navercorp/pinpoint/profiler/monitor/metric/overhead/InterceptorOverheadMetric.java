@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.metric.overhead;
+
+import java.util.Collections;
+
+/**
+ * Sampled time spent in interceptor before/after calls, per plugin and interceptor class.
+ */
+public interface InterceptorOverheadMetric {
+
+    InterceptorOverheadMetric UNSUPPORTED_INTERCEPTOR_OVERHEAD_METRIC = new InterceptorOverheadMetric() {
+
+        private final InterceptorOverheadMetricSnapshot uncollectedSnapshot = new InterceptorOverheadMetricSnapshot(0, Collections.<InterceptorOverheadDelta>emptyList());
+
+        @Override
+        public InterceptorOverheadMetricSnapshot getSnapshot() {
+            return uncollectedSnapshot;
+        }
+
+        @Override
+        public String toString() {
+            return "Unsupported InterceptorOverheadMetric";
+        }
+    };
+
+    InterceptorOverheadMetricSnapshot getSnapshot();
+}
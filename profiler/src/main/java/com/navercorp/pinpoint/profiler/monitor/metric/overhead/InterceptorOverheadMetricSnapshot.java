@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.monitor.metric.overhead;
+
+import java.util.List;
+
+/**
+ * @see InterceptorOverheadDelta
+ */
+public class InterceptorOverheadMetricSnapshot {
+
+    private final int sampleRate;
+    private final List<InterceptorOverheadDelta> interceptorOverheads;
+
+    public InterceptorOverheadMetricSnapshot(int sampleRate, List<InterceptorOverheadDelta> interceptorOverheads) {
+        if (interceptorOverheads == null) {
+            throw new NullPointerException("interceptorOverheads must not be null");
+        }
+        this.sampleRate = sampleRate;
+        this.interceptorOverheads = interceptorOverheads;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return interceptors sampled at least once since the previous snapshot
+     */
+    public List<InterceptorOverheadDelta> getInterceptorOverheads() {
+        return interceptorOverheads;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("InterceptorOverheadMetricSnapshot{");
+        sb.append("sampleRate=").append(sampleRate);
+        sb.append(", interceptorOverheads=").append(interceptorOverheads);
+        sb.append('}');
+        return sb.toString();
+    }
+}
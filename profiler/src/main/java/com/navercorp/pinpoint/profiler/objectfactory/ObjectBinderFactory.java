@@ -27,6 +27,7 @@ import com.navercorp.pinpoint.profiler.context.monitor.DataSourceMonitorRegistry
 import com.navercorp.pinpoint.profiler.context.monitor.DataSourceMonitorRegistryService;
 import com.navercorp.pinpoint.profiler.interceptor.factory.AnnotatedInterceptorFactory;
 import com.navercorp.pinpoint.profiler.interceptor.factory.ExceptionHandlerFactory;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
 import com.navercorp.pinpoint.profiler.metadata.ApiMetaDataService;
 
 /**
@@ -38,12 +39,14 @@ public class ObjectBinderFactory {
     private final DataSourceMonitorRegistry dataSourceMonitorRegistry;
     private final Provider<ApiMetaDataService> apiMetaDataServiceProvider;
     private final ExceptionHandlerFactory exceptionHandlerFactory;
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory;
 
     public ObjectBinderFactory(ProfilerConfig profilerConfig,
                                Provider<TraceContext> traceContextProvider,
                                DataSourceMonitorRegistryService dataSourceMonitorRegistryService,
                                Provider<ApiMetaDataService> apiMetaDataServiceProvider,
-                               ExceptionHandlerFactory exceptionHandlerFactory) {
+                               ExceptionHandlerFactory exceptionHandlerFactory,
+                               InterceptorOverheadMeterFactory interceptorOverheadMeterFactory) {
         this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
         this.traceContextProvider = Assert.requireNonNull(traceContextProvider, "traceContextProvider must not be null");
 
@@ -52,6 +55,7 @@ public class ObjectBinderFactory {
 
         this.apiMetaDataServiceProvider = Assert.requireNonNull(apiMetaDataServiceProvider, "apiMetaDataServiceProvider must not be null");
         this.exceptionHandlerFactory = Assert.requireNonNull(exceptionHandlerFactory, "exceptionHandlerFactory must not be null");
+        this.interceptorOverheadMeterFactory = Assert.requireNonNull(interceptorOverheadMeterFactory, "interceptorOverheadMeterFactory must not be null");
 
 
     }
@@ -70,6 +74,6 @@ public class ObjectBinderFactory {
     public AnnotatedInterceptorFactory newAnnotatedInterceptorFactory(InstrumentContext pluginContext) {
         final TraceContext traceContext = this.traceContextProvider.get();
         ApiMetaDataService apiMetaDataService = this.apiMetaDataServiceProvider.get();
-        return new AnnotatedInterceptorFactory(profilerConfig, traceContext, dataSourceMonitorRegistry, apiMetaDataService, pluginContext, exceptionHandlerFactory);
+        return new AnnotatedInterceptorFactory(profilerConfig, traceContext, dataSourceMonitorRegistry, apiMetaDataService, pluginContext, exceptionHandlerFactory, interceptorOverheadMeterFactory);
     }
 }
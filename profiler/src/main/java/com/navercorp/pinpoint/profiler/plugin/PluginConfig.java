@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.plugin.Plugin;
 import com.navercorp.pinpoint.common.util.Assert;
 
 
+import java.io.File;
 import java.net.URL;
 import java.util.Collections;
 import java.util.List;
@@ -66,6 +67,17 @@ public class PluginConfig {
         return pluginJar;
     }
 
+    /**
+     * file name of the plugin jar without the extension
+     */
+    public String getPluginName() {
+        final String jarName = new File(pluginJar.getName()).getName();
+        if (jarName.endsWith(".jar")) {
+            return jarName.substring(0, jarName.length() - ".jar".length());
+        }
+        return jarName;
+    }
+
     public String getPluginJarURLExternalForm() {
         if (this.pluginJarURLExternalForm == null) {
             this.pluginJarURLExternalForm = plugin.getURL().toExternalForm();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.receiver.service;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadRecorder;
+import com.navercorp.pinpoint.bootstrap.interceptor.overhead.InterceptorOverheadSnapshot;
+import com.navercorp.pinpoint.profiler.receiver.ProfilerRequestCommandService;
+import com.navercorp.pinpoint.thrift.dto.command.TCmdInterceptorOverhead;
+import com.navercorp.pinpoint.thrift.dto.command.TCmdInterceptorOverheadRes;
+import com.navercorp.pinpoint.thrift.dto.command.TInterceptorOverheadInfo;
+import org.apache.thrift.TBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Returns the sampled interceptor overhead accumulated since the agent started.
+ */
+public class InterceptorOverheadService implements ProfilerRequestCommandService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final InterceptorOverheadRecorder recorder;
+
+    public InterceptorOverheadService(InterceptorOverheadRecorder recorder) {
+        if (recorder == null) {
+            throw new NullPointerException("recorder must not be null");
+        }
+        this.recorder = recorder;
+    }
+
+    @Override
+    public TBase<?, ?> requestCommandService(TBase tbase) {
+        logger.info("{} execute {}.", this, tbase);
+
+        final TCmdInterceptorOverheadRes response = new TCmdInterceptorOverheadRes();
+        final int sampleRate = recorder.getSampleRate();
+        final List<InterceptorOverheadSnapshot> snapshots = recorder.getSnapshots();
+        for (InterceptorOverheadSnapshot snapshot : snapshots) {
+            final TInterceptorOverheadInfo interceptorOverhead = new TInterceptorOverheadInfo();
+            interceptorOverhead.setPluginName(snapshot.getPluginName());
+            interceptorOverhead.setInterceptorClassName(snapshot.getInterceptorClassName());
+            interceptorOverhead.setSampledCount(snapshot.getSampledCount());
+            interceptorOverhead.setSampledTime(TimeUnit.NANOSECONDS.toMicros(snapshot.getSampledTime()));
+            interceptorOverhead.setSampleRate(sampleRate);
+            response.addToInterceptorOverheadList(interceptorOverhead);
+        }
+        return response;
+    }
+
+    @Override
+    public Class<? extends TBase> getCommandClazz() {
+        return TCmdInterceptorOverhead.class;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples up to a target number of new traces per second, whatever the load.
+ * <p>
+ * Requests are counted on striped counters, so threads do not contend on a single counter.
+ * Once per interval, the effective 1-in-N rate is recomputed from the smoothed request rate of the previous intervals.
+ * A per-interval trace budget bounds bursts between two adjustments. Only requests that pass the 1-in-N check touch it.
+ */
+public class AdaptiveSampler implements Sampler {
+
+    private static final long DEFAULT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int tracesPerSecond;
+    private final long intervalNanos;
+    private final int tracesPerInterval;
+
+    private final StripedCounter requestCounter = new StripedCounter();
+
+    private final AtomicLong nextAdjustTime;
+    private final AtomicInteger permits;
+    private volatile int samplingRate = 1;
+
+    // written by the thread that wins the adjustment
+    private volatile long lastRequestCount;
+    private volatile long requestRate;
+
+    public AdaptiveSampler(int tracesPerSecond) {
+        this(tracesPerSecond, DEFAULT_INTERVAL_NANOS, System.nanoTime());
+    }
+
+    AdaptiveSampler(int tracesPerSecond, long intervalNanos, long startTime) {
+        if (tracesPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid tracesPerSecond " + tracesPerSecond);
+        }
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("Invalid intervalNanos " + intervalNanos);
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.intervalNanos = intervalNanos;
+        this.tracesPerInterval = (int) Math.max(1, tracesPerSecond * intervalNanos / TimeUnit.SECONDS.toNanos(1));
+
+        this.nextAdjustTime = new AtomicLong(startTime + intervalNanos);
+        this.permits = new AtomicInteger(tracesPerInterval);
+    }
+
+    @Override
+    public boolean isSampling() {
+        return isSampling(System.nanoTime());
+    }
+
+    boolean isSampling(long currentTime) {
+        final long nextAdjustTime = this.nextAdjustTime.get();
+        if (currentTime - nextAdjustTime >= 0) {
+            adjust(currentTime, nextAdjustTime);
+        }
+
+        final long count = requestCounter.getAndIncrement();
+        final int samplingRate = this.samplingRate;
+        if (samplingRate > 1 && count % samplingRate != 0) {
+            return false;
+        }
+        return tryAcquirePermit();
+    }
+
+    private boolean tryAcquirePermit() {
+        while (true) {
+            final int permits = this.permits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (this.permits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void adjust(long currentTime, long nextAdjustTime) {
+        if (!this.nextAdjustTime.compareAndSet(nextAdjustTime, currentTime + intervalNanos)) {
+            // adjusted by another thread
+            return;
+        }
+        final long elapsed = currentTime - (nextAdjustTime - intervalNanos);
+
+        final long requestCount = requestCounter.sum();
+        final long requests = requestCount - lastRequestCount;
+        this.lastRequestCount = requestCount;
+
+        // requests per interval. an idle period longer than the interval lowers the rate
+        final long currentRate = requests * intervalNanos / Math.max(elapsed, intervalNanos);
+        // exponential moving average. alpha = 1/2
+        final long requestRate = (this.requestRate + currentRate + 1) >>> 1;
+        this.requestRate = requestRate;
+
+        this.samplingRate = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (requestRate + tracesPerInterval - 1) / tracesPerInterval));
+        this.permits.set(tracesPerInterval);
+    }
+
+    public int getTracesPerSecond() {
+        return tracesPerSecond;
+    }
+
+    /**
+     * @return current effective 1-in-N rate
+     */
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveSampler{" +
+                "tracesPerSecond=" + tracesPerSecond +
+                ", samplingRate=" + samplingRate +
+                ", requestRate=" + requestRate +
+                ", stripeCount=" + requestCounter.getStripeCount() +
+                '}';
+    }
+}
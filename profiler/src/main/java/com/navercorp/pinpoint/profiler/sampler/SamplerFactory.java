@@ -31,4 +31,21 @@ public class SamplerFactory {
         }
         return new SamplingRateSampler(samplingRate);
     }
+
+    public Sampler createStripedSampler(boolean sampling, int samplingRate) {
+        if (!sampling || samplingRate <= 0) {
+            return new FalseSampler();
+        }
+        if (samplingRate == 1) {
+            return new TrueSampler();
+        }
+        return new StripedSamplingRateSampler(samplingRate);
+    }
+
+    public Sampler createAdaptiveSampler(boolean sampling, int tracesPerSecond) {
+        if (!sampling || tracesPerSecond <= 0) {
+            return new FalseSampler();
+        }
+        return new AdaptiveSampler(tracesPerSecond);
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter split into cache line padded stripes selected by thread id.
+ * Threads mostly increment their own stripe, so a hot counter does not bounce between cores.
+ */
+final class StripedCounter {
+
+    // one stripe per cache line
+    private static final int STRIPE_PADDING = 8;
+    private static final int MAX_STRIPE_COUNT = 64;
+
+    private final int stripeMask;
+    private final AtomicLongArray stripes;
+
+    StripedCounter() {
+        this(stripeCount(Runtime.getRuntime().availableProcessors()));
+    }
+
+    StripedCounter(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two. stripeCount:" + stripeCount);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicLongArray(stripeCount * STRIPE_PADDING);
+    }
+
+    static int stripeCount(int availableProcessors) {
+        final int count = Math.min(MAX_STRIPE_COUNT, Math.max(1, availableProcessors * 2));
+        final int highestOneBit = Integer.highestOneBit(count);
+        return highestOneBit == count ? count : highestOneBit << 1;
+    }
+
+    /**
+     * @return previous value of the stripe of the current thread
+     */
+    long getAndIncrement() {
+        final int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        return stripes.getAndIncrement(stripe * STRIPE_PADDING);
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i <= stripeMask; i++) {
+            sum += stripes.get(i * STRIPE_PADDING);
+        }
+        return sum;
+    }
+
+    int getStripeCount() {
+        return stripeMask + 1;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import com.navercorp.pinpoint.bootstrap.sampler.Sampler;
+
+/**
+ * 1 out of n sampler counting on per-thread stripes instead of a single shared counter.
+ * <p>
+ * Each stripe samples 1 out of n of its own requests, so the overall rate is kept
+ * while threads do not contend on a single cache line.
+ * The first request of every stripe is sampled.
+ */
+public class StripedSamplingRateSampler implements Sampler {
+
+    private final StripedCounter counter;
+    private final int samplingRate;
+
+    public StripedSamplingRateSampler(int samplingRate) {
+        this(samplingRate, new StripedCounter());
+    }
+
+    StripedSamplingRateSampler(int samplingRate, StripedCounter counter) {
+        if (samplingRate <= 0) {
+            throw new IllegalArgumentException("Invalid samplingRate " + samplingRate);
+        }
+        if (counter == null) {
+            throw new NullPointerException("counter must not be null");
+        }
+        this.samplingRate = samplingRate;
+        this.counter = counter;
+    }
+
+    @Override
+    public boolean isSampling() {
+        // stripe values never overflow in practice
+        final long samplingCount = counter.getAndIncrement();
+        return samplingCount % samplingRate == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedSamplingRateSampler{" +
+                "samplingRate=" + samplingRate +
+                ", stripeCount=" + counter.getStripeCount() +
+                '}';
+    }
+}
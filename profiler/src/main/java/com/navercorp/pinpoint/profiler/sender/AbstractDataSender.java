@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.profiler.sender;
 import java.util.Collection;
 
 import com.navercorp.pinpoint.io.request.Message;
+import com.navercorp.pinpoint.profiler.context.Recyclable;
 import org.apache.thrift.TBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,21 +58,40 @@ public abstract class AbstractDataSender implements DataSender {
     }
 
     protected AsyncQueueingExecutor<Object> createAsyncQueueingExecutor(int queueSize, String executorName) {
-        final AsyncQueueingExecutor<Object> executor = new AsyncQueueingExecutor<Object>(queueSize, executorName);
+        return createAsyncQueueingExecutor(queueSize, executorName, AsyncQueueingExecutorConfig.DEFAULT);
+    }
+
+    protected AsyncQueueingExecutor<Object> createAsyncQueueingExecutor(int queueSize, String executorName, AsyncQueueingExecutorConfig executorConfig) {
+        final AsyncQueueingExecutor<Object> executor = new AsyncQueueingExecutor<Object>(queueSize, executorName, executorConfig);
         executor.setListener(new AsyncQueueingExecutorListener<Object>() {
             @Override
             public void execute(Collection<Object> messageList) {
                 sendPacketN(messageList);
+                for (Object message : messageList) {
+                    recycle(message);
+                }
             }
 
             @Override
             public void execute(Object message) {
                 sendPacket(message);
+                recycle(message);
             }
         });
         return executor;
     }
 
+    // messages are serialized synchronously by sendPacket(). safe to hand their SpanEvents back to the pool
+    private void recycle(Object message) {
+        if (message instanceof Recyclable) {
+            try {
+                ((Recyclable) message).recycle();
+            } catch (Throwable th) {
+                logger.warn("recycle fail. Cause:{}", th.getMessage(), th);
+            }
+        }
+    }
+
     protected byte[] serialize(HeaderTBaseSerializer serializer, TBase tBase) {
         return SerializationUtils.serialize(tBase, serializer, null);
     }
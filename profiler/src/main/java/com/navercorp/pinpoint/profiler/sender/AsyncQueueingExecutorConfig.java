@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+/**
+ * Queue mode of {@link AsyncQueueingExecutor}.
+ */
+public class AsyncQueueingExecutorConfig {
+
+    public static final int DEFAULT_MAX_DRAIN_SIZE = 10;
+
+    public static final AsyncQueueingExecutorConfig DEFAULT = new AsyncQueueingExecutorConfig(AsyncQueueType.LINKED_BLOCKING, DEFAULT_MAX_DRAIN_SIZE, WaitStrategy.PARK);
+
+    private final AsyncQueueType queueType;
+    private final int maxDrainSize;
+    private final WaitStrategy waitStrategy;
+
+    public AsyncQueueingExecutorConfig(AsyncQueueType queueType, int maxDrainSize, WaitStrategy waitStrategy) {
+        if (queueType == null) {
+            throw new NullPointerException("queueType must not be null");
+        }
+        if (maxDrainSize <= 0) {
+            throw new IllegalArgumentException("maxDrainSize must be positive");
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException("waitStrategy must not be null");
+        }
+        this.queueType = queueType;
+        this.maxDrainSize = maxDrainSize;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public AsyncQueueingExecutorConfig(String queueType, int maxDrainSize, String waitStrategy) {
+        this(AsyncQueueType.getValue(queueType, AsyncQueueType.LINKED_BLOCKING), defaultDrainSize(maxDrainSize), WaitStrategy.getValue(waitStrategy, WaitStrategy.PARK));
+    }
+
+    private static int defaultDrainSize(int maxDrainSize) {
+        if (maxDrainSize <= 0) {
+            return DEFAULT_MAX_DRAIN_SIZE;
+        }
+        return maxDrainSize;
+    }
+
+    public <T> AsyncQueue<T> createQueue(int queueSize) {
+        if (queueType == AsyncQueueType.RING_BUFFER) {
+            return new RingBufferAsyncQueue<T>(queueSize, waitStrategy);
+        }
+        return new LinkedBlockingAsyncQueue<T>(queueSize);
+    }
+
+    public AsyncQueueType getQueueType() {
+        return queueType;
+    }
+
+    public int getMaxDrainSize() {
+        return maxDrainSize;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncQueueingExecutorConfig{" +
+                "queueType=" + queueType +
+                ", maxDrainSize=" + maxDrainSize +
+                ", waitStrategy=" + waitStrategy +
+                '}';
+    }
+}
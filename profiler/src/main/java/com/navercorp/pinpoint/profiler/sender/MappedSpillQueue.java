@@ -0,0 +1,400 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.Arrays;
+
+/**
+ * Bounded FIFO of byte[] records kept in memory-mapped files, so that heap usage stays flat while the collector is unreachable.
+ * <pre>
+ * segment    : record* (zero filled after the last record)
+ * record     : length(int32, positive) bytes
+ * checkpoint : segmentId(int64) offset(int32) of the next record to read
+ * </pre>
+ * Records never span segments. A segment is deleted once it is fully read.
+ * The record body is written before its length, so a torn write is never read back after a crash.
+ */
+public class MappedSpillQueue {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spill";
+    private static final String CHECKPOINT_FILE_NAME = "checkpoint";
+
+    private static final int LENGTH_SIZE = 4;
+    private static final int CHECKPOINT_SIZE = 8 + 4;
+    private static final int MIN_SEGMENT_SIZE = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final File directory;
+    private final int segmentSize;
+    private final int maxSegmentCount;
+
+    private final RandomAccessFile checkpointFile;
+    private final FileLock lock;
+    private final MappedByteBuffer checkpoint;
+
+    private long writeSegmentId;
+    private MappedByteBuffer writeSegment;
+    private int writeOffset;
+
+    private long readSegmentId;
+    private MappedByteBuffer readSegment;
+    private int readOffset;
+
+    private int size;
+    private boolean closed = false;
+
+    public MappedSpillQueue(File directory, int segmentSize, int maxSegmentCount) {
+        if (directory == null) {
+            throw new NullPointerException("directory must not be null");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be greater than or equal to " + MIN_SEGMENT_SIZE + ". segmentSize:" + segmentSize);
+        }
+        if (maxSegmentCount < 2) {
+            throw new IllegalArgumentException("maxSegmentCount must be greater than 1. maxSegmentCount:" + maxSegmentCount);
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("spill directory create fail. directory:" + directory);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegmentCount = maxSegmentCount;
+
+        RandomAccessFile checkpointFile = null;
+        try {
+            checkpointFile = new RandomAccessFile(new File(directory, CHECKPOINT_FILE_NAME), "rw");
+            final FileChannel channel = checkpointFile.getChannel();
+            this.lock = channel.tryLock();
+            if (lock == null) {
+                throw new IllegalStateException("spill directory already in use. directory:" + directory);
+            }
+            this.checkpoint = channel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+            this.checkpointFile = checkpointFile;
+            recover();
+        } catch (IOException e) {
+            closeQuietly(checkpointFile);
+            throw new IllegalStateException("spill queue open fail. directory:" + directory + " Caused:" + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            closeQuietly(checkpointFile);
+            throw e;
+        }
+        logger.info("MappedSpillQueue opened. directory:{}, segmentSize:{}, maxSegmentCount:{}, size:{}", directory, segmentSize, maxSegmentCount, size);
+    }
+
+    private void recover() throws IOException {
+        final long[] segmentIds = listSegmentIds();
+        long checkpointSegmentId = checkpoint.getLong(0);
+        int checkpointOffset = checkpoint.getInt(8);
+
+        if (segmentIds.length == 0) {
+            this.readSegmentId = checkpointSegmentId;
+            this.readOffset = 0;
+            this.writeSegmentId = checkpointSegmentId;
+        } else {
+            final long firstSegmentId = segmentIds[0];
+            if (checkpointSegmentId < firstSegmentId || checkpointOffset < 0 || checkpointOffset > segmentSize) {
+                checkpointSegmentId = firstSegmentId;
+                checkpointOffset = 0;
+            }
+            // already read
+            for (long segmentId : segmentIds) {
+                if (segmentId < checkpointSegmentId) {
+                    deleteSegment(segmentId);
+                }
+            }
+            this.readSegmentId = checkpointSegmentId;
+            this.readOffset = checkpointOffset;
+            this.writeSegmentId = Math.max(segmentIds[segmentIds.length - 1], checkpointSegmentId);
+        }
+
+        this.writeSegment = map(writeSegmentId);
+        this.readSegment = readSegmentId == writeSegmentId ? writeSegment : map(readSegmentId);
+
+        // find the end of the log and count the remaining records
+        this.size = 0;
+        for (long segmentId = readSegmentId; segmentId <= writeSegmentId; segmentId++) {
+            final ByteBuffer segment = getMappedSegment(segmentId);
+            int offset = segmentId == readSegmentId ? readOffset : 0;
+            while (true) {
+                final int length = readLength(segment, offset);
+                if (length <= 0) {
+                    break;
+                }
+                offset += LENGTH_SIZE + length;
+                size++;
+            }
+            if (segment != writeSegment && segment != readSegment) {
+                unmap(segment);
+            }
+            if (segmentId == writeSegmentId) {
+                this.writeOffset = offset;
+            }
+        }
+        writeCheckpoint();
+    }
+
+    private ByteBuffer getMappedSegment(long segmentId) throws IOException {
+        if (segmentId == writeSegmentId) {
+            return writeSegment;
+        }
+        if (segmentId == readSegmentId) {
+            return readSegment;
+        }
+        return map(segmentId);
+    }
+
+    private long[] listSegmentIds() {
+        final File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                final String name = file.getName();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }
+        });
+        if (files == null) {
+            return new long[0];
+        }
+        final long[] segmentIds = new long[files.length];
+        int count = 0;
+        for (File file : files) {
+            final String name = file.getName();
+            try {
+                segmentIds[count] = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                count++;
+            } catch (NumberFormatException e) {
+                logger.warn("invalid segment file:{}", file);
+            }
+        }
+        final long[] result = Arrays.copyOf(segmentIds, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * @return false if the queue is full or the record is larger than a segment
+     */
+    public synchronized boolean offer(byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        if (closed || bytes.length == 0 || LENGTH_SIZE + bytes.length > segmentSize) {
+            return false;
+        }
+        if (writeOffset + LENGTH_SIZE + bytes.length > segmentSize) {
+            if (writeSegmentId - readSegmentId + 1 >= maxSegmentCount) {
+                return false;
+            }
+            if (!rollSegment()) {
+                return false;
+            }
+        }
+        final ByteBuffer segment = writeSegment.duplicate();
+        segment.position(writeOffset + LENGTH_SIZE);
+        segment.put(bytes);
+        // publish
+        writeSegment.putInt(writeOffset, bytes.length);
+        writeOffset += LENGTH_SIZE + bytes.length;
+        size++;
+        return true;
+    }
+
+    private boolean rollSegment() {
+        final MappedByteBuffer nextSegment;
+        try {
+            nextSegment = map(writeSegmentId + 1);
+        } catch (IOException e) {
+            logger.warn("spill segment create fail. Caused:{}", e.getMessage(), e);
+            return false;
+        }
+        if (writeSegment != readSegment) {
+            unmap(writeSegment);
+        }
+        this.writeSegmentId++;
+        this.writeSegment = nextSegment;
+        this.writeOffset = 0;
+        return true;
+    }
+
+    /**
+     * @return null if the queue is empty
+     */
+    public synchronized byte[] poll() {
+        if (closed) {
+            return null;
+        }
+        while (true) {
+            final int length = readLength(readSegment, readOffset);
+            if (length > 0) {
+                final byte[] bytes = new byte[length];
+                final ByteBuffer segment = readSegment.duplicate();
+                segment.position(readOffset + LENGTH_SIZE);
+                segment.get(bytes);
+                readOffset += LENGTH_SIZE + length;
+                size--;
+                writeCheckpoint();
+                return bytes;
+            }
+            if (readSegmentId == writeSegmentId) {
+                return null;
+            }
+            if (!nextReadSegment()) {
+                return null;
+            }
+        }
+    }
+
+    private boolean nextReadSegment() {
+        final long nextSegmentId = readSegmentId + 1;
+        final MappedByteBuffer nextSegment;
+        try {
+            nextSegment = nextSegmentId == writeSegmentId ? writeSegment : map(nextSegmentId);
+        } catch (IOException e) {
+            logger.warn("spill segment open fail. Caused:{}", e.getMessage(), e);
+            return false;
+        }
+        final long prevSegmentId = readSegmentId;
+        unmap(readSegment);
+        this.readSegmentId = nextSegmentId;
+        this.readSegment = nextSegment;
+        this.readOffset = 0;
+        writeCheckpoint();
+        deleteSegment(prevSegmentId);
+        return true;
+    }
+
+    private int readLength(ByteBuffer segment, int offset) {
+        if (offset + LENGTH_SIZE > segmentSize) {
+            return 0;
+        }
+        final int length = segment.getInt(offset);
+        if (length < 0 || offset + LENGTH_SIZE + length > segmentSize) {
+            // broken record. skip the rest of the segment
+            return 0;
+        }
+        return length;
+    }
+
+    private void writeCheckpoint() {
+        checkpoint.putLong(0, readSegmentId);
+        checkpoint.putInt(8, readOffset);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (readSegment != writeSegment) {
+            unmap(readSegment);
+        }
+        unmap(writeSegment);
+        checkpoint.force();
+        unmap(checkpoint);
+        try {
+            lock.release();
+        } catch (IOException ignore) {
+            // skip
+        }
+        closeQuietly(checkpointFile);
+        logger.info("MappedSpillQueue closed. directory:{}, size:{}", directory, size);
+    }
+
+    private MappedByteBuffer map(long segmentId) throws IOException {
+        final RandomAccessFile file = new RandomAccessFile(getSegmentFile(segmentId), "rw");
+        try {
+            // the mapping stays valid after the file is closed
+            return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } finally {
+            closeQuietly(file);
+        }
+    }
+
+    private void deleteSegment(long segmentId) {
+        final File file = getSegmentFile(segmentId);
+        if (file.exists() && !file.delete()) {
+            logger.warn("spill segment delete fail. file:{}", file);
+        }
+    }
+
+    private File getSegmentFile(long segmentId) {
+        return new File(directory, SEGMENT_PREFIX + String.format("%019d", segmentId) + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * best effort. the mapping is released by gc if the cleaner is not accessible
+     */
+    private static void unmap(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                final Method cleanMethod = cleaner.getClass().getMethod("clean");
+                cleanMethod.setAccessible(true);
+                cleanMethod.invoke(cleaner);
+            }
+        } catch (Exception ignore) {
+            // skip
+        }
+    }
+
+    private static void closeQuietly(RandomAccessFile file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException ignore) {
+            // skip
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedSpillQueue{" +
+                "directory=" + directory +
+                ", segmentSize=" + segmentSize +
+                ", maxSegmentCount=" + maxSegmentCount +
+                ", size=" + size() +
+                '}';
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.rpc.FutureListener;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
+import com.navercorp.pinpoint.rpc.client.PinpointClientReconnectEventListener;
+import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataBatch;
+import com.navercorp.pinpoint.thrift.dto.TSqlMetaData;
+import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
+import org.apache.thrift.TBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces sql, api and string metadata requests into a {@link TMetaDataBatch}.
+ * <p>
+ * Pending metadata is flushed every flushInterval or as soon as batchSize entries are queued,
+ * so a batch costs one round trip and one ack instead of one per entry.
+ * Every other message is passed to the delegate as is.
+ */
+public class MetaDataBatchSender implements EnhancedDataSender {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final EnhancedDataSender delegate;
+    private final int batchSize;
+
+    private final Queue<TBase<?, ?>> pendingQueue = new ConcurrentLinkedQueue<TBase<?, ?>>();
+    // ConcurrentLinkedQueue.size() is O(n)
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean stopped;
+
+    public MetaDataBatchSender(EnhancedDataSender delegate, int batchSize, long flushInterval) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate must not be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("flushInterval must be positive");
+        }
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+
+        this.executor = new ScheduledThreadPoolExecutor(1, new PinpointThreadFactory("Pinpoint-metadata-batch", true));
+        this.executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (Exception e) {
+                    logger.warn("metadata batch flush fail. Caused:{}", e.getMessage(), e);
+                }
+            }
+        }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    static boolean isBatchable(TBase<?, ?> data) {
+        return data instanceof TSqlMetaData || data instanceof TApiMetaData || data instanceof TStringMetaData;
+    }
+
+    @Override
+    public boolean request(TBase<?, ?> data) {
+        if (!isBatchable(data)) {
+            return delegate.request(data);
+        }
+        if (stopped) {
+            return false;
+        }
+        pendingQueue.offer(data);
+        final int pending = pendingCount.incrementAndGet();
+        if (stopped) {
+            // raced with stop(). still queued means the final flush missed it
+            if (pendingQueue.remove(data)) {
+                pendingCount.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+        if (pending == batchSize) {
+            // only the thread that fills up the batch pays for the flush
+            flush();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean request(TBase<?, ?> data, int retry) {
+        return delegate.request(data, retry);
+    }
+
+    @Override
+    public boolean request(TBase<?, ?> data, FutureListener<ResponseMessage> listener) {
+        return delegate.request(data, listener);
+    }
+
+    @Override
+    public boolean send(TBase<?, ?> data) {
+        return delegate.send(data);
+    }
+
+    synchronized void flush() {
+        while (true) {
+            final TMetaDataBatch metaDataBatch = drainBatch();
+            if (metaDataBatch == null) {
+                return;
+            }
+            if (isDebug) {
+                logger.debug("flush metadata batch sql:{}, api:{}, string:{}", metaDataBatch.getSqlMetaDataListSize(),
+                        metaDataBatch.getApiMetaDataListSize(), metaDataBatch.getStringMetaDataListSize());
+            }
+            if (!delegate.request(metaDataBatch)) {
+                logger.warn("metadata batch request fail. size:{}", getSize(metaDataBatch));
+            }
+        }
+    }
+
+    private TMetaDataBatch drainBatch() {
+        TMetaDataBatch metaDataBatch = null;
+        for (int i = 0; i < batchSize; i++) {
+            final TBase<?, ?> data = pendingQueue.poll();
+            if (data == null) {
+                break;
+            }
+            pendingCount.decrementAndGet();
+            if (metaDataBatch == null) {
+                metaDataBatch = new TMetaDataBatch();
+            }
+            if (data instanceof TSqlMetaData) {
+                metaDataBatch.addToSqlMetaDataList((TSqlMetaData) data);
+            } else if (data instanceof TApiMetaData) {
+                metaDataBatch.addToApiMetaDataList((TApiMetaData) data);
+            } else {
+                metaDataBatch.addToStringMetaDataList((TStringMetaData) data);
+            }
+        }
+        return metaDataBatch;
+    }
+
+    private static int getSize(TMetaDataBatch metaDataBatch) {
+        return metaDataBatch.getSqlMetaDataListSize() + metaDataBatch.getApiMetaDataListSize() + metaDataBatch.getStringMetaDataListSize();
+    }
+
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public boolean addReconnectEventListener(PinpointClientReconnectEventListener eventListener) {
+        return delegate.addReconnectEventListener(eventListener);
+    }
+
+    @Override
+    public boolean removeReconnectEventListener(PinpointClientReconnectEventListener eventListener) {
+        return delegate.removeReconnectEventListener(eventListener);
+    }
+
+    @Override
+    public void stop() {
+        this.stopped = true;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // hand over what is left before the delegate shuts down
+        flush();
+        delegate.stop();
+    }
+
+    @Override
+    public String toString() {
+        return "MetaDataBatchSender{" +
+                "delegate=" + delegate +
+                ", batchSize=" + batchSize +
+                ", pendingCount=" + pendingCount.get() +
+                '}';
+    }
+}
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.rpc.buffer.ByteBufferType;
 import com.navercorp.pinpoint.thrift.io.ByteBufferOutputStream;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer2;
 import com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializerFactory2;
+import com.navercorp.pinpoint.thrift.io.PacketPacker;
 import org.apache.thrift.TBase;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
@@ -34,8 +35,15 @@ import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Serializes messages straight into a reused direct buffer and writes them to a non-blocking {@link DatagramChannel}.
+ * <p>
+ * When packing is enabled, the messages of a batch are sent as {@link PacketPacker} packets with gathering writes
+ * (packed header + payloads), so the serialized bytes are never copied on the send side.
+ *
  * @author Taejin Koo
  */
 public class NioUDPDataSender extends AbstractDataSender implements DataSender {
@@ -47,10 +55,28 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
     public static final int SEND_BUFFER_SIZE = 1024 * 64 * 16;
     public static final int UDP_MAX_PACKET_LENGTH = 65507;
 
+    private static final int PAYLOAD_LENGTH_SIZE = PacketPacker.PAYLOAD_LENGTH_SIZE;
+    // room for the largest message and its length prefix
+    private static final int MESSAGE_RESERVE_SIZE = PAYLOAD_LENGTH_SIZE + UDP_MAX_PACKET_LENGTH;
+
     private final DatagramChannel datagramChannel;
     private final HeaderTBaseSerializer2 serializer;
     private final ByteBufferOutputStream byteBufferOutputStream;
 
+    // Caution. accessed by the executor thread only
+    // payload : length(int32) message(header + body)
+    private final ByteBuffer sendBuffer;
+    private final ByteBuffer packetView;
+    private final ByteBuffer headerView;
+    private final ByteBuffer[] gatheringBuffers;
+    // 0 : disable packing
+    private final int packetSize;
+    // sendBuffer position of the first pending payload
+    private int packetStart;
+    private int packetCount;
+
+    private final AtomicLong dropCount = new AtomicLong();
+
     private final AsyncQueueingExecutor<Object> executor;
 
     private volatile boolean closed = false;
@@ -60,6 +86,14 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
     }
 
     public NioUDPDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, AsyncQueueingExecutorConfig.DEFAULT);
+    }
+
+    public NioUDPDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig, 0);
+    }
+
+    public NioUDPDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig, int packetSize) {
         if (host == null ) {
             throw new NullPointerException("host must not be null");
         }
@@ -75,19 +109,35 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
         if (sendBufferSize <= 0) {
             throw new IllegalArgumentException("sendBufferSize");
         }
+        if (executorConfig == null) {
+            throw new NullPointerException("executorConfig must not be null");
+        }
+        if (packetSize < 0 || packetSize > UDP_MAX_PACKET_LENGTH) {
+            throw new IllegalArgumentException("packetSize out of range:" + packetSize);
+        }
 
         // TODO If fail to create socket, stop agent start
-        logger.info("NioUDPDataSender initialized. host={}, port={}", host, port);
+        logger.info("NioUDPDataSender initialized. host={}, port={}, packetSize={}", host, port, packetSize);
         this.datagramChannel = createChannel(host, port, timeout, sendBufferSize);
 
         HeaderTBaseSerializerFactory2 serializerFactory = new HeaderTBaseSerializerFactory2();
         this.serializer = serializerFactory.createSerializer();
 
         ByteBufferFactory bufferFactory = ByteBufferFactoryLocator.getFactory(ByteBufferType.DIRECT);
-        ByteBuffer byteBuffer = bufferFactory.getBuffer(UDP_MAX_PACKET_LENGTH);
-        this.byteBufferOutputStream = new ByteBufferOutputStream(byteBuffer);
+        // when packing, the next packet starts where the previous one ended. flush only if the room for a whole message is left
+        final int sendBufferCapacity = packetSize > 0 ? MESSAGE_RESERVE_SIZE * 2 : MESSAGE_RESERVE_SIZE;
+        this.sendBuffer = bufferFactory.getBuffer(sendBufferCapacity);
+        this.byteBufferOutputStream = new ByteBufferOutputStream(sendBuffer);
+        this.packetView = sendBuffer.duplicate();
 
-        this.executor = createAsyncQueueingExecutor(queueSize, threadName);
+        final byte[] packedHeader = PacketPacker.getHeader();
+        this.headerView = bufferFactory.getBuffer(packedHeader.length);
+        this.headerView.put(packedHeader);
+        this.headerView.flip();
+        this.gatheringBuffers = new ByteBuffer[] {headerView, packetView};
+        this.packetSize = packetSize;
+
+        this.executor = createAsyncQueueingExecutor(queueSize, threadName, executorConfig);
     }
 
     private DatagramChannel createChannel(String host, int port, int timeout, int sendBufferSize) {
@@ -95,6 +145,8 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
         DatagramSocket socket = null;
         try {
             datagramChannel = DatagramChannel.open();
+            // never block the sender thread. a datagram is dropped when the socket send buffer is full
+            datagramChannel.configureBlocking(false);
             socket = datagramChannel.socket();
             socket.setSoTimeout(timeout);
             socket.setSendBufferSize(sendBufferSize);
@@ -143,6 +195,37 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
                 // ignore
             }
         }
+        final long dropCount = this.dropCount.get();
+        if (dropCount > 0) {
+            logger.info("NioUDPDataSender stopped. socket send buffer full dropCount:{}", dropCount);
+        }
+    }
+
+    public long getDropCount() {
+        return dropCount.get();
+    }
+
+    @Override
+    protected void sendPacketN(Collection<Object> messageList) {
+        if (packetSize == 0) {
+            super.sendPacketN(messageList);
+            return;
+        }
+        if (closed) {
+            throw new PinpointSocketException("NioUDPDataSender already closed.");
+        }
+
+        // Cannot use toArray(T[] array) because passed messageList doesn't implement it properly.
+        final Object[] dataList = messageList.toArray();
+        final int size = messageList.size();
+        for (int i = 0; i < size; i++) {
+            try {
+                append(dataList[i]);
+            } catch (Throwable th) {
+                logger.warn("Unexpected Error. Cause:{}", th.getMessage(), th);
+            }
+        }
+        flush();
     }
 
     protected void sendPacket(Object message) {
@@ -150,33 +233,107 @@ public class NioUDPDataSender extends AbstractDataSender implements DataSender {
             throw new PinpointSocketException("NioUDPDataSender already closed.");
         }
 
-        if (message instanceof TBase) {
-            byteBufferOutputStream.clear();
+        append(message);
+        flush();
+    }
 
-            final TBase dto = (TBase) message;
-            // do not copy bytes because it's single threaded
+    private void append(Object message) {
+        if (!(message instanceof TBase)) {
+            logger.warn("sendPacket fail. invalid type:{}", message != null ? message.getClass() : null);
+            return;
+        }
+        final TBase<?, ?> dto = (TBase<?, ?>) message;
 
-            try {
-                serializer.serialize(dto,  byteBufferOutputStream);
-            } catch (TException e) {
-                throw new PinpointSocketException("Serialize " + dto + " failed. Error:" +  e.getMessage(), e);
+        if (sendBuffer.remaining() < MESSAGE_RESERVE_SIZE) {
+            flush();
+        }
+        final int messageStart = sendBuffer.position();
+        final int messageLength = serializeMessage(dto, messageStart);
+        if (messageLength > UDP_MAX_PACKET_LENGTH) {
+            logger.warn("discard packet. Caused:too large message. size:{}, {}", messageLength, dto);
+            sendBuffer.position(messageStart);
+            return;
+        }
+
+        if (packetSize > 0 && packetCount > 0) {
+            final int pendingSize = PacketPacker.getHeaderSize() + (messageStart - packetStart);
+            if (pendingSize + PAYLOAD_LENGTH_SIZE + messageLength > packetSize) {
+                // send the pending payloads. the message starts the next packet in place
+                write(packetStart, messageStart, packetCount);
+                packetStart = messageStart;
+                packetCount = 0;
             }
-            ByteBuffer byteBuffer = byteBufferOutputStream.getByteBuffer();
-            int bufferSize = byteBuffer.remaining();
-            try {
-                datagramChannel.write(byteBuffer);
-            } catch (IOException e) {
-                final Thread currentThread = Thread.currentThread();
-                if (currentThread.isInterrupted()) {
-                    logger.warn("{} thread interrupted.", currentThread.getName());
-                    throw new PinpointSocketException(currentThread.getName() + " thread interrupted.", e);
-                } else {
-                    throw new PinpointSocketException("packet send error. size:" + bufferSize + ", " +  dto, e);
-                }
+        }
+        packetCount++;
+    }
+
+    /**
+     * serializes the message right after its length prefix. no intermediate byte[]
+     * @return length of the serialized message
+     */
+    private int serializeMessage(TBase<?, ?> dto, int messageStart) {
+        sendBuffer.position(messageStart + PAYLOAD_LENGTH_SIZE);
+        try {
+            serializer.serialize(dto, byteBufferOutputStream);
+        } catch (TException e) {
+            sendBuffer.position(messageStart);
+            throw new PinpointSocketException("Serialize " + dto + " failed. Error:" +  e.getMessage(), e);
+        } catch (RuntimeException e) {
+            // BufferOverflowException
+            sendBuffer.position(messageStart);
+            throw e;
+        }
+        final int messageLength = sendBuffer.position() - messageStart - PAYLOAD_LENGTH_SIZE;
+        sendBuffer.putInt(messageStart, messageLength);
+        return messageLength;
+    }
+
+    private void flush() {
+        try {
+            if (packetCount > 0) {
+                write(packetStart, sendBuffer.position(), packetCount);
             }
-        } else {
-            logger.warn("sendPacket fail. invalid type:{}", message != null ? message.getClass() : null);
-            return;
+        } finally {
+            sendBuffer.clear();
+            packetStart = 0;
+            packetCount = 0;
+        }
+    }
+
+    private void write(int start, int end, int count) {
+        int packetLength = 0;
+        long written;
+        try {
+            packetView.limit(end);
+            if (count == 1) {
+                // no need for the packed header
+                packetView.position(start + PAYLOAD_LENGTH_SIZE);
+                packetLength = packetView.remaining();
+                written = datagramChannel.write(packetView);
+            } else {
+                packetView.position(start);
+                headerView.rewind();
+                packetLength = headerView.remaining() + packetView.remaining();
+                // gathering write. one datagram
+                written = datagramChannel.write(gatheringBuffers);
+            }
+        } catch (IOException e) {
+            final Thread currentThread = Thread.currentThread();
+            if (currentThread.isInterrupted()) {
+                logger.warn("{} thread interrupted.", currentThread.getName());
+                throw new PinpointSocketException(currentThread.getName() + " thread interrupted.", e);
+            } else {
+                throw new PinpointSocketException("packet send error. size:" + packetLength + ", count:" + count, e);
+            }
+        }
+
+        if (written == 0) {
+            final long dropCount = this.dropCount.addAndGet(count);
+            if (isDebug) {
+                logger.debug("packet dropped. socket send buffer is full. size:{}, count:{}, dropCount:{}", packetLength, count, dropCount);
+            }
+        } else if (count > 1 && isDebug) {
+            logger.debug("Packed data sent. count:{}, size:{}", count, packetLength);
         }
     }
 
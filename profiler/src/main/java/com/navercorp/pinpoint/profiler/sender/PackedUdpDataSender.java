@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import com.navercorp.pinpoint.thrift.io.PacketPacker;
+import org.apache.thrift.TBase;
+
+import java.net.InetSocketAddress;
+import java.util.Collection;
+
+/**
+ * Packs the drained messages into as few datagrams as possible.
+ * Each datagram holds several length-prefixed {@link com.navercorp.pinpoint.thrift.io.HeaderTBaseSerializer} payloads up to packetSize.
+ * <p>
+ * only use with a collector that understands {@link com.navercorp.pinpoint.thrift.io.DefaultTBaseLocator#PACKED}
+ */
+public class PackedUdpDataSender extends UdpDataSender {
+
+    public static final int DEFAULT_PACKET_SIZE = 1472;
+
+    // Caution. not thread safe
+    private final PacketPacker packer;
+
+    public PackedUdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig, int packetSize) {
+        super(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig);
+        if (packetSize <= 0 || packetSize > UDP_MAX_PACKET_LENGTH) {
+            throw new IllegalArgumentException("packetSize out of range:" + packetSize);
+        }
+        this.packer = new PacketPacker(packetSize);
+        logger.info("PackedUdpDataSender initialized. packetSize={}", packetSize);
+    }
+
+    @Override
+    protected void sendPacketN(Collection<Object> messageList) {
+        // Cannot use toArray(T[] array) because passed messageList doesn't implement it properly.
+        final Object[] dataList = messageList.toArray();
+        final int size = messageList.size();
+        if (size == 1) {
+            sendPacket(dataList[0]);
+            return;
+        }
+
+        final InetSocketAddress inetSocketAddress = resolveSocketAddress();
+        if (inetSocketAddress == null) {
+            return;
+        }
+
+        packer.reset();
+        for (int i = 0; i < size; i++) {
+            final Object message = dataList[i];
+            try {
+                pack(inetSocketAddress, message);
+            } catch (Throwable th) {
+                logger.warn("Unexpected Error. Cause:{}", th.getMessage(), th);
+            }
+        }
+        flush(inetSocketAddress);
+    }
+
+    private void pack(InetSocketAddress inetSocketAddress, Object message) {
+        if (!(message instanceof TBase)) {
+            logger.warn("sendPacket fail. invalid type:{}", message != null ? message.getClass() : null);
+            return;
+        }
+        final TBase dto = (TBase) message;
+        // do not copy bytes because it's single threaded
+        final byte[] internalBufferData = serialize(this.serializer, dto);
+        if (internalBufferData == null) {
+            logger.warn("interBufferData is null");
+            return;
+        }
+        final int internalBufferSize = this.serializer.getInterBufferSize();
+
+        if (packer.isOversize(internalBufferSize)) {
+            // can not be packed. send as a plain datagram
+            if (isLimit(internalBufferSize)) {
+                logger.warn("discard packet. Caused:too large message. size:{}, {}", internalBufferSize, dto);
+                return;
+            }
+            sendDatagram(inetSocketAddress, internalBufferData, 0, internalBufferSize);
+            return;
+        }
+
+        if (!packer.hasRoom(internalBufferSize)) {
+            flush(inetSocketAddress);
+        }
+        packer.add(internalBufferData, 0, internalBufferSize);
+    }
+
+    private void flush(InetSocketAddress inetSocketAddress) {
+        final int count = packer.getCount();
+        if (count == 0) {
+            return;
+        }
+        final byte[] buffer = packer.getBuffer();
+        if (count == 1) {
+            // no need for the packed header
+            final int offset = packer.getFirstMessageOffset();
+            sendDatagram(inetSocketAddress, buffer, offset, packer.getLength() - offset);
+        } else {
+            final int length = packer.getLength();
+            if (sendDatagram(inetSocketAddress, buffer, 0, length)) {
+                if (isDebug) {
+                    logger.debug("Packed data sent. count:{}, size:{}", count, length);
+                }
+            }
+        }
+        packer.reset();
+    }
+
+}
@@ -46,33 +46,37 @@ public class RetryQueue {
         this(1024, 3);
     }
 
-    public void add(RetryMessage retryMessage) {
+    /**
+     * @return false if the message is discarded
+     */
+    public boolean add(RetryMessage retryMessage) {
         if (retryMessage == null) {
             throw new NullPointerException("retryMessage must not be null");
         }
 
         if (!retryMessage.isRetryAvailable()) {
             logger.warn("discard retry message({}).", retryMessage);
-            return;
+            return false;
         }
         int retryCount = retryMessage.getRetryCount();
         if (retryCount >= this.maxRetryCount) {
             logger.warn("discard retry message({}). queue-maxRetryCount:{}", retryMessage, maxRetryCount);
-            return;
+            return false;
         }
         final int queueSize = queue.size();
         if (queueSize >= capacity) {
             logger.warn("discard retry message. queueSize:{}", queueSize);
-            return;
+            return false;
         }
         if (queueSize >= halfCapacity && retryCount >= 1) {
             logger.warn("discard retry message. retryCount:{}", retryCount);
-            return;
+            return false;
         }
         final boolean offer = this.queue.offer(retryMessage);
         if (!offer) {
             logger.warn("offer() fail. discard retry message. retryCount:{}", retryCount);
         }
+        return offer;
     }
 
     public RetryMessage get() {
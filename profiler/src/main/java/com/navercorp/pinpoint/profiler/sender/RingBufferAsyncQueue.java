@@ -0,0 +1,214 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Preallocated lock-free multi-producer/single-consumer ring buffer.
+ * <p>
+ * Each slot carries its own sequence number, so producers only contend on a single CAS of the producer cursor
+ * and never allocate. poll() and drainTo() must be called by a single consumer thread.
+ */
+public class RingBufferAsyncQueue<T> implements AsyncQueue<T> {
+
+    // capacity 1 can not tell a published slot from a released one
+    private static final int MIN_CAPACITY = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequences;
+
+    private final PaddedAtomicLong producerCursor = new PaddedAtomicLong();
+    // written by the consumer thread only. atomic for size() visibility
+    private final PaddedAtomicLong consumerCursor = new PaddedAtomicLong();
+
+    private final WaitStrategy waitStrategy;
+
+    public RingBufferAsyncQueue(int queueSize) {
+        this(queueSize, WaitStrategy.PARK);
+    }
+
+    public RingBufferAsyncQueue(int queueSize, WaitStrategy waitStrategy) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("queueSize must be positive");
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException("waitStrategy must not be null");
+        }
+        this.capacity = roundUpToPowerOfTwo(queueSize);
+        this.mask = capacity - 1;
+        this.buffer = new AtomicReferenceArray<T>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.waitStrategy = waitStrategy;
+    }
+
+    static int roundUpToPowerOfTwo(int value) {
+        if (value <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        if (value >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        }
+        return highestOneBit << 1;
+    }
+
+    @Override
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new NullPointerException("data must not be null");
+        }
+        long cursor = producerCursor.get();
+        int index;
+        while (true) {
+            index = (int) (cursor & mask);
+            final long sequence = sequences.get(index);
+            final long diff = sequence - cursor;
+            if (diff == 0) {
+                if (producerCursor.compareAndSet(cursor, cursor + 1)) {
+                    break;
+                }
+                cursor = producerCursor.get();
+            } else if (diff < 0) {
+                // queue is full
+                return false;
+            } else {
+                // another producer claimed this slot
+                cursor = producerCursor.get();
+            }
+        }
+        buffer.lazySet(index, data);
+        // publish. the slot becomes visible to the consumer only after the sequence store
+        sequences.lazySet(index, cursor + 1);
+        return true;
+    }
+
+    private T pollNow() {
+        final long cursor = consumerCursor.get();
+        final int index = (int) (cursor & mask);
+        final long sequence = sequences.get(index);
+        if (sequence != cursor + 1) {
+            // empty or not yet published
+            return null;
+        }
+        final T data = buffer.get(index);
+        buffer.lazySet(index, null);
+        // release the slot for the next lap of the producers
+        sequences.lazySet(index, cursor + capacity);
+        consumerCursor.lazySet(cursor + 1);
+        return data;
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        T data = pollNow();
+        if (data != null) {
+            return data;
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idleCount = 0;
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            data = pollNow();
+            if (data != null) {
+                return data;
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+            waitStrategy.idle(idleCount++);
+            if (idleCount < 0) {
+                // overflow
+                idleCount = Integer.MAX_VALUE;
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> drain, int maxDrainSize) {
+        int drainSize = 0;
+        while (drainSize < maxDrainSize) {
+            final T data = pollNow();
+            if (data == null) {
+                break;
+            }
+            drain.add(data);
+            drainSize++;
+        }
+        return drainSize;
+    }
+
+    @Override
+    public int size() {
+        // read consumer first. the producer cursor can only move forward
+        final long consumer = consumerCursor.get();
+        final long producer = producerCursor.get();
+        final long size = producer - consumer;
+        if (size < 0) {
+            return 0;
+        }
+        if (size > capacity) {
+            return capacity;
+        }
+        return (int) size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferAsyncQueue{" +
+                "capacity=" + capacity +
+                ", size=" + size() +
+                ", waitStrategy=" + waitStrategy +
+                '}';
+    }
+
+    /**
+     * pads the cursor to its own cache line to avoid false sharing between producer and consumer.
+     */
+    @SuppressWarnings("unused")
+    private static class PaddedAtomicLong extends AtomicLong {
+        private long p1, p2, p3, p4, p5, p6 = 7L;
+
+        public long sumPaddingToPreventOptimisation() {
+            return p1 + p2 + p3 + p4 + p5 + p6;
+        }
+    }
+}
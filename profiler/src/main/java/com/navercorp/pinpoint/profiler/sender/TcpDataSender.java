@@ -70,6 +70,14 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
 
     private final RetryQueue retryQueue = new RetryQueue();
 
+    private static final int SPILL_REPLAY_BATCH_SIZE = 100;
+    private static final long SPILL_REPLAY_INTERVAL = 100;
+    private static final int SPILL_REPLAY_MAX_RETRY_COUNT = 3;
+
+    // nullable. keeps failed requests off-heap while the collector is unreachable
+    private final MappedSpillQueue spillQueue;
+    private final AtomicBoolean spillReplayState = new AtomicBoolean(false);
+
     protected AsyncQueueingExecutor<Object> executor;
 
     /**
@@ -110,7 +118,23 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
         this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), serializer);
     }
 
+    public TcpDataSender(String name, String host, int port, PinpointClientFactory clientFactory, HeaderTBaseSerializer serializer, MappedSpillQueue spillQueue) {
+        this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), serializer, AsyncQueueingExecutorConfig.DEFAULT, spillQueue);
+    }
+
+    public TcpDataSender(String name, String host, int port, PinpointClientFactory clientFactory, AsyncQueueingExecutorConfig executorConfig) {
+        this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), HeaderTBaseSerializerFactory.DEFAULT_FACTORY.createSerializer(), executorConfig);
+    }
+
     private TcpDataSender(String name, ClientFactoryUtils.PinpointClientProvider clientProvider, HeaderTBaseSerializer serializer) {
+        this(name, clientProvider, serializer, AsyncQueueingExecutorConfig.DEFAULT);
+    }
+
+    private TcpDataSender(String name, ClientFactoryUtils.PinpointClientProvider clientProvider, HeaderTBaseSerializer serializer, AsyncQueueingExecutorConfig executorConfig) {
+        this(name, clientProvider, serializer, executorConfig, null);
+    }
+
+    private TcpDataSender(String name, ClientFactoryUtils.PinpointClientProvider clientProvider, HeaderTBaseSerializer serializer, AsyncQueueingExecutorConfig executorConfig, MappedSpillQueue spillQueue) {
         String executorName = "Pinpoint-TcpDataSender-Executor";
         if (name != null) {
             logger = LoggerFactory.getLogger(this.getClass().getName() + "@" + name);
@@ -119,11 +143,26 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
             logger = LoggerFactory.getLogger(this.getClass());
         }
         Assert.requireNonNull(clientProvider, "clientProvider must not be null");
+        Assert.requireNonNull(executorConfig, "executorConfig must not be null");
         this.client = clientProvider.get();
         this.serializer = Assert.requireNonNull(serializer, "serializer must not be null");
         this.timer = createTimer(name);
         writeFailFutureListener = new WriteFailFutureListener(logger, "io write fail.", "host", -1);
-        this.executor = createAsyncQueueingExecutor(1024 * 5, executorName);
+        this.executor = createAsyncQueueingExecutor(1024 * 5, executorName, executorConfig);
+
+        this.spillQueue = spillQueue;
+        if (spillQueue != null) {
+            this.client.addPinpointClientReconnectEventListener(new PinpointClientReconnectEventListener() {
+                @Override
+                public void reconnectPerformed(PinpointClient client) {
+                    startSpillReplay();
+                }
+            });
+            // left over from the previous run
+            if (client.isConnected()) {
+                startSpillReplay();
+            }
+        }
     }
 
 
@@ -186,6 +225,15 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
         if (client != null) {
             client.close();
         }
+
+        if (spillQueue != null) {
+            // keep pending retries for the next run
+            RetryMessage retryMessage;
+            while ((retryMessage = retryQueue.get()) != null) {
+                spill(retryMessage);
+            }
+            spillQueue.close();
+        }
     }
 
     @Override
@@ -296,7 +344,15 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
     }
 
     private void retryRequest(RetryMessage retryMessage) {
-        retryQueue.add(retryMessage);
+        if (spillQueue != null && !client.isConnected()) {
+            // retrying is pointless until reconnect
+            spill(retryMessage);
+            return;
+        }
+        final boolean added = retryQueue.add(retryMessage);
+        if (!added) {
+            spill(retryMessage);
+        }
         if (fireTimeout()) {
             timer.newTimeout(new TimerTask() {
                 @Override
@@ -316,6 +372,57 @@ public class TcpDataSender extends AbstractDataSender implements EnhancedDataSen
         }
     }
 
+    private void spill(RetryMessage retryMessage) {
+        if (spillQueue == null) {
+            return;
+        }
+        if (spillQueue.offer(retryMessage.getBytes())) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("spill retry message({}). spillSize:{}", retryMessage, spillQueue.size());
+            }
+        } else {
+            logger.warn("discard retry message({}). spill queue full", retryMessage);
+        }
+    }
+
+    private void startSpillReplay() {
+        if (spillQueue.isEmpty()) {
+            return;
+        }
+        if (spillReplayState.compareAndSet(false, true)) {
+            logger.info("replay spilled messages. spillSize:{}", spillQueue.size());
+            scheduleSpillReplay();
+        }
+    }
+
+    private void scheduleSpillReplay() {
+        timer.newTimeout(new TimerTask() {
+            @Override
+            public void run(Timeout timeout) throws Exception {
+                replaySpill();
+            }
+        }, SPILL_REPLAY_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    // replay in order, a batch per timer tick. do not flood the collector right after reconnect
+    private void replaySpill() {
+        for (int i = 0; i < SPILL_REPLAY_BATCH_SIZE; i++) {
+            if (!client.isConnected()) {
+                // resumed from the checkpoint on the next reconnect
+                spillReplayState.set(false);
+                return;
+            }
+            final byte[] bytes = spillQueue.poll();
+            if (bytes == null) {
+                logger.info("replay spilled messages complete");
+                spillReplayState.set(false);
+                return;
+            }
+            doRequest(new RetryMessage(0, SPILL_REPLAY_MAX_RETRY_COUNT, bytes, "spill"));
+        }
+        scheduleSpillReplay();
+    }
+
     private void doRequest(final byte[] requestPacket, FutureListener futureListener) {
         final Future<ResponseMessage> response = this.client.request(requestPacket);
         response.setListener(futureListener);
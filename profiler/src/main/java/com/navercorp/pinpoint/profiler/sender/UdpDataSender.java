@@ -54,7 +54,7 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
     protected final DatagramSocket udpSocket;
 
     // Caution. not thread safe
-    private final HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false, UDP_MAX_PACKET_LENGTH, false).createSerializer();
+    protected final HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false, UDP_MAX_PACKET_LENGTH, false).createSerializer();
 
     private final AsyncQueueingExecutor<Object> executor;
 
@@ -65,6 +65,10 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
     }
 
     public UdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, AsyncQueueingExecutorConfig.DEFAULT);
+    }
+
+    public UdpDataSender(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig) {
         Assert.requireNonNull(host, "host must not be null");
         if (!HostAndPort.isValidPort(port)) {
             throw new IllegalArgumentException("port out of range:" + port);
@@ -79,6 +83,7 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
         if (sendBufferSize <= 0) {
             throw new IllegalArgumentException("sendBufferSize");
         }
+        Assert.requireNonNull(executorConfig, "executorConfig must not be null");
 
         final SocketAddressProvider socketAddressProvider = new DnsSocketAddressProvider(host, port);
         this.socketAddressProvider = new RefreshStrategy(socketAddressProvider);
@@ -87,7 +92,7 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
         // TODO If fail to create socket, stop agent start
         this.udpSocket = createSocket(timeout, sendBufferSize);
 
-        this.executor = createAsyncQueueingExecutor(queueSize, threadName);
+        this.executor = createAsyncQueueingExecutor(queueSize, threadName, executorConfig);
     }
 
     @Override
@@ -124,9 +129,8 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
             logger.warn("sendPacket fail. invalid type:{}", message != null ? message.getClass() : null);
             return;
         }
-        final InetSocketAddress inetSocketAddress = socketAddressProvider.resolve();
-        if (inetSocketAddress.getAddress() == null) {
-            logger.info("dns lookup fail host:{}", inetSocketAddress);
+        final InetSocketAddress inetSocketAddress = resolveSocketAddress();
+        if (inetSocketAddress == null) {
             return;
         }
 
@@ -145,21 +149,37 @@ public class UdpDataSender extends AbstractDataSender implements DataSender {
             return;
         }
         // it's safe to reuse because it's single threaded
-        reusePacket.setData(internalBufferData, 0, internalBufferSize);
+        if (sendDatagram(inetSocketAddress, internalBufferData, 0, internalBufferSize)) {
+            if (isDebug) {
+                logger.debug("Data sent. size:{}, {}", internalBufferSize, dto);
+            }
+        }
+    }
+
+    protected InetSocketAddress resolveSocketAddress() {
+        final InetSocketAddress inetSocketAddress = socketAddressProvider.resolve();
+        if (inetSocketAddress.getAddress() == null) {
+            logger.info("dns lookup fail host:{}", inetSocketAddress);
+            return null;
+        }
+        return inetSocketAddress;
+    }
+
+    // Caution. not thread safe
+    protected boolean sendDatagram(InetSocketAddress inetSocketAddress, byte[] data, int offset, int length) {
+        reusePacket.setData(data, offset, length);
         reusePacket.setAddress(inetSocketAddress.getAddress());
         reusePacket.setPort(inetSocketAddress.getPort());
         try {
             udpSocket.send(reusePacket);
-            if (isDebug) {
-                logger.debug("Data sent. size:{}, {}", internalBufferSize, dto);
-            }
+            return true;
         } catch (PortUnreachableException pe) {
             this.socketAddressProvider.handlePortUnreachable();
-            logger.info("packet send error. size:{}, {}", internalBufferSize, dto, pe);
+            logger.info("packet send error. size:{}", length, pe);
         } catch (IOException e) {
-            logger.info("packet send error. size:{}, {}", internalBufferSize, dto, e);
+            logger.info("packet send error. size:{}", length, e);
         }
-
+        return false;
     }
 
     @VisibleForTesting
@@ -30,14 +30,27 @@ public final class UdpDataSenderFactory {
     private final int queueSize;
     private final int timeout;
     private final int sendBufferSize;
+    private final AsyncQueueingExecutorConfig executorConfig;
+    // 0 : disable packing
+    private final int packetSize;
 
     public UdpDataSenderFactory(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, AsyncQueueingExecutorConfig.DEFAULT);
+    }
+
+    public UdpDataSenderFactory(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig) {
+        this(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig, 0);
+    }
+
+    public UdpDataSenderFactory(String host, int port, String threadName, int queueSize, int timeout, int sendBufferSize, AsyncQueueingExecutorConfig executorConfig, int packetSize) {
         this.host = host;
         this.port = port;
         this.threadName = threadName;
         this.queueSize = queueSize;
         this.timeout = timeout;
         this.sendBufferSize = sendBufferSize;
+        this.executorConfig = executorConfig;
+        this.packetSize = packetSize;
     }
 
     public DataSender create(String typeName) {
@@ -46,9 +59,12 @@ public final class UdpDataSenderFactory {
 
     public DataSender create(UdpDataSenderType type) {
         if (type == UdpDataSenderType.NIO) {
-            return new NioUDPDataSender(host, port, threadName, queueSize, timeout, sendBufferSize);
+            return new NioUDPDataSender(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig, packetSize);
         } else if (type == UdpDataSenderType.OIO) {
-            return new UdpDataSender(host, port, threadName, queueSize, timeout, sendBufferSize);
+            if (packetSize > 0) {
+                return new PackedUdpDataSender(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig, packetSize);
+            }
+            return new UdpDataSender(host, port, threadName, queueSize, timeout, sendBufferSize, executorConfig);
         } else {
             throw new IllegalArgumentException("Unknown type.");
         }
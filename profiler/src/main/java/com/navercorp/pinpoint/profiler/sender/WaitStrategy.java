@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How the consumer of a {@link RingBufferAsyncQueue} waits while the queue is empty.
+ * Producers never signal the consumer, so every strategy is a polling strategy.
+ */
+public enum WaitStrategy {
+
+    /**
+     * lowest latency. burns a core while the queue is empty.
+     */
+    SPIN {
+        @Override
+        public void idle(int idleCount) {
+            // busy spin
+        }
+    },
+    /**
+     * gives up the cpu to other runnable threads.
+     */
+    YIELD {
+        @Override
+        public void idle(int idleCount) {
+            if (idleCount < SPIN_TRIES) {
+                return;
+            }
+            Thread.yield();
+        }
+    },
+    /**
+     * spin, yield and then park for a short period. recommended for most applications.
+     */
+    PARK {
+        @Override
+        public void idle(int idleCount) {
+            if (idleCount < SPIN_TRIES) {
+                return;
+            }
+            if (idleCount < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * @param idleCount number of consecutive empty polls
+     */
+    public abstract void idle(int idleCount);
+
+    public static WaitStrategy getValue(String name, WaitStrategy defaultValue) {
+        if (name == null) {
+            return defaultValue;
+        }
+        for (WaitStrategy waitStrategy : values()) {
+            if (waitStrategy.name().equalsIgnoreCase(name.trim())) {
+                return waitStrategy;
+            }
+        }
+        return defaultValue;
+    }
+}
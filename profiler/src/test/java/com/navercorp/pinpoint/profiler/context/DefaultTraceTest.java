@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.SystemClock;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceHandle;
 import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
 import com.navercorp.pinpoint.profiler.context.id.DefaultTransactionIdEncoder;
@@ -75,6 +76,7 @@ public class DefaultTraceTest {
     @Test
     public void testPushPop() {
         when(traceRoot.getShared()).thenReturn(shared);
+        when(traceRoot.getClock()).thenReturn(SystemClock.INSTANCE);
 
         TraceId traceId = new DefaultTraceId(agentId, System.currentTimeMillis(), 0);
         when(traceRoot.getTraceId()).thenReturn(traceId);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context;
+
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+
+public class RecyclingSpanEventFactoryTest {
+
+    private final TraceRoot traceRoot = mock(TraceRoot.class);
+
+    @Test
+    public void reuse() {
+        RecyclingSpanEventFactory factory = new RecyclingSpanEventFactory(4, false);
+
+        SpanEvent spanEvent = factory.newSpanEvent(traceRoot);
+        spanEvent.setStackId(10);
+        spanEvent.setDepth(3);
+        spanEvent.recycle();
+        Assert.assertNull(spanEvent.getTraceRoot());
+
+        TraceRoot nextTraceRoot = mock(TraceRoot.class);
+        SpanEvent reused = factory.newSpanEvent(nextTraceRoot);
+        Assert.assertSame(spanEvent, reused);
+        Assert.assertSame(nextTraceRoot, reused.getTraceRoot());
+        Assert.assertEquals(0, reused.getStackId());
+        Assert.assertFalse(reused.isSetDepth());
+        Assert.assertEquals(-1, reused.getDepth());
+        Assert.assertEquals(1, factory.getAllocateCount());
+    }
+
+    @Test
+    public void doubleRelease() {
+        RecyclingSpanEventFactory factory = new RecyclingSpanEventFactory(4, false);
+
+        SpanEvent spanEvent = factory.newSpanEvent(traceRoot);
+        spanEvent.recycle();
+        spanEvent.recycle();
+        Assert.assertEquals(1, factory.getDoubleReleaseCount());
+
+        Assert.assertSame(spanEvent, factory.newSpanEvent(traceRoot));
+        Assert.assertNotSame(spanEvent, factory.newSpanEvent(traceRoot));
+    }
+
+    @Test
+    public void discard() {
+        RecyclingSpanEventFactory factory = new RecyclingSpanEventFactory(2, false);
+
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        for (int i = 0; i < 3; i++) {
+            spanEventList.add(factory.newSpanEvent(traceRoot));
+        }
+        for (SpanEvent spanEvent : spanEventList) {
+            spanEvent.recycle();
+        }
+        Assert.assertEquals(3, factory.getAllocateCount());
+        Assert.assertEquals(1, factory.getDiscardCount());
+    }
+
+    @Test
+    public void releaseFromSenderThread() throws InterruptedException {
+        RecyclingSpanEventFactory factory = new RecyclingSpanEventFactory(4, false);
+
+        final List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        spanEventList.add(factory.newSpanEvent(traceRoot));
+        spanEventList.add(factory.newSpanEvent(traceRoot));
+        final SpanChunk spanChunk = new SpanChunk(spanEventList);
+
+        Thread sender = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                spanChunk.recycle();
+            }
+        });
+        sender.start();
+        sender.join();
+        Assert.assertNull(spanChunk.getSpanEventList());
+
+        Assert.assertTrue(spanEventList.contains(factory.newSpanEvent(traceRoot)));
+        Assert.assertTrue(spanEventList.contains(factory.newSpanEvent(traceRoot)));
+        Assert.assertEquals(2, factory.getAllocateCount());
+    }
+
+    @Test
+    public void defaultFactory_recycle_noop() {
+        SpanEvent spanEvent = new DefaultSpanEventFactory().newSpanEvent(traceRoot);
+        spanEvent.setDepth(1);
+        spanEvent.recycle();
+        Assert.assertSame(traceRoot, spanEvent.getTraceRoot());
+        Assert.assertEquals(1, spanEvent.getDepth());
+    }
+
+    @Test
+    public void arrayPool() {
+        SpanEventArrayPool arrayPool = new SpanEventArrayPool(1);
+        SpanEvent[] array = arrayPool.acquire(9);
+        Assert.assertEquals(16, array.length);
+        array[0] = new SpanEvent(traceRoot);
+        arrayPool.release(array);
+        Assert.assertNull(array[0]);
+
+        Assert.assertSame(array, arrayPool.acquire(16));
+        Assert.assertNotSame(array, arrayPool.acquire(16));
+    }
+
+    @Test
+    public void callStack_close() {
+        SpanEventArrayPool arrayPool = new SpanEventArrayPool();
+        CallStack callStack = new DefaultCallStack(traceRoot, -1, arrayPool);
+        for (int i = 0; i < 20; i++) {
+            callStack.push(new SpanEvent(traceRoot));
+        }
+        callStack.close();
+        Assert.assertTrue(callStack.empty());
+
+        callStack.push(new SpanEvent(traceRoot));
+        Assert.assertEquals(1, callStack.getIndex());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.active;
+
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeValue;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ReuseResponseTimeCollector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SlotActiveTraceRepositoryTest {
+
+    @Test
+    public void registerAndPurge() {
+        ReuseResponseTimeCollector responseTimeCollector = new ReuseResponseTimeCollector();
+        SlotActiveTraceRepository repository = new SlotActiveTraceRepository(responseTimeCollector, 64);
+        final long threadId = Thread.currentThread().getId();
+
+        ActiveTraceHandle handle1 = repository.register(1, 1000, threadId);
+        ActiveTraceHandle handle2 = repository.register(2, 2000, threadId);
+
+        List<ActiveTraceSnapshot> snapshot = repository.snapshot();
+        Assert.assertEquals(2, snapshot.size());
+        Assert.assertEquals(2, repository.getThreadIdList().size());
+
+        handle1.purge(1100);
+        // purged twice
+        handle1.purge(1200);
+        snapshot = repository.snapshot();
+        Assert.assertEquals(1, snapshot.size());
+        Assert.assertEquals(2, snapshot.get(0).getLocalTransactionId());
+        Assert.assertEquals(threadId, snapshot.get(0).getThreadId());
+
+        handle2.purge(2300);
+        Assert.assertTrue(repository.snapshot().isEmpty());
+        Assert.assertTrue(repository.getThreadIdList().isEmpty());
+
+        ResponseTimeValue responseTimeValue = responseTimeCollector.resetAndGetValue();
+        Assert.assertEquals(2, responseTimeValue.getTransactionCount());
+        Assert.assertEquals(400, responseTimeValue.getTotal());
+    }
+
+    @Test
+    public void histogram() {
+        SlotActiveTraceRepository repository = new SlotActiveTraceRepository(new ReuseResponseTimeCollector(), 64);
+        final long threadId = Thread.currentThread().getId();
+        final long currentTime = 100000;
+
+        Assert.assertEquals(0, repository.getActiveTraceHistogram(currentTime).getFastCount());
+
+        repository.register(1, currentTime - 100, threadId);
+        repository.register(2, currentTime - 2000, threadId);
+        repository.register(3, currentTime - 4000, threadId);
+        repository.register(4, currentTime - 10000, threadId);
+        // not started
+        repository.register(5, 0, threadId);
+
+        ActiveTraceHistogram histogram = repository.getActiveTraceHistogram(currentTime);
+        Assert.assertEquals(1, histogram.getFastCount());
+        Assert.assertEquals(1, histogram.getNormalCount());
+        Assert.assertEquals(1, histogram.getSlowCount());
+        Assert.assertEquals(1, histogram.getVerySlowCount());
+        Assert.assertEquals(4, repository.snapshot().size());
+    }
+
+    @Test
+    public void noFreeSlot() {
+        ReuseResponseTimeCollector responseTimeCollector = new ReuseResponseTimeCollector();
+        SlotActiveTraceRepository repository = new SlotActiveTraceRepository(responseTimeCollector, 16);
+        final long threadId = Thread.currentThread().getId();
+
+        List<ActiveTraceHandle> handles = new ArrayList<ActiveTraceHandle>();
+        for (int i = 0; i < 20; i++) {
+            handles.add(repository.register(i, 1000, threadId));
+        }
+        Assert.assertEquals(16, repository.snapshot().size());
+        Assert.assertEquals(4, repository.getUntrackedCount());
+
+        for (ActiveTraceHandle handle : handles) {
+            handle.purge(1010);
+        }
+        Assert.assertTrue(repository.snapshot().isEmpty());
+        Assert.assertEquals(20, responseTimeCollector.resetAndGetValue().getTransactionCount());
+
+        // slots are free again
+        repository.register(100, 1000, threadId);
+        Assert.assertEquals(1, repository.snapshot().size());
+    }
+
+    @Test
+    public void multiThread() throws InterruptedException {
+        final ReuseResponseTimeCollector responseTimeCollector = new ReuseResponseTimeCollector();
+        final SlotActiveTraceRepository repository = new SlotActiveTraceRepository(responseTimeCollector, 1024);
+        final int traceCount = 10000;
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    final long threadId = Thread.currentThread().getId();
+                    for (int trace = 0; trace < traceCount; trace++) {
+                        ActiveTraceHandle handle = repository.register(trace, 1000, threadId);
+                        handle.purge(1001);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertTrue(repository.snapshot().isEmpty());
+        Assert.assertEquals(0, repository.getUntrackedCount());
+        Assert.assertEquals(threads.length * traceCount, responseTimeCollector.resetAndGetValue().getTransactionCount());
+    }
+}
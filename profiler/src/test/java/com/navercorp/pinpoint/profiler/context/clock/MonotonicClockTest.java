@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.clock;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotonicClockTest {
+
+    @Test
+    public void getTime() {
+        final long[] nanoTime = {5000000000L};
+        MonotonicClock clock = new MonotonicClock(1000, nanoTime[0]) {
+            @Override
+            long nanoTime() {
+                return nanoTime[0];
+            }
+        };
+        Assert.assertEquals(1000, clock.getTime());
+
+        nanoTime[0] += 999999;
+        Assert.assertEquals(1000, clock.getTime());
+
+        nanoTime[0] += 1;
+        Assert.assertEquals(1001, clock.getTime());
+
+        nanoTime[0] += 2500000;
+        Assert.assertEquals(1003, clock.getTime());
+    }
+
+    @Test
+    public void getTime_notBackward() {
+        MonotonicClock clock = new MonotonicClock();
+        long prev = clock.getTime();
+        for (int i = 0; i < 1000; i++) {
+            final long time = clock.getTime();
+            Assert.assertTrue(time >= prev);
+            prev = time;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.clock;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TickClockTest {
+
+    @Test
+    public void getTime() throws Exception {
+        TickClock clock = new TickClock(1);
+        try {
+            final long startTime = clock.getTime();
+            Assert.assertTrue(Math.abs(System.currentTimeMillis() - startTime) < 1000);
+
+            Thread.sleep(50);
+            Assert.assertTrue(clock.getTime() > startTime);
+        } finally {
+            clock.stop();
+        }
+    }
+
+    @Test
+    public void stop() throws Exception {
+        TickClock clock = new TickClock(1);
+        clock.stop();
+        Thread.sleep(20);
+
+        final long time = clock.getTime();
+        Thread.sleep(50);
+        Assert.assertEquals(time, clock.getTime());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.columnar;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanChunk;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV1;
+import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV2;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessor;
+import com.navercorp.pinpoint.profiler.context.SpanPostProcessorV2;
+import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTransactionIdEncoder;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TransactionIdEncoder;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ColumnarSpanEventListTest {
+
+    private final String agentId = "agentId";
+    private final long agentStartTime = System.currentTimeMillis();
+    private final TransactionIdEncoder encoder = new DefaultTransactionIdEncoder(agentId, agentStartTime);
+
+    @Test
+    public void spanChunkV1_sameBytes() throws TException {
+        SpanChunkFactory spanChunkFactory = new SpanChunkFactoryV1("applicationName", agentId, agentStartTime, ServiceType.STAND_ALONE, encoder);
+        assertSpanChunk(spanChunkFactory);
+    }
+
+    @Test
+    public void spanChunkV2_sameBytes() throws TException {
+        SpanChunkFactory spanChunkFactory = new SpanChunkFactoryV2("applicationName", agentId, agentStartTime, ServiceType.STAND_ALONE, encoder);
+        assertSpanChunk(spanChunkFactory);
+    }
+
+    private void assertSpanChunk(SpanChunkFactory spanChunkFactory) throws TException {
+        TraceRoot traceRoot = newTraceRoot();
+        List<SpanEvent> spanEventList = newSpanEventList(traceRoot);
+        SpanEventColumns columns = toColumns(spanEventList);
+
+        SpanChunk expected = spanChunkFactory.create(traceRoot, spanEventList);
+        SpanChunk actual = spanChunkFactory.create(traceRoot, columns);
+
+        Assert.assertArrayEquals(serialize(expected), serialize(actual));
+    }
+
+    @Test
+    public void spanV2_sameBytes() throws TException {
+        SpanPostProcessor spanPostProcessor = new SpanPostProcessorV2();
+        TraceRoot traceRoot = newTraceRoot();
+        List<SpanEvent> spanEventList = newSpanEventList(traceRoot);
+        SpanEventColumns columns = toColumns(spanEventList);
+
+        // same end time for both spans, otherwise a millisecond boundary between them changes the elapsed time
+        final long afterTime = traceRoot.getClock().getTime();
+        Span expected = spanPostProcessor.postProcess(newSpan(traceRoot, afterTime), spanEventList);
+        Span actual = spanPostProcessor.postProcess(newSpan(traceRoot, afterTime), columns);
+
+        Assert.assertArrayEquals(serialize(expected), serialize(actual));
+    }
+
+    @Test
+    public void sortBySequence() {
+        TraceRoot traceRoot = newTraceRoot();
+        SpanEventColumns columns = toColumns(newSpanEventList(traceRoot));
+
+        ColumnarSpanEventList v2 = new ColumnarSpanEventList(columns, 0, TraceDataFormatVersion.V2);
+        for (int i = 0; i < v2.size(); i++) {
+            Assert.assertEquals(i, columns.getSequence(v2.getRow(i)));
+        }
+        ColumnarSpanEventList v1 = new ColumnarSpanEventList(columns, 0, TraceDataFormatVersion.V1);
+        for (int i = 0; i < v1.size(); i++) {
+            Assert.assertEquals(i, v1.getRow(i));
+        }
+    }
+
+    private SpanEventColumns toColumns(List<SpanEvent> spanEventList) {
+        // small capacity to exercise grow()
+        SpanEventColumns columns = new SpanEventColumns(1);
+        for (SpanEvent spanEvent : spanEventList) {
+            columns.add(spanEvent);
+        }
+        Assert.assertEquals(spanEventList.size(), columns.size());
+        return columns;
+    }
+
+    private List<SpanEvent> newSpanEventList(TraceRoot traceRoot) {
+        final short[] sequences = {0, 2, 1, 3, 4};
+        final int[] depths = {1, 2, 2, 3, 1};
+
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        for (int i = 0; i < sequences.length; i++) {
+            SpanEvent spanEvent = new SpanEvent(traceRoot);
+            spanEvent.markStartTime();
+            spanEvent.setSequence(sequences[i]);
+            spanEvent.setDepth(depths[i]);
+            spanEvent.setServiceType(ServiceType.INTERNAL_METHOD.getCode());
+            spanEvent.setApiId(100 + i);
+            spanEventList.add(spanEvent);
+        }
+        SpanEvent rpc = spanEventList.get(1);
+        rpc.setRpc("/rpc");
+        rpc.setEndPoint("localhost:8080");
+        rpc.setDestinationId("destination");
+        rpc.setNextSpanId(1234L);
+        rpc.addAnnotation(new Annotation(10, "annotation"));
+        rpc.addAnnotation(new Annotation(11, 11));
+
+        SpanEvent error = spanEventList.get(2);
+        error.setExceptionInfo(5, "exception");
+        error.setNextAsyncId(7);
+
+        SpanEvent async = spanEventList.get(3);
+        async.setAsyncId(8);
+        async.setAsyncSequence((short) 2);
+        async.addAnnotation(new Annotation(12));
+
+        for (SpanEvent spanEvent : spanEventList) {
+            spanEvent.markAfterTime();
+        }
+        return spanEventList;
+    }
+
+    private Span newSpan(TraceRoot traceRoot, long afterTime) {
+        Span span = new Span(traceRoot);
+        span.markBeforeTime();
+        span.markAfterTime(afterTime);
+        return span;
+    }
+
+    private TraceRoot newTraceRoot() {
+        TraceId traceId = new DefaultTraceId(agentId, agentStartTime, 100);
+        return new DefaultTraceRoot(traceId, agentId, agentStartTime, 0);
+    }
+
+    private byte[] serialize(TBase<?, ?> tBase) throws TException {
+        return new TSerializer(new TCompactProtocol.Factory()).serialize(tBase);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.compress;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TIntStringStringValue;
+import com.navercorp.pinpoint.thrift.dto.TLongIntIntByteByteStringValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SpanEventCompactorTest {
+
+    private static final int SQL_API_ID = 10;
+    private static final int OTHER_API_ID = 20;
+
+    private final TraceRoot traceRoot = new DefaultTraceRoot(new DefaultTraceId("agentId", 0, 0), "agentId", 0, 0);
+
+    @Test
+    public void compact_repeatedSql() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        spanEventList.add(newSpanEvent(0, 1, OTHER_API_ID, 1));
+        for (int i = 1; i <= 5; i++) {
+            spanEventList.add(newSqlEvent(i, 2, 100, "" + i, i * 10));
+        }
+        spanEventList.add(newSpanEvent(6, 2, OTHER_API_ID, 1));
+
+        SpanEventCompactor compactor = new SpanEventCompactor(3, 2);
+        compactor.compact(spanEventList);
+
+        Assert.assertEquals(3, spanEventList.size());
+        SpanEvent folded = spanEventList.get(1);
+        Assert.assertEquals(1, folded.getSequence());
+        Assert.assertEquals(6, spanEventList.get(2).getSequence());
+
+        Assert.assertEquals(5, getAnnotation(folded, AnnotationKey.REPEAT_COUNT).getValue().getIntValue());
+        TLongIntIntByteByteStringValue elapsed = getAnnotation(folded, AnnotationKey.REPEAT_ELAPSED).getValue().getLongIntIntByteByteStringValue();
+        Assert.assertEquals(150, elapsed.getLongValue());
+        Assert.assertEquals(10, elapsed.getIntValue1());
+        Assert.assertEquals(50, elapsed.getIntValue2());
+
+        List<String> bindValues = new ArrayList<String>();
+        for (TAnnotation annotation : folded.getAnnotations()) {
+            if (annotation.getKey() == AnnotationKey.SQL_BINDVALUE.getCode()) {
+                bindValues.add(annotation.getValue().getStringValue());
+            }
+        }
+        Assert.assertEquals(2, bindValues.size());
+        Assert.assertEquals("2", bindValues.get(0));
+        Assert.assertEquals("3", bindValues.get(1));
+    }
+
+    @Test
+    public void compact_differentSql() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        spanEventList.add(newSqlEvent(0, 1, 100, "a", 1));
+        spanEventList.add(newSqlEvent(1, 1, 101, "b", 1));
+        spanEventList.add(newSqlEvent(2, 1, 100, "c", 1));
+        spanEventList.add(newSqlEvent(3, 1, 101, "d", 1));
+        spanEventList.add(newSpanEvent(4, 1, OTHER_API_ID, 1));
+
+        new SpanEventCompactor(2, 5).compact(spanEventList);
+
+        Assert.assertEquals(5, spanEventList.size());
+    }
+
+    @Test
+    public void compact_belowMinRepeat() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        spanEventList.add(newSqlEvent(0, 1, 100, "a", 1));
+        spanEventList.add(newSqlEvent(1, 1, 100, "b", 1));
+        spanEventList.add(newSpanEvent(2, 1, OTHER_API_ID, 1));
+
+        new SpanEventCompactor(3, 5).compact(spanEventList);
+
+        Assert.assertEquals(3, spanEventList.size());
+    }
+
+    @Test
+    public void compact_lastEventMayHaveChildren() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        for (int i = 0; i < 3; i++) {
+            spanEventList.add(newSpanEvent(i, 1, OTHER_API_ID, 1));
+        }
+        // children of the last SpanEvent
+        spanEventList.add(newSpanEvent(3, 2, SQL_API_ID, 1));
+
+        new SpanEventCompactor(2, 5).compact(spanEventList);
+
+        Assert.assertEquals(3, spanEventList.size());
+        Assert.assertEquals(0, spanEventList.get(0).getSequence());
+        Assert.assertEquals(2, spanEventList.get(1).getSequence());
+        Assert.assertEquals(3, spanEventList.get(2).getSequence());
+    }
+
+    @Test
+    public void compact_notFoldable() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        for (int i = 0; i < 4; i++) {
+            spanEventList.add(newSpanEvent(i, 1, OTHER_API_ID, 1));
+        }
+        spanEventList.get(1).setNextSpanId(1234);
+        spanEventList.get(2).setExceptionInfo(1, "error");
+        spanEventList.add(newSpanEvent(4, 0, SQL_API_ID, 1));
+
+        new SpanEventCompactor(2, 5).compact(spanEventList);
+
+        Assert.assertEquals(5, spanEventList.size());
+    }
+
+    @Test
+    public void compact_sequenceGap() {
+        List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        spanEventList.add(newSpanEvent(0, 1, OTHER_API_ID, 1));
+        spanEventList.add(newSpanEvent(1, 1, OTHER_API_ID, 1));
+        // sequence 2 is in another SpanChunk
+        spanEventList.add(newSpanEvent(3, 1, OTHER_API_ID, 1));
+        spanEventList.add(newSpanEvent(4, 1, OTHER_API_ID, 1));
+        spanEventList.add(newSpanEvent(5, 1, SQL_API_ID, 1));
+
+        new SpanEventCompactor(3, 5).compact(spanEventList);
+
+        Assert.assertEquals(5, spanEventList.size());
+    }
+
+    private TAnnotation getAnnotation(SpanEvent spanEvent, AnnotationKey annotationKey) {
+        for (TAnnotation annotation : spanEvent.getAnnotations()) {
+            if (annotation.getKey() == annotationKey.getCode()) {
+                return annotation;
+            }
+        }
+        Assert.fail("annotation not found. " + annotationKey);
+        return null;
+    }
+
+    private SpanEvent newSqlEvent(int sequence, int depth, int sqlId, String bindValue, int elapsed) {
+        SpanEvent spanEvent = newSpanEvent(sequence, depth, SQL_API_ID, elapsed);
+        TIntStringStringValue sql = new TIntStringStringValue(sqlId);
+        sql.setStringValue2(bindValue);
+        spanEvent.addAnnotation(new Annotation(AnnotationKey.SQL_ID.getCode(), sql));
+        return spanEvent;
+    }
+
+    private SpanEvent newSpanEvent(int sequence, int depth, int apiId, int elapsed) {
+        SpanEvent spanEvent = new SpanEvent(traceRoot);
+        spanEvent.setSequence((short) sequence);
+        spanEvent.setDepth(depth);
+        spanEvent.setApiId(apiId);
+        spanEvent.setServiceType((short) 2101);
+        spanEvent.markStartTime();
+        spanEvent.setAfterTime(spanEvent.getStartTime() + elapsed);
+        return spanEvent;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.id;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class BlockIdGeneratorTest {
+
+    @Test
+    public void sequence() {
+        BlockIdGenerator idGenerator = new BlockIdGenerator(4);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(AtomicIdGenerator.INITIAL_TRANSACTION_ID + i, idGenerator.nextTransactionId());
+            Assert.assertEquals(AtomicIdGenerator.INITIAL_CONTINUED_TRANSACTION_ID - 3 * i, idGenerator.nextContinuedTransactionId());
+            Assert.assertEquals(AtomicIdGenerator.INITIAL_DISABLED_ID - 3 * i, idGenerator.nextDisabledId());
+            Assert.assertEquals(AtomicIdGenerator.INITIAL_CONTINUED_DISABLED_ID - 3 * i, idGenerator.nextContinuedDisabledId());
+        }
+    }
+
+    @Test
+    public void transactionCount() {
+        BlockIdGenerator idGenerator = new BlockIdGenerator(16);
+        TransactionCounter transactionCounter = new DefaultTransactionCounter(idGenerator);
+        for (int i = 0; i < 5; i++) {
+            idGenerator.nextTransactionId();
+        }
+        for (int i = 0; i < 3; i++) {
+            idGenerator.nextContinuedTransactionId();
+        }
+        idGenerator.nextDisabledId();
+        idGenerator.nextContinuedDisabledId();
+        idGenerator.nextContinuedDisabledId();
+
+        Assert.assertEquals(5, transactionCounter.getSampledNewCount());
+        Assert.assertEquals(3, transactionCounter.getSampledContinuationCount());
+        Assert.assertEquals(1, transactionCounter.getUnSampledNewCount());
+        Assert.assertEquals(2, transactionCounter.getUnSampledContinuationCount());
+        Assert.assertEquals(11, transactionCounter.getTotalTransactionCount());
+    }
+
+    @Test
+    public void unique_multiThread() throws InterruptedException {
+        final BlockIdGenerator idGenerator = new BlockIdGenerator(7);
+        final int idCount = 5000;
+        final Set<Long> transactionIds = Collections.synchronizedSet(new HashSet<Long>());
+        final Set<Long> disabledIds = Collections.synchronizedSet(new HashSet<Long>());
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int count = 0; count < idCount; count++) {
+                        transactionIds.add(idGenerator.nextTransactionId());
+                        disabledIds.add(idGenerator.nextDisabledId());
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        final int total = threads.length * idCount;
+        Assert.assertEquals(total, transactionIds.size());
+        Assert.assertEquals(total, disabledIds.size());
+        for (Long disabledId : disabledIds) {
+            Assert.assertEquals(0, (disabledId - AtomicIdGenerator.INITIAL_DISABLED_ID) % AtomicIdGenerator.DECREMENT_CYCLE);
+        }
+        Assert.assertEquals(AtomicIdGenerator.INITIAL_TRANSACTION_ID + total, idGenerator.currentTransactionId());
+    }
+}
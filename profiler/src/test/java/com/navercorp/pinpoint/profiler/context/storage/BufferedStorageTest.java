@@ -17,7 +17,9 @@
 package com.navercorp.pinpoint.profiler.context.storage;
 
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.Annotation;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV1;
 import com.navercorp.pinpoint.profiler.context.Span;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactory;
@@ -137,4 +139,90 @@ public class BufferedStorageTest {
         Assert.assertEquals(0, countingDataSender.getSpanCounter());
         Assert.assertEquals(1, countingDataSender.getSpanChunkCounter());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStore_byteBudget_ignoreBufferSize() throws Exception {
+        BufferedStorage bufferedStorage = new BufferedStorage(internalTraceId, countingDataSender, spanPostProcessor, spanChunkFactory, 1, 1472, 0);
+
+        for (int i = 0; i < 10; i++) {
+            bufferedStorage.store(new SpanEvent(internalTraceId));
+        }
+
+        Assert.assertEquals(0, countingDataSender.getTotalCount());
+    }
+
+    @Test
+    public void testStore_byteBudget_flush() throws Exception {
+        final int byteBudget = 1472;
+        BufferedStorage bufferedStorage = new BufferedStorage(internalTraceId, countingDataSender, spanPostProcessor, spanChunkFactory, 100, byteBudget, 0);
+
+        final SpanEvent spanEvent = newSpanEvent(500);
+        final int spanEventSize = SpanEventSizeEstimator.estimate(spanEvent);
+        final int eventsPerChunk = (byteBudget - BufferedStorage.SPAN_CHUNK_RESERVE_SIZE) / spanEventSize;
+        Assert.assertTrue(eventsPerChunk > 0);
+
+        for (int i = 0; i < eventsPerChunk; i++) {
+            bufferedStorage.store(newSpanEvent(500));
+        }
+        Assert.assertEquals(0, countingDataSender.getTotalCount());
+
+        // does not fit in the current chunk
+        bufferedStorage.store(newSpanEvent(500));
+        Assert.assertEquals(1, countingDataSender.getSpanChunkCounter());
+    }
+
+    @Test
+    public void testStore_byteBudget_oversizeEvent() throws Exception {
+        BufferedStorage bufferedStorage = new BufferedStorage(internalTraceId, countingDataSender, spanPostProcessor, spanChunkFactory, 100, 1472, 0);
+
+        bufferedStorage.store(new SpanEvent(internalTraceId));
+        bufferedStorage.store(newSpanEvent(2000));
+
+        // flush the buffered SpanEvent, and then the oversize SpanEvent alone
+        Assert.assertEquals(2, countingDataSender.getSpanChunkCounter());
+    }
+
+    @Test
+    public void testStore_countLimit_ignoreEventSize() throws Exception {
+        BufferedStorage bufferedStorage = new BufferedStorage(internalTraceId, countingDataSender, spanPostProcessor, spanChunkFactory, 5);
+
+        for (int i = 0; i < 4; i++) {
+            bufferedStorage.store(newSpanEvent(20000));
+        }
+        // SpanEvents are not estimated without a byte budget
+        Assert.assertEquals(0, countingDataSender.getTotalCount());
+
+        bufferedStorage.store(newSpanEvent(20000));
+        Assert.assertEquals(1, countingDataSender.getSpanChunkCounter());
+    }
+
+    @Test
+    public void testStore_maxAge() throws Exception {
+        final long[] currentTime = {1000};
+        BufferedStorage bufferedStorage = new BufferedStorage(internalTraceId, countingDataSender, spanPostProcessor, spanChunkFactory, 20, 0, 100) {
+            @Override
+            long currentTime() {
+                return currentTime[0];
+            }
+        };
+
+        bufferedStorage.store(new SpanEvent(internalTraceId));
+        currentTime[0] += 99;
+        bufferedStorage.store(new SpanEvent(internalTraceId));
+        Assert.assertEquals(0, countingDataSender.getTotalCount());
+
+        currentTime[0] += 1;
+        bufferedStorage.store(new SpanEvent(internalTraceId));
+        Assert.assertEquals(1, countingDataSender.getSpanChunkCounter());
+    }
+
+    private SpanEvent newSpanEvent(int bindValueLength) {
+        SpanEvent spanEvent = new SpanEvent(internalTraceId);
+        StringBuilder bindValue = new StringBuilder(bindValueLength);
+        for (int i = 0; i < bindValueLength; i++) {
+            bindValue.append('a');
+        }
+        spanEvent.addAnnotation(new Annotation(AnnotationKey.SQL_BINDVALUE.getCode(), bindValue.toString()));
+        return spanEvent;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.storage;
+
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.profiler.context.Span;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import com.navercorp.pinpoint.profiler.context.id.AtomicIdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceId;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceIdFactory;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRootFactory;
+import com.navercorp.pinpoint.profiler.context.id.DefaultTransactionCounter;
+import com.navercorp.pinpoint.profiler.context.id.IdGenerator;
+import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.id.TraceRootFactory;
+import com.navercorp.pinpoint.profiler.context.id.TransactionCounter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TailSamplingStorageFactoryTest {
+
+    private static final long THRESHOLD = 1000;
+
+    private final String agentId = "agentId";
+    private final long agentStartTime = System.currentTimeMillis();
+
+    private final RecordingStorageFactory recordingStorageFactory = new RecordingStorageFactory();
+
+    private TraceRoot newTraceRoot() {
+        TraceId traceId = new DefaultTraceId(agentId, agentStartTime, 100);
+        return new DefaultTraceRoot(traceId, agentId, agentStartTime, 100);
+    }
+
+    private Span newSpan(TraceRoot traceRoot, int elapsed) {
+        Span span = new Span(traceRoot);
+        span.setElapsed(elapsed);
+        return span;
+    }
+
+    @Test
+    public void fastTrace_discard() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage storage = factory.createStorage(traceRoot);
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(new SpanEvent(traceRoot));
+        // budget is reserved a chunk at a time
+        Assert.assertEquals(TailSamplingStorageFactory.RESERVE_CHUNK_SIZE, factory.getBufferedEventCount());
+
+        storage.store(newSpan(traceRoot, 10));
+        storage.close();
+
+        Assert.assertEquals(0, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(0, recordingStorageFactory.spanList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+        Assert.assertEquals(1, factory.getDiscardCount());
+        Assert.assertEquals(0, factory.getPromoteCount());
+    }
+
+    @Test
+    public void slowTrace_promote() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage storage = factory.createStorage(traceRoot);
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(newSpan(traceRoot, 2000));
+        storage.close();
+
+        Assert.assertEquals(2, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, recordingStorageFactory.spanList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+        Assert.assertEquals(1, factory.getPromoteCount());
+    }
+
+    @Test
+    public void errorTrace_promote() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage storage = factory.createStorage(traceRoot);
+        storage.store(new SpanEvent(traceRoot));
+        traceRoot.getShared().maskErrorCode(1);
+        storage.store(newSpan(traceRoot, 10));
+        storage.close();
+
+        Assert.assertEquals(1, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, recordingStorageFactory.spanList.size());
+    }
+
+    @Test
+    public void sampledTrace_delegate() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = newTraceRoot();
+
+        Storage storage = factory.createStorage(traceRoot);
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(newSpan(traceRoot, 10));
+
+        Assert.assertEquals(1, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, recordingStorageFactory.spanList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+    }
+
+    @Test
+    public void overflow_keepSpanOnly() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 2);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage storage = factory.createStorage(traceRoot);
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(new SpanEvent(traceRoot));
+        storage.store(new SpanEvent(traceRoot));
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+        Assert.assertEquals(1, factory.getOverflowCount());
+
+        storage.store(newSpan(traceRoot, 2000));
+        storage.close();
+
+        Assert.assertEquals(0, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, recordingStorageFactory.spanList.size());
+    }
+
+    @Test
+    public void asyncChild_beforeRoot() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage rootStorage = factory.createStorage(traceRoot);
+        Storage childStorage = factory.createStorage(traceRoot);
+        childStorage.store(new SpanEvent(traceRoot));
+        childStorage.flush();
+        childStorage.close();
+        Assert.assertEquals(0, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, factory.getBufferedEventCount());
+
+        rootStorage.store(newSpan(traceRoot, 2000));
+        rootStorage.close();
+
+        Assert.assertEquals(1, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(1, recordingStorageFactory.spanList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+    }
+
+    @Test
+    public void asyncChild_afterRoot() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage rootStorage = factory.createStorage(traceRoot);
+        rootStorage.store(newSpan(traceRoot, 10));
+        rootStorage.close();
+
+        Storage childStorage = factory.createStorage(traceRoot);
+        childStorage.store(new SpanEvent(traceRoot));
+        childStorage.flush();
+        childStorage.close();
+
+        Assert.assertEquals(0, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(0, recordingStorageFactory.spanList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+    }
+
+    @Test
+    public void rootClosedWithoutSpan_discardChild() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage rootStorage = factory.createStorage(traceRoot);
+        Storage childStorage = factory.createStorage(traceRoot);
+        childStorage.store(new SpanEvent(traceRoot));
+        childStorage.flush();
+        rootStorage.store(new SpanEvent(traceRoot));
+        rootStorage.close();
+        childStorage.close();
+
+        Assert.assertEquals(0, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+    }
+
+    @Test
+    public void reserve_acrossChunks() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(newTraceRoot());
+
+        Storage storage = factory.createStorage(traceRoot);
+        final int eventCount = TailSamplingStorageFactory.RESERVE_CHUNK_SIZE + 8;
+        for (int i = 0; i < eventCount; i++) {
+            storage.store(new SpanEvent(traceRoot));
+        }
+        Assert.assertEquals(0, factory.getOverflowCount());
+
+        storage.store(newSpan(traceRoot, 2000));
+        storage.close();
+
+        Assert.assertEquals(eventCount, recordingStorageFactory.spanEventList.size());
+        Assert.assertEquals(0, factory.getBufferedEventCount());
+    }
+
+    @Test
+    public void candidate_countedAsUnsampled() {
+        TailSamplingStorageFactory factory = new TailSamplingStorageFactory(recordingStorageFactory, THRESHOLD, 100);
+        IdGenerator idGenerator = new AtomicIdGenerator();
+        TransactionCounter transactionCounter = new DefaultTransactionCounter(idGenerator);
+        TraceRootFactory traceRootFactory = new DefaultTraceRootFactory(agentId, new DefaultTraceIdFactory(agentId, agentStartTime), idGenerator);
+
+        TraceRoot traceRoot = factory.newCandidateTraceRoot(traceRootFactory);
+
+        Assert.assertEquals(0, transactionCounter.getSampledNewCount());
+        Assert.assertEquals(1, transactionCounter.getUnSampledNewCount());
+        Assert.assertTrue(TailSamplingStorageFactory.isCandidate(traceRoot.getTraceId()));
+        Assert.assertTrue(TailSamplingStorageFactory.isCandidate(traceRoot.getTraceId().getNextTraceId()));
+        Assert.assertFalse(TailSamplingStorageFactory.isCandidate(newTraceRoot().getTraceId()));
+    }
+
+    private static class RecordingStorageFactory implements StorageFactory {
+
+        private final List<SpanEvent> spanEventList = new ArrayList<SpanEvent>();
+        private final List<Span> spanList = new ArrayList<Span>();
+
+        @Override
+        public Storage createStorage(TraceRoot traceRoot) {
+            return new Storage() {
+                @Override
+                public void store(SpanEvent spanEvent) {
+                    spanEventList.add(spanEvent);
+                }
+
+                @Override
+                public void store(Span span) {
+                    spanList.add(span);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
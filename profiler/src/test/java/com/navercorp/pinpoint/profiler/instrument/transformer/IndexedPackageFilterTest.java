@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexedPackageFilterTest {
+
+    @Test
+    public void mightMatch() {
+        IndexedPackageFilter filter = new IndexedPackageFilter();
+        filter.addPackageName("com/mysql/jdbc");
+        filter.addClassName("org/apache/catalina/core/StandardHostValve");
+        filter.addClassName("DefaultPackageClass");
+
+        Assert.assertTrue(filter.mightMatch("com/mysql/jdbc/Driver"));
+        Assert.assertTrue(filter.mightMatch("org/apache/catalina/core/StandardHostValve"));
+        Assert.assertTrue(filter.mightMatch("DefaultPackageClass"));
+
+        Assert.assertFalse(filter.mightMatch("java/lang/String"));
+        Assert.assertFalse(filter.mightMatch("sun/misc/Unsafe"));
+    }
+
+    @Test
+    public void mightMatch_topLevelPrefix() {
+        IndexedPackageFilter filter = new IndexedPackageFilter();
+        filter.addPackageName("co");
+
+        Assert.assertTrue(filter.mightMatch("com/mysql/jdbc/Driver"));
+        Assert.assertTrue(filter.mightMatch("java/lang/String"));
+    }
+}
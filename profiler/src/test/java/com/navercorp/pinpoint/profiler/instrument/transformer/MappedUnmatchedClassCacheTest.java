@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+public class MappedUnmatchedClassCacheTest {
+
+    private static final long FINGERPRINT = 1234L;
+
+    private final byte[] classFileBuffer = {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 50};
+
+    @Test
+    public void putAndContains() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertFalse(cache.contains("com/foo/Bar", classFileBuffer));
+
+            cache.put("com/foo/Bar", classFileBuffer);
+            Assert.assertTrue(cache.contains("com/foo/Bar", classFileBuffer));
+            Assert.assertFalse(cache.contains("com/foo/Baz", classFileBuffer));
+            // same name, modified class
+            Assert.assertFalse(cache.contains("com/foo/Bar", new byte[]{1, 2, 3}));
+
+            cache.put("com/foo/Bar", classFileBuffer);
+            Assert.assertEquals(1, cache.size());
+            cache.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void reopen() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+            cache.close();
+
+            MappedUnmatchedClassCache reopened = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertTrue(reopened.isPersistent());
+            Assert.assertEquals(1, reopened.size());
+            Assert.assertTrue(reopened.contains("com/foo/Bar", classFileBuffer));
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void reopen_fingerprintChanged() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+            cache.close();
+
+            MappedUnmatchedClassCache reopened = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT + 1);
+            Assert.assertEquals(0, reopened.size());
+            Assert.assertFalse(reopened.contains("com/foo/Bar", classFileBuffer));
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void reopen_notClosed() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+            cache.close();
+            // crashed while open
+            writeInt(file, 20, MappedUnmatchedClassCache.STATE_OPEN);
+
+            MappedUnmatchedClassCache reopened = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertEquals(0, reopened.size());
+            Assert.assertFalse(reopened.contains("com/foo/Bar", classFileBuffer));
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void reopen_corruptedSlot() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+            cache.put("com/foo/Baz", classFileBuffer);
+            cache.close();
+            // stale slot
+            final long slotOffset = findSlot(file, cache.getCapacity());
+            writeInt(file, slotOffset, 0x12345678);
+
+            MappedUnmatchedClassCache reopened = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertEquals(0, reopened.size());
+            Assert.assertFalse(reopened.contains("com/foo/Bar", classFileBuffer));
+            Assert.assertFalse(reopened.contains("com/foo/Baz", classFileBuffer));
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void locked() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+
+            MappedUnmatchedClassCache other = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertFalse(other.isPersistent());
+            Assert.assertFalse(other.contains("com/foo/Bar", classFileBuffer));
+            other.put("com/foo/Baz", classFileBuffer);
+            Assert.assertTrue(other.contains("com/foo/Baz", classFileBuffer));
+            other.close();
+
+            Assert.assertFalse(cache.contains("com/foo/Baz", classFileBuffer));
+            cache.close();
+
+            MappedUnmatchedClassCache reopened = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            Assert.assertEquals(1, reopened.size());
+            Assert.assertTrue(reopened.contains("com/foo/Bar", classFileBuffer));
+            reopened.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void put_closed() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            cache.put("com/foo/Bar", classFileBuffer);
+            cache.close();
+
+            cache.put("com/foo/Baz", classFileBuffer);
+            Assert.assertTrue(cache.contains("com/foo/Bar", classFileBuffer));
+            Assert.assertFalse(cache.contains("com/foo/Baz", classFileBuffer));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void put_full() throws IOException {
+        File file = newCacheFile();
+        try {
+            MappedUnmatchedClassCache cache = new MappedUnmatchedClassCache(file, 1024, FINGERPRINT);
+            for (int i = 0; i < cache.getCapacity(); i++) {
+                cache.put("com/foo/Bar" + i, classFileBuffer);
+            }
+            Assert.assertEquals(cache.getCapacity() * 3 / 4, cache.size());
+            Assert.assertTrue(cache.contains("com/foo/Bar0", classFileBuffer));
+            cache.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    private long findSlot(File file, int capacity) throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            for (int i = 0; i < capacity; i++) {
+                final long offset = MappedUnmatchedClassCache.HEADER_SIZE + i * 8L;
+                randomAccessFile.seek(offset);
+                if (randomAccessFile.readLong() != 0) {
+                    return offset;
+                }
+            }
+        } finally {
+            randomAccessFile.close();
+        }
+        throw new AssertionError("no slot");
+    }
+
+    private void writeInt(File file, long offset, int value) throws IOException {
+        final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            randomAccessFile.seek(offset);
+            randomAccessFile.writeInt(value);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    private File newCacheFile() throws IOException {
+        File file = File.createTempFile("unmatched", ".cache");
+        Assert.assertTrue(file.delete());
+        return file;
+    }
+}
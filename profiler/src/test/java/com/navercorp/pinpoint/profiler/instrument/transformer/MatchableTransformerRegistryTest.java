@@ -16,10 +16,21 @@
 
 package com.navercorp.pinpoint.profiler.instrument.transformer;
 
+import com.navercorp.pinpoint.bootstrap.config.DefaultProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.Matchers;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.InterfaceInternalNameMatcherOperand;
 import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.MatcherOperand;
+import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.SuperClassInternalNameMatcherOperand;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 
@@ -36,6 +47,90 @@ public class MatchableTransformerRegistryTest {
         value.accumulatorTime(startTime);
     }
 
+    @Test
+    public void unmatched_classLoaderDependent() throws Exception {
+        final MemoryUnmatchedClassCache cache = new MemoryUnmatchedClassCache();
+        final MatchableTransformerRegistry registry = new MatchableTransformerRegistry(new DefaultProfilerConfig(), cache);
+        final ClassFileTransformer transformer = new MockClassFileTransformer();
+        registry.addTransformer(Matchers.newPackageBasedMatcher(PACKAGE_NAME, new SuperClassInternalNameMatcherOperand(Base.class.getName(), true)), transformer);
+
+        final String classInternalName = toInternalName(Child.class);
+        final byte[] classFileBuffer = readClassFile(Child.class);
+
+        // the super class of the super class is not found.
+        final ClassLoader classLoaderA = new ClassLoader(null) {
+        };
+        Assert.assertNull(registry.findTransformer(classLoaderA, classInternalName, classFileBuffer));
+        Assert.assertFalse(cache.contains(classInternalName, classFileBuffer));
+
+        final ClassLoader classLoaderB = Child.class.getClassLoader();
+        Assert.assertSame(transformer, registry.findTransformer(classLoaderB, classInternalName, classFileBuffer));
+    }
+
+    @Test
+    public void unmatched_classLoaderIndependent() throws Exception {
+        final MemoryUnmatchedClassCache cache = new MemoryUnmatchedClassCache();
+        final MatchableTransformerRegistry registry = new MatchableTransformerRegistry(new DefaultProfilerConfig(), cache);
+        registry.addTransformer(Matchers.newPackageBasedMatcher(PACKAGE_NAME, new InterfaceInternalNameMatcherOperand(Runnable.class.getName(), false)), new MockClassFileTransformer());
+
+        final String classInternalName = toInternalName(Child.class);
+        final byte[] classFileBuffer = readClassFile(Child.class);
+
+        Assert.assertNull(registry.findTransformer(Child.class.getClassLoader(), classInternalName, classFileBuffer));
+        Assert.assertTrue(cache.contains(classInternalName, classFileBuffer));
+    }
+
+    private static final String PACKAGE_NAME = MatchableTransformerRegistryTest.class.getPackage().getName();
+
+    private static String toInternalName(Class<?> clazz) {
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static byte[] readClassFile(Class<?> clazz) throws IOException {
+        final InputStream inputStream = clazz.getClassLoader().getResourceAsStream(toInternalName(clazz) + ".class");
+        try {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    public static class Base {
+    }
+
+    public static class Middle extends Base {
+    }
+
+    public static class Child extends Middle {
+    }
+
+    static class MemoryUnmatchedClassCache implements UnmatchedClassCache {
+        private final Set<Long> keys = new HashSet<Long>();
+
+        @Override
+        public boolean contains(String classInternalName, byte[] classFileBuffer) {
+            return keys.contains(MappedUnmatchedClassCache.key(classInternalName, classFileBuffer));
+        }
+
+        @Override
+        public void put(String classInternalName, byte[] classFileBuffer) {
+            keys.add(MappedUnmatchedClassCache.key(classInternalName, classFileBuffer));
+        }
+    }
+
+    static class MockClassFileTransformer implements ClassFileTransformer {
+        @Override
+        public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+            return null;
+        }
+    }
+
 
     class IndexValue {
         final MatcherOperand operand;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.transformer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class PackageNameTrieTest {
+
+    @Test
+    public void find() {
+        PackageNameTrie<String> trie = new PackageNameTrie<String>();
+        trie.put("com/mysql/jdbc", "mysql");
+        trie.put("com/mysql", "mysql-all");
+        trie.put("com/microsoft/sqlserver", "mssql");
+        trie.put("org/apache/catalina", "tomcat");
+        trie.put("org/apache/catalina", "tomcat-2");
+
+        Assert.assertEquals(Arrays.asList("mysql-all", "mysql"), find(trie, "com/mysql/jdbc/Driver"));
+        Assert.assertEquals(Collections.singletonList("mysql-all"), find(trie, "com/mysql/cj/Driver"));
+        Assert.assertEquals(Collections.singletonList("mssql"), find(trie, "com/microsoft/sqlserver/jdbc/SQLServerDriver"));
+        Assert.assertEquals(Arrays.asList("tomcat", "tomcat-2"), find(trie, "org/apache/catalina/core/StandardHostValve"));
+
+        Assert.assertEquals(Collections.emptyList(), find(trie, "com/microsoft/Foo"));
+        Assert.assertEquals(Collections.emptyList(), find(trie, "com/my"));
+        Assert.assertEquals(Collections.emptyList(), find(trie, "java/lang/String"));
+        Assert.assertEquals(5, trie.size());
+    }
+
+    @Test
+    public void find_startsWith() {
+        PackageNameTrie<String> trie = new PackageNameTrie<String>();
+        trie.put("com/foo", "foo");
+
+        // same as String.startsWith()
+        Assert.assertEquals(Collections.singletonList("foo"), find(trie, "com/foo"));
+        Assert.assertEquals(Collections.singletonList("foo"), find(trie, "com/foobar/Baz"));
+        Assert.assertEquals(Collections.emptyList(), find(trie, "com/fo"));
+    }
+
+    @Test
+    public void put_sameLength() {
+        PackageNameTrie<String> trie = new PackageNameTrie<String>();
+        trie.put("com/aaa", "a");
+        trie.put("com/bbb", "b");
+
+        Assert.assertEquals(Collections.singletonList("a"), find(trie, "com/aaa/A"));
+        Assert.assertEquals(Collections.singletonList("b"), find(trie, "com/bbb/B"));
+        Assert.assertEquals(Arrays.asList("com/aaa", "com/bbb"), trie.keys());
+    }
+
+    @Test
+    public void put_duplicate() {
+        PackageNameTrie<String> trie = new PackageNameTrie<String>();
+        trie.put("com/foo", "foo");
+        trie.put("com/foo", "foo");
+
+        Assert.assertEquals(1, trie.size());
+        Assert.assertEquals(Collections.singletonList("foo"), find(trie, "com/foo/Bar"));
+    }
+
+    private List<String> find(PackageNameTrie<String> trie, String classInternalName) {
+        List<String> result = new ArrayList<String>();
+        trie.find(classInternalName, result);
+        return result;
+    }
+}
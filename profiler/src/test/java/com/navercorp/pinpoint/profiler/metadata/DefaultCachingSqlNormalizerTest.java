@@ -60,4 +60,18 @@ public class DefaultCachingSqlNormalizerTest {
         boolean newCache_parsingResult1_recached = normalizer.normalizedSql(parsingResult1_recached);
         Assert.assertTrue(newCache_parsingResult1_recached);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNormalizedSql_collapseList() throws Exception {
+        CachingSqlNormalizer normalizer = new DefaultCachingSqlNormalizer(10, true);
+        ParsingResult parsingResult = normalizer.wrapSql("select * from table1 where id in (1, 2)");
+        Assert.assertTrue(normalizer.normalizedSql(parsingResult));
+        Assert.assertEquals("select * from table1 where id in (0#)", parsingResult.getSql());
+        Assert.assertEquals("1,, 2", parsingResult.getOutput());
+
+        ParsingResult longerList = normalizer.wrapSql("select * from table1 where id in (1, 2, 3)");
+        Assert.assertFalse(normalizer.normalizedSql(longerList));
+        Assert.assertEquals(parsingResult.getId(), longerList.getId());
+        Assert.assertEquals("1,, 2,, 3", longerList.getOutput());
+    }
+}
@@ -59,4 +59,52 @@ public class SimpleCacheTest {
         Assert.assertTrue(newValue.isNewValue());
 
     }
+
+    @Test
+    public void statistics() {
+        SimpleCache<String> cache = new SimpleCache<String>();
+        cache.put("a");
+        cache.put("a");
+        cache.put("a");
+        cache.put("b");
+
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        Assert.assertEquals(0, cache.getResendCount());
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1024, cache.getCacheSize());
+    }
+
+    @Test
+    public void resend() {
+        SimpleCache<String> cache = new SimpleCache<String>(1);
+        cache.put("a");
+        cache.put("b");
+        Assert.assertEquals(1, cache.getEvictionCount());
+
+        Result resend = cache.put("a");
+        Assert.assertTrue(resend.isNewValue());
+        Assert.assertEquals(1, cache.getResendCount());
+    }
+
+    @Test
+    public void grow() {
+        SimpleCache<String> cache = new SimpleCache<String>(2);
+        Result a = cache.put("a");
+        Result b = cache.put("b");
+
+        Assert.assertFalse(cache.grow(2));
+        Assert.assertTrue(cache.grow(4));
+        Assert.assertEquals(4, cache.getCacheSize());
+
+        Result recheckA = cache.put("a");
+        Assert.assertFalse(recheckA.isNewValue());
+        Assert.assertEquals(a.getId(), recheckA.getId());
+        Assert.assertEquals(b.getId(), cache.put("b").getId());
+
+        Assert.assertTrue(cache.put("c").isNewValue());
+        Assert.assertTrue(cache.put("d").isNewValue());
+        Assert.assertEquals(4, cache.size());
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.metadata;
+
+import com.navercorp.pinpoint.profiler.metadata.SimpleCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefaultMetaDataCacheMetricTest {
+
+    @Test
+    public void getSnapshot_delta() {
+        SimpleCache<String> apiCache = new SimpleCache<String>();
+        DefaultMetaDataCacheMetric metric = new DefaultMetaDataCacheMetric(null, apiCache, null);
+
+        apiCache.put("a");
+        apiCache.put("a");
+        MetaDataCacheMetricSnapshot snapshot = metric.getSnapshot();
+        Assert.assertNull(snapshot.getSqlCache());
+        Assert.assertNull(snapshot.getStringCache());
+        Assert.assertEquals(1, snapshot.getApiCache().getHitCount());
+        Assert.assertEquals(1, snapshot.getApiCache().getMissCount());
+        Assert.assertEquals(1024, snapshot.getApiCache().getCacheSize());
+
+        apiCache.put("a");
+        snapshot = metric.getSnapshot();
+        Assert.assertEquals(1, snapshot.getApiCache().getHitCount());
+        Assert.assertEquals(0, snapshot.getApiCache().getMissCount());
+    }
+
+    @Test
+    public void autoGrow() {
+        SimpleCache<String> stringCache = new SimpleCache<String>(1);
+        final long memoryBudget = 4 * DefaultMetaDataCacheMetric.STRING_CACHE_ENTRY_SIZE;
+        DefaultMetaDataCacheMetric metric = new DefaultMetaDataCacheMetric(null, null, stringCache, memoryBudget);
+
+        metric.getSnapshot();
+        Assert.assertEquals("no resend", 1, stringCache.getCacheSize());
+
+        resend(stringCache);
+        metric.getSnapshot();
+        Assert.assertEquals(2, stringCache.getCacheSize());
+
+        resend(stringCache);
+        metric.getSnapshot();
+        Assert.assertEquals(4, stringCache.getCacheSize());
+
+        resend(stringCache);
+        metric.getSnapshot();
+        Assert.assertEquals("memory budget exceeded", 4, stringCache.getCacheSize());
+    }
+
+    @Test
+    public void autoGrow_disabled() {
+        SimpleCache<String> stringCache = new SimpleCache<String>(1);
+        DefaultMetaDataCacheMetric metric = new DefaultMetaDataCacheMetric(null, null, stringCache);
+
+        resend(stringCache);
+        MetaDataCacheMetricSnapshot snapshot = metric.getSnapshot();
+        Assert.assertTrue(snapshot.getStringCache().getResendCount() > 0);
+        Assert.assertEquals(1, stringCache.getCacheSize());
+    }
+
+    private void resend(SimpleCache<String> cache) {
+        final int cacheSize = cache.getCacheSize();
+        for (int i = 0; i <= cacheSize; i++) {
+            cache.put("value" + i);
+        }
+        for (int i = 0; i <= cacheSize; i++) {
+            cache.put("value" + i);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.navercorp.pinpoint.bootstrap.instrument.InstrumentContext;
 import com.navercorp.pinpoint.bootstrap.plugin.monitor.DataSourceMonitorRegistry;
 import com.navercorp.pinpoint.profiler.instrument.ScopeInfo;
 import com.navercorp.pinpoint.profiler.interceptor.factory.ExceptionHandlerFactory;
+import com.navercorp.pinpoint.profiler.interceptor.factory.InterceptorOverheadMeterFactory;
 import com.navercorp.pinpoint.profiler.metadata.ApiMetaDataService;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +57,7 @@ public class AnnotatedInterceptorFactoryTest {
     private final MethodDescriptor descriptor = mock(MethodDescriptor.class);
 
     private final ExceptionHandlerFactory exceptionHandlerFactory = new ExceptionHandlerFactory(false);
+    private final InterceptorOverheadMeterFactory interceptorOverheadMeterFactory = new InterceptorOverheadMeterFactory();
 
     @Before
     public void setUp() {
@@ -75,7 +77,7 @@ public class AnnotatedInterceptorFactoryTest {
     }
 
     private AnnotatedInterceptorFactory newAnnotatedInterceptorFactory() {
-        return new AnnotatedInterceptorFactory(profilerConfig, traceContext, dataSourceMonitorRegistry, apiMetaDataService, pluginContext, exceptionHandlerFactory);
+        return new AnnotatedInterceptorFactory(profilerConfig, traceContext, dataSourceMonitorRegistry, apiMetaDataService, pluginContext, exceptionHandlerFactory, interceptorOverheadMeterFactory);
     }
 
     private ScopeInfo newEmptyScopeInfo() {
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.profiler.plugin;
+
+import com.navercorp.pinpoint.common.plugin.JarPlugin;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Collections;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+public class PluginConfigTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void getPluginName() throws Exception {
+        File file = temporaryFolder.newFile("pinpoint-test-plugin-1.0.0.jar");
+        new JarOutputStream(new FileOutputStream(file)).close();
+
+        JarFile jarFile = new JarFile(file);
+        try {
+            JarPlugin<Object> plugin = new JarPlugin<Object>(file.toURI().toURL(), jarFile, Collections.<Object>emptyList(), Collections.<String>emptyList());
+            PluginConfig pluginConfig = new PluginConfig(plugin, null);
+
+            Assert.assertEquals("pinpoint-test-plugin-1.0.0", pluginConfig.getPluginName());
+        } finally {
+            jarFile.close();
+        }
+    }
+}
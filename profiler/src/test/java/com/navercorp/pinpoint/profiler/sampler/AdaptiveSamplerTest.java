@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveSamplerTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void lowTraffic_sampleAll() {
+        AdaptiveSampler sampler = new AdaptiveSampler(10, INTERVAL, 0);
+        long time = 0;
+        for (int second = 0; second < 5; second++) {
+            Assert.assertEquals(5, sample(sampler, time, 5));
+            time += INTERVAL;
+        }
+        Assert.assertEquals(1, sampler.getSamplingRate());
+    }
+
+    @Test
+    public void burst_boundedByBudget() {
+        AdaptiveSampler sampler = new AdaptiveSampler(10, INTERVAL, 0);
+        Assert.assertEquals(10, sample(sampler, 0, 10000));
+    }
+
+    @Test
+    public void highTraffic_adaptRate() {
+        AdaptiveSampler sampler = new AdaptiveSampler(10, INTERVAL, 0);
+        long time = 0;
+        for (int second = 0; second < 10; second++) {
+            int sampled = sample(sampler, time, 1000);
+            Assert.assertTrue("sampled:" + sampled, sampled <= 10);
+            time += INTERVAL;
+        }
+        // 1000 requests per second / 10 traces per second
+        final int samplingRate = sampler.getSamplingRate();
+        Assert.assertTrue("samplingRate:" + samplingRate, samplingRate >= 90 && samplingRate <= 110);
+        Assert.assertTrue(sample(sampler, time, 1000) >= 5);
+
+        // traffic drops. sample all again
+        for (int second = 0; second < 20; second++) {
+            time += INTERVAL;
+            sample(sampler, time, 5);
+        }
+        Assert.assertEquals(1, sampler.getSamplingRate());
+    }
+
+    @Test
+    public void samplerFactory() {
+        SamplerFactory samplerFactory = new SamplerFactory();
+        Assert.assertTrue(samplerFactory.createAdaptiveSampler(true, 10) instanceof AdaptiveSampler);
+        Assert.assertFalse(samplerFactory.createAdaptiveSampler(true, 0).isSampling());
+        Assert.assertFalse(samplerFactory.createAdaptiveSampler(false, 10).isSampling());
+    }
+
+    @Test
+    public void stripeCount() {
+        Assert.assertEquals(2, StripedCounter.stripeCount(1));
+        Assert.assertEquals(8, StripedCounter.stripeCount(3));
+        Assert.assertEquals(64, StripedCounter.stripeCount(256));
+    }
+
+    private int sample(AdaptiveSampler sampler, long time, int requests) {
+        int sampled = 0;
+        for (int i = 0; i < requests; i++) {
+            if (sampler.isSampling(time + i)) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
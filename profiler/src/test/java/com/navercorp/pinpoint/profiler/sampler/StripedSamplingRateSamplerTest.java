@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sampler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StripedSamplingRateSamplerTest {
+
+    @Test
+    public void samplingRate() {
+        StripedSamplingRateSampler sampler = new StripedSamplingRateSampler(3, new StripedCounter(1));
+        Assert.assertTrue(sampler.isSampling());
+        Assert.assertFalse(sampler.isSampling());
+        Assert.assertFalse(sampler.isSampling());
+        Assert.assertTrue(sampler.isSampling());
+    }
+
+    @Test
+    public void samplingRate_multiThread() throws InterruptedException {
+        final int samplingRate = 10;
+        final int requestCount = 10000;
+        final StripedSamplingRateSampler sampler = new StripedSamplingRateSampler(samplingRate, new StripedCounter(4));
+        final AtomicInteger sampled = new AtomicInteger();
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int request = 0; request < requestCount; request++) {
+                        if (sampler.isSampling()) {
+                            sampled.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // each stripe may sample one request more than its exact share
+        final int expected = threads.length * requestCount / samplingRate;
+        Assert.assertTrue("sampled:" + sampled, sampled.get() >= expected);
+        Assert.assertTrue("sampled:" + sampled, sampled.get() <= expected + 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void stripeCount_notPowerOfTwo() {
+        new StripedCounter(3);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class MappedSpillQueueTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+    private static final int SEGMENT_COUNT = 4;
+
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = File.createTempFile("spill", "test");
+        Assert.assertTrue(directory.delete());
+        Assert.assertTrue(directory.mkdirs());
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void offerAndPoll() {
+        MappedSpillQueue queue = new MappedSpillQueue(directory, SEGMENT_SIZE, SEGMENT_COUNT);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                Assert.assertTrue(queue.offer(record(i, i % 300 + 1)));
+                Assert.assertArrayEquals(record(i, i % 300 + 1), queue.poll());
+            }
+            Assert.assertNull(queue.poll());
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void bounded() {
+        MappedSpillQueue queue = new MappedSpillQueue(directory, SEGMENT_SIZE, SEGMENT_COUNT);
+        try {
+            Assert.assertFalse(queue.offer(new byte[SEGMENT_SIZE]));
+
+            int count = 0;
+            while (queue.offer(record(count, 100))) {
+                count++;
+            }
+            // 9 records per segment
+            Assert.assertEquals(9 * SEGMENT_COUNT, count);
+            Assert.assertEquals(count, queue.size());
+
+            for (int i = 0; i < count; i++) {
+                Assert.assertArrayEquals(record(i, 100), queue.poll());
+            }
+            Assert.assertNull(queue.poll());
+        } finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void recoverFromCheckpoint() {
+        MappedSpillQueue queue = new MappedSpillQueue(directory, SEGMENT_SIZE, SEGMENT_COUNT);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(queue.offer(record(i, 100)));
+        }
+        for (int i = 0; i < 12; i++) {
+            Assert.assertArrayEquals(record(i, 100), queue.poll());
+        }
+        queue.close();
+
+        queue = new MappedSpillQueue(directory, SEGMENT_SIZE, SEGMENT_COUNT);
+        try {
+            Assert.assertEquals(8, queue.size());
+            for (int i = 12; i < 20; i++) {
+                Assert.assertArrayEquals(record(i, 100), queue.poll());
+            }
+            Assert.assertNull(queue.poll());
+        } finally {
+            queue.close();
+        }
+    }
+
+    private byte[] record(int index, int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) index);
+        bytes[0] = (byte) (index >>> 8);
+        return bytes;
+    }
+}
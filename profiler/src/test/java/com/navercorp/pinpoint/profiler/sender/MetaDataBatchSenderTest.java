@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import com.navercorp.pinpoint.rpc.FutureListener;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
+import com.navercorp.pinpoint.rpc.client.PinpointClientReconnectEventListener;
+import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
+import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataBatch;
+import com.navercorp.pinpoint.thrift.dto.TSqlMetaData;
+import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
+import org.apache.thrift.TBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class MetaDataBatchSenderTest {
+
+    private static final long LONG_FLUSH_INTERVAL = 60 * 1000;
+
+    @Test
+    public void flushOnBatchSize() {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 3, LONG_FLUSH_INTERVAL);
+        try {
+            sender.request(new TSqlMetaData());
+            sender.request(new TApiMetaData());
+            Assert.assertTrue(recordingDataSender.requests.isEmpty());
+            Assert.assertEquals(2, sender.getPendingCount());
+
+            sender.request(new TStringMetaData());
+            Assert.assertEquals(1, recordingDataSender.requests.size());
+            TMetaDataBatch metaDataBatch = (TMetaDataBatch) recordingDataSender.requests.get(0);
+            Assert.assertEquals(1, metaDataBatch.getSqlMetaDataListSize());
+            Assert.assertEquals(1, metaDataBatch.getApiMetaDataListSize());
+            Assert.assertEquals(1, metaDataBatch.getStringMetaDataListSize());
+            Assert.assertEquals(0, sender.getPendingCount());
+        } finally {
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void flush_splitBatch() {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 4, LONG_FLUSH_INTERVAL);
+        try {
+            for (int i = 0; i < 3; i++) {
+                sender.request(new TSqlMetaData());
+            }
+            sender.flush();
+            Assert.assertEquals(1, recordingDataSender.requests.size());
+            Assert.assertEquals(3, ((TMetaDataBatch) recordingDataSender.requests.get(0)).getSqlMetaDataListSize());
+
+            // nothing pending
+            sender.flush();
+            Assert.assertEquals(1, recordingDataSender.requests.size());
+        } finally {
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void flushOnInterval() throws InterruptedException {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 100, 10);
+        try {
+            sender.request(new TSqlMetaData());
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (recordingDataSender.requests.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1, recordingDataSender.requests.size());
+        } finally {
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void passThrough() {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 100, LONG_FLUSH_INTERVAL);
+        try {
+            TAgentInfo agentInfo = new TAgentInfo();
+            sender.request(agentInfo);
+            Assert.assertEquals(1, recordingDataSender.requests.size());
+            Assert.assertSame(agentInfo, recordingDataSender.requests.get(0));
+            Assert.assertEquals(0, sender.getPendingCount());
+        } finally {
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void stop_flushPending() {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 100, LONG_FLUSH_INTERVAL);
+        sender.request(new TSqlMetaData());
+        sender.request(new TSqlMetaData());
+        sender.stop();
+
+        Assert.assertEquals(1, recordingDataSender.requests.size());
+        Assert.assertEquals(2, ((TMetaDataBatch) recordingDataSender.requests.get(0)).getSqlMetaDataListSize());
+        Assert.assertTrue(recordingDataSender.stopped);
+    }
+
+    @Test
+    public void stop_rejectRequest() {
+        RecordingDataSender recordingDataSender = new RecordingDataSender();
+        MetaDataBatchSender sender = new MetaDataBatchSender(recordingDataSender, 100, LONG_FLUSH_INTERVAL);
+        sender.stop();
+
+        Assert.assertFalse(sender.request(new TSqlMetaData()));
+        Assert.assertEquals(0, sender.getPendingCount());
+        Assert.assertTrue(recordingDataSender.requests.isEmpty());
+    }
+
+    private static class RecordingDataSender implements EnhancedDataSender {
+
+        private final List<TBase<?, ?>> requests = new CopyOnWriteArrayList<TBase<?, ?>>();
+        private volatile boolean stopped;
+
+        @Override
+        public boolean request(TBase<?, ?> data) {
+            requests.add(data);
+            return true;
+        }
+
+        @Override
+        public boolean request(TBase<?, ?> data, int retry) {
+            return request(data);
+        }
+
+        @Override
+        public boolean request(TBase<?, ?> data, FutureListener<ResponseMessage> listener) {
+            return request(data);
+        }
+
+        @Override
+        public boolean addReconnectEventListener(PinpointClientReconnectEventListener eventListener) {
+            return false;
+        }
+
+        @Override
+        public boolean removeReconnectEventListener(PinpointClientReconnectEventListener eventListener) {
+            return false;
+        }
+
+        @Override
+        public boolean send(TBase<?, ?> data) {
+            return false;
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
@@ -18,9 +18,13 @@
 package com.navercorp.pinpoint.profiler.sender;
 
 import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializer;
+import com.navercorp.pinpoint.thrift.io.HeaderTBaseDeserializerFactory;
+import com.navercorp.pinpoint.thrift.io.PacketPacker;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.thrift.TBase;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -86,6 +90,38 @@ public class NioUdpDataSenderTest {
         }
     }
 
+    @Test
+    public void packedSendTest() throws Exception {
+        NioUDPDataSender sender = new NioUDPDataSender("localhost", PORT, "test", 128, 1000, 1024 * 64 * 100, AsyncQueueingExecutorConfig.DEFAULT, 1472);
+
+        final int sendMessageCount = 100;
+        for (int i = 0; i < sendMessageCount; i++) {
+            TAgentInfo agentInfo = new TAgentInfo();
+            agentInfo.setAgentId("agent-" + i);
+            sender.send(agentInfo);
+        }
+
+        HeaderTBaseDeserializer deserializer = new HeaderTBaseDeserializerFactory().createDeserializer();
+        byte[] receiveData = new byte[65535];
+        DatagramPacket datagramPacket = new DatagramPacket(receiveData, 0, receiveData.length);
+        int receiveMessageCount = 0;
+        try {
+            while (receiveMessageCount < sendMessageCount) {
+                receiver.receive(datagramPacket);
+                Assert.assertTrue(datagramPacket.getLength() <= 1472);
+                if (PacketPacker.isPacked(datagramPacket.getData(), datagramPacket.getOffset(), datagramPacket.getLength())) {
+                    receiveMessageCount += deserializer.deserializePacked(datagramPacket.getData(), datagramPacket.getOffset(), datagramPacket.getLength()).size();
+                } else {
+                    Assert.assertNotNull(deserializer.deserialize(datagramPacket.getData(), datagramPacket.getOffset(), datagramPacket.getLength()));
+                    receiveMessageCount++;
+                }
+            }
+        } finally {
+            sender.stop();
+        }
+        Assert.assertEquals(sendMessageCount, receiveMessageCount);
+    }
+
     @Test(expected = IOException.class)
     public void exceedMessageSendTest() throws InterruptedException, IOException {
         String random = RandomStringUtils.randomAlphabetic(UdpDataSender.UDP_MAX_PACKET_LENGTH + 100);
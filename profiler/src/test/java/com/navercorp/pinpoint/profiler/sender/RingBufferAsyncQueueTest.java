@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class RingBufferAsyncQueueTest {
+
+    @Test
+    public void capacity() {
+        Assert.assertEquals(2, new RingBufferAsyncQueue<Object>(1).getCapacity());
+        Assert.assertEquals(8, new RingBufferAsyncQueue<Object>(8).getCapacity());
+        Assert.assertEquals(16, new RingBufferAsyncQueue<Object>(9).getCapacity());
+    }
+
+    @Test
+    public void offer_full() {
+        RingBufferAsyncQueue<Integer> queue = new RingBufferAsyncQueue<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(queue.offer(i));
+        }
+        Assert.assertFalse(queue.offer(4));
+        Assert.assertEquals(4, queue.size());
+    }
+
+    @Test
+    public void drainTo() {
+        RingBufferAsyncQueue<Integer> queue = new RingBufferAsyncQueue<Integer>(4);
+        List<Integer> drain = new ArrayList<Integer>();
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                Assert.assertTrue(queue.offer(i));
+            }
+            drain.clear();
+            Assert.assertEquals(3, queue.drainTo(drain, 3));
+            Assert.assertEquals(1, queue.drainTo(drain, 3));
+            Assert.assertEquals(0, queue.drainTo(drain, 3));
+
+            Assert.assertEquals(4, drain.size());
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(Integer.valueOf(i), drain.get(i));
+            }
+            Assert.assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void poll_timeout() throws InterruptedException {
+        RingBufferAsyncQueue<Integer> queue = new RingBufferAsyncQueue<Integer>(4, WaitStrategy.PARK);
+        Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        queue.offer(1);
+        Assert.assertEquals(Integer.valueOf(1), queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void multiProducer() throws Exception {
+        final int producerCount = 4;
+        final int dataCount = 10000;
+        final RingBufferAsyncQueue<Integer> queue = new RingBufferAsyncQueue<Integer>(128, WaitStrategy.YIELD);
+
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+        try {
+            for (int producer = 0; producer < producerCount; producer++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < dataCount; i++) {
+                            while (!queue.offer(i)) {
+                                Thread.yield();
+                            }
+                        }
+                    }
+                });
+            }
+            startLatch.countDown();
+
+            long sum = 0;
+            for (int i = 0; i < producerCount * dataCount; i++) {
+                Integer data = queue.poll(5, TimeUnit.SECONDS);
+                Assert.assertNotNull(data);
+                sum += data;
+            }
+            final long expected = (long) producerCount * dataCount * (dataCount - 1) / 2;
+            Assert.assertEquals(expected, sum);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
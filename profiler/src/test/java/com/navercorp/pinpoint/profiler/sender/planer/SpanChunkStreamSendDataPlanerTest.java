@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.sender.planer;
 
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.SystemClock;
 import com.navercorp.pinpoint.io.request.Message;
 import com.navercorp.pinpoint.io.request.ServerRequest;
 import com.navercorp.pinpoint.profiler.context.SpanChunkFactoryV1;
@@ -52,6 +53,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class SpanChunkStreamSendDataPlanerTest {
 
@@ -106,6 +108,7 @@ public class SpanChunkStreamSendDataPlanerTest {
     private List<SpanEvent> createSpanEventList(int size) throws InterruptedException {
 
         TraceRoot traceRoot = mock(TraceRoot.class);
+        when(traceRoot.getClock()).thenReturn(SystemClock.INSTANCE);
 
         List<SpanEvent> spanEventList = new ArrayList<SpanEvent>(size);
         for (int i = 0; i < size; i++) {
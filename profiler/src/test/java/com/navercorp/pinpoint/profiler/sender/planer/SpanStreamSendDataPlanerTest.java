@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.profiler.sender.planer;
 
 import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.common.util.SystemClock;
 import com.navercorp.pinpoint.io.request.Message;
 import com.navercorp.pinpoint.io.request.ServerRequest;
 import com.navercorp.pinpoint.profiler.context.id.DefaultTraceRoot;
@@ -47,6 +48,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class SpanStreamSendDataPlanerTest {
 
@@ -99,6 +101,7 @@ public class SpanStreamSendDataPlanerTest {
 
     private List<SpanEvent> createSpanEventList(int size) throws InterruptedException {
         TraceRoot traceRoot = mock(TraceRoot.class);
+        when(traceRoot.getClock()).thenReturn(SystemClock.INSTANCE);
 
         List<SpanEvent> spanEventList = new ArrayList<SpanEvent>(size);
         for (int i = 0; i < size; i++) {
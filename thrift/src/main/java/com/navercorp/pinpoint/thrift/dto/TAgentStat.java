@@ -24,6 +24,8 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private static final org.apache.thrift.protocol.TField DEADLOCK_FIELD_DESC = new org.apache.thrift.protocol.TField("deadlock", org.apache.thrift.protocol.TType.STRUCT, (short)70);
   private static final org.apache.thrift.protocol.TField FILE_DESCRIPTOR_FIELD_DESC = new org.apache.thrift.protocol.TField("fileDescriptor", org.apache.thrift.protocol.TType.STRUCT, (short)80);
   private static final org.apache.thrift.protocol.TField DIRECT_BUFFER_FIELD_DESC = new org.apache.thrift.protocol.TField("directBuffer", org.apache.thrift.protocol.TType.STRUCT, (short)90);
+  private static final org.apache.thrift.protocol.TField META_DATA_CACHE_FIELD_DESC = new org.apache.thrift.protocol.TField("metaDataCache", org.apache.thrift.protocol.TType.STRUCT, (short)100);
+  private static final org.apache.thrift.protocol.TField INTERCEPTOR_OVERHEAD_FIELD_DESC = new org.apache.thrift.protocol.TField("interceptorOverhead", org.apache.thrift.protocol.TType.STRUCT, (short)110);
   private static final org.apache.thrift.protocol.TField METADATA_FIELD_DESC = new org.apache.thrift.protocol.TField("metadata", org.apache.thrift.protocol.TType.STRING, (short)200);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TAgentStatStandardSchemeFactory();
@@ -42,6 +44,8 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private TDeadlock deadlock; // optional
   private TFileDescriptor fileDescriptor; // optional
   private TDirectBuffer directBuffer; // optional
+  private TMetaDataCache metaDataCache; // optional
+  private TInterceptorOverheadList interceptorOverhead; // optional
   private java.lang.String metadata; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -59,6 +63,8 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     DEADLOCK((short)70, "deadlock"),
     FILE_DESCRIPTOR((short)80, "fileDescriptor"),
     DIRECT_BUFFER((short)90, "directBuffer"),
+    META_DATA_CACHE((short)100, "metaDataCache"),
+    INTERCEPTOR_OVERHEAD((short)110, "interceptorOverhead"),
     METADATA((short)200, "metadata");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -100,6 +106,10 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
           return FILE_DESCRIPTOR;
         case 90: // DIRECT_BUFFER
           return DIRECT_BUFFER;
+        case 100: // META_DATA_CACHE
+          return META_DATA_CACHE;
+        case 110: // INTERCEPTOR_OVERHEAD
+          return INTERCEPTOR_OVERHEAD;
         case 200: // METADATA
           return METADATA;
         default:
@@ -146,7 +156,7 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private static final int __TIMESTAMP_ISSET_ID = 1;
   private static final int __COLLECTINTERVAL_ISSET_ID = 2;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.AGENT_ID,_Fields.START_TIMESTAMP,_Fields.TIMESTAMP,_Fields.COLLECT_INTERVAL,_Fields.GC,_Fields.CPU_LOAD,_Fields.TRANSACTION,_Fields.ACTIVE_TRACE,_Fields.DATA_SOURCE_LIST,_Fields.RESPONSE_TIME,_Fields.DEADLOCK,_Fields.FILE_DESCRIPTOR,_Fields.DIRECT_BUFFER,_Fields.METADATA};
+  private static final _Fields optionals[] = {_Fields.AGENT_ID,_Fields.START_TIMESTAMP,_Fields.TIMESTAMP,_Fields.COLLECT_INTERVAL,_Fields.GC,_Fields.CPU_LOAD,_Fields.TRANSACTION,_Fields.ACTIVE_TRACE,_Fields.DATA_SOURCE_LIST,_Fields.RESPONSE_TIME,_Fields.DEADLOCK,_Fields.FILE_DESCRIPTOR,_Fields.DIRECT_BUFFER,_Fields.META_DATA_CACHE,_Fields.INTERCEPTOR_OVERHEAD,_Fields.METADATA};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -176,6 +186,10 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT        , "TFileDescriptor")));
     tmpMap.put(_Fields.DIRECT_BUFFER, new org.apache.thrift.meta_data.FieldMetaData("directBuffer", org.apache.thrift.TFieldRequirementType.OPTIONAL,
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TDirectBuffer.class)));
+    tmpMap.put(_Fields.META_DATA_CACHE, new org.apache.thrift.meta_data.FieldMetaData("metaDataCache", org.apache.thrift.TFieldRequirementType.OPTIONAL,
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TMetaDataCache.class)));
+    tmpMap.put(_Fields.INTERCEPTOR_OVERHEAD, new org.apache.thrift.meta_data.FieldMetaData("interceptorOverhead", org.apache.thrift.TFieldRequirementType.OPTIONAL,
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TInterceptorOverheadList.class)));
     tmpMap.put(_Fields.METADATA, new org.apache.thrift.meta_data.FieldMetaData("metadata", org.apache.thrift.TFieldRequirementType.OPTIONAL,
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
@@ -223,6 +237,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     if (other.isSetDirectBuffer()) {
       this.directBuffer = new TDirectBuffer(other.directBuffer);
     }
+    if (other.isSetMetaDataCache()) {
+      this.metaDataCache = new TMetaDataCache(other.metaDataCache);
+    }
+    if (other.isSetInterceptorOverhead()) {
+      this.interceptorOverhead = new TInterceptorOverheadList(other.interceptorOverhead);
+    }
     if (other.isSetMetadata()) {
       this.metadata = other.metadata;
     }
@@ -250,6 +270,8 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     this.deadlock = null;
     this.fileDescriptor = null;
     this.directBuffer = null;
+    this.metaDataCache = null;
+    this.interceptorOverhead = null;
     this.metadata = null;
   }
 
@@ -549,6 +571,52 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     }
   }
 
+  public TMetaDataCache getMetaDataCache() {
+    return this.metaDataCache;
+  }
+
+  public void setMetaDataCache(TMetaDataCache metaDataCache) {
+    this.metaDataCache = metaDataCache;
+  }
+
+  public void unsetMetaDataCache() {
+    this.metaDataCache = null;
+  }
+
+  /** Returns true if field metaDataCache is set (has been assigned a value) and false otherwise */
+  public boolean isSetMetaDataCache() {
+    return this.metaDataCache != null;
+  }
+
+  public void setMetaDataCacheIsSet(boolean value) {
+    if (!value) {
+      this.metaDataCache = null;
+    }
+  }
+
+  public TInterceptorOverheadList getInterceptorOverhead() {
+    return this.interceptorOverhead;
+  }
+
+  public void setInterceptorOverhead(TInterceptorOverheadList interceptorOverhead) {
+    this.interceptorOverhead = interceptorOverhead;
+  }
+
+  public void unsetInterceptorOverhead() {
+    this.interceptorOverhead = null;
+  }
+
+  /** Returns true if field interceptorOverhead is set (has been assigned a value) and false otherwise */
+  public boolean isSetInterceptorOverhead() {
+    return this.interceptorOverhead != null;
+  }
+
+  public void setInterceptorOverheadIsSet(boolean value) {
+    if (!value) {
+      this.interceptorOverhead = null;
+    }
+  }
+
   public java.lang.String getMetadata() {
     return this.metadata;
   }
@@ -678,6 +746,22 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       }
       break;
 
+    case META_DATA_CACHE:
+      if (value == null) {
+        unsetMetaDataCache();
+      } else {
+        setMetaDataCache((TMetaDataCache)value);
+      }
+      break;
+
+    case INTERCEPTOR_OVERHEAD:
+      if (value == null) {
+        unsetInterceptorOverhead();
+      } else {
+        setInterceptorOverhead((TInterceptorOverheadList)value);
+      }
+      break;
+
     case METADATA:
       if (value == null) {
         unsetMetadata();
@@ -730,6 +814,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     case DIRECT_BUFFER:
       return getDirectBuffer();
 
+    case META_DATA_CACHE:
+      return getMetaDataCache();
+
+    case INTERCEPTOR_OVERHEAD:
+      return getInterceptorOverhead();
+
     case METADATA:
       return getMetadata();
 
@@ -770,6 +860,10 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       return isSetFileDescriptor();
     case DIRECT_BUFFER:
       return isSetDirectBuffer();
+    case META_DATA_CACHE:
+      return isSetMetaDataCache();
+    case INTERCEPTOR_OVERHEAD:
+      return isSetInterceptorOverhead();
     case METADATA:
       return isSetMetadata();
     }
@@ -908,6 +1002,24 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         return false;
     }
 
+    boolean this_present_metaDataCache = true && this.isSetMetaDataCache();
+    boolean that_present_metaDataCache = true && that.isSetMetaDataCache();
+    if (this_present_metaDataCache || that_present_metaDataCache) {
+      if (!(this_present_metaDataCache && that_present_metaDataCache))
+        return false;
+      if (!this.metaDataCache.equals(that.metaDataCache))
+        return false;
+    }
+
+    boolean this_present_interceptorOverhead = true && this.isSetInterceptorOverhead();
+    boolean that_present_interceptorOverhead = true && that.isSetInterceptorOverhead();
+    if (this_present_interceptorOverhead || that_present_interceptorOverhead) {
+      if (!(this_present_interceptorOverhead && that_present_interceptorOverhead))
+        return false;
+      if (!this.interceptorOverhead.equals(that.interceptorOverhead))
+        return false;
+    }
+
     boolean this_present_metadata = true && this.isSetMetadata();
     boolean that_present_metadata = true && that.isSetMetadata();
     if (this_present_metadata || that_present_metadata) {
@@ -976,6 +1088,14 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     if (isSetDirectBuffer())
       hashCode = hashCode * 8191 + directBuffer.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetMetaDataCache()) ? 131071 : 524287);
+    if (isSetMetaDataCache())
+      hashCode = hashCode * 8191 + metaDataCache.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetInterceptorOverhead()) ? 131071 : 524287);
+    if (isSetInterceptorOverhead())
+      hashCode = hashCode * 8191 + interceptorOverhead.hashCode();
+
     hashCode = hashCode * 8191 + ((isSetMetadata()) ? 131071 : 524287);
     if (isSetMetadata())
       hashCode = hashCode * 8191 + metadata.hashCode();
@@ -1121,6 +1241,26 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetMetaDataCache()).compareTo(other.isSetMetaDataCache());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMetaDataCache()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.metaDataCache, other.metaDataCache);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetInterceptorOverhead()).compareTo(other.isSetInterceptorOverhead());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetInterceptorOverhead()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.interceptorOverhead, other.interceptorOverhead);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     lastComparison = java.lang.Boolean.valueOf(isSetMetadata()).compareTo(other.isSetMetadata());
     if (lastComparison != 0) {
       return lastComparison;
@@ -1268,6 +1408,26 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       }
       first = false;
     }
+    if (isSetMetaDataCache()) {
+      if (!first) sb.append(", ");
+      sb.append("metaDataCache:");
+      if (this.metaDataCache == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.metaDataCache);
+      }
+      first = false;
+    }
+    if (isSetInterceptorOverhead()) {
+      if (!first) sb.append(", ");
+      sb.append("interceptorOverhead:");
+      if (this.interceptorOverhead == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.interceptorOverhead);
+      }
+      first = false;
+    }
     if (isSetMetadata()) {
       if (!first) sb.append(", ");
       sb.append("metadata:");
@@ -1306,6 +1466,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     if (directBuffer != null) {
       directBuffer.validate();
     }
+    if (metaDataCache != null) {
+      metaDataCache.validate();
+    }
+    if (interceptorOverhead != null) {
+      interceptorOverhead.validate();
+    }
   }
 
   private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1457,6 +1623,24 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 100: // META_DATA_CACHE
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.metaDataCache = new TMetaDataCache();
+              struct.metaDataCache.read(iprot);
+              struct.setMetaDataCacheIsSet(true);
+            } else {
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 110: // INTERCEPTOR_OVERHEAD
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.interceptorOverhead = new TInterceptorOverheadList();
+              struct.interceptorOverhead.read(iprot);
+              struct.setInterceptorOverheadIsSet(true);
+            } else {
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           case 200: // METADATA
             if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
               struct.metadata = iprot.readString();
@@ -1563,6 +1747,20 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
           oprot.writeFieldEnd();
         }
       }
+      if (struct.metaDataCache != null) {
+        if (struct.isSetMetaDataCache()) {
+          oprot.writeFieldBegin(META_DATA_CACHE_FIELD_DESC);
+          struct.metaDataCache.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.interceptorOverhead != null) {
+        if (struct.isSetInterceptorOverhead()) {
+          oprot.writeFieldBegin(INTERCEPTOR_OVERHEAD_FIELD_DESC);
+          struct.interceptorOverhead.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
       if (struct.metadata != null) {
         if (struct.isSetMetadata()) {
           oprot.writeFieldBegin(METADATA_FIELD_DESC);
@@ -1627,10 +1825,16 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       if (struct.isSetDirectBuffer()) {
         optionals.set(12);
       }
-      if (struct.isSetMetadata()) {
+      if (struct.isSetMetaDataCache()) {
         optionals.set(13);
       }
-      oprot.writeBitSet(optionals, 14);
+      if (struct.isSetInterceptorOverhead()) {
+        optionals.set(14);
+      }
+      if (struct.isSetMetadata()) {
+        optionals.set(15);
+      }
+      oprot.writeBitSet(optionals, 16);
       if (struct.isSetAgentId()) {
         oprot.writeString(struct.agentId);
       }
@@ -1670,6 +1874,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       if (struct.isSetDirectBuffer()) {
         struct.directBuffer.write(oprot);
       }
+      if (struct.isSetMetaDataCache()) {
+        struct.metaDataCache.write(oprot);
+      }
+      if (struct.isSetInterceptorOverhead()) {
+        struct.interceptorOverhead.write(oprot);
+      }
       if (struct.isSetMetadata()) {
         oprot.writeString(struct.metadata);
       }
@@ -1678,7 +1888,7 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TAgentStat struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(14);
+      java.util.BitSet incoming = iprot.readBitSet(16);
       if (incoming.get(0)) {
         struct.agentId = iprot.readString();
         struct.setAgentIdIsSet(true);
@@ -1741,6 +1951,16 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         struct.setDirectBufferIsSet(true);
       }
       if (incoming.get(13)) {
+        struct.metaDataCache = new TMetaDataCache();
+        struct.metaDataCache.read(iprot);
+        struct.setMetaDataCacheIsSet(true);
+      }
+      if (incoming.get(14)) {
+        struct.interceptorOverhead = new TInterceptorOverheadList();
+        struct.interceptorOverhead.read(iprot);
+        struct.setInterceptorOverheadIsSet(true);
+      }
+      if (incoming.get(15)) {
         struct.metadata = iprot.readString();
         struct.setMetadataIsSet(true);
       }
@@ -28,6 +28,7 @@ import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
 import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
+import com.navercorp.pinpoint.thrift.dto.TMetaDataBatch;
 import com.navercorp.pinpoint.thrift.dto.TResult;
 import com.navercorp.pinpoint.thrift.dto.TSpan;
 import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
@@ -70,8 +71,12 @@ public class DefaultTBaseLocator {
 
     public static final short STRINGMETADATA = 330;
 
+    public static final short METADATA_BATCH = 340;
+
     public static final short CHUNK = 400;
 
+    public static final short PACKED = 410;
+
     private static final TypeLocator<TBase<?, ?>> typeLocator = build();
 
     public static TypeLocator<TBase<?, ?>>build() {
@@ -158,6 +163,13 @@ public class DefaultTBaseLocator {
             }
         });
 
+        builder.addBodyFactory(METADATA_BATCH, new BodyFactory<TBase<?, ?>>() {
+            @Override
+            public TBase<?, ?> getObject() {
+                return new TMetaDataBatch();
+            }
+        });
+
         builder.addBodyFactory(NETWORK_CHECK, new BodyFactory<TBase<?, ?>>() {
             @Override
             public TBase<?, ?> getObject() {
@@ -171,6 +183,13 @@ public class DefaultTBaseLocator {
                 return null;
             }
         });
+
+        builder.addBodyFactory(PACKED, new BodyFactory<TBase<?, ?>>() {
+            @Override
+            public TBase<?, ?> getObject() {
+                return null;
+            }
+        });
     }
 
     public static TypeLocator<TBase<?, ?>> getTypeLocator() {
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.thrift.io;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.io.header.*;
 import com.navercorp.pinpoint.io.request.Message;
 import com.navercorp.pinpoint.io.request.DefaultMessage;
@@ -60,9 +61,13 @@ public class HeaderTBaseDeserializer {
      * @param bytes   The array to read from
      */
     public Message<TBase<?, ?>> deserialize(byte[] bytes) throws TException {
+        return deserialize(bytes, 0, bytes.length);
+    }
+
+    public Message<TBase<?, ?>> deserialize(byte[] bytes, int offset, int length) throws TException {
 
         try {
-            trans.reset(bytes, 0, bytes.length);
+            trans.reset(bytes, offset, length);
             return readInternal();
         } finally {
             trans.clear();
@@ -70,6 +75,32 @@ public class HeaderTBaseDeserializer {
         }
     }
 
+    /**
+     * Deserialize a packet made by {@link PacketPacker}.
+     */
+    public List<Message<TBase<?, ?>>> deserializePacked(byte[] bytes, int offset, int length) throws TException {
+        if (!PacketPacker.isPacked(bytes, offset, length)) {
+            throw new TException("not packed packet");
+        }
+        final List<Message<TBase<?, ?>>> tBaseList = new ArrayList<Message<TBase<?, ?>>>();
+
+        final int endOffset = offset + length;
+        int payloadOffset = offset + PacketPacker.getHeaderSize();
+        while (payloadOffset < endOffset) {
+            if (payloadOffset + PacketPacker.PAYLOAD_LENGTH_SIZE > endOffset) {
+                throw new TException("invalid packed payload. offset:" + payloadOffset);
+            }
+            final int payloadLength = BytesUtils.bytesToInt(bytes, payloadOffset);
+            payloadOffset += PacketPacker.PAYLOAD_LENGTH_SIZE;
+            if (payloadLength <= 0 || payloadOffset + payloadLength > endOffset) {
+                throw new TException("invalid packed payload length:" + payloadLength);
+            }
+            tBaseList.add(deserialize(bytes, payloadOffset, payloadLength));
+            payloadOffset += payloadLength;
+        }
+        return tBaseList;
+    }
+
     private Message<TBase<?, ?>> readInternal() throws TException {
         final HeaderReader reader = newHeaderReader();
         final Header header = readHeader(reader);
@@ -115,10 +146,17 @@ public class HeaderTBaseDeserializer {
     }
 
     public List<Message<TBase<?, ?>>> deserializeList(byte[] buffer) throws TException {
+        return deserializeList(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Deserialize consecutive messages straight from a slice of the buffer, without copying it.
+     */
+    public List<Message<TBase<?, ?>>> deserializeList(byte[] buffer, int offset, int length) throws TException {
         final List<Message<TBase<?, ?>>> tBaseList = new ArrayList<Message<TBase<?, ?>>>();
 
         try {
-            trans.reset(buffer, 0, buffer.length);
+            trans.reset(buffer, offset, length);
             while (trans.getBytesRemainingInBuffer() > 0) {
                 final Message<TBase<?, ?>> tBase = readInternal();
                 tBaseList.add(tBase);
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.io.header.ByteArrayHeaderWriter;
+import com.navercorp.pinpoint.io.header.Header;
+import com.navercorp.pinpoint.io.header.v1.HeaderV1;
+
+/**
+ * Packs several serialized messages into one datagram.
+ * <pre>
+ * packet  : header(PACKED) payload+
+ * payload : length(int32) message(header + body)
+ * </pre>
+ * Caution. not thread safe
+ */
+public class PacketPacker {
+
+    public static final int PAYLOAD_LENGTH_SIZE = BytesUtils.INT_BYTE_LENGTH;
+
+    private static final byte[] PACKED_HEADER = new ByteArrayHeaderWriter(new HeaderV1(DefaultTBaseLocator.PACKED)).writeHeader();
+
+    private final byte[] buffer;
+    private int position;
+    private int count;
+
+    public PacketPacker(int maxPacketSize) {
+        if (maxPacketSize < PACKED_HEADER.length + PAYLOAD_LENGTH_SIZE + Header.HEADER_PREFIX_SIZE) {
+            throw new IllegalArgumentException("maxPacketSize is too small. maxPacketSize:" + maxPacketSize);
+        }
+        this.buffer = new byte[maxPacketSize];
+        System.arraycopy(PACKED_HEADER, 0, buffer, 0, PACKED_HEADER.length);
+        reset();
+    }
+
+    /**
+     * @return false if the packet has no room for the message
+     */
+    public boolean add(byte[] message, int offset, int length) {
+        if (!hasRoom(length)) {
+            return false;
+        }
+        this.position = BytesUtils.writeInt(length, buffer, position);
+        System.arraycopy(message, offset, buffer, position, length);
+        this.position += length;
+        this.count++;
+        return true;
+    }
+
+    public boolean hasRoom(int length) {
+        return position + PAYLOAD_LENGTH_SIZE + length <= buffer.length;
+    }
+
+    /**
+     * @return true if a message of the given length can not be packed even in an empty packet
+     */
+    public boolean isOversize(int length) {
+        return PACKED_HEADER.length + PAYLOAD_LENGTH_SIZE + length > buffer.length;
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLength() {
+        return position;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * offset of the first packed message. useful for sending a single message without the packed header
+     */
+    public int getFirstMessageOffset() {
+        return PACKED_HEADER.length + PAYLOAD_LENGTH_SIZE;
+    }
+
+    public void reset() {
+        this.position = PACKED_HEADER.length;
+        this.count = 0;
+    }
+
+    public static boolean isPacked(byte[] packet, int offset, int length) {
+        if (packet == null || length < PACKED_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < PACKED_HEADER.length; i++) {
+            if (packet[offset + i] != PACKED_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int getHeaderSize() {
+        return PACKED_HEADER.length;
+    }
+
+    /**
+     * @return copy of the packed header. for senders that write the header and the payloads separately
+     */
+    public static byte[] getHeader() {
+        return PACKED_HEADER.clone();
+    }
+}
@@ -106,6 +106,18 @@ public enum TCommandType {
         public TBase<?, ?> getObject() {
             return new TCmdActiveThreadLightDumpRes();
         }
+    }),
+    INTERCEPTOR_OVERHEAD((short) 760, new BodyFactory<TBase<?, ?>>() {
+        @Override
+        public TBase<?, ?> getObject() {
+            return new TCmdInterceptorOverhead();
+        }
+    }),
+    INTERCEPTOR_OVERHEAD_RESPONSE((short) 761, new BodyFactory<TBase<?, ?>>() {
+        @Override
+        public TBase<?, ?> getObject() {
+            return new TCmdInterceptorOverheadRes();
+        }
     });
 
     private final short code;
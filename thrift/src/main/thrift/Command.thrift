@@ -108,6 +108,21 @@ struct TCmdActiveThreadLightDumpRes {
     4: optional string version
 }
 
+struct TCmdInterceptorOverhead {
+}
+
+struct TInterceptorOverheadInfo {
+    1: optional string pluginName
+    2: optional string interceptorClassName
+    3: optional i64 sampledCount
+    4: optional i64 sampledTime         // microseconds
+    5: optional i32 sampleRate
+}
+
+struct TCmdInterceptorOverheadRes {
+    1: optional list<TInterceptorOverheadInfo> interceptorOverheadList
+}
+
 struct TCommandEcho {
     1: string	message
 }
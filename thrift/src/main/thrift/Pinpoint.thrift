@@ -79,6 +79,36 @@ struct TJvmGcDetailed {
     8: optional double jvmPoolMetaspaceUsed
 }
 
+struct TMetaDataCache {
+    1: optional i64 sqlHitCount
+    2: optional i64 sqlMissCount
+    3: optional i64 sqlEvictionCount
+    4: optional i64 sqlResendCount
+    5: optional i32 sqlCapacity
+    11: optional i64 apiHitCount
+    12: optional i64 apiMissCount
+    13: optional i64 apiEvictionCount
+    14: optional i64 apiResendCount
+    15: optional i32 apiCapacity
+    21: optional i64 stringHitCount
+    22: optional i64 stringMissCount
+    23: optional i64 stringEvictionCount
+    24: optional i64 stringResendCount
+    25: optional i32 stringCapacity
+}
+
+struct TInterceptorOverhead {
+    1: optional i32 pluginNameId
+    2: optional i32 interceptorNameId
+    3: optional i64 sampledCount
+    4: optional i64 sampledTime         // microseconds
+    5: optional i32 sampleRate
+}
+
+struct TInterceptorOverheadList {
+    1: optional list<TInterceptorOverhead> interceptorOverheadList
+}
+
 struct TCpuLoad {
     1: optional double       jvmCpuLoad
     2: optional double       systemCpuLoad
@@ -125,6 +155,8 @@ struct TAgentStat {
     70: optional TDeadlock deadlock
     80: optional TFileDescriptor fileDescriptor
     90: optional TDirectBuffer directBuffer
+    100: optional TMetaDataCache metaDataCache
+    110: optional TInterceptorOverheadList interceptorOverhead
     200: optional string    metadata
 }
 
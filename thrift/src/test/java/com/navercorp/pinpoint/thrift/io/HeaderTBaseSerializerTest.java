@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * @author emeroad
@@ -69,6 +70,31 @@ public class HeaderTBaseSerializerTest {
         Assert.assertEquals(deserialize, tAgentInfo);
     }
 
+    @Test
+    public void deserializeList_slice() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory().createSerializer();
+        HeaderTBaseDeserializer deserializer = new HeaderTBaseDeserializerFactory().createDeserializer();
+
+        TAgentInfo first = new TAgentInfo();
+        first.setAgentId("agent1");
+        byte[] firstBytes = serializer.serialize(first);
+        TAgentInfo second = new TAgentInfo();
+        second.setAgentId("agent2");
+        byte[] secondBytes = serializer.serialize(second);
+
+        // garbage around the slice must not be read
+        final int offset = 3;
+        byte[] buffer = new byte[offset + firstBytes.length + secondBytes.length + 5];
+        Arrays.fill(buffer, (byte) 0x7F);
+        System.arraycopy(firstBytes, 0, buffer, offset, firstBytes.length);
+        System.arraycopy(secondBytes, 0, buffer, offset + firstBytes.length, secondBytes.length);
+
+        List<Message<TBase<?, ?>>> messageList = deserializer.deserializeList(buffer, offset, firstBytes.length + secondBytes.length);
+        Assert.assertEquals(2, messageList.size());
+        Assert.assertEquals(first, messageList.get(0).getData());
+        Assert.assertEquals(second, messageList.get(1).getData());
+    }
+
     public void dump(byte[] data) {
         String s = Arrays.toString(data);
         logger.debug("size:{} data:{}", data.length, s);
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.thrift.io;
+
+import com.navercorp.pinpoint.io.request.Message;
+import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
+import org.apache.thrift.TBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class PacketPackerTest {
+
+    @Test
+    public void packAndUnpack() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false).createSerializer();
+        HeaderTBaseDeserializer deserializer = new HeaderTBaseDeserializerFactory().createDeserializer();
+
+        PacketPacker packer = new PacketPacker(1024);
+        for (int i = 0; i < 3; i++) {
+            byte[] bytes = serializer.serialize(newAgentInfo("agentId" + i));
+            Assert.assertTrue(packer.add(bytes, 0, serializer.getInterBufferSize()));
+        }
+        Assert.assertEquals(3, packer.getCount());
+        Assert.assertTrue(PacketPacker.isPacked(packer.getBuffer(), 0, packer.getLength()));
+
+        List<Message<TBase<?, ?>>> messageList = deserializer.deserializePacked(packer.getBuffer(), 0, packer.getLength());
+        Assert.assertEquals(3, messageList.size());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(newAgentInfo("agentId" + i), messageList.get(i).getData());
+        }
+    }
+
+    @Test
+    public void packetFull() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false).createSerializer();
+        byte[] bytes = serializer.serialize(newAgentInfo("agentId"));
+        int length = serializer.getInterBufferSize();
+
+        PacketPacker packer = new PacketPacker(PacketPacker.getHeaderSize() + PacketPacker.PAYLOAD_LENGTH_SIZE + length);
+        Assert.assertFalse(packer.isOversize(length));
+        Assert.assertTrue(packer.add(bytes, 0, length));
+        Assert.assertFalse(packer.add(bytes, 0, length));
+        Assert.assertTrue(packer.isOversize(length + 1));
+
+        packer.reset();
+        Assert.assertEquals(0, packer.getCount());
+        Assert.assertTrue(packer.add(bytes, 0, length));
+    }
+
+    @Test
+    public void notPacked() throws Exception {
+        HeaderTBaseSerializer serializer = new HeaderTBaseSerializerFactory(false).createSerializer();
+        byte[] bytes = serializer.serialize(newAgentInfo("agentId"));
+
+        Assert.assertFalse(PacketPacker.isPacked(bytes, 0, serializer.getInterBufferSize()));
+    }
+
+    private TAgentInfo newAgentInfo(String agentId) {
+        TAgentInfo tAgentInfo = new TAgentInfo();
+        tAgentInfo.setAgentId(agentId);
+        tAgentInfo.setHostname("host");
+        tAgentInfo.setApplicationName("applicationName");
+        return tAgentInfo;
+    }
+}
@@ -160,6 +160,7 @@ module.exports = function( grunt, options ) {
 				'/common/services/response-time-chart-dao.service.js',
 				'/common/services/open-file-descriptor-chart-dao.service.js',
 				'/common/services/direct-buffer-chart-dao.service.js',
+				'/common/services/meta-data-cache-chart-dao.service.js',
 				'/common/services/agent-histogram-dao.service.js',
 				'/common/services/filtered-map-util.service.js',
 				'/common/services/filter.config.js',
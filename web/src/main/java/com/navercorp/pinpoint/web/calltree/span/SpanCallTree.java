@@ -15,7 +15,10 @@
  */
 package com.navercorp.pinpoint.web.calltree.span;
 
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 
 import java.util.*;
 
@@ -220,7 +223,22 @@ public class SpanCallTree implements CallTree {
             return spanAlign.getSpanEventBo().getSequence() != 0;
         }
 
-        return cursor.getValue().getSpanEventBo().getSequence() + 1 != spanAlign.getSpanEventBo().getSequence();
+        // a folded SpanEvent takes the sequences of all its repeated calls
+        final SpanEventBo cursorEvent = cursor.getValue().getSpanEventBo();
+        return cursorEvent.getSequence() + getRepeatCount(cursorEvent) != spanAlign.getSpanEventBo().getSequence();
+    }
+
+    private int getRepeatCount(final SpanEventBo spanEventBo) {
+        final List<AnnotationBo> annotationBoList = spanEventBo.getAnnotationBoList();
+        if (annotationBoList == null) {
+            return 1;
+        }
+        for (AnnotationBo annotationBo : annotationBoList) {
+            if (annotationBo.getKey() == AnnotationKey.REPEAT_COUNT.getCode() && annotationBo.getValue() instanceof Integer) {
+                return (Integer) annotationBo.getValue();
+            }
+        }
+        return 1;
     }
 
     CallTreeNode findUpperLevelLastSibling(final int level, final CallTreeNode node) {
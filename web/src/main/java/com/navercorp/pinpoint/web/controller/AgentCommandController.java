@@ -23,6 +23,9 @@ import com.navercorp.pinpoint.thrift.dto.command.TCmdActiveThreadDump;
 import com.navercorp.pinpoint.thrift.dto.command.TCmdActiveThreadDumpRes;
 import com.navercorp.pinpoint.thrift.dto.command.TCmdActiveThreadLightDump;
 import com.navercorp.pinpoint.thrift.dto.command.TCmdActiveThreadLightDumpRes;
+import com.navercorp.pinpoint.thrift.dto.command.TCmdInterceptorOverhead;
+import com.navercorp.pinpoint.thrift.dto.command.TCmdInterceptorOverheadRes;
+import com.navercorp.pinpoint.thrift.dto.command.TInterceptorOverheadInfo;
 import com.navercorp.pinpoint.thrift.dto.command.TRouteResult;
 import com.navercorp.pinpoint.web.cluster.PinpointRouteResponse;
 import com.navercorp.pinpoint.web.config.ConfigProperties;
@@ -40,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -181,6 +185,49 @@ public class AgentCommandController {
         }
     }
 
+    @RequestMapping(value = "/interceptorOverhead", method = RequestMethod.GET)
+    @ResponseBody
+    public CodeResult getInterceptorOverhead(@RequestParam(value = "applicationName") String applicationName,
+                                             @RequestParam(value = "agentId") String agentId) throws TException {
+        AgentInfo agentInfo = agentService.getAgentInfo(applicationName, agentId);
+        if (agentInfo == null) {
+            return new CodeResult(CODE_FAIL, String.format("Can't find suitable Agent(%s/%s)", applicationName, agentId));
+        }
+
+        try {
+            PinpointRouteResponse pinpointRouteResponse = agentService.invoke(agentInfo, new TCmdInterceptorOverhead());
+            if (isSuccessResponse(pinpointRouteResponse)) {
+                TBase<?, ?> result = pinpointRouteResponse.getResponse();
+                if (result instanceof TCmdInterceptorOverheadRes) {
+                    TCmdInterceptorOverheadRes interceptorOverheadResponse = (TCmdInterceptorOverheadRes) result;
+                    return new CodeResult(CODE_SUCCESS, createInterceptorOverheadData(interceptorOverheadResponse.getInterceptorOverheadList()));
+                }
+            }
+            return handleFailedResponse(pinpointRouteResponse);
+        } catch (TException e) {
+            return new CodeResult(CODE_FAIL, e.getMessage());
+        }
+    }
+
+    private List<Map<String, Object>> createInterceptorOverheadData(List<TInterceptorOverheadInfo> interceptorOverheadList) {
+        if (interceptorOverheadList == null) {
+            return new ArrayList<>();
+        }
+        List<Map<String, Object>> result = new ArrayList<>(interceptorOverheadList.size());
+        for (TInterceptorOverheadInfo interceptorOverhead : interceptorOverheadList) {
+            final long sampleRate = interceptorOverhead.getSampleRate();
+            Map<String, Object> data = new HashMap<>();
+            data.put("pluginName", interceptorOverhead.getPluginName());
+            data.put("interceptorClassName", interceptorOverhead.getInterceptorClassName());
+            data.put("sampledCount", interceptorOverhead.getSampledCount());
+            data.put("sampledTime", interceptorOverhead.getSampledTime());
+            data.put("estimatedCount", interceptorOverhead.getSampledCount() * sampleRate);
+            data.put("estimatedTime", interceptorOverhead.getSampledTime() * sampleRate);
+            result.add(data);
+        }
+        return result;
+    }
+
     private CodeResult handleFailedResponse(PinpointRouteResponse response) {
         if (response == null) {
             return new CodeResult(CODE_FAIL, "response is null");
@@ -27,6 +27,7 @@ import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.web.service.stat.ActiveTraceChartService;
@@ -47,6 +48,8 @@ import com.navercorp.pinpoint.web.service.stat.JvmGcChartService;
 import com.navercorp.pinpoint.web.service.stat.JvmGcDetailedChartService;
 import com.navercorp.pinpoint.web.service.stat.JvmGcDetailedService;
 import com.navercorp.pinpoint.web.service.stat.JvmGcService;
+import com.navercorp.pinpoint.web.service.stat.MetaDataCacheChartService;
+import com.navercorp.pinpoint.web.service.stat.MetaDataCacheService;
 import com.navercorp.pinpoint.web.service.stat.ResponseTimeChartService;
 import com.navercorp.pinpoint.web.service.stat.ResponseTimeService;
 import com.navercorp.pinpoint.web.service.stat.TransactionChartService;
@@ -246,4 +249,13 @@ public abstract class AgentStatController<T extends AgentStatDataPoint> {
             super(directBufferService, directBufferChartService);
         }
     }
+
+    @Controller
+    @RequestMapping("/getAgentStat/metaDataCache")
+    public static class MetaDataCacheController extends AgentStatController<MetaDataCacheBo> {
+        @Autowired
+        public MetaDataCacheController(MetaDataCacheService metaDataCacheService, MetaDataCacheChartService metaDataCacheChartService) {
+            super(metaDataCacheService, metaDataCacheChartService);
+        }
+    }
 }
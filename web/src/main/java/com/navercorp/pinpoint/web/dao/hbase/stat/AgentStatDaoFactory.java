@@ -26,6 +26,7 @@ import com.navercorp.pinpoint.common.server.bo.stat.DirectBufferBo;
 import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.web.dao.stat.ActiveTraceDao;
@@ -37,6 +38,7 @@ import com.navercorp.pinpoint.web.dao.stat.DirectBufferDao;
 import com.navercorp.pinpoint.web.dao.stat.FileDescriptorDao;
 import com.navercorp.pinpoint.web.dao.stat.JvmGcDao;
 import com.navercorp.pinpoint.web.dao.stat.JvmGcDetailedDao;
+import com.navercorp.pinpoint.web.dao.stat.MetaDataCacheDao;
 import com.navercorp.pinpoint.web.dao.stat.ResponseTimeDao;
 import com.navercorp.pinpoint.web.dao.stat.TransactionDao;
 import org.springframework.beans.factory.FactoryBean;
@@ -294,4 +296,28 @@ abstract class AgentStatDaoFactory<T extends AgentStatDataPoint, D extends Agent
             return true;
         }
     }
+
+    @Repository("metaDataCacheDaoFactory")
+    public static class MetaDataCacheDaoFactory extends AgentStatDaoFactory<MetaDataCacheBo, MetaDataCacheDao> implements FactoryBean<MetaDataCacheDao> {
+
+        @Autowired
+        public void setV2(@Qualifier("metaDataCacheDaoV2") MetaDataCacheDao v2) {
+            this.v2 = v2;
+        }
+
+        @Override
+        public MetaDataCacheDao getObject() throws Exception {
+            return super.getDao();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return MetaDataCacheDao.class;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+    }
 }
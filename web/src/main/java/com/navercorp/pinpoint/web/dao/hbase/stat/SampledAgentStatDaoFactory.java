@@ -26,6 +26,7 @@ import com.navercorp.pinpoint.web.dao.stat.SampledDirectBufferDao;
 import com.navercorp.pinpoint.web.dao.stat.SampledFileDescriptorDao;
 import com.navercorp.pinpoint.web.dao.stat.SampledJvmGcDao;
 import com.navercorp.pinpoint.web.dao.stat.SampledJvmGcDetailedDao;
+import com.navercorp.pinpoint.web.dao.stat.SampledMetaDataCacheDao;
 import com.navercorp.pinpoint.web.dao.stat.SampledResponseTimeDao;
 import com.navercorp.pinpoint.web.dao.stat.SampledTransactionDao;
 import com.navercorp.pinpoint.web.vo.stat.SampledActiveTrace;
@@ -37,6 +38,7 @@ import com.navercorp.pinpoint.web.vo.stat.SampledDirectBuffer;
 import com.navercorp.pinpoint.web.vo.stat.SampledFileDescriptor;
 import com.navercorp.pinpoint.web.vo.stat.SampledJvmGc;
 import com.navercorp.pinpoint.web.vo.stat.SampledJvmGcDetailed;
+import com.navercorp.pinpoint.web.vo.stat.SampledMetaDataCache;
 import com.navercorp.pinpoint.web.vo.stat.SampledResponseTime;
 import com.navercorp.pinpoint.web.vo.stat.SampledTransaction;
 import org.springframework.beans.factory.FactoryBean;
@@ -294,4 +296,28 @@ abstract class SampledAgentStatDaoFactory<S extends SampledAgentStatDataPoint, D
             return true;
         }
     }
+
+    @Repository("sampledMetaDataCacheDaoFactory")
+    public static class SampledMetaDataCacheDaoFactory extends SampledAgentStatDaoFactory<SampledMetaDataCache, SampledMetaDataCacheDao> implements FactoryBean<SampledMetaDataCacheDao> {
+
+        @Autowired
+        public void setV2(@Qualifier("sampledMetaDataCacheDaoV2") SampledMetaDataCacheDao v2) {
+            this.v2 = v2;
+        }
+
+        @Override
+        public SampledMetaDataCacheDao getObject() throws Exception {
+            return super.getDao();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return SampledMetaDataCacheDao.class;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase.stat.v2;
+
+import com.navercorp.pinpoint.common.server.bo.codec.stat.MetaDataCacheDecoder;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatType;
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import com.navercorp.pinpoint.web.dao.stat.SampledMetaDataCacheDao;
+import com.navercorp.pinpoint.web.mapper.stat.AgentStatMapperV2;
+import com.navercorp.pinpoint.web.mapper.stat.SampledAgentStatResultExtractor;
+import com.navercorp.pinpoint.web.mapper.stat.sampling.sampler.MetaDataCacheSampler;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.stat.SampledMetaDataCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository("sampledMetaDataCacheDaoV2")
+public class HbaseSampledMetaDataCacheDaoV2 implements SampledMetaDataCacheDao {
+
+    @Autowired
+    private MetaDataCacheDecoder metaDataCacheDecoder;
+
+    @Autowired
+    private MetaDataCacheSampler metaDataCacheSampler;
+
+    @Autowired
+    private HbaseAgentStatDaoOperationsV2 operations;
+
+    @Override
+    public List<SampledMetaDataCache> getSampledAgentStatList(String agentId, TimeWindow timeWindow) {
+        long scanFrom = timeWindow.getWindowRange().getFrom();
+        long scanTo = timeWindow.getWindowRange().getTo() + timeWindow.getWindowSlotSize();
+        Range range = new Range(scanFrom, scanTo);
+        AgentStatMapperV2<MetaDataCacheBo> mapper = operations.createRowMapper(metaDataCacheDecoder, range);
+        SampledAgentStatResultExtractor<MetaDataCacheBo, SampledMetaDataCache> resultExtractor = new SampledAgentStatResultExtractor<>(timeWindow, mapper, metaDataCacheSampler);
+        return operations.getSampledAgentStatList(AgentStatType.META_DATA_CACHE, resultExtractor, agentId, range);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.mapper.stat.sampling.sampler;
+
+import com.navercorp.pinpoint.common.server.bo.stat.MetaDataCacheBo;
+import com.navercorp.pinpoint.web.vo.stat.SampledMetaDataCache;
+import com.navercorp.pinpoint.web.vo.stat.chart.DownSampler;
+import com.navercorp.pinpoint.web.vo.stat.chart.DownSamplers;
+import com.navercorp.pinpoint.web.vo.stat.chart.agent.AgentStatPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+@Component
+public class MetaDataCacheSampler implements AgentStatSampler<MetaDataCacheBo, SampledMetaDataCache> {
+
+    private static final DownSampler<Long> LONG_DOWN_SAMPLER = DownSamplers.getLongDownSampler(SampledMetaDataCache.UNCOLLECTED_VALUE);
+
+    @Override
+    public SampledMetaDataCache sampleDataPoints(int timeWindowIndex, long timestamp, List<MetaDataCacheBo> dataPoints, MetaDataCacheBo previousDataPoint) {
+        final AgentStatPoint<Long> sqlHitRatio = newHitRatioPoint(timestamp, dataPoints, MetaDataCacheBo::getSqlHitCount, MetaDataCacheBo::getSqlMissCount);
+        final AgentStatPoint<Long> sqlEvictionCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getSqlEvictionCount);
+        final AgentStatPoint<Long> sqlResendCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getSqlResendCount);
+        final AgentStatPoint<Long> apiHitRatio = newHitRatioPoint(timestamp, dataPoints, MetaDataCacheBo::getApiHitCount, MetaDataCacheBo::getApiMissCount);
+        final AgentStatPoint<Long> apiEvictionCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getApiEvictionCount);
+        final AgentStatPoint<Long> apiResendCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getApiResendCount);
+        final AgentStatPoint<Long> stringHitRatio = newHitRatioPoint(timestamp, dataPoints, MetaDataCacheBo::getStringHitCount, MetaDataCacheBo::getStringMissCount);
+        final AgentStatPoint<Long> stringEvictionCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getStringEvictionCount);
+        final AgentStatPoint<Long> stringResendCount = newAgentStatPoint(timestamp, dataPoints, MetaDataCacheBo::getStringResendCount);
+
+        return new SampledMetaDataCache(sqlHitRatio, sqlEvictionCount, sqlResendCount,
+                apiHitRatio, apiEvictionCount, apiResendCount,
+                stringHitRatio, stringEvictionCount, stringResendCount);
+    }
+
+    private AgentStatPoint<Long> newAgentStatPoint(long timestamp, List<MetaDataCacheBo> dataPoints, ToLongFunction<MetaDataCacheBo> filter) {
+        final List<Long> result = new ArrayList<>(dataPoints.size());
+        for (MetaDataCacheBo metaDataCacheBo : dataPoints) {
+            final long apply = filter.applyAsLong(metaDataCacheBo);
+            if (apply != MetaDataCacheBo.UNCOLLECTED_VALUE) {
+                result.add(apply);
+            }
+        }
+        return createPoint(timestamp, result);
+    }
+
+    private AgentStatPoint<Long> newHitRatioPoint(long timestamp, List<MetaDataCacheBo> dataPoints, ToLongFunction<MetaDataCacheBo> hitFilter, ToLongFunction<MetaDataCacheBo> missFilter) {
+        final List<Long> result = new ArrayList<>(dataPoints.size());
+        for (MetaDataCacheBo metaDataCacheBo : dataPoints) {
+            final long hitCount = hitFilter.applyAsLong(metaDataCacheBo);
+            final long missCount = missFilter.applyAsLong(metaDataCacheBo);
+            if (hitCount == MetaDataCacheBo.UNCOLLECTED_VALUE || missCount == MetaDataCacheBo.UNCOLLECTED_VALUE) {
+                continue;
+            }
+            final long lookupCount = hitCount + missCount;
+            if (lookupCount > 0) {
+                // percentage
+                result.add(hitCount * 100 / lookupCount);
+            }
+        }
+        return createPoint(timestamp, result);
+    }
+
+    private AgentStatPoint<Long> createPoint(long timestamp, List<Long> values) {
+        if (values.isEmpty()) {
+            return SampledMetaDataCache.UNCOLLECTED_POINT_CREATOR.createUnCollectedPoint(timestamp);
+        }
+
+        return new AgentStatPoint<>(
+                timestamp,
+                LONG_DOWN_SAMPLER.sampleMin(values),
+                LONG_DOWN_SAMPLER.sampleMax(values),
+                LONG_DOWN_SAMPLER.sampleAvg(values),
+                LONG_DOWN_SAMPLER.sampleSum(values));
+    }
+}
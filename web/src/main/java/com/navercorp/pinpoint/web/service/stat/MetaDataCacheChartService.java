@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service.stat;
+
+import com.navercorp.pinpoint.web.dao.stat.SampledMetaDataCacheDao;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.vo.stat.SampledMetaDataCache;
+import com.navercorp.pinpoint.web.vo.stat.chart.StatChart;
+import com.navercorp.pinpoint.web.vo.stat.chart.agent.MetaDataCacheChart;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class MetaDataCacheChartService implements AgentStatChartService {
+
+    private final SampledMetaDataCacheDao sampledMetaDataCacheDao;
+
+    @Autowired
+    public MetaDataCacheChartService(@Qualifier("sampledMetaDataCacheDaoFactory") SampledMetaDataCacheDao sampledMetaDataCacheDao) {
+        this.sampledMetaDataCacheDao = sampledMetaDataCacheDao;
+    }
+
+    @Override
+    public StatChart selectAgentChart(String agentId, TimeWindow timeWindow) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (timeWindow == null) {
+            throw new NullPointerException("timeWindow must not be null");
+        }
+        List<SampledMetaDataCache> sampledMetaDataCaches = this.sampledMetaDataCacheDao.getSampledAgentStatList(agentId, timeWindow);
+        return new MetaDataCacheChart(timeWindow, sampledMetaDataCaches);
+    }
+
+    @Override
+    public List<StatChart> selectAgentChartList(String agentId, TimeWindow timeWindow) {
+        StatChart agentStatChart = selectAgentChart(agentId, timeWindow);
+
+        List<StatChart> result = new ArrayList<>(1);
+        result.add(agentStatChart);
+
+        return result;
+    }
+
+}
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.common.util.IntBooleanIntBooleanValue;
 import com.navercorp.pinpoint.common.util.LongIntIntByteByteStringValue;
 import com.navercorp.pinpoint.web.calltree.span.SpanAlign;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -75,6 +76,11 @@ public class AnnotationRecordFormatter {
                 final IntBooleanIntBooleanValue value = (IntBooleanIntBooleanValue) annotationBo.getValue();
                 return buildHttpIoArguments(value);
             }
+        } else if (annotationKey.getCode() == AnnotationKey.REPEAT_ELAPSED.getCode()) {
+            if (annotationBo.getValue() instanceof LongIntIntByteByteStringValue) {
+                final LongIntIntByteByteStringValue value = (LongIntIntByteByteStringValue) annotationBo.getValue();
+                return buildRepeatElapsedArguments(value, getRepeatCount(spanAlign));
+            }
         }
         return Objects.toString(annotationBo.getValue(), "");
     }
@@ -104,6 +110,30 @@ public class AnnotationRecordFormatter {
         return sb.toString();
     }
 
+    String buildRepeatElapsedArguments(final LongIntIntByteByteStringValue value, final int repeatCount) {
+        final StringBuilder sb = new StringBuilder(64);
+        sb.append("min: ").append(value.getIntValue1()).append("ms");
+        sb.append(", max: ").append(value.getIntValue2()).append("ms");
+        if (repeatCount > 0) {
+            sb.append(", avg: ").append(value.getLongValue() / repeatCount).append("ms");
+        }
+        sb.append(", sum: ").append(value.getLongValue()).append("ms");
+        return sb.toString();
+    }
+
+    private int getRepeatCount(final SpanAlign spanAlign) {
+        final List<AnnotationBo> annotationBoList = spanAlign.getAnnotationBoList();
+        if (annotationBoList == null) {
+            return 0;
+        }
+        for (AnnotationBo annotationBo : annotationBoList) {
+            if (annotationBo.getKey() == AnnotationKey.REPEAT_COUNT.getCode() && annotationBo.getValue() instanceof Integer) {
+                return (Integer) annotationBo.getValue();
+            }
+        }
+        return 0;
+    }
+
     private void appendComma(final StringBuilder buffer) {
         if (buffer.length() > 0) {
             buffer.append(", ");
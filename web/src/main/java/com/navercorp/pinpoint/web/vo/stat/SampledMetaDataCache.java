@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.stat;
+
+import com.navercorp.pinpoint.web.vo.chart.Point;
+import com.navercorp.pinpoint.web.vo.stat.chart.agent.AgentStatPoint;
+
+import java.util.Objects;
+
+public class SampledMetaDataCache implements SampledAgentStatDataPoint {
+
+    public static final Long UNCOLLECTED_VALUE = -1L;
+    public static final Point.UncollectedPointCreator<AgentStatPoint<Long>> UNCOLLECTED_POINT_CREATOR = new Point.UncollectedPointCreator<AgentStatPoint<Long>>() {
+        @Override
+        public AgentStatPoint<Long> createUnCollectedPoint(long xVal) {
+            return new AgentStatPoint<>(xVal, UNCOLLECTED_VALUE);
+        }
+    };
+
+    private final AgentStatPoint<Long> sqlHitRatio;
+    private final AgentStatPoint<Long> sqlEvictionCount;
+    private final AgentStatPoint<Long> sqlResendCount;
+    private final AgentStatPoint<Long> apiHitRatio;
+    private final AgentStatPoint<Long> apiEvictionCount;
+    private final AgentStatPoint<Long> apiResendCount;
+    private final AgentStatPoint<Long> stringHitRatio;
+    private final AgentStatPoint<Long> stringEvictionCount;
+    private final AgentStatPoint<Long> stringResendCount;
+
+    public SampledMetaDataCache(AgentStatPoint<Long> sqlHitRatio, AgentStatPoint<Long> sqlEvictionCount, AgentStatPoint<Long> sqlResendCount, AgentStatPoint<Long> apiHitRatio, AgentStatPoint<Long> apiEvictionCount, AgentStatPoint<Long> apiResendCount, AgentStatPoint<Long> stringHitRatio, AgentStatPoint<Long> stringEvictionCount, AgentStatPoint<Long> stringResendCount) {
+        this.sqlHitRatio = Objects.requireNonNull(sqlHitRatio, "sqlHitRatio must not be null");
+        this.sqlEvictionCount = Objects.requireNonNull(sqlEvictionCount, "sqlEvictionCount must not be null");
+        this.sqlResendCount = Objects.requireNonNull(sqlResendCount, "sqlResendCount must not be null");
+        this.apiHitRatio = Objects.requireNonNull(apiHitRatio, "apiHitRatio must not be null");
+        this.apiEvictionCount = Objects.requireNonNull(apiEvictionCount, "apiEvictionCount must not be null");
+        this.apiResendCount = Objects.requireNonNull(apiResendCount, "apiResendCount must not be null");
+        this.stringHitRatio = Objects.requireNonNull(stringHitRatio, "stringHitRatio must not be null");
+        this.stringEvictionCount = Objects.requireNonNull(stringEvictionCount, "stringEvictionCount must not be null");
+        this.stringResendCount = Objects.requireNonNull(stringResendCount, "stringResendCount must not be null");
+    }
+
+    public AgentStatPoint<Long> getSqlHitRatio() {
+        return sqlHitRatio;
+    }
+
+    public AgentStatPoint<Long> getSqlEvictionCount() {
+        return sqlEvictionCount;
+    }
+
+    public AgentStatPoint<Long> getSqlResendCount() {
+        return sqlResendCount;
+    }
+
+    public AgentStatPoint<Long> getApiHitRatio() {
+        return apiHitRatio;
+    }
+
+    public AgentStatPoint<Long> getApiEvictionCount() {
+        return apiEvictionCount;
+    }
+
+    public AgentStatPoint<Long> getApiResendCount() {
+        return apiResendCount;
+    }
+
+    public AgentStatPoint<Long> getStringHitRatio() {
+        return stringHitRatio;
+    }
+
+    public AgentStatPoint<Long> getStringEvictionCount() {
+        return stringEvictionCount;
+    }
+
+    public AgentStatPoint<Long> getStringResendCount() {
+        return stringResendCount;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SampledMetaDataCache{");
+        sb.append("sqlHitRatio=").append(sqlHitRatio);
+        sb.append(", sqlEvictionCount=").append(sqlEvictionCount);
+        sb.append(", sqlResendCount=").append(sqlResendCount);
+        sb.append(", apiHitRatio=").append(apiHitRatio);
+        sb.append(", apiEvictionCount=").append(apiEvictionCount);
+        sb.append(", apiResendCount=").append(apiResendCount);
+        sb.append(", stringHitRatio=").append(stringHitRatio);
+        sb.append(", stringEvictionCount=").append(stringEvictionCount);
+        sb.append(", stringResendCount=").append(stringResendCount);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.stat.chart.agent;
+
+import com.google.common.collect.ImmutableMap;
+import com.navercorp.pinpoint.web.util.TimeWindow;
+import com.navercorp.pinpoint.web.vo.chart.Chart;
+import com.navercorp.pinpoint.web.vo.chart.Point;
+import com.navercorp.pinpoint.web.vo.chart.TimeSeriesChartBuilder;
+import com.navercorp.pinpoint.web.vo.stat.SampledMetaDataCache;
+import com.navercorp.pinpoint.web.vo.stat.chart.StatChart;
+import com.navercorp.pinpoint.web.vo.stat.chart.StatChartGroup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class MetaDataCacheChart implements StatChart {
+
+    private final MetaDataCacheChartGroup metaDataCacheChartGroup;
+
+    public MetaDataCacheChart(TimeWindow timeWindow, List<SampledMetaDataCache> sampledMetaDataCaches) {
+        this.metaDataCacheChartGroup = new MetaDataCacheChartGroup(timeWindow, sampledMetaDataCaches);
+    }
+
+    @Override
+    public StatChartGroup getCharts() {
+        return metaDataCacheChartGroup;
+    }
+
+    public static class MetaDataCacheChartGroup implements StatChartGroup {
+
+        private final TimeWindow timeWindow;
+
+        private final Map<ChartType, Chart<? extends Point>> metaDataCacheCharts;
+
+        public enum MetaDataCacheChartType implements AgentChartType {
+            SQL_HIT_RATIO,
+            SQL_EVICTION_COUNT,
+            SQL_RESEND_COUNT,
+            API_HIT_RATIO,
+            API_EVICTION_COUNT,
+            API_RESEND_COUNT,
+            STRING_HIT_RATIO,
+            STRING_EVICTION_COUNT,
+            STRING_RESEND_COUNT
+        }
+
+        private MetaDataCacheChartGroup(TimeWindow timeWindow, List<SampledMetaDataCache> sampledMetaDataCaches) {
+            this.timeWindow = timeWindow;
+            this.metaDataCacheCharts = newChart(sampledMetaDataCaches);
+        }
+
+        private Map<ChartType, Chart<? extends Point>> newChart(List<SampledMetaDataCache> sampledMetaDataCaches) {
+            Chart<AgentStatPoint<Long>> sqlHitRatio = newChart(sampledMetaDataCaches, SampledMetaDataCache::getSqlHitRatio);
+            Chart<AgentStatPoint<Long>> sqlEvictionCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getSqlEvictionCount);
+            Chart<AgentStatPoint<Long>> sqlResendCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getSqlResendCount);
+            Chart<AgentStatPoint<Long>> apiHitRatio = newChart(sampledMetaDataCaches, SampledMetaDataCache::getApiHitRatio);
+            Chart<AgentStatPoint<Long>> apiEvictionCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getApiEvictionCount);
+            Chart<AgentStatPoint<Long>> apiResendCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getApiResendCount);
+            Chart<AgentStatPoint<Long>> stringHitRatio = newChart(sampledMetaDataCaches, SampledMetaDataCache::getStringHitRatio);
+            Chart<AgentStatPoint<Long>> stringEvictionCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getStringEvictionCount);
+            Chart<AgentStatPoint<Long>> stringResendCount = newChart(sampledMetaDataCaches, SampledMetaDataCache::getStringResendCount);
+
+            ImmutableMap.Builder<ChartType, Chart<? extends Point>> charts = ImmutableMap.builder();
+            charts.put(MetaDataCacheChartType.SQL_HIT_RATIO, sqlHitRatio);
+            charts.put(MetaDataCacheChartType.SQL_EVICTION_COUNT, sqlEvictionCount);
+            charts.put(MetaDataCacheChartType.SQL_RESEND_COUNT, sqlResendCount);
+            charts.put(MetaDataCacheChartType.API_HIT_RATIO, apiHitRatio);
+            charts.put(MetaDataCacheChartType.API_EVICTION_COUNT, apiEvictionCount);
+            charts.put(MetaDataCacheChartType.API_RESEND_COUNT, apiResendCount);
+            charts.put(MetaDataCacheChartType.STRING_HIT_RATIO, stringHitRatio);
+            charts.put(MetaDataCacheChartType.STRING_EVICTION_COUNT, stringEvictionCount);
+            charts.put(MetaDataCacheChartType.STRING_RESEND_COUNT, stringResendCount);
+            return charts.build();
+        }
+
+        private Chart<AgentStatPoint<Long>> newChart(List<SampledMetaDataCache> sampledMetaDataCaches, Function<SampledMetaDataCache, AgentStatPoint<Long>> function) {
+            TimeSeriesChartBuilder<AgentStatPoint<Long>> builder = new TimeSeriesChartBuilder<>(this.timeWindow, SampledMetaDataCache.UNCOLLECTED_POINT_CREATOR);
+            return builder.build(sampledMetaDataCaches, function);
+        }
+
+        @Override
+        public TimeWindow getTimeWindow() {
+            return timeWindow;
+        }
+
+        @Override
+        public Map<ChartType, Chart<? extends Point>> getCharts() {
+            return metaDataCacheCharts;
+        }
+    }
+}
@@ -737,6 +737,30 @@
                     }]
                 }]
             },
+            metaDataCacheHitRatio: {
+                mainStyle: "",
+                title: "Metadata Cache Hit Ratio",
+                desc: "Shows the hit ratio of agent's sql, api and string metadata caches",
+                category: [{
+                    title: "[Legend]",
+                    items: [{
+                        name: "SQL / API / STRING",
+                        desc: "Percentage of lookups served from the cache. A miss sends the metadata to the collector"
+                    }]
+                }]
+            },
+            metaDataCacheResend: {
+                mainStyle: "",
+                title: "Metadata Cache Resend",
+                desc: "Shows how often the agent resends metadata that has already been evicted from its cache",
+                category: [{
+                    title: "[Legend]",
+                    items: [{
+                        name: "SQL / API / STRING",
+                        desc: "Number of metadata resent after eviction. Consider a larger cache or profiler.metadata.cache.autogrow.enable"
+                    }]
+                }]
+            },
             wrongApp: [
                 "<div style='font-size:12px'>The agent is currently registered under {{application2}} due to the following:<br>",
                 "1. The agent has moved from {{application1}} to {{application2}}<br>",
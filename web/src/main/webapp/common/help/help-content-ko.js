@@ -726,6 +726,30 @@
 					}]
 				}]
 			},
+			metaDataCacheHitRatio: {
+				mainStyle: "",
+				title: "Metadata Cache Hit Ratio",
+				desc: "에이전트의 sql, api, string 메타데이터 캐시 적중률을 보여줍니다.",
+				category: [{
+					title: "[범례]",
+					items: [{
+						name: "SQL / API / STRING",
+						desc: "캐시에서 처리된 조회 비율. 캐시 미스가 발생하면 메타데이터를 collector로 전송합니다"
+					}]
+				}]
+			},
+			metaDataCacheResend: {
+				mainStyle: "",
+				title: "Metadata Cache Resend",
+				desc: "캐시에서 제거된 후 다시 전송된 메타데이터 현황을 보여줍니다.",
+				category: [{
+					title: "[범례]",
+					items: [{
+						name: "SQL / API / STRING",
+						desc: "제거 후 재전송된 메타데이터 수. 캐시 크기를 늘리거나 profiler.metadata.cache.autogrow.enable 옵션을 고려하세요"
+					}]
+				}]
+			},
 			wrongApp: [
 				"<div style='font-size:12px'>해당 agent는 {{application1}}이 아닌 {{application2}}에 포함되어 있습니다.<br>",
 				"원인은 다음 중 하나입니다.<hr>",
@@ -21,6 +21,7 @@
 		"dataSourceChart"	: "getAgentStat/dataSource/chartList.pinpoint",
 		"openFileDescriptor": "getAgentStat/fileDescriptor/chart.pinpoint",
 		"directBuffer"		: "getAgentStat/directBuffer/chart.pinpoint",
+		"metaDataCache"		: "getAgentStat/metaDataCache/chart.pinpoint",
 		"responseTimeChart" : "getAgentStat/responseTime/chart.pinpoint",
 		"statMemory"		: "getApplicationStat/memory/chart.pinpoint",
 		"statCpuLoad"		: "getApplicationStat/cpuLoad/chart.pinpoint",
@@ -60,6 +61,9 @@
 		this.getDirectBufferChartData = function( data, callback ) {
 			retrieve($config.directBuffer, data, callback);
 		};
+		this.getMetaDataCacheChartData = function( data, callback ) {
+			retrieve($config.metaDataCache, data, callback);
+		};
 		this.getAgentInfo = function( data, callback ) {
 			retrieve($config.agentInfo, data, callback);
 		};
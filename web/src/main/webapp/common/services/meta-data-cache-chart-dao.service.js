@@ -0,0 +1,124 @@
+(function() {
+	'use strict';
+
+	pinpointApp.constant( "MetaDataCacheDaoServiceConfig", {
+		dateFormat: "YYYY-MM-DD HH:mm:ss"
+	});
+
+	pinpointApp.service( "MetaDataCacheDaoService", [ "MetaDataCacheDaoServiceConfig",
+		function MetaDataCacheDaoService( cfg ) {
+
+			var CACHES = [ "sql", "api", "string" ];
+			var FIELDS = {
+				"HIT_RATIO": "HitRatio",
+				"RESEND_COUNT": "ResendCount"
+			};
+
+			this.parseData = function( aChartData ) {
+				var aX = aChartData.charts.x;
+				var xLen = aX.length;
+				var points = {};
+				var empty = true;
+				CACHES.forEach(function( cache ) {
+					for ( var key in FIELDS ) {
+						var aPoints = aChartData.charts.y[cache.toUpperCase() + "_" + key] || [];
+						points[cache + FIELDS[key]] = aPoints;
+						if ( aPoints.length > 0 ) {
+							empty = false;
+						}
+					}
+				});
+
+				var refinedChartData = {
+					data: [],
+					empty: empty,
+					forceMax: false,
+					defaultMax: 100
+				};
+				for (var i = 0; i < xLen; ++i) {
+					var thisData = {
+						time: moment(aX[i]).format( cfg.dateFormat )
+					};
+					for ( var field in points ) {
+						var aPoints = points[field];
+						if ( aPoints.length > i ) {
+							thisData[field] = aPoints[i][2] === -1 ? null : aPoints[i][2].toFixed(2);
+						}
+					}
+					refinedChartData.data.push(thisData);
+				}
+				return refinedChartData;
+			};
+			this.getHitRatioChartOptions = function( oChartData ) {
+				return this.getCommonChartOptions( oChartData, "Hit Ratio (%)", "HitRatio", "Hit Ratio : [[value]]%" );
+			};
+			this.getResendChartOptions = function( oChartData ) {
+				return this.getCommonChartOptions( oChartData, "Resend (counts)", "ResendCount", "Resend : [[value]]" );
+			};
+			this.getGraphs = function( fieldSuffix, balloonText ) {
+				var lineColors = {
+					"sql": "rgb(31, 119, 180)",
+					"api": "rgb(255, 127, 14)",
+					"string": "rgb(44, 160, 44)"
+				};
+				return CACHES.map(function( cache ) {
+					return {
+						"valueAxis": "v1",
+						"balloonText": balloonText,
+						"legendValueText": "[[value]]",
+						"lineColor": lineColors[cache],
+						"title": cache.toUpperCase(),
+						"valueField": cache + fieldSuffix,
+						"fillAlphas": 0,
+						"connect": false
+					};
+				});
+			};
+			this.getCommonChartOptions = function( oChartData, title, fieldSuffix, balloonText ) {
+				return {
+					"type": "serial",
+					"theme": "light",
+					"autoMargins": false,
+					"marginTop": 10,
+					"marginLeft": 70,
+					"marginRight": 70,
+					"marginBottom": 40,
+					"legend": {
+						"useGraphSettings": true,
+						"autoMargins": true,
+						"align" : "right",
+						"position": "top",
+						"valueWidth": 70
+					},
+					"usePrefixes": true,
+					"dataProvider": oChartData.data,
+					"valueAxes": [
+						{
+							"id": "v1",
+							"gridAlpha": 0,
+							"axisAlpha": 1,
+							"position": "left",
+							"title": title,
+							"minimum" : 0
+						}
+					],
+					"graphs": this.getGraphs( fieldSuffix, balloonText ),
+					"categoryField": "time",
+					"categoryAxis": {
+						"axisColor": "#DADADA",
+						"startOnAxis": true,
+						"gridPosition": "start",
+						"labelFunction": function (valueText) {
+							return valueText.replace(/\s/, "<br>").replace(/-/g, ".").substring(2);
+						}
+					},
+					"chartCursor": {
+						"categoryBalloonAlpha": 0.7,
+						"fullWidth": true,
+						"cursorAlpha": 0.1
+					}
+				};
+			};
+		}
+	]);
+})();
@@ -73,6 +73,14 @@
 			"position": "top",
 			"trigger": "click"
 		},
+		"metaDataCacheHitRatio": {
+			"position": "top",
+			"trigger": "click"
+		},
+		"metaDataCacheResend": {
+			"position": "top",
+			"trigger": "click"
+		},
 		"responseSummaryChart": {
 			"position": "top",
 			"trigger": "click"
@@ -200,6 +208,10 @@
 					return function() { return helpContentTemplate(helpContentService.inspector.mappedBufferCount); };
 				case "mappedBufferMemory":
 					return function() { return helpContentTemplate(helpContentService.inspector.mappedBufferMemory); };
+				case "metaDataCacheHitRatio":
+					return function() { return helpContentTemplate(helpContentService.inspector.metaDataCacheHitRatio); };
+				case "metaDataCacheResend":
+					return function() { return helpContentTemplate(helpContentService.inspector.metaDataCacheResend); };
 				case "responseSummaryChart":
 					return function() { return helpContentTemplate(helpContentService.nodeInfoDetails.responseSummary); };
 				case "loadChart":
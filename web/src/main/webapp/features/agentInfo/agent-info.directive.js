@@ -3,8 +3,8 @@
 		ID: "AGENT_INFO_DRTV_"
 	});
 
-	pinpointApp.directive( "agentInfoDirective", [ "agentInfoDirectiveConfig", "$sce", "$timeout", "CommonUtilService", "UrlVoService", "AlertsService", "ProgressBarService", "AgentDaoService", "ResponseTimeChartDaoService", "ActiveThreadChartDaoService", "TPSChartDaoService", "CPULoadChartDaoService", "MemoryChartDaoService", "OpenFileDescriptorDaoService", "DirectBufferDaoService","AgentAjaxService", "TooltipService", "AnalyticsService", "helpContentService",
-		function ( cfg, $sce, $timeout, CommonUtilService, UrlVoService, AlertsService, ProgressBarService, AgentDaoService, ResponseTimeChartDaoService, ActiveThreadChartDaoService, TPSChartDaoService, CPULoadChartDaoService, MemoryChartDaoService, OpenFileDescriptorDaoService, DirectBufferDaoService, AgentAjaxService, TooltipService, AnalyticsService, helpContentService ) {
+	pinpointApp.directive( "agentInfoDirective", [ "agentInfoDirectiveConfig", "$sce", "$timeout", "CommonUtilService", "UrlVoService", "AlertsService", "ProgressBarService", "AgentDaoService", "ResponseTimeChartDaoService", "ActiveThreadChartDaoService", "TPSChartDaoService", "CPULoadChartDaoService", "MemoryChartDaoService", "OpenFileDescriptorDaoService", "DirectBufferDaoService", "MetaDataCacheDaoService", "AgentAjaxService", "TooltipService", "AnalyticsService", "helpContentService",
+		function ( cfg, $sce, $timeout, CommonUtilService, UrlVoService, AlertsService, ProgressBarService, AgentDaoService, ResponseTimeChartDaoService, ActiveThreadChartDaoService, TPSChartDaoService, CPULoadChartDaoService, MemoryChartDaoService, OpenFileDescriptorDaoService, DirectBufferDaoService, MetaDataCacheDaoService, AgentAjaxService, TooltipService, AnalyticsService, helpContentService ) {
 			return {
 				restrict: 'EA',
 				replace: true,
@@ -98,6 +98,11 @@
 							showMappedBufferCountChart(refinedChartData);
 							showMappedBufferMemoryChart(refinedChartData);
 						});
+						AgentAjaxService.getMetaDataCacheChartData( oParam, function (result) {
+							var refinedChartData = MetaDataCacheDaoService.parseData( result );
+							showMetaDataCacheHitRatioChart(refinedChartData);
+							showMetaDataCacheResendChart(refinedChartData);
+						});
 					}
 					function loadAgentInfo( time ) {
 						AgentAjaxService.getAgentInfo({
@@ -141,7 +146,7 @@
 					}
 					function initTooltip() {
 						if ( bInitTooltip === false ) {
-							["heap", "permGen", "cpuUsage", "tps", "activeThread", "responseTime", "dataSource", "openFileDescriptor", "directBufferCount", "directBufferMemory", "mappedBufferCount", "mappedBufferMemory"].forEach(function(value) {
+							["heap", "permGen", "cpuUsage", "tps", "activeThread", "responseTime", "dataSource", "openFileDescriptor", "directBufferCount", "directBufferMemory", "mappedBufferCount", "mappedBufferMemory", "metaDataCacheHitRatio", "metaDataCacheResend"].forEach(function(value) {
 								TooltipService.init( value );
 							});
 							bInitTooltip = true;
@@ -272,6 +277,24 @@
 							"270px"
 						);
 					}
+					function showMetaDataCacheHitRatioChart( refinedChartData ) {
+						scope.$broadcast(
+							"agentInspectorChartDirective.initAndRenderWithData.agent-meta-data-cache-hit-ratio",
+							refinedChartData,
+							MetaDataCacheDaoService.getHitRatioChartOptions( refinedChartData ),
+							"100%",
+							"270px"
+						);
+					}
+					function showMetaDataCacheResendChart( refinedChartData ) {
+						scope.$broadcast(
+							"agentInspectorChartDirective.initAndRenderWithData.agent-meta-data-cache-resend",
+							refinedChartData,
+							MetaDataCacheDaoService.getResendChartOptions( refinedChartData ),
+							"100%",
+							"270px"
+						);
+					}
 					var dataSourceChartData = [];
 					var dataSourceIdPrefix = "source_";
 					scope.dataSourceChartKeys = [];
@@ -23,8 +23,10 @@ import java.util.List;
 
 import org.junit.Test;
 
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 
 /**
  * 
@@ -250,6 +252,27 @@ public class CallTreeTest {
 
     }
 
+    @Test
+    public void foldedEventSequenceGap() {
+        expectResult.add("#");
+        expectResult.add("##");
+        expectResult.add("###");
+        expectResult.add("###");
+
+        callTree.add(1, makeSpanAlign(SYNC, (short) 0));
+        // takes the sequences 1, 2 and 3
+        callTree.add(2, makeFoldedSpanAlign((short) 1, 3));
+        callTree.add(-1, makeSpanAlign(SYNC, (short) 4));
+        assertDepth("folded-event", callTree, expectResult);
+    }
+
+    @Test(expected = CorruptedSpanCallTreeNodeException.class)
+    public void sequenceGap() {
+        callTree.add(1, makeSpanAlign(SYNC, (short) 0));
+        callTree.add(2, makeSpanAlign(SYNC, (short) 1));
+        callTree.add(-1, makeSpanAlign(SYNC, (short) 4));
+    }
+
     @Test
     public void sort() {
         expectResult.add("#");
@@ -369,6 +392,17 @@ public class CallTreeTest {
         return makeSpanAlign(new SpanBo(), async, sequence, nextAsyncId, asyncId, -1, -1);
     }
 
+    private SpanAlign makeFoldedSpanAlign(final short sequence, final int repeatCount) {
+        SpanAlign spanAlign = makeSpanAlign(SYNC, sequence);
+        AnnotationBo repeatCountAnnotation = new AnnotationBo();
+        repeatCountAnnotation.setKey(AnnotationKey.REPEAT_COUNT.getCode());
+        repeatCountAnnotation.setValue(repeatCount);
+        List<AnnotationBo> annotationBoList = new ArrayList<AnnotationBo>();
+        annotationBoList.add(repeatCountAnnotation);
+        spanAlign.getSpanEventBo().setAnnotationBoList(annotationBoList);
+        return spanAlign;
+    }
+
     private SpanAlign makeSpanAlign(SpanBo span, final boolean async, final short sequence, int nextAsyncId, final int asyncId, int startElapsed, int endElapsed) {
         SpanEventBo event = new SpanEventBo();
         event.setAsyncId(async ? 1 : -1);
@@ -16,14 +16,18 @@
 
 package com.navercorp.pinpoint.web.vo.callstacks;
 
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
 import com.navercorp.pinpoint.common.service.AnnotationKeyRegistryService;
 import com.navercorp.pinpoint.common.service.DefaultAnnotationKeyRegistryService;
 import com.navercorp.pinpoint.common.service.DefaultServiceTypeRegistryService;
 import com.navercorp.pinpoint.common.service.DefaultTraceMetadataLoaderService;
 import com.navercorp.pinpoint.common.service.ServiceTypeRegistryService;
 import com.navercorp.pinpoint.common.service.TraceMetadataLoaderService;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.trace.AnnotationKeyMatcher;
+import com.navercorp.pinpoint.common.util.LongIntIntByteByteStringValue;
 import com.navercorp.pinpoint.common.util.TransactionId;
 import com.navercorp.pinpoint.common.util.logger.CommonLoggerFactory;
 import com.navercorp.pinpoint.common.util.logger.StdoutCommonLoggerFactory;
@@ -32,7 +36,9 @@ import com.navercorp.pinpoint.web.service.AnnotationKeyMatcherService;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -84,4 +90,29 @@ public class RecordFactoryTest {
         Assert.assertEquals(exceptionRecord.getArguments(), "null");
     }
 
+    @Test
+    public void getAnnotations_repeatElapsed() throws Exception {
+        final RecordFactory factory = newRecordFactory();
+
+        SpanEventBo spanEventBo = new SpanEventBo();
+        List<AnnotationBo> annotationBoList = new ArrayList<>();
+        annotationBoList.add(newAnnotationBo(AnnotationKey.REPEAT_COUNT, 4));
+        annotationBoList.add(newAnnotationBo(AnnotationKey.REPEAT_ELAPSED, new LongIntIntByteByteStringValue(100, 10, 40, (byte) 0, (byte) 0, null)));
+        spanEventBo.setAnnotationBoList(annotationBoList);
+        SpanAlign spanAlign = new SpanAlign(new SpanBo(), spanEventBo);
+
+        List<Record> annotations = factory.getAnnotations(0, 0, spanAlign);
+
+        Assert.assertEquals(2, annotations.size());
+        Assert.assertEquals("4", annotations.get(0).getArguments());
+        Assert.assertEquals("min: 10ms, max: 40ms, avg: 25ms, sum: 100ms", annotations.get(1).getArguments());
+    }
+
+    private AnnotationBo newAnnotationBo(AnnotationKey annotationKey, Object value) {
+        AnnotationBo annotationBo = new AnnotationBo();
+        annotationBo.setKey(annotationKey.getCode());
+        annotationBo.setValue(value);
+        return annotationBo;
+    }
+
 }
\ No newline at end of file